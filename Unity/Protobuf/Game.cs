@@ -24,80 +24,109 @@ namespace GameClient.Protobuf {
     static GameReflection() {
       byte[] descriptorData = global::System.Convert.FromBase64String(
           string.Concat(
-            "CgpnYW1lLnByb3RvIjIKDExvZ2luUmVxdWVzdBIQCgh1c2VybmFtZRgBIAEo",
-            "CRIQCghwYXNzd29yZBgCIAEoCSJcCg1Mb2dpblJlc3BvbnNlEhgKBGNvZGUY",
-            "ASABKA4yCi5FcnJvckNvZGUSDwoHbWVzc2FnZRgCIAEoCRIgCgtwbGF5ZXJf",
-            "aW5mbxgDIAEoCzILLlBsYXllckluZm8iRwoPUmVnaXN0ZXJSZXF1ZXN0EhAK",
-            "CHVzZXJuYW1lGAEgASgJEhAKCHBhc3N3b3JkGAIgASgJEhAKCG5pY2tuYW1l",
-            "GAMgASgJIl8KEFJlZ2lzdGVyUmVzcG9uc2USGAoEY29kZRgBIAEoDjIKLkVy",
-            "cm9yQ29kZRIPCgdtZXNzYWdlGAIgASgJEiAKC3BsYXllcl9pbmZvGAMgASgL",
-            "MgsuUGxheWVySW5mbyImChFDcmVhdGVSb29tUmVxdWVzdBIRCglwbGF5ZXJf",
-            "aWQYASABKAMiXQoSQ3JlYXRlUm9vbVJlc3BvbnNlEhgKBGNvZGUYASABKA4y",
-            "Ci5FcnJvckNvZGUSDwoHbWVzc2FnZRgCIAEoCRIcCglyb29tX2luZm8YAyAB",
-            "KAsyCS5Sb29tSW5mbyI3Cg9Kb2luUm9vbVJlcXVlc3QSEQoJcm9vbV9jb2Rl",
-            "GAEgASgJEhEKCXBsYXllcl9pZBgCIAEoAyJbChBKb2luUm9vbVJlc3BvbnNl",
-            "EhgKBGNvZGUYASABKA4yCi5FcnJvckNvZGUSDwoHbWVzc2FnZRgCIAEoCRIc",
-            "Cglyb29tX2luZm8YAyABKAsyCS5Sb29tSW5mbyI4ChBMZWF2ZVJvb21SZXF1",
-            "ZXN0EhEKCXJvb21fY29kZRgBIAEoCRIRCglwbGF5ZXJfaWQYAiABKAMiPgoR",
-            "TGVhdmVSb29tUmVzcG9uc2USGAoEY29kZRgBIAEoDjIKLkVycm9yQ29kZRIP",
-            "CgdtZXNzYWdlGAIgASgJIhIKEExpc3RSb29tc1JlcXVlc3QiWAoRTGlzdFJv",
-            "b21zUmVzcG9uc2USGAoEY29kZRgBIAEoDjIKLkVycm9yQ29kZRIPCgdtZXNz",
-            "YWdlGAIgASgJEhgKBXJvb21zGAMgAygLMgkuUm9vbUluZm8iNgoQU3RhcnRH",
-            "YW1lUmVxdWVzdBIPCgdyb29tX2lkGAEgASgDEhEKCXBsYXllcl9pZBgCIAEo",
-            "AyI+ChFTdGFydEdhbWVSZXNwb25zZRIYCgRjb2RlGAEgASgOMgouRXJyb3JD",
-            "b2RlEg8KB21lc3NhZ2UYAiABKAkiRwoLTW92ZVJlcXVlc3QSDwoHcm9vbV9p",
-            "ZBgBIAEoAxIRCglwbGF5ZXJfaWQYAiABKAMSCQoBeBgDIAEoAhIJCgF5GAQg",
-            "ASgCIjkKDE1vdmVSZXNwb25zZRIYCgRjb2RlGAEgASgOMgouRXJyb3JDb2Rl",
-            "Eg8KB21lc3NhZ2UYAiABKAkiRAoPR2FtZVN0YXRlVXBkYXRlEg8KB3Jvb21f",
-            "aWQYASABKAMSIAoHcGxheWVycxgCIAMoCzIPLlBsYXllclBvc2l0aW9uIi4K",
-            "CEdhbWVPdmVyEg8KB3Jvb21faWQYASABKAMSEQoJd2lubmVyX2lkGAIgASgD",
-            "IjkKDEVycm9yTWVzc2FnZRIYCgRjb2RlGAEgASgOMgouRXJyb3JDb2RlEg8K",
-            "B21lc3NhZ2UYAiABKAkiSwoKUGxheWVySW5mbxIKCgJpZBgBIAEoAxIQCgh1",
-            "c2VybmFtZRgCIAEoCRIQCghuaWNrbmFtZRgDIAEoCRINCgVzY29yZRgEIAEo",
-            "BSJ1CghSb29tSW5mbxIKCgJpZBgBIAEoAxIRCglyb29tX2NvZGUYAiABKAkS",
-            "DgoGc3RhdHVzGAMgASgFEhwKB3BsYXllcjEYBCABKAsyCy5QbGF5ZXJJbmZv",
-            "EhwKB3BsYXllcjIYBSABKAsyCy5QbGF5ZXJJbmZvIjkKDlBsYXllclBvc2l0",
-            "aW9uEhEKCXBsYXllcl9pZBgBIAEoAxIJCgF4GAIgASgCEgkKAXkYAyABKAIi",
-            "kgcKC0dhbWVNZXNzYWdlEhoKBHR5cGUYASABKA4yDC5NZXNzYWdlVHlwZRIm",
-            "Cg1sb2dpbl9yZXF1ZXN0GAIgASgLMg0uTG9naW5SZXF1ZXN0SAASKAoObG9n",
-            "aW5fcmVzcG9uc2UYAyABKAsyDi5Mb2dpblJlc3BvbnNlSAASLAoQcmVnaXN0",
-            "ZXJfcmVxdWVzdBgEIAEoCzIQLlJlZ2lzdGVyUmVxdWVzdEgAEi4KEXJlZ2lz",
-            "dGVyX3Jlc3BvbnNlGAUgASgLMhEuUmVnaXN0ZXJSZXNwb25zZUgAEjEKE2Ny",
-            "ZWF0ZV9yb29tX3JlcXVlc3QYBiABKAsyEi5DcmVhdGVSb29tUmVxdWVzdEgA",
-            "EjMKFGNyZWF0ZV9yb29tX3Jlc3BvbnNlGAcgASgLMhMuQ3JlYXRlUm9vbVJl",
-            "c3BvbnNlSAASLQoRam9pbl9yb29tX3JlcXVlc3QYCCABKAsyEC5Kb2luUm9v",
-            "bVJlcXVlc3RIABIvChJqb2luX3Jvb21fcmVzcG9uc2UYCSABKAsyES5Kb2lu",
-            "Um9vbVJlc3BvbnNlSAASLwoSbGVhdmVfcm9vbV9yZXF1ZXN0GAogASgLMhEu",
-            "TGVhdmVSb29tUmVxdWVzdEgAEjEKE2xlYXZlX3Jvb21fcmVzcG9uc2UYCyAB",
-            "KAsyEi5MZWF2ZVJvb21SZXNwb25zZUgAEi8KEmxpc3Rfcm9vbXNfcmVxdWVz",
-            "dBgMIAEoCzIRLkxpc3RSb29tc1JlcXVlc3RIABIxChNsaXN0X3Jvb21zX3Jl",
-            "c3BvbnNlGA0gASgLMhIuTGlzdFJvb21zUmVzcG9uc2VIABIvChJzdGFydF9n",
-            "YW1lX3JlcXVlc3QYDiABKAsyES5TdGFydEdhbWVSZXF1ZXN0SAASMQoTc3Rh",
-            "cnRfZ2FtZV9yZXNwb25zZRgPIAEoCzISLlN0YXJ0R2FtZVJlc3BvbnNlSAAS",
-            "JAoMbW92ZV9yZXF1ZXN0GBAgASgLMgwuTW92ZVJlcXVlc3RIABImCg1tb3Zl",
-            "X3Jlc3BvbnNlGBEgASgLMg0uTW92ZVJlc3BvbnNlSAASLQoRZ2FtZV9zdGF0",
-            "ZV91cGRhdGUYEiABKAsyEC5HYW1lU3RhdGVVcGRhdGVIABIeCglnYW1lX292",
-            "ZXIYEyABKAsyCS5HYW1lT3ZlckgAEh4KBWVycm9yGBQgASgLMg0uRXJyb3JN",
-            "ZXNzYWdlSABCBgoEYm9keSqsAwoLTWVzc2FnZVR5cGUSEQoNTE9HSU5fUkVR",
-            "VUVTVBAAEhIKDkxPR0lOX1JFU1BPTlNFEAESFAoQUkVHSVNURVJfUkVRVUVT",
-            "VBACEhUKEVJFR0lTVEVSX1JFU1BPTlNFEAMSFwoTQ1JFQVRFX1JPT01fUkVR",
-            "VUVTVBAEEhgKFENSRUFURV9ST09NX1JFU1BPTlNFEAUSFQoRSk9JTl9ST09N",
-            "X1JFUVVFU1QQBhIWChJKT0lOX1JPT01fUkVTUE9OU0UQBxIWChJMRUFWRV9S",
-            "T09NX1JFUVVFU1QQCBIXChNMRUFWRV9ST09NX1JFU1BPTlNFEAkSFgoSTElT",
-            "VF9ST09NU19SRVFVRVNUEAoSFwoTTElTVF9ST09NU19SRVNQT05TRRALEhYK",
-            "ElNUQVJUX0dBTUVfUkVRVUVTVBAMEhcKE1NUQVJUX0dBTUVfUkVTUE9OU0UQ",
-            "DRIQCgxNT1ZFX1JFUVVFU1QQDhIRCg1NT1ZFX1JFU1BPTlNFEA8SFQoRR0FN",
-            "RV9TVEFURV9VUERBVEUQEBINCglHQU1FX09WRVIQERIJCgVFUlJPUhASKpYB",
-            "CglFcnJvckNvZGUSCwoHU1VDQ0VTUxAAEhsKF1VTRVJOQU1FX1BBU1NXT1JE",
-            "X0VSUk9SEAESEwoPVVNFUk5BTUVfRVhJU1RTEAISEgoOUk9PTV9OT1RfRk9V",
-            "TkQQAxINCglST09NX0ZVTEwQBBITCg9JTlZBTElEX1JFUVVFU1QQBRISCg5J",
-            "TlRFUk5BTF9FUlJPUhAGQjQKEWNvbS5nYW1lLnByb3RvYnVmQglHYW1lUHJv",
-            "dG+qAhNHYW1lQ2xpZW50LlByb3RvYnVmYgZwcm90bzM="));
+            "CgpnYW1lLnByb3RvIk0KDExvZ2luUmVxdWVzdBIQCgh1c2VybmFtZRgBIAEo",
+            "CRIQCghwYXNzd29yZBgCIAEoCRIZChFjb21wYWN0X3Bvc2l0aW9ucxgDIAEo",
+            "CCKhAQoNTG9naW5SZXNwb25zZRIYCgRjb2RlGAEgASgOMgouRXJyb3JDb2Rl",
+            "Eg8KB21lc3NhZ2UYAiABKAkSIAoLcGxheWVyX2luZm8YAyABKAsyCy5QbGF5",
+            "ZXJJbmZvEiwKEXBvc2l0aW9uX2VuY29kaW5nGAQgASgLMhEuUG9zaXRpb25F",
+            "bmNvZGluZxIVCg1zZXNzaW9uX3Rva2VuGAUgASgJIkgKFFJlc3VtZVNlc3Np",
+            "b25SZXF1ZXN0EhUKDXNlc3Npb25fdG9rZW4YASABKAkSGQoRY29tcGFjdF9w",
+            "b3NpdGlvbnMYAiABKAgi0wEKFVJlc3VtZVNlc3Npb25SZXNwb25zZRIYCgRj",
+            "b2RlGAEgASgOMgouRXJyb3JDb2RlEg8KB21lc3NhZ2UYAiABKAkSEQoJcGxh",
+            "eWVyX2lkGAMgASgDEhUKDXNlc3Npb25fdG9rZW4YBCABKAkSLAoRcG9zaXRp",
+            "b25fZW5jb2RpbmcYBSABKAsyES5Qb3NpdGlvbkVuY29kaW5nEg8KB3Jvb21f",
+            "aWQYBiABKAMSEQoJcm9vbV9jb2RlGAcgASgJEhMKC3Jvb21fc3RhdHVzGAgg",
+            "ASgFIkcKD1JlZ2lzdGVyUmVxdWVzdBIQCgh1c2VybmFtZRgBIAEoCRIQCghw",
+            "YXNzd29yZBgCIAEoCRIQCghuaWNrbmFtZRgDIAEoCSJfChBSZWdpc3RlclJl",
+            "c3BvbnNlEhgKBGNvZGUYASABKA4yCi5FcnJvckNvZGUSDwoHbWVzc2FnZRgC",
+            "IAEoCRIgCgtwbGF5ZXJfaW5mbxgDIAEoCzILLlBsYXllckluZm8iJgoRQ3Jl",
+            "YXRlUm9vbVJlcXVlc3QSEQoJcGxheWVyX2lkGAEgASgDIl0KEkNyZWF0ZVJv",
+            "b21SZXNwb25zZRIYCgRjb2RlGAEgASgOMgouRXJyb3JDb2RlEg8KB21lc3Nh",
+            "Z2UYAiABKAkSHAoJcm9vbV9pbmZvGAMgASgLMgkuUm9vbUluZm8iNwoPSm9p",
+            "blJvb21SZXF1ZXN0EhEKCXJvb21fY29kZRgBIAEoCRIRCglwbGF5ZXJfaWQY",
+            "AiABKAMiWwoQSm9pblJvb21SZXNwb25zZRIYCgRjb2RlGAEgASgOMgouRXJy",
+            "b3JDb2RlEg8KB21lc3NhZ2UYAiABKAkSHAoJcm9vbV9pbmZvGAMgASgLMgku",
+            "Um9vbUluZm8iOAoQTGVhdmVSb29tUmVxdWVzdBIRCglyb29tX2NvZGUYASAB",
+            "KAkSEQoJcGxheWVyX2lkGAIgASgDIj4KEUxlYXZlUm9vbVJlc3BvbnNlEhgK",
+            "BGNvZGUYASABKA4yCi5FcnJvckNvZGUSDwoHbWVzc2FnZRgCIAEoCSJPChBM",
+            "aXN0Um9vbXNSZXF1ZXN0EhUKDWFmdGVyX3Jvb21faWQYASABKAMSEQoJcGFn",
+            "ZV9zaXplGAIgASgNEhEKCXN1YnNjcmliZRgDIAEoCCKDAQoRTGlzdFJvb21z",
+            "UmVzcG9uc2USGAoEY29kZRgBIAEoDjIKLkVycm9yQ29kZRIPCgdtZXNzYWdl",
+            "GAIgASgJEhgKBXJvb21zGAMgAygLMgkuUm9vbUluZm8SGgoSbmV4dF9hZnRl",
+            "cl9yb29tX2lkGAQgASgDEg0KBXRvdGFsGAUgASgNIkQKDlJvb21MaXN0VXBk",
+            "YXRlEhgKBWFkZGVkGAEgAygLMgkuUm9vbUluZm8SGAoQcmVtb3ZlZF9yb29t",
+            "X2lkcxgCIAMoAyI2ChBTdGFydEdhbWVSZXF1ZXN0Eg8KB3Jvb21faWQYASAB",
+            "KAMSEQoJcGxheWVyX2lkGAIgASgDIj4KEVN0YXJ0R2FtZVJlc3BvbnNlEhgK",
+            "BGNvZGUYASABKA4yCi5FcnJvckNvZGUSDwoHbWVzc2FnZRgCIAEoCSJxCgtN",
+            "b3ZlUmVxdWVzdBIPCgdyb29tX2lkGAEgASgDEhEKCXBsYXllcl9pZBgCIAEo",
+            "AxIJCgF4GAMgASgCEgkKAXkYBCABKAISEAoIYWNrX3RpY2sYBSABKA0SCgoC",
+            "cXgYBiABKBESCgoCcXkYByABKBEiOQoMTW92ZVJlc3BvbnNlEhgKBGNvZGUY",
+            "ASABKA4yCi5FcnJvckNvZGUSDwoHbWVzc2FnZRgCIAEoCSKFAQoPR2FtZVN0",
+            "YXRlVXBkYXRlEg8KB3Jvb21faWQYASABKAMSIAoHcGxheWVycxgCIAMoCzIP",
+            "LlBsYXllclBvc2l0aW9uEgwKBHRpY2sYAyABKA0SFQoNYmFzZWxpbmVfdGlj",
+            "axgEIAEoDRIaChJyZW1vdmVkX3BsYXllcl9pZHMYBSADKAMiLAoLU25hcHNo",
+            "b3RBY2sSDwoHcm9vbV9pZBgBIAEoAxIMCgR0aWNrGAIgASgNIi4KCEdhbWVP",
+            "dmVyEg8KB3Jvb21faWQYASABKAMSEQoJd2lubmVyX2lkGAIgASgDIjkKDEVy",
+            "cm9yTWVzc2FnZRIYCgRjb2RlGAEgASgOMgouRXJyb3JDb2RlEg8KB21lc3Nh",
+            "Z2UYAiABKAkiSwoKUGxheWVySW5mbxIKCgJpZBgBIAEoAxIQCgh1c2VybmFt",
+            "ZRgCIAEoCRIQCghuaWNrbmFtZRgDIAEoCRINCgVzY29yZRgEIAEoBSJ1CghS",
+            "b29tSW5mbxIKCgJpZBgBIAEoAxIRCglyb29tX2NvZGUYAiABKAkSDgoGc3Rh",
+            "dHVzGAMgASgFEhwKB3BsYXllcjEYBCABKAsyCy5QbGF5ZXJJbmZvEhwKB3Bs",
+            "YXllcjIYBSABKAsyCy5QbGF5ZXJJbmZvIo0BCg5QbGF5ZXJQb3NpdGlvbhIR",
+            "CglwbGF5ZXJfaWQYASABKAMSDgoBeBgCIAEoAkgAiAEBEg4KAXkYAyABKAJI",
+            "AYgBARIMCgRzbG90GAQgASgNEg8KAnF4GAUgASgRSAKIAQESDwoCcXkYBiAB",
+            "KBFIA4gBAUIECgJfeEIECgJfeUIFCgNfcXhCBQoDX3F5IksKEFBvc2l0aW9u",
+            "RW5jb2RpbmcSEQoJcHJlY2lzaW9uGAEgASgCEhEKCXdvcmxkX21pbhgCIAEo",
+            "AhIRCgl3b3JsZF9tYXgYAyABKAIi2QgKC0dhbWVNZXNzYWdlEhoKBHR5cGUY",
+            "ASABKA4yDC5NZXNzYWdlVHlwZRImCg1sb2dpbl9yZXF1ZXN0GAIgASgLMg0u",
+            "TG9naW5SZXF1ZXN0SAASKAoObG9naW5fcmVzcG9uc2UYAyABKAsyDi5Mb2dp",
+            "blJlc3BvbnNlSAASLAoQcmVnaXN0ZXJfcmVxdWVzdBgEIAEoCzIQLlJlZ2lz",
+            "dGVyUmVxdWVzdEgAEi4KEXJlZ2lzdGVyX3Jlc3BvbnNlGAUgASgLMhEuUmVn",
+            "aXN0ZXJSZXNwb25zZUgAEjEKE2NyZWF0ZV9yb29tX3JlcXVlc3QYBiABKAsy",
+            "Ei5DcmVhdGVSb29tUmVxdWVzdEgAEjMKFGNyZWF0ZV9yb29tX3Jlc3BvbnNl",
+            "GAcgASgLMhMuQ3JlYXRlUm9vbVJlc3BvbnNlSAASLQoRam9pbl9yb29tX3Jl",
+            "cXVlc3QYCCABKAsyEC5Kb2luUm9vbVJlcXVlc3RIABIvChJqb2luX3Jvb21f",
+            "cmVzcG9uc2UYCSABKAsyES5Kb2luUm9vbVJlc3BvbnNlSAASLwoSbGVhdmVf",
+            "cm9vbV9yZXF1ZXN0GAogASgLMhEuTGVhdmVSb29tUmVxdWVzdEgAEjEKE2xl",
+            "YXZlX3Jvb21fcmVzcG9uc2UYCyABKAsyEi5MZWF2ZVJvb21SZXNwb25zZUgA",
+            "Ei8KEmxpc3Rfcm9vbXNfcmVxdWVzdBgMIAEoCzIRLkxpc3RSb29tc1JlcXVl",
+            "c3RIABIxChNsaXN0X3Jvb21zX3Jlc3BvbnNlGA0gASgLMhIuTGlzdFJvb21z",
+            "UmVzcG9uc2VIABIvChJzdGFydF9nYW1lX3JlcXVlc3QYDiABKAsyES5TdGFy",
+            "dEdhbWVSZXF1ZXN0SAASMQoTc3RhcnRfZ2FtZV9yZXNwb25zZRgPIAEoCzIS",
+            "LlN0YXJ0R2FtZVJlc3BvbnNlSAASJAoMbW92ZV9yZXF1ZXN0GBAgASgLMgwu",
+            "TW92ZVJlcXVlc3RIABImCg1tb3ZlX3Jlc3BvbnNlGBEgASgLMg0uTW92ZVJl",
+            "c3BvbnNlSAASLQoRZ2FtZV9zdGF0ZV91cGRhdGUYEiABKAsyEC5HYW1lU3Rh",
+            "dGVVcGRhdGVIABIeCglnYW1lX292ZXIYEyABKAsyCS5HYW1lT3ZlckgAEh4K",
+            "BWVycm9yGBQgASgLMg0uRXJyb3JNZXNzYWdlSAASJAoMc25hcHNob3RfYWNr",
+            "GBUgASgLMgwuU25hcHNob3RBY2tIABIrChByb29tX2xpc3RfdXBkYXRlGBYg",
+            "ASgLMg8uUm9vbUxpc3RVcGRhdGVIABI3ChZyZXN1bWVfc2Vzc2lvbl9yZXF1",
+            "ZXN0GBcgASgLMhUuUmVzdW1lU2Vzc2lvblJlcXVlc3RIABI5ChdyZXN1bWVf",
+            "c2Vzc2lvbl9yZXNwb25zZRgYIAEoCzIWLlJlc3VtZVNlc3Npb25SZXNwb25z",
+            "ZUgAQgYKBGJvZHkqjQQKC01lc3NhZ2VUeXBlEhEKDUxPR0lOX1JFUVVFU1QQ",
+            "ABISCg5MT0dJTl9SRVNQT05TRRABEhQKEFJFR0lTVEVSX1JFUVVFU1QQAhIV",
+            "ChFSRUdJU1RFUl9SRVNQT05TRRADEhcKE0NSRUFURV9ST09NX1JFUVVFU1QQ",
+            "BBIYChRDUkVBVEVfUk9PTV9SRVNQT05TRRAFEhUKEUpPSU5fUk9PTV9SRVFV",
+            "RVNUEAYSFgoSSk9JTl9ST09NX1JFU1BPTlNFEAcSFgoSTEVBVkVfUk9PTV9S",
+            "RVFVRVNUEAgSFwoTTEVBVkVfUk9PTV9SRVNQT05TRRAJEhYKEkxJU1RfUk9P",
+            "TVNfUkVRVUVTVBAKEhcKE0xJU1RfUk9PTVNfUkVTUE9OU0UQCxIWChJTVEFS",
+            "VF9HQU1FX1JFUVVFU1QQDBIXChNTVEFSVF9HQU1FX1JFU1BPTlNFEA0SEAoM",
+            "TU9WRV9SRVFVRVNUEA4SEQoNTU9WRV9SRVNQT05TRRAPEhUKEUdBTUVfU1RB",
+            "VEVfVVBEQVRFEBASDQoJR0FNRV9PVkVSEBESCQoFRVJST1IQEhIQCgxTTkFQ",
+            "U0hPVF9BQ0sQExIUChBST09NX0xJU1RfVVBEQVRFEBQSGgoWUkVTVU1FX1NF",
+            "U1NJT05fUkVRVUVTVBAVEhsKF1JFU1VNRV9TRVNTSU9OX1JFU1BPTlNFEBYq",
+            "qwEKCUVycm9yQ29kZRILCgdTVUNDRVNTEAASGwoXVVNFUk5BTUVfUEFTU1dP",
+            "UkRfRVJST1IQARITCg9VU0VSTkFNRV9FWElTVFMQAhISCg5ST09NX05PVF9G",
+            "T1VORBADEg0KCVJPT01fRlVMTBAEEhMKD0lOVkFMSURfUkVRVUVTVBAFEhIK",
+            "DklOVEVSTkFMX0VSUk9SEAYSEwoPU0VTU0lPTl9FWFBJUkVEEAdCNAoRY29t",
+            "LmdhbWUucHJvdG9idWZCCUdhbWVQcm90b6oCE0dhbWVDbGllbnQuUHJvdG9i",
+            "dWZiBnByb3RvMw=="));
       descriptor = pbr::FileDescriptor.FromGeneratedCode(descriptorData,
           new pbr::FileDescriptor[] { },
           new pbr::GeneratedClrTypeInfo(new[] {typeof(global::GameClient.Protobuf.MessageType), typeof(global::GameClient.Protobuf.ErrorCode), }, null, new pbr::GeneratedClrTypeInfo[] {
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.LoginRequest), global::GameClient.Protobuf.LoginRequest.Parser, new[]{ "Username", "Password" }, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.LoginResponse), global::GameClient.Protobuf.LoginResponse.Parser, new[]{ "Code", "Message", "PlayerInfo" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.LoginRequest), global::GameClient.Protobuf.LoginRequest.Parser, new[]{ "Username", "Password", "CompactPositions" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.LoginResponse), global::GameClient.Protobuf.LoginResponse.Parser, new[]{ "Code", "Message", "PlayerInfo", "PositionEncoding", "SessionToken" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ResumeSessionRequest), global::GameClient.Protobuf.ResumeSessionRequest.Parser, new[]{ "SessionToken", "CompactPositions" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ResumeSessionResponse), global::GameClient.Protobuf.ResumeSessionResponse.Parser, new[]{ "Code", "Message", "PlayerId", "SessionToken", "PositionEncoding", "RoomId", "RoomCode", "RoomStatus" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.RegisterRequest), global::GameClient.Protobuf.RegisterRequest.Parser, new[]{ "Username", "Password", "Nickname" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.RegisterResponse), global::GameClient.Protobuf.RegisterResponse.Parser, new[]{ "Code", "Message", "PlayerInfo" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.CreateRoomRequest), global::GameClient.Protobuf.CreateRoomRequest.Parser, new[]{ "PlayerId" }, null, null, null, null),
@@ -106,19 +135,22 @@ namespace GameClient.Protobuf {
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.JoinRoomResponse), global::GameClient.Protobuf.JoinRoomResponse.Parser, new[]{ "Code", "Message", "RoomInfo" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.LeaveRoomRequest), global::GameClient.Protobuf.LeaveRoomRequest.Parser, new[]{ "RoomCode", "PlayerId" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.LeaveRoomResponse), global::GameClient.Protobuf.LeaveRoomResponse.Parser, new[]{ "Code", "Message" }, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ListRoomsRequest), global::GameClient.Protobuf.ListRoomsRequest.Parser, null, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ListRoomsResponse), global::GameClient.Protobuf.ListRoomsResponse.Parser, new[]{ "Code", "Message", "Rooms" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ListRoomsRequest), global::GameClient.Protobuf.ListRoomsRequest.Parser, new[]{ "AfterRoomId", "PageSize", "Subscribe" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ListRoomsResponse), global::GameClient.Protobuf.ListRoomsResponse.Parser, new[]{ "Code", "Message", "Rooms", "NextAfterRoomId", "Total" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.RoomListUpdate), global::GameClient.Protobuf.RoomListUpdate.Parser, new[]{ "Added", "RemovedRoomIds" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.StartGameRequest), global::GameClient.Protobuf.StartGameRequest.Parser, new[]{ "RoomId", "PlayerId" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.StartGameResponse), global::GameClient.Protobuf.StartGameResponse.Parser, new[]{ "Code", "Message" }, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.MoveRequest), global::GameClient.Protobuf.MoveRequest.Parser, new[]{ "RoomId", "PlayerId", "X", "Y" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.MoveRequest), global::GameClient.Protobuf.MoveRequest.Parser, new[]{ "RoomId", "PlayerId", "X", "Y", "AckTick", "Qx", "Qy" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.MoveResponse), global::GameClient.Protobuf.MoveResponse.Parser, new[]{ "Code", "Message" }, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.GameStateUpdate), global::GameClient.Protobuf.GameStateUpdate.Parser, new[]{ "RoomId", "Players" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.GameStateUpdate), global::GameClient.Protobuf.GameStateUpdate.Parser, new[]{ "RoomId", "Players", "Tick", "BaselineTick", "RemovedPlayerIds" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.SnapshotAck), global::GameClient.Protobuf.SnapshotAck.Parser, new[]{ "RoomId", "Tick" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.GameOver), global::GameClient.Protobuf.GameOver.Parser, new[]{ "RoomId", "WinnerId" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.ErrorMessage), global::GameClient.Protobuf.ErrorMessage.Parser, new[]{ "Code", "Message" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.PlayerInfo), global::GameClient.Protobuf.PlayerInfo.Parser, new[]{ "Id", "Username", "Nickname", "Score" }, null, null, null, null),
             new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.RoomInfo), global::GameClient.Protobuf.RoomInfo.Parser, new[]{ "Id", "RoomCode", "Status", "Player1", "Player2" }, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.PlayerPosition), global::GameClient.Protobuf.PlayerPosition.Parser, new[]{ "PlayerId", "X", "Y" }, null, null, null, null),
-            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.GameMessage), global::GameClient.Protobuf.GameMessage.Parser, new[]{ "Type", "LoginRequest", "LoginResponse", "RegisterRequest", "RegisterResponse", "CreateRoomRequest", "CreateRoomResponse", "JoinRoomRequest", "JoinRoomResponse", "LeaveRoomRequest", "LeaveRoomResponse", "ListRoomsRequest", "ListRoomsResponse", "StartGameRequest", "StartGameResponse", "MoveRequest", "MoveResponse", "GameStateUpdate", "GameOver", "Error" }, new[]{ "Body" }, null, null, null)
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.PlayerPosition), global::GameClient.Protobuf.PlayerPosition.Parser, new[]{ "PlayerId", "X", "Y", "Slot", "Qx", "Qy" }, new[]{ "X", "Y", "Qx", "Qy" }, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.PositionEncoding), global::GameClient.Protobuf.PositionEncoding.Parser, new[]{ "Precision", "WorldMin", "WorldMax" }, null, null, null, null),
+            new pbr::GeneratedClrTypeInfo(typeof(global::GameClient.Protobuf.GameMessage), global::GameClient.Protobuf.GameMessage.Parser, new[]{ "Type", "LoginRequest", "LoginResponse", "RegisterRequest", "RegisterResponse", "CreateRoomRequest", "CreateRoomResponse", "JoinRoomRequest", "JoinRoomResponse", "LeaveRoomRequest", "LeaveRoomResponse", "ListRoomsRequest", "ListRoomsResponse", "StartGameRequest", "StartGameResponse", "MoveRequest", "MoveResponse", "GameStateUpdate", "GameOver", "Error", "SnapshotAck", "RoomListUpdate", "ResumeSessionRequest", "ResumeSessionResponse" }, new[]{ "Body" }, null, null, null)
           }));
     }
     #endregion
@@ -148,6 +180,10 @@ namespace GameClient.Protobuf {
     [pbr::OriginalName("GAME_STATE_UPDATE")] GameStateUpdate = 16,
     [pbr::OriginalName("GAME_OVER")] GameOver = 17,
     [pbr::OriginalName("ERROR")] Error = 18,
+    [pbr::OriginalName("SNAPSHOT_ACK")] SnapshotAck = 19,
+    [pbr::OriginalName("ROOM_LIST_UPDATE")] RoomListUpdate = 20,
+    [pbr::OriginalName("RESUME_SESSION_REQUEST")] ResumeSessionRequest = 21,
+    [pbr::OriginalName("RESUME_SESSION_RESPONSE")] ResumeSessionResponse = 22,
   }
 
   /// <summary>
@@ -161,6 +197,7 @@ namespace GameClient.Protobuf {
     [pbr::OriginalName("ROOM_FULL")] RoomFull = 4,
     [pbr::OriginalName("INVALID_REQUEST")] InvalidRequest = 5,
     [pbr::OriginalName("INTERNAL_ERROR")] InternalError = 6,
+    [pbr::OriginalName("SESSION_EXPIRED")] SessionExpired = 7,
   }
 
   #endregion
@@ -205,6 +242,7 @@ namespace GameClient.Protobuf {
     public LoginRequest(LoginRequest other) : this() {
       username_ = other.username_;
       password_ = other.password_;
+      compactPositions_ = other.compactPositions_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
@@ -238,6 +276,21 @@ namespace GameClient.Protobuf {
       }
     }
 
+    /// <summary>Field number for the "compact_positions" field.</summary>
+    public const int CompactPositionsFieldNumber = 3;
+    private bool compactPositions_;
+    /// <summary>
+    /// 请求使用紧凑坐标编码
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool CompactPositions {
+      get { return compactPositions_; }
+      set {
+        compactPositions_ = value;
+      }
+    }
+
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
@@ -255,6 +308,7 @@ namespace GameClient.Protobuf {
       }
       if (Username != other.Username) return false;
       if (Password != other.Password) return false;
+      if (CompactPositions != other.CompactPositions) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -264,6 +318,7 @@ namespace GameClient.Protobuf {
       int hash = 1;
       if (Username.Length != 0) hash ^= Username.GetHashCode();
       if (Password.Length != 0) hash ^= Password.GetHashCode();
+      if (CompactPositions != false) hash ^= CompactPositions.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -290,6 +345,10 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Password);
       }
+      if (CompactPositions != false) {
+        output.WriteRawTag(24);
+        output.WriteBool(CompactPositions);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -308,6 +367,10 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Password);
       }
+      if (CompactPositions != false) {
+        output.WriteRawTag(24);
+        output.WriteBool(CompactPositions);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -324,6 +387,9 @@ namespace GameClient.Protobuf {
       if (Password.Length != 0) {
         size += 1 + pb::CodedOutputStream.ComputeStringSize(Password);
       }
+      if (CompactPositions != false) {
+        size += 1 + 1;
+      }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -342,6 +408,9 @@ namespace GameClient.Protobuf {
       if (other.Password.Length != 0) {
         Password = other.Password;
       }
+      if (other.CompactPositions != false) {
+        CompactPositions = other.CompactPositions;
+      }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -365,6 +434,10 @@ namespace GameClient.Protobuf {
             Password = input.ReadString();
             break;
           }
+          case 24: {
+            CompactPositions = input.ReadBool();
+            break;
+          }
         }
       }
     #endif
@@ -388,6 +461,10 @@ namespace GameClient.Protobuf {
             Password = input.ReadString();
             break;
           }
+          case 24: {
+            CompactPositions = input.ReadBool();
+            break;
+          }
         }
       }
     }
@@ -435,6 +512,8 @@ namespace GameClient.Protobuf {
       code_ = other.code_;
       message_ = other.message_;
       playerInfo_ = other.playerInfo_ != null ? other.playerInfo_.Clone() : null;
+      positionEncoding_ = other.positionEncoding_ != null ? other.positionEncoding_.Clone() : null;
+      sessionToken_ = other.sessionToken_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
@@ -480,6 +559,36 @@ namespace GameClient.Protobuf {
       }
     }
 
+    /// <summary>Field number for the "position_encoding" field.</summary>
+    public const int PositionEncodingFieldNumber = 4;
+    private global::GameClient.Protobuf.PositionEncoding positionEncoding_;
+    /// <summary>
+    /// 服务器接受紧凑坐标编码时返回编码参数
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.PositionEncoding PositionEncoding {
+      get { return positionEncoding_; }
+      set {
+        positionEncoding_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "session_token" field.</summary>
+    public const int SessionTokenFieldNumber = 5;
+    private string sessionToken_ = "";
+    /// <summary>
+    /// 断线重连时用于ResumeSessionRequest，有效期由服务器配置
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string SessionToken {
+      get { return sessionToken_; }
+      set {
+        sessionToken_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
@@ -498,6 +607,8 @@ namespace GameClient.Protobuf {
       if (Code != other.Code) return false;
       if (Message != other.Message) return false;
       if (!object.Equals(PlayerInfo, other.PlayerInfo)) return false;
+      if (!object.Equals(PositionEncoding, other.PositionEncoding)) return false;
+      if (SessionToken != other.SessionToken) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -508,6 +619,8 @@ namespace GameClient.Protobuf {
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
       if (Message.Length != 0) hash ^= Message.GetHashCode();
       if (playerInfo_ != null) hash ^= PlayerInfo.GetHashCode();
+      if (positionEncoding_ != null) hash ^= PositionEncoding.GetHashCode();
+      if (SessionToken.Length != 0) hash ^= SessionToken.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -538,6 +651,14 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(26);
         output.WriteMessage(PlayerInfo);
       }
+      if (positionEncoding_ != null) {
+        output.WriteRawTag(34);
+        output.WriteMessage(PositionEncoding);
+      }
+      if (SessionToken.Length != 0) {
+        output.WriteRawTag(42);
+        output.WriteString(SessionToken);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -560,6 +681,14 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(26);
         output.WriteMessage(PlayerInfo);
       }
+      if (positionEncoding_ != null) {
+        output.WriteRawTag(34);
+        output.WriteMessage(PositionEncoding);
+      }
+      if (SessionToken.Length != 0) {
+        output.WriteRawTag(42);
+        output.WriteString(SessionToken);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -579,6 +708,12 @@ namespace GameClient.Protobuf {
       if (playerInfo_ != null) {
         size += 1 + pb::CodedOutputStream.ComputeMessageSize(PlayerInfo);
       }
+      if (positionEncoding_ != null) {
+        size += 1 + pb::CodedOutputStream.ComputeMessageSize(PositionEncoding);
+      }
+      if (SessionToken.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(SessionToken);
+      }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -603,6 +738,15 @@ namespace GameClient.Protobuf {
         }
         PlayerInfo.MergeFrom(other.PlayerInfo);
       }
+      if (other.positionEncoding_ != null) {
+        if (positionEncoding_ == null) {
+          PositionEncoding = new global::GameClient.Protobuf.PositionEncoding();
+        }
+        PositionEncoding.MergeFrom(other.PositionEncoding);
+      }
+      if (other.SessionToken.Length != 0) {
+        SessionToken = other.SessionToken;
+      }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -633,6 +777,17 @@ namespace GameClient.Protobuf {
             input.ReadMessage(PlayerInfo);
             break;
           }
+          case 34: {
+            if (positionEncoding_ == null) {
+              PositionEncoding = new global::GameClient.Protobuf.PositionEncoding();
+            }
+            input.ReadMessage(PositionEncoding);
+            break;
+          }
+          case 42: {
+            SessionToken = input.ReadString();
+            break;
+          }
         }
       }
     #endif
@@ -663,6 +818,17 @@ namespace GameClient.Protobuf {
             input.ReadMessage(PlayerInfo);
             break;
           }
+          case 34: {
+            if (positionEncoding_ == null) {
+              PositionEncoding = new global::GameClient.Protobuf.PositionEncoding();
+            }
+            input.ReadMessage(PositionEncoding);
+            break;
+          }
+          case 42: {
+            SessionToken = input.ReadString();
+            break;
+          }
         }
       }
     }
@@ -671,18 +837,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 注册请求
+  /// 恢复会话请求：断线后用登录时拿到的令牌重新接入，不需要再次输入密码
   /// </summary>
-  public sealed partial class RegisterRequest : pb::IMessage<RegisterRequest>
+  public sealed partial class ResumeSessionRequest : pb::IMessage<ResumeSessionRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<RegisterRequest> _parser = new pb::MessageParser<RegisterRequest>(() => new RegisterRequest());
+    private static readonly pb::MessageParser<ResumeSessionRequest> _parser = new pb::MessageParser<ResumeSessionRequest>(() => new ResumeSessionRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<RegisterRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<ResumeSessionRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -698,7 +864,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RegisterRequest() {
+    public ResumeSessionRequest() {
       OnConstruction();
     }
 
@@ -706,73 +872,59 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RegisterRequest(RegisterRequest other) : this() {
-      username_ = other.username_;
-      password_ = other.password_;
-      nickname_ = other.nickname_;
+    public ResumeSessionRequest(ResumeSessionRequest other) : this() {
+      sessionToken_ = other.sessionToken_;
+      compactPositions_ = other.compactPositions_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RegisterRequest Clone() {
-      return new RegisterRequest(this);
-    }
-
-    /// <summary>Field number for the "username" field.</summary>
-    public const int UsernameFieldNumber = 1;
-    private string username_ = "";
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
-    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string Username {
-      get { return username_; }
-      set {
-        username_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
-      }
+    public ResumeSessionRequest Clone() {
+      return new ResumeSessionRequest(this);
     }
 
-    /// <summary>Field number for the "password" field.</summary>
-    public const int PasswordFieldNumber = 2;
-    private string password_ = "";
+    /// <summary>Field number for the "session_token" field.</summary>
+    public const int SessionTokenFieldNumber = 1;
+    private string sessionToken_ = "";
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string Password {
-      get { return password_; }
+    public string SessionToken {
+      get { return sessionToken_; }
       set {
-        password_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+        sessionToken_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
       }
     }
 
-    /// <summary>Field number for the "nickname" field.</summary>
-    public const int NicknameFieldNumber = 3;
-    private string nickname_ = "";
+    /// <summary>Field number for the "compact_positions" field.</summary>
+    public const int CompactPositionsFieldNumber = 2;
+    private bool compactPositions_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string Nickname {
-      get { return nickname_; }
+    public bool CompactPositions {
+      get { return compactPositions_; }
       set {
-        nickname_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+        compactPositions_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as RegisterRequest);
+      return Equals(other as ResumeSessionRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(RegisterRequest other) {
+    public bool Equals(ResumeSessionRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (Username != other.Username) return false;
-      if (Password != other.Password) return false;
-      if (Nickname != other.Nickname) return false;
+      if (SessionToken != other.SessionToken) return false;
+      if (CompactPositions != other.CompactPositions) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -780,9 +932,8 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (Username.Length != 0) hash ^= Username.GetHashCode();
-      if (Password.Length != 0) hash ^= Password.GetHashCode();
-      if (Nickname.Length != 0) hash ^= Nickname.GetHashCode();
+      if (SessionToken.Length != 0) hash ^= SessionToken.GetHashCode();
+      if (CompactPositions != false) hash ^= CompactPositions.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -801,17 +952,13 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (Username.Length != 0) {
+      if (SessionToken.Length != 0) {
         output.WriteRawTag(10);
-        output.WriteString(Username);
-      }
-      if (Password.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(Password);
+        output.WriteString(SessionToken);
       }
-      if (Nickname.Length != 0) {
-        output.WriteRawTag(26);
-        output.WriteString(Nickname);
+      if (CompactPositions != false) {
+        output.WriteRawTag(16);
+        output.WriteBool(CompactPositions);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -823,17 +970,13 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (Username.Length != 0) {
+      if (SessionToken.Length != 0) {
         output.WriteRawTag(10);
-        output.WriteString(Username);
+        output.WriteString(SessionToken);
       }
-      if (Password.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(Password);
-      }
-      if (Nickname.Length != 0) {
-        output.WriteRawTag(26);
-        output.WriteString(Nickname);
+      if (CompactPositions != false) {
+        output.WriteRawTag(16);
+        output.WriteBool(CompactPositions);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -845,14 +988,11 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (Username.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(Username);
-      }
-      if (Password.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(Password);
+      if (SessionToken.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(SessionToken);
       }
-      if (Nickname.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(Nickname);
+      if (CompactPositions != false) {
+        size += 1 + 1;
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -862,18 +1002,15 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(RegisterRequest other) {
+    public void MergeFrom(ResumeSessionRequest other) {
       if (other == null) {
         return;
       }
-      if (other.Username.Length != 0) {
-        Username = other.Username;
-      }
-      if (other.Password.Length != 0) {
-        Password = other.Password;
+      if (other.SessionToken.Length != 0) {
+        SessionToken = other.SessionToken;
       }
-      if (other.Nickname.Length != 0) {
-        Nickname = other.Nickname;
+      if (other.CompactPositions != false) {
+        CompactPositions = other.CompactPositions;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -891,15 +1028,11 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
           case 10: {
-            Username = input.ReadString();
+            SessionToken = input.ReadString();
             break;
           }
-          case 18: {
-            Password = input.ReadString();
-            break;
-          }
-          case 26: {
-            Nickname = input.ReadString();
+          case 16: {
+            CompactPositions = input.ReadBool();
             break;
           }
         }
@@ -918,15 +1051,11 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
           case 10: {
-            Username = input.ReadString();
+            SessionToken = input.ReadString();
             break;
           }
-          case 18: {
-            Password = input.ReadString();
-            break;
-          }
-          case 26: {
-            Nickname = input.ReadString();
+          case 16: {
+            CompactPositions = input.ReadBool();
             break;
           }
         }
@@ -937,18 +1066,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 注册响应
+  /// 恢复会话响应：成功时返回新的令牌；断线前所在的房间仍存在时自动重新加入，room_id为0表示不在房间中
   /// </summary>
-  public sealed partial class RegisterResponse : pb::IMessage<RegisterResponse>
+  public sealed partial class ResumeSessionResponse : pb::IMessage<ResumeSessionResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<RegisterResponse> _parser = new pb::MessageParser<RegisterResponse>(() => new RegisterResponse());
+    private static readonly pb::MessageParser<ResumeSessionResponse> _parser = new pb::MessageParser<ResumeSessionResponse>(() => new ResumeSessionResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<RegisterResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<ResumeSessionResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -964,7 +1093,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RegisterResponse() {
+    public ResumeSessionResponse() {
       OnConstruction();
     }
 
@@ -972,22 +1101,30 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RegisterResponse(RegisterResponse other) : this() {
+    public ResumeSessionResponse(ResumeSessionResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
-      playerInfo_ = other.playerInfo_ != null ? other.playerInfo_.Clone() : null;
+      playerId_ = other.playerId_;
+      sessionToken_ = other.sessionToken_;
+      positionEncoding_ = other.positionEncoding_ != null ? other.positionEncoding_.Clone() : null;
+      roomId_ = other.roomId_;
+      roomCode_ = other.roomCode_;
+      roomStatus_ = other.roomStatus_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RegisterResponse Clone() {
-      return new RegisterResponse(this);
+    public ResumeSessionResponse Clone() {
+      return new ResumeSessionResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
     public const int CodeFieldNumber = 1;
     private global::GameClient.Protobuf.ErrorCode code_ = global::GameClient.Protobuf.ErrorCode.Success;
+    /// <summary>
+    /// 令牌无效或过期时为SESSION_EXPIRED，需要重新登录
+    /// </summary>
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public global::GameClient.Protobuf.ErrorCode Code {
@@ -1009,27 +1146,87 @@ namespace GameClient.Protobuf {
       }
     }
 
-    /// <summary>Field number for the "player_info" field.</summary>
-    public const int PlayerInfoFieldNumber = 3;
-    private global::GameClient.Protobuf.PlayerInfo playerInfo_;
+    /// <summary>Field number for the "player_id" field.</summary>
+    public const int PlayerIdFieldNumber = 3;
+    private long playerId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public global::GameClient.Protobuf.PlayerInfo PlayerInfo {
-      get { return playerInfo_; }
+    public long PlayerId {
+      get { return playerId_; }
       set {
-        playerInfo_ = value;
+        playerId_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "session_token" field.</summary>
+    public const int SessionTokenFieldNumber = 4;
+    private string sessionToken_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string SessionToken {
+      get { return sessionToken_; }
+      set {
+        sessionToken_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "position_encoding" field.</summary>
+    public const int PositionEncodingFieldNumber = 5;
+    private global::GameClient.Protobuf.PositionEncoding positionEncoding_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.PositionEncoding PositionEncoding {
+      get { return positionEncoding_; }
+      set {
+        positionEncoding_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "room_id" field.</summary>
+    public const int RoomIdFieldNumber = 6;
+    private long roomId_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long RoomId {
+      get { return roomId_; }
+      set {
+        roomId_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "room_code" field.</summary>
+    public const int RoomCodeFieldNumber = 7;
+    private string roomCode_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string RoomCode {
+      get { return roomCode_; }
+      set {
+        roomCode_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "room_status" field.</summary>
+    public const int RoomStatusFieldNumber = 8;
+    private int roomStatus_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int RoomStatus {
+      get { return roomStatus_; }
+      set {
+        roomStatus_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as RegisterResponse);
+      return Equals(other as ResumeSessionResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(RegisterResponse other) {
+    public bool Equals(ResumeSessionResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -1038,7 +1235,12 @@ namespace GameClient.Protobuf {
       }
       if (Code != other.Code) return false;
       if (Message != other.Message) return false;
-      if (!object.Equals(PlayerInfo, other.PlayerInfo)) return false;
+      if (PlayerId != other.PlayerId) return false;
+      if (SessionToken != other.SessionToken) return false;
+      if (!object.Equals(PositionEncoding, other.PositionEncoding)) return false;
+      if (RoomId != other.RoomId) return false;
+      if (RoomCode != other.RoomCode) return false;
+      if (RoomStatus != other.RoomStatus) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -1048,7 +1250,12 @@ namespace GameClient.Protobuf {
       int hash = 1;
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
       if (Message.Length != 0) hash ^= Message.GetHashCode();
-      if (playerInfo_ != null) hash ^= PlayerInfo.GetHashCode();
+      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
+      if (SessionToken.Length != 0) hash ^= SessionToken.GetHashCode();
+      if (positionEncoding_ != null) hash ^= PositionEncoding.GetHashCode();
+      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
+      if (RoomCode.Length != 0) hash ^= RoomCode.GetHashCode();
+      if (RoomStatus != 0) hash ^= RoomStatus.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -1075,9 +1282,29 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
-      if (playerInfo_ != null) {
-        output.WriteRawTag(26);
-        output.WriteMessage(PlayerInfo);
+      if (PlayerId != 0L) {
+        output.WriteRawTag(24);
+        output.WriteInt64(PlayerId);
+      }
+      if (SessionToken.Length != 0) {
+        output.WriteRawTag(34);
+        output.WriteString(SessionToken);
+      }
+      if (positionEncoding_ != null) {
+        output.WriteRawTag(42);
+        output.WriteMessage(PositionEncoding);
+      }
+      if (RoomId != 0L) {
+        output.WriteRawTag(48);
+        output.WriteInt64(RoomId);
+      }
+      if (RoomCode.Length != 0) {
+        output.WriteRawTag(58);
+        output.WriteString(RoomCode);
+      }
+      if (RoomStatus != 0) {
+        output.WriteRawTag(64);
+        output.WriteInt32(RoomStatus);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -1097,18 +1324,38 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
-      if (playerInfo_ != null) {
-        output.WriteRawTag(26);
-        output.WriteMessage(PlayerInfo);
+      if (PlayerId != 0L) {
+        output.WriteRawTag(24);
+        output.WriteInt64(PlayerId);
       }
-      if (_unknownFields != null) {
-        _unknownFields.WriteTo(ref output);
+      if (SessionToken.Length != 0) {
+        output.WriteRawTag(34);
+        output.WriteString(SessionToken);
       }
-    }
-    #endif
-
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
-    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+      if (positionEncoding_ != null) {
+        output.WriteRawTag(42);
+        output.WriteMessage(PositionEncoding);
+      }
+      if (RoomId != 0L) {
+        output.WriteRawTag(48);
+        output.WriteInt64(RoomId);
+      }
+      if (RoomCode.Length != 0) {
+        output.WriteRawTag(58);
+        output.WriteString(RoomCode);
+      }
+      if (RoomStatus != 0) {
+        output.WriteRawTag(64);
+        output.WriteInt32(RoomStatus);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(ref output);
+      }
+    }
+    #endif
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
@@ -1117,8 +1364,23 @@ namespace GameClient.Protobuf {
       if (Message.Length != 0) {
         size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
       }
-      if (playerInfo_ != null) {
-        size += 1 + pb::CodedOutputStream.ComputeMessageSize(PlayerInfo);
+      if (PlayerId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
+      }
+      if (SessionToken.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(SessionToken);
+      }
+      if (positionEncoding_ != null) {
+        size += 1 + pb::CodedOutputStream.ComputeMessageSize(PositionEncoding);
+      }
+      if (RoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
+      }
+      if (RoomCode.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(RoomCode);
+      }
+      if (RoomStatus != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeInt32Size(RoomStatus);
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -1128,7 +1390,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(RegisterResponse other) {
+    public void MergeFrom(ResumeSessionResponse other) {
       if (other == null) {
         return;
       }
@@ -1138,11 +1400,26 @@ namespace GameClient.Protobuf {
       if (other.Message.Length != 0) {
         Message = other.Message;
       }
-      if (other.playerInfo_ != null) {
-        if (playerInfo_ == null) {
-          PlayerInfo = new global::GameClient.Protobuf.PlayerInfo();
+      if (other.PlayerId != 0L) {
+        PlayerId = other.PlayerId;
+      }
+      if (other.SessionToken.Length != 0) {
+        SessionToken = other.SessionToken;
+      }
+      if (other.positionEncoding_ != null) {
+        if (positionEncoding_ == null) {
+          PositionEncoding = new global::GameClient.Protobuf.PositionEncoding();
         }
-        PlayerInfo.MergeFrom(other.PlayerInfo);
+        PositionEncoding.MergeFrom(other.PositionEncoding);
+      }
+      if (other.RoomId != 0L) {
+        RoomId = other.RoomId;
+      }
+      if (other.RoomCode.Length != 0) {
+        RoomCode = other.RoomCode;
+      }
+      if (other.RoomStatus != 0) {
+        RoomStatus = other.RoomStatus;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -1167,11 +1444,31 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
-          case 26: {
-            if (playerInfo_ == null) {
-              PlayerInfo = new global::GameClient.Protobuf.PlayerInfo();
+          case 24: {
+            PlayerId = input.ReadInt64();
+            break;
+          }
+          case 34: {
+            SessionToken = input.ReadString();
+            break;
+          }
+          case 42: {
+            if (positionEncoding_ == null) {
+              PositionEncoding = new global::GameClient.Protobuf.PositionEncoding();
             }
-            input.ReadMessage(PlayerInfo);
+            input.ReadMessage(PositionEncoding);
+            break;
+          }
+          case 48: {
+            RoomId = input.ReadInt64();
+            break;
+          }
+          case 58: {
+            RoomCode = input.ReadString();
+            break;
+          }
+          case 64: {
+            RoomStatus = input.ReadInt32();
             break;
           }
         }
@@ -1197,11 +1494,31 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
-          case 26: {
-            if (playerInfo_ == null) {
-              PlayerInfo = new global::GameClient.Protobuf.PlayerInfo();
+          case 24: {
+            PlayerId = input.ReadInt64();
+            break;
+          }
+          case 34: {
+            SessionToken = input.ReadString();
+            break;
+          }
+          case 42: {
+            if (positionEncoding_ == null) {
+              PositionEncoding = new global::GameClient.Protobuf.PositionEncoding();
             }
-            input.ReadMessage(PlayerInfo);
+            input.ReadMessage(PositionEncoding);
+            break;
+          }
+          case 48: {
+            RoomId = input.ReadInt64();
+            break;
+          }
+          case 58: {
+            RoomCode = input.ReadString();
+            break;
+          }
+          case 64: {
+            RoomStatus = input.ReadInt32();
             break;
           }
         }
@@ -1212,18 +1529,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 创建房间请求
+  /// 注册请求
   /// </summary>
-  public sealed partial class CreateRoomRequest : pb::IMessage<CreateRoomRequest>
+  public sealed partial class RegisterRequest : pb::IMessage<RegisterRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<CreateRoomRequest> _parser = new pb::MessageParser<CreateRoomRequest>(() => new CreateRoomRequest());
+    private static readonly pb::MessageParser<RegisterRequest> _parser = new pb::MessageParser<RegisterRequest>(() => new RegisterRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<CreateRoomRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<RegisterRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -1239,7 +1556,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public CreateRoomRequest() {
+    public RegisterRequest() {
       OnConstruction();
     }
 
@@ -1247,45 +1564,73 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public CreateRoomRequest(CreateRoomRequest other) : this() {
-      playerId_ = other.playerId_;
+    public RegisterRequest(RegisterRequest other) : this() {
+      username_ = other.username_;
+      password_ = other.password_;
+      nickname_ = other.nickname_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public CreateRoomRequest Clone() {
-      return new CreateRoomRequest(this);
+    public RegisterRequest Clone() {
+      return new RegisterRequest(this);
     }
 
-    /// <summary>Field number for the "player_id" field.</summary>
-    public const int PlayerIdFieldNumber = 1;
-    private long playerId_;
+    /// <summary>Field number for the "username" field.</summary>
+    public const int UsernameFieldNumber = 1;
+    private string username_ = "";
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long PlayerId {
-      get { return playerId_; }
+    public string Username {
+      get { return username_; }
       set {
-        playerId_ = value;
+        username_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "password" field.</summary>
+    public const int PasswordFieldNumber = 2;
+    private string password_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string Password {
+      get { return password_; }
+      set {
+        password_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "nickname" field.</summary>
+    public const int NicknameFieldNumber = 3;
+    private string nickname_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string Nickname {
+      get { return nickname_; }
+      set {
+        nickname_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as CreateRoomRequest);
+      return Equals(other as RegisterRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(CreateRoomRequest other) {
+    public bool Equals(RegisterRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (PlayerId != other.PlayerId) return false;
+      if (Username != other.Username) return false;
+      if (Password != other.Password) return false;
+      if (Nickname != other.Nickname) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -1293,7 +1638,9 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
+      if (Username.Length != 0) hash ^= Username.GetHashCode();
+      if (Password.Length != 0) hash ^= Password.GetHashCode();
+      if (Nickname.Length != 0) hash ^= Nickname.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -1312,9 +1659,17 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (PlayerId != 0L) {
-        output.WriteRawTag(8);
-        output.WriteInt64(PlayerId);
+      if (Username.Length != 0) {
+        output.WriteRawTag(10);
+        output.WriteString(Username);
+      }
+      if (Password.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Password);
+      }
+      if (Nickname.Length != 0) {
+        output.WriteRawTag(26);
+        output.WriteString(Nickname);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -1326,9 +1681,17 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (PlayerId != 0L) {
-        output.WriteRawTag(8);
-        output.WriteInt64(PlayerId);
+      if (Username.Length != 0) {
+        output.WriteRawTag(10);
+        output.WriteString(Username);
+      }
+      if (Password.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Password);
+      }
+      if (Nickname.Length != 0) {
+        output.WriteRawTag(26);
+        output.WriteString(Nickname);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -1340,8 +1703,14 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (PlayerId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
+      if (Username.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Username);
+      }
+      if (Password.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Password);
+      }
+      if (Nickname.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Nickname);
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -1351,12 +1720,18 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(CreateRoomRequest other) {
+    public void MergeFrom(RegisterRequest other) {
       if (other == null) {
         return;
       }
-      if (other.PlayerId != 0L) {
-        PlayerId = other.PlayerId;
+      if (other.Username.Length != 0) {
+        Username = other.Username;
+      }
+      if (other.Password.Length != 0) {
+        Password = other.Password;
+      }
+      if (other.Nickname.Length != 0) {
+        Nickname = other.Nickname;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -1373,8 +1748,16 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
-          case 8: {
-            PlayerId = input.ReadInt64();
+          case 10: {
+            Username = input.ReadString();
+            break;
+          }
+          case 18: {
+            Password = input.ReadString();
+            break;
+          }
+          case 26: {
+            Nickname = input.ReadString();
             break;
           }
         }
@@ -1392,8 +1775,16 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
-          case 8: {
-            PlayerId = input.ReadInt64();
+          case 10: {
+            Username = input.ReadString();
+            break;
+          }
+          case 18: {
+            Password = input.ReadString();
+            break;
+          }
+          case 26: {
+            Nickname = input.ReadString();
             break;
           }
         }
@@ -1404,18 +1795,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 创建房间响应
+  /// 注册响应
   /// </summary>
-  public sealed partial class CreateRoomResponse : pb::IMessage<CreateRoomResponse>
+  public sealed partial class RegisterResponse : pb::IMessage<RegisterResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<CreateRoomResponse> _parser = new pb::MessageParser<CreateRoomResponse>(() => new CreateRoomResponse());
+    private static readonly pb::MessageParser<RegisterResponse> _parser = new pb::MessageParser<RegisterResponse>(() => new RegisterResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<CreateRoomResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<RegisterResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -1431,7 +1822,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public CreateRoomResponse() {
+    public RegisterResponse() {
       OnConstruction();
     }
 
@@ -1439,17 +1830,17 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public CreateRoomResponse(CreateRoomResponse other) : this() {
+    public RegisterResponse(RegisterResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
-      roomInfo_ = other.roomInfo_ != null ? other.roomInfo_.Clone() : null;
+      playerInfo_ = other.playerInfo_ != null ? other.playerInfo_.Clone() : null;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public CreateRoomResponse Clone() {
-      return new CreateRoomResponse(this);
+    public RegisterResponse Clone() {
+      return new RegisterResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
@@ -1476,27 +1867,27 @@ namespace GameClient.Protobuf {
       }
     }
 
-    /// <summary>Field number for the "room_info" field.</summary>
-    public const int RoomInfoFieldNumber = 3;
-    private global::GameClient.Protobuf.RoomInfo roomInfo_;
+    /// <summary>Field number for the "player_info" field.</summary>
+    public const int PlayerInfoFieldNumber = 3;
+    private global::GameClient.Protobuf.PlayerInfo playerInfo_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public global::GameClient.Protobuf.RoomInfo RoomInfo {
-      get { return roomInfo_; }
+    public global::GameClient.Protobuf.PlayerInfo PlayerInfo {
+      get { return playerInfo_; }
       set {
-        roomInfo_ = value;
+        playerInfo_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as CreateRoomResponse);
+      return Equals(other as RegisterResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(CreateRoomResponse other) {
+    public bool Equals(RegisterResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -1505,7 +1896,7 @@ namespace GameClient.Protobuf {
       }
       if (Code != other.Code) return false;
       if (Message != other.Message) return false;
-      if (!object.Equals(RoomInfo, other.RoomInfo)) return false;
+      if (!object.Equals(PlayerInfo, other.PlayerInfo)) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -1515,7 +1906,7 @@ namespace GameClient.Protobuf {
       int hash = 1;
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
       if (Message.Length != 0) hash ^= Message.GetHashCode();
-      if (roomInfo_ != null) hash ^= RoomInfo.GetHashCode();
+      if (playerInfo_ != null) hash ^= PlayerInfo.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -1542,9 +1933,9 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
-      if (roomInfo_ != null) {
+      if (playerInfo_ != null) {
         output.WriteRawTag(26);
-        output.WriteMessage(RoomInfo);
+        output.WriteMessage(PlayerInfo);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -1564,9 +1955,9 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
-      if (roomInfo_ != null) {
+      if (playerInfo_ != null) {
         output.WriteRawTag(26);
-        output.WriteMessage(RoomInfo);
+        output.WriteMessage(PlayerInfo);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -1584,8 +1975,8 @@ namespace GameClient.Protobuf {
       if (Message.Length != 0) {
         size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
       }
-      if (roomInfo_ != null) {
-        size += 1 + pb::CodedOutputStream.ComputeMessageSize(RoomInfo);
+      if (playerInfo_ != null) {
+        size += 1 + pb::CodedOutputStream.ComputeMessageSize(PlayerInfo);
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -1595,7 +1986,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(CreateRoomResponse other) {
+    public void MergeFrom(RegisterResponse other) {
       if (other == null) {
         return;
       }
@@ -1605,11 +1996,11 @@ namespace GameClient.Protobuf {
       if (other.Message.Length != 0) {
         Message = other.Message;
       }
-      if (other.roomInfo_ != null) {
-        if (roomInfo_ == null) {
-          RoomInfo = new global::GameClient.Protobuf.RoomInfo();
+      if (other.playerInfo_ != null) {
+        if (playerInfo_ == null) {
+          PlayerInfo = new global::GameClient.Protobuf.PlayerInfo();
         }
-        RoomInfo.MergeFrom(other.RoomInfo);
+        PlayerInfo.MergeFrom(other.PlayerInfo);
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -1635,10 +2026,10 @@ namespace GameClient.Protobuf {
             break;
           }
           case 26: {
-            if (roomInfo_ == null) {
-              RoomInfo = new global::GameClient.Protobuf.RoomInfo();
+            if (playerInfo_ == null) {
+              PlayerInfo = new global::GameClient.Protobuf.PlayerInfo();
             }
-            input.ReadMessage(RoomInfo);
+            input.ReadMessage(PlayerInfo);
             break;
           }
         }
@@ -1665,10 +2056,10 @@ namespace GameClient.Protobuf {
             break;
           }
           case 26: {
-            if (roomInfo_ == null) {
-              RoomInfo = new global::GameClient.Protobuf.RoomInfo();
+            if (playerInfo_ == null) {
+              PlayerInfo = new global::GameClient.Protobuf.PlayerInfo();
             }
-            input.ReadMessage(RoomInfo);
+            input.ReadMessage(PlayerInfo);
             break;
           }
         }
@@ -1679,18 +2070,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 加入房间请求
+  /// 创建房间请求
   /// </summary>
-  public sealed partial class JoinRoomRequest : pb::IMessage<JoinRoomRequest>
+  public sealed partial class CreateRoomRequest : pb::IMessage<CreateRoomRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<JoinRoomRequest> _parser = new pb::MessageParser<JoinRoomRequest>(() => new JoinRoomRequest());
+    private static readonly pb::MessageParser<CreateRoomRequest> _parser = new pb::MessageParser<CreateRoomRequest>(() => new CreateRoomRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<JoinRoomRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<CreateRoomRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -1706,7 +2097,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public JoinRoomRequest() {
+    public CreateRoomRequest() {
       OnConstruction();
     }
 
@@ -1714,32 +2105,19 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public JoinRoomRequest(JoinRoomRequest other) : this() {
-      roomCode_ = other.roomCode_;
+    public CreateRoomRequest(CreateRoomRequest other) : this() {
       playerId_ = other.playerId_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public JoinRoomRequest Clone() {
-      return new JoinRoomRequest(this);
-    }
-
-    /// <summary>Field number for the "room_code" field.</summary>
-    public const int RoomCodeFieldNumber = 1;
-    private string roomCode_ = "";
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
-    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string RoomCode {
-      get { return roomCode_; }
-      set {
-        roomCode_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
-      }
+    public CreateRoomRequest Clone() {
+      return new CreateRoomRequest(this);
     }
 
     /// <summary>Field number for the "player_id" field.</summary>
-    public const int PlayerIdFieldNumber = 2;
+    public const int PlayerIdFieldNumber = 1;
     private long playerId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -1753,19 +2131,18 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as JoinRoomRequest);
+      return Equals(other as CreateRoomRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(JoinRoomRequest other) {
+    public bool Equals(CreateRoomRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (RoomCode != other.RoomCode) return false;
       if (PlayerId != other.PlayerId) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
@@ -1774,7 +2151,6 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (RoomCode.Length != 0) hash ^= RoomCode.GetHashCode();
       if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
@@ -1794,12 +2170,8 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (RoomCode.Length != 0) {
-        output.WriteRawTag(10);
-        output.WriteString(RoomCode);
-      }
       if (PlayerId != 0L) {
-        output.WriteRawTag(16);
+        output.WriteRawTag(8);
         output.WriteInt64(PlayerId);
       }
       if (_unknownFields != null) {
@@ -1812,12 +2184,8 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (RoomCode.Length != 0) {
-        output.WriteRawTag(10);
-        output.WriteString(RoomCode);
-      }
       if (PlayerId != 0L) {
-        output.WriteRawTag(16);
+        output.WriteRawTag(8);
         output.WriteInt64(PlayerId);
       }
       if (_unknownFields != null) {
@@ -1830,9 +2198,6 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (RoomCode.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(RoomCode);
-      }
       if (PlayerId != 0L) {
         size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
       }
@@ -1844,13 +2209,10 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(JoinRoomRequest other) {
+    public void MergeFrom(CreateRoomRequest other) {
       if (other == null) {
         return;
       }
-      if (other.RoomCode.Length != 0) {
-        RoomCode = other.RoomCode;
-      }
       if (other.PlayerId != 0L) {
         PlayerId = other.PlayerId;
       }
@@ -1869,11 +2231,7 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
-          case 10: {
-            RoomCode = input.ReadString();
-            break;
-          }
-          case 16: {
+          case 8: {
             PlayerId = input.ReadInt64();
             break;
           }
@@ -1892,11 +2250,7 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
-          case 10: {
-            RoomCode = input.ReadString();
-            break;
-          }
-          case 16: {
+          case 8: {
             PlayerId = input.ReadInt64();
             break;
           }
@@ -1908,18 +2262,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 加入房间响应
+  /// 创建房间响应
   /// </summary>
-  public sealed partial class JoinRoomResponse : pb::IMessage<JoinRoomResponse>
+  public sealed partial class CreateRoomResponse : pb::IMessage<CreateRoomResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<JoinRoomResponse> _parser = new pb::MessageParser<JoinRoomResponse>(() => new JoinRoomResponse());
+    private static readonly pb::MessageParser<CreateRoomResponse> _parser = new pb::MessageParser<CreateRoomResponse>(() => new CreateRoomResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<JoinRoomResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<CreateRoomResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -1935,7 +2289,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public JoinRoomResponse() {
+    public CreateRoomResponse() {
       OnConstruction();
     }
 
@@ -1943,7 +2297,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public JoinRoomResponse(JoinRoomResponse other) : this() {
+    public CreateRoomResponse(CreateRoomResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
       roomInfo_ = other.roomInfo_ != null ? other.roomInfo_.Clone() : null;
@@ -1952,8 +2306,8 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public JoinRoomResponse Clone() {
-      return new JoinRoomResponse(this);
+    public CreateRoomResponse Clone() {
+      return new CreateRoomResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
@@ -1995,12 +2349,12 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as JoinRoomResponse);
+      return Equals(other as CreateRoomResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(JoinRoomResponse other) {
+    public bool Equals(CreateRoomResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -2099,7 +2453,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(JoinRoomResponse other) {
+    public void MergeFrom(CreateRoomResponse other) {
       if (other == null) {
         return;
       }
@@ -2183,18 +2537,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 离开房间请求
+  /// 加入房间请求
   /// </summary>
-  public sealed partial class LeaveRoomRequest : pb::IMessage<LeaveRoomRequest>
+  public sealed partial class JoinRoomRequest : pb::IMessage<JoinRoomRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<LeaveRoomRequest> _parser = new pb::MessageParser<LeaveRoomRequest>(() => new LeaveRoomRequest());
+    private static readonly pb::MessageParser<JoinRoomRequest> _parser = new pb::MessageParser<JoinRoomRequest>(() => new JoinRoomRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<LeaveRoomRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<JoinRoomRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -2210,7 +2564,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public LeaveRoomRequest() {
+    public JoinRoomRequest() {
       OnConstruction();
     }
 
@@ -2218,7 +2572,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public LeaveRoomRequest(LeaveRoomRequest other) : this() {
+    public JoinRoomRequest(JoinRoomRequest other) : this() {
       roomCode_ = other.roomCode_;
       playerId_ = other.playerId_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
@@ -2226,8 +2580,8 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public LeaveRoomRequest Clone() {
-      return new LeaveRoomRequest(this);
+    public JoinRoomRequest Clone() {
+      return new JoinRoomRequest(this);
     }
 
     /// <summary>Field number for the "room_code" field.</summary>
@@ -2257,12 +2611,12 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as LeaveRoomRequest);
+      return Equals(other as JoinRoomRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(LeaveRoomRequest other) {
+    public bool Equals(JoinRoomRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -2348,7 +2702,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(LeaveRoomRequest other) {
+    public void MergeFrom(JoinRoomRequest other) {
       if (other == null) {
         return;
       }
@@ -2412,18 +2766,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 离开房间响应
+  /// 加入房间响应
   /// </summary>
-  public sealed partial class LeaveRoomResponse : pb::IMessage<LeaveRoomResponse>
+  public sealed partial class JoinRoomResponse : pb::IMessage<JoinRoomResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<LeaveRoomResponse> _parser = new pb::MessageParser<LeaveRoomResponse>(() => new LeaveRoomResponse());
+    private static readonly pb::MessageParser<JoinRoomResponse> _parser = new pb::MessageParser<JoinRoomResponse>(() => new JoinRoomResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<LeaveRoomResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<JoinRoomResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -2439,7 +2793,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public LeaveRoomResponse() {
+    public JoinRoomResponse() {
       OnConstruction();
     }
 
@@ -2447,16 +2801,17 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public LeaveRoomResponse(LeaveRoomResponse other) : this() {
+    public JoinRoomResponse(JoinRoomResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
+      roomInfo_ = other.roomInfo_ != null ? other.roomInfo_.Clone() : null;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public LeaveRoomResponse Clone() {
-      return new LeaveRoomResponse(this);
+    public JoinRoomResponse Clone() {
+      return new JoinRoomResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
@@ -2483,15 +2838,27 @@ namespace GameClient.Protobuf {
       }
     }
 
+    /// <summary>Field number for the "room_info" field.</summary>
+    public const int RoomInfoFieldNumber = 3;
+    private global::GameClient.Protobuf.RoomInfo roomInfo_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.RoomInfo RoomInfo {
+      get { return roomInfo_; }
+      set {
+        roomInfo_ = value;
+      }
+    }
+
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as LeaveRoomResponse);
+      return Equals(other as JoinRoomResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(LeaveRoomResponse other) {
+    public bool Equals(JoinRoomResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -2500,6 +2867,7 @@ namespace GameClient.Protobuf {
       }
       if (Code != other.Code) return false;
       if (Message != other.Message) return false;
+      if (!object.Equals(RoomInfo, other.RoomInfo)) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -2509,6 +2877,7 @@ namespace GameClient.Protobuf {
       int hash = 1;
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
       if (Message.Length != 0) hash ^= Message.GetHashCode();
+      if (roomInfo_ != null) hash ^= RoomInfo.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -2535,6 +2904,10 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
+      if (roomInfo_ != null) {
+        output.WriteRawTag(26);
+        output.WriteMessage(RoomInfo);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -2553,6 +2926,10 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
+      if (roomInfo_ != null) {
+        output.WriteRawTag(26);
+        output.WriteMessage(RoomInfo);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -2569,6 +2946,9 @@ namespace GameClient.Protobuf {
       if (Message.Length != 0) {
         size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
       }
+      if (roomInfo_ != null) {
+        size += 1 + pb::CodedOutputStream.ComputeMessageSize(RoomInfo);
+      }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -2577,7 +2957,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(LeaveRoomResponse other) {
+    public void MergeFrom(JoinRoomResponse other) {
       if (other == null) {
         return;
       }
@@ -2587,6 +2967,12 @@ namespace GameClient.Protobuf {
       if (other.Message.Length != 0) {
         Message = other.Message;
       }
+      if (other.roomInfo_ != null) {
+        if (roomInfo_ == null) {
+          RoomInfo = new global::GameClient.Protobuf.RoomInfo();
+        }
+        RoomInfo.MergeFrom(other.RoomInfo);
+      }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -2610,6 +2996,13 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
+          case 26: {
+            if (roomInfo_ == null) {
+              RoomInfo = new global::GameClient.Protobuf.RoomInfo();
+            }
+            input.ReadMessage(RoomInfo);
+            break;
+          }
         }
       }
     #endif
@@ -2633,6 +3026,13 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
+          case 26: {
+            if (roomInfo_ == null) {
+              RoomInfo = new global::GameClient.Protobuf.RoomInfo();
+            }
+            input.ReadMessage(RoomInfo);
+            break;
+          }
         }
       }
     }
@@ -2641,18 +3041,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 列出房间请求
+  /// 离开房间请求
   /// </summary>
-  public sealed partial class ListRoomsRequest : pb::IMessage<ListRoomsRequest>
+  public sealed partial class LeaveRoomRequest : pb::IMessage<LeaveRoomRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<ListRoomsRequest> _parser = new pb::MessageParser<ListRoomsRequest>(() => new ListRoomsRequest());
+    private static readonly pb::MessageParser<LeaveRoomRequest> _parser = new pb::MessageParser<LeaveRoomRequest>(() => new LeaveRoomRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<ListRoomsRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<LeaveRoomRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -2668,7 +3068,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ListRoomsRequest() {
+    public LeaveRoomRequest() {
       OnConstruction();
     }
 
@@ -2676,31 +3076,59 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ListRoomsRequest(ListRoomsRequest other) : this() {
+    public LeaveRoomRequest(LeaveRoomRequest other) : this() {
+      roomCode_ = other.roomCode_;
+      playerId_ = other.playerId_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ListRoomsRequest Clone() {
-      return new ListRoomsRequest(this);
+    public LeaveRoomRequest Clone() {
+      return new LeaveRoomRequest(this);
     }
 
+    /// <summary>Field number for the "room_code" field.</summary>
+    public const int RoomCodeFieldNumber = 1;
+    private string roomCode_ = "";
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public override bool Equals(object other) {
-      return Equals(other as ListRoomsRequest);
+    public string RoomCode {
+      get { return roomCode_; }
+      set {
+        roomCode_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
     }
 
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    /// <summary>Field number for the "player_id" field.</summary>
+    public const int PlayerIdFieldNumber = 2;
+    private long playerId_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(ListRoomsRequest other) {
+    public long PlayerId {
+      get { return playerId_; }
+      set {
+        playerId_ = value;
+      }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override bool Equals(object other) {
+      return Equals(other as LeaveRoomRequest);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Equals(LeaveRoomRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
+      if (RoomCode != other.RoomCode) return false;
+      if (PlayerId != other.PlayerId) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -2708,6 +3136,8 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
+      if (RoomCode.Length != 0) hash ^= RoomCode.GetHashCode();
+      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -2726,6 +3156,14 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
+      if (RoomCode.Length != 0) {
+        output.WriteRawTag(10);
+        output.WriteString(RoomCode);
+      }
+      if (PlayerId != 0L) {
+        output.WriteRawTag(16);
+        output.WriteInt64(PlayerId);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -2736,6 +3174,14 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
+      if (RoomCode.Length != 0) {
+        output.WriteRawTag(10);
+        output.WriteString(RoomCode);
+      }
+      if (PlayerId != 0L) {
+        output.WriteRawTag(16);
+        output.WriteInt64(PlayerId);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -2746,6 +3192,12 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
+      if (RoomCode.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(RoomCode);
+      }
+      if (PlayerId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
+      }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -2754,10 +3206,16 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(ListRoomsRequest other) {
+    public void MergeFrom(LeaveRoomRequest other) {
       if (other == null) {
         return;
       }
+      if (other.RoomCode.Length != 0) {
+        RoomCode = other.RoomCode;
+      }
+      if (other.PlayerId != 0L) {
+        PlayerId = other.PlayerId;
+      }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -2773,6 +3231,14 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
+          case 10: {
+            RoomCode = input.ReadString();
+            break;
+          }
+          case 16: {
+            PlayerId = input.ReadInt64();
+            break;
+          }
         }
       }
     #endif
@@ -2788,6 +3254,14 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
+          case 10: {
+            RoomCode = input.ReadString();
+            break;
+          }
+          case 16: {
+            PlayerId = input.ReadInt64();
+            break;
+          }
         }
       }
     }
@@ -2796,18 +3270,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 列出房间响应
+  /// 离开房间响应
   /// </summary>
-  public sealed partial class ListRoomsResponse : pb::IMessage<ListRoomsResponse>
+  public sealed partial class LeaveRoomResponse : pb::IMessage<LeaveRoomResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<ListRoomsResponse> _parser = new pb::MessageParser<ListRoomsResponse>(() => new ListRoomsResponse());
+    private static readonly pb::MessageParser<LeaveRoomResponse> _parser = new pb::MessageParser<LeaveRoomResponse>(() => new LeaveRoomResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<ListRoomsResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<LeaveRoomResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -2823,7 +3297,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ListRoomsResponse() {
+    public LeaveRoomResponse() {
       OnConstruction();
     }
 
@@ -2831,17 +3305,16 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ListRoomsResponse(ListRoomsResponse other) : this() {
+    public LeaveRoomResponse(LeaveRoomResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
-      rooms_ = other.rooms_.Clone();
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ListRoomsResponse Clone() {
-      return new ListRoomsResponse(this);
+    public LeaveRoomResponse Clone() {
+      return new LeaveRoomResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
@@ -2868,26 +3341,15 @@ namespace GameClient.Protobuf {
       }
     }
 
-    /// <summary>Field number for the "rooms" field.</summary>
-    public const int RoomsFieldNumber = 3;
-    private static readonly pb::FieldCodec<global::GameClient.Protobuf.RoomInfo> _repeated_rooms_codec
-        = pb::FieldCodec.ForMessage(26, global::GameClient.Protobuf.RoomInfo.Parser);
-    private readonly pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo> rooms_ = new pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo>();
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
-    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo> Rooms {
-      get { return rooms_; }
-    }
-
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as ListRoomsResponse);
+      return Equals(other as LeaveRoomResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(ListRoomsResponse other) {
+    public bool Equals(LeaveRoomResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -2896,7 +3358,6 @@ namespace GameClient.Protobuf {
       }
       if (Code != other.Code) return false;
       if (Message != other.Message) return false;
-      if(!rooms_.Equals(other.rooms_)) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -2906,7 +3367,6 @@ namespace GameClient.Protobuf {
       int hash = 1;
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
       if (Message.Length != 0) hash ^= Message.GetHashCode();
-      hash ^= rooms_.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -2933,7 +3393,6 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
-      rooms_.WriteTo(output, _repeated_rooms_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -2952,7 +3411,6 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
-      rooms_.WriteTo(ref output, _repeated_rooms_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -2969,7 +3427,6 @@ namespace GameClient.Protobuf {
       if (Message.Length != 0) {
         size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
       }
-      size += rooms_.CalculateSize(_repeated_rooms_codec);
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -2978,7 +3435,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(ListRoomsResponse other) {
+    public void MergeFrom(LeaveRoomResponse other) {
       if (other == null) {
         return;
       }
@@ -2988,7 +3445,6 @@ namespace GameClient.Protobuf {
       if (other.Message.Length != 0) {
         Message = other.Message;
       }
-      rooms_.Add(other.rooms_);
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -3012,10 +3468,6 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
-          case 26: {
-            rooms_.AddEntriesFrom(input, _repeated_rooms_codec);
-            break;
-          }
         }
       }
     #endif
@@ -3039,10 +3491,6 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
-          case 26: {
-            rooms_.AddEntriesFrom(ref input, _repeated_rooms_codec);
-            break;
-          }
         }
       }
     }
@@ -3051,18 +3499,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 开始游戏请求
+  /// 列出房间请求：按房间ID升序分页
   /// </summary>
-  public sealed partial class StartGameRequest : pb::IMessage<StartGameRequest>
+  public sealed partial class ListRoomsRequest : pb::IMessage<ListRoomsRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<StartGameRequest> _parser = new pb::MessageParser<StartGameRequest>(() => new StartGameRequest());
+    private static readonly pb::MessageParser<ListRoomsRequest> _parser = new pb::MessageParser<ListRoomsRequest>(() => new ListRoomsRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<StartGameRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<ListRoomsRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -3078,7 +3526,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public StartGameRequest() {
+    public ListRoomsRequest() {
       OnConstruction();
     }
 
@@ -3086,59 +3534,82 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public StartGameRequest(StartGameRequest other) : this() {
-      roomId_ = other.roomId_;
-      playerId_ = other.playerId_;
+    public ListRoomsRequest(ListRoomsRequest other) : this() {
+      afterRoomId_ = other.afterRoomId_;
+      pageSize_ = other.pageSize_;
+      subscribe_ = other.subscribe_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public StartGameRequest Clone() {
-      return new StartGameRequest(this);
+    public ListRoomsRequest Clone() {
+      return new ListRoomsRequest(this);
     }
 
-    /// <summary>Field number for the "room_id" field.</summary>
-    public const int RoomIdFieldNumber = 1;
-    private long roomId_;
+    /// <summary>Field number for the "after_room_id" field.</summary>
+    public const int AfterRoomIdFieldNumber = 1;
+    private long afterRoomId_;
+    /// <summary>
+    /// 分页游标，返回ID大于它的房间，0表示第一页
+    /// </summary>
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long RoomId {
-      get { return roomId_; }
+    public long AfterRoomId {
+      get { return afterRoomId_; }
       set {
-        roomId_ = value;
+        afterRoomId_ = value;
       }
     }
 
-    /// <summary>Field number for the "player_id" field.</summary>
-    public const int PlayerIdFieldNumber = 2;
-    private long playerId_;
+    /// <summary>Field number for the "page_size" field.</summary>
+    public const int PageSizeFieldNumber = 2;
+    private uint pageSize_;
+    /// <summary>
+    /// 0表示使用服务器默认值
+    /// </summary>
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long PlayerId {
-      get { return playerId_; }
+    public uint PageSize {
+      get { return pageSize_; }
       set {
-        playerId_ = value;
+        pageSize_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "subscribe" field.</summary>
+    public const int SubscribeFieldNumber = 3;
+    private bool subscribe_;
+    /// <summary>
+    /// 仅在第一页生效：订阅之后的房间列表增量（RoomListUpdate），false取消订阅
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Subscribe {
+      get { return subscribe_; }
+      set {
+        subscribe_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as StartGameRequest);
+      return Equals(other as ListRoomsRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(StartGameRequest other) {
+    public bool Equals(ListRoomsRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (RoomId != other.RoomId) return false;
-      if (PlayerId != other.PlayerId) return false;
+      if (AfterRoomId != other.AfterRoomId) return false;
+      if (PageSize != other.PageSize) return false;
+      if (Subscribe != other.Subscribe) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -3146,8 +3617,9 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
-      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
+      if (AfterRoomId != 0L) hash ^= AfterRoomId.GetHashCode();
+      if (PageSize != 0) hash ^= PageSize.GetHashCode();
+      if (Subscribe != false) hash ^= Subscribe.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -3166,13 +3638,17 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (RoomId != 0L) {
+      if (AfterRoomId != 0L) {
         output.WriteRawTag(8);
-        output.WriteInt64(RoomId);
+        output.WriteInt64(AfterRoomId);
       }
-      if (PlayerId != 0L) {
+      if (PageSize != 0) {
         output.WriteRawTag(16);
-        output.WriteInt64(PlayerId);
+        output.WriteUInt32(PageSize);
+      }
+      if (Subscribe != false) {
+        output.WriteRawTag(24);
+        output.WriteBool(Subscribe);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -3184,13 +3660,17 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (RoomId != 0L) {
+      if (AfterRoomId != 0L) {
         output.WriteRawTag(8);
-        output.WriteInt64(RoomId);
+        output.WriteInt64(AfterRoomId);
       }
-      if (PlayerId != 0L) {
+      if (PageSize != 0) {
         output.WriteRawTag(16);
-        output.WriteInt64(PlayerId);
+        output.WriteUInt32(PageSize);
+      }
+      if (Subscribe != false) {
+        output.WriteRawTag(24);
+        output.WriteBool(Subscribe);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -3202,11 +3682,14 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (RoomId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
+      if (AfterRoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(AfterRoomId);
       }
-      if (PlayerId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
+      if (PageSize != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(PageSize);
+      }
+      if (Subscribe != false) {
+        size += 1 + 1;
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -3216,15 +3699,18 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(StartGameRequest other) {
+    public void MergeFrom(ListRoomsRequest other) {
       if (other == null) {
         return;
       }
-      if (other.RoomId != 0L) {
-        RoomId = other.RoomId;
+      if (other.AfterRoomId != 0L) {
+        AfterRoomId = other.AfterRoomId;
       }
-      if (other.PlayerId != 0L) {
-        PlayerId = other.PlayerId;
+      if (other.PageSize != 0) {
+        PageSize = other.PageSize;
+      }
+      if (other.Subscribe != false) {
+        Subscribe = other.Subscribe;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -3242,11 +3728,15 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
           case 8: {
-            RoomId = input.ReadInt64();
+            AfterRoomId = input.ReadInt64();
             break;
           }
           case 16: {
-            PlayerId = input.ReadInt64();
+            PageSize = input.ReadUInt32();
+            break;
+          }
+          case 24: {
+            Subscribe = input.ReadBool();
             break;
           }
         }
@@ -3265,11 +3755,15 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
           case 8: {
-            RoomId = input.ReadInt64();
+            AfterRoomId = input.ReadInt64();
             break;
           }
           case 16: {
-            PlayerId = input.ReadInt64();
+            PageSize = input.ReadUInt32();
+            break;
+          }
+          case 24: {
+            Subscribe = input.ReadBool();
             break;
           }
         }
@@ -3280,18 +3774,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 开始游戏响应
+  /// 列出房间响应
   /// </summary>
-  public sealed partial class StartGameResponse : pb::IMessage<StartGameResponse>
+  public sealed partial class ListRoomsResponse : pb::IMessage<ListRoomsResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<StartGameResponse> _parser = new pb::MessageParser<StartGameResponse>(() => new StartGameResponse());
+    private static readonly pb::MessageParser<ListRoomsResponse> _parser = new pb::MessageParser<ListRoomsResponse>(() => new ListRoomsResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<StartGameResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<ListRoomsResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -3307,7 +3801,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public StartGameResponse() {
+    public ListRoomsResponse() {
       OnConstruction();
     }
 
@@ -3315,16 +3809,19 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public StartGameResponse(StartGameResponse other) : this() {
+    public ListRoomsResponse(ListRoomsResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
+      rooms_ = other.rooms_.Clone();
+      nextAfterRoomId_ = other.nextAfterRoomId_;
+      total_ = other.total_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public StartGameResponse Clone() {
-      return new StartGameResponse(this);
+    public ListRoomsResponse Clone() {
+      return new ListRoomsResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
@@ -3351,15 +3848,56 @@ namespace GameClient.Protobuf {
       }
     }
 
+    /// <summary>Field number for the "rooms" field.</summary>
+    public const int RoomsFieldNumber = 3;
+    private static readonly pb::FieldCodec<global::GameClient.Protobuf.RoomInfo> _repeated_rooms_codec
+        = pb::FieldCodec.ForMessage(26, global::GameClient.Protobuf.RoomInfo.Parser);
+    private readonly pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo> rooms_ = new pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo>();
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo> Rooms {
+      get { return rooms_; }
+    }
+
+    /// <summary>Field number for the "next_after_room_id" field.</summary>
+    public const int NextAfterRoomIdFieldNumber = 4;
+    private long nextAfterRoomId_;
+    /// <summary>
+    /// 下一页的游标，0表示没有更多
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long NextAfterRoomId {
+      get { return nextAfterRoomId_; }
+      set {
+        nextAfterRoomId_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "total" field.</summary>
+    public const int TotalFieldNumber = 5;
+    private uint total_;
+    /// <summary>
+    /// 当前可加入的房间总数
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public uint Total {
+      get { return total_; }
+      set {
+        total_ = value;
+      }
+    }
+
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as StartGameResponse);
+      return Equals(other as ListRoomsResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(StartGameResponse other) {
+    public bool Equals(ListRoomsResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -3368,6 +3906,9 @@ namespace GameClient.Protobuf {
       }
       if (Code != other.Code) return false;
       if (Message != other.Message) return false;
+      if(!rooms_.Equals(other.rooms_)) return false;
+      if (NextAfterRoomId != other.NextAfterRoomId) return false;
+      if (Total != other.Total) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -3377,6 +3918,9 @@ namespace GameClient.Protobuf {
       int hash = 1;
       if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
       if (Message.Length != 0) hash ^= Message.GetHashCode();
+      hash ^= rooms_.GetHashCode();
+      if (NextAfterRoomId != 0L) hash ^= NextAfterRoomId.GetHashCode();
+      if (Total != 0) hash ^= Total.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -3403,6 +3947,15 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
+      rooms_.WriteTo(output, _repeated_rooms_codec);
+      if (NextAfterRoomId != 0L) {
+        output.WriteRawTag(32);
+        output.WriteInt64(NextAfterRoomId);
+      }
+      if (Total != 0) {
+        output.WriteRawTag(40);
+        output.WriteUInt32(Total);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -3421,6 +3974,15 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(18);
         output.WriteString(Message);
       }
+      rooms_.WriteTo(ref output, _repeated_rooms_codec);
+      if (NextAfterRoomId != 0L) {
+        output.WriteRawTag(32);
+        output.WriteInt64(NextAfterRoomId);
+      }
+      if (Total != 0) {
+        output.WriteRawTag(40);
+        output.WriteUInt32(Total);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -3437,6 +3999,13 @@ namespace GameClient.Protobuf {
       if (Message.Length != 0) {
         size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
       }
+      size += rooms_.CalculateSize(_repeated_rooms_codec);
+      if (NextAfterRoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(NextAfterRoomId);
+      }
+      if (Total != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(Total);
+      }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -3445,7 +4014,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(StartGameResponse other) {
+    public void MergeFrom(ListRoomsResponse other) {
       if (other == null) {
         return;
       }
@@ -3455,7 +4024,14 @@ namespace GameClient.Protobuf {
       if (other.Message.Length != 0) {
         Message = other.Message;
       }
-      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+      rooms_.Add(other.rooms_);
+      if (other.NextAfterRoomId != 0L) {
+        NextAfterRoomId = other.NextAfterRoomId;
+      }
+      if (other.Total != 0) {
+        Total = other.Total;
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
@@ -3478,6 +4054,18 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
+          case 26: {
+            rooms_.AddEntriesFrom(input, _repeated_rooms_codec);
+            break;
+          }
+          case 32: {
+            NextAfterRoomId = input.ReadInt64();
+            break;
+          }
+          case 40: {
+            Total = input.ReadUInt32();
+            break;
+          }
         }
       }
     #endif
@@ -3501,6 +4089,18 @@ namespace GameClient.Protobuf {
             Message = input.ReadString();
             break;
           }
+          case 26: {
+            rooms_.AddEntriesFrom(ref input, _repeated_rooms_codec);
+            break;
+          }
+          case 32: {
+            NextAfterRoomId = input.ReadInt64();
+            break;
+          }
+          case 40: {
+            Total = input.ReadUInt32();
+            break;
+          }
         }
       }
     }
@@ -3509,18 +4109,19 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 移动请求
+  /// 房间列表增量：订阅后可加入的房间出现或消失时推送。
+  /// 订阅先于第一页查询生效，客户端可能收到列表中已有房间的added，按房间ID去重即可
   /// </summary>
-  public sealed partial class MoveRequest : pb::IMessage<MoveRequest>
+  public sealed partial class RoomListUpdate : pb::IMessage<RoomListUpdate>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<MoveRequest> _parser = new pb::MessageParser<MoveRequest>(() => new MoveRequest());
+    private static readonly pb::MessageParser<RoomListUpdate> _parser = new pb::MessageParser<RoomListUpdate>(() => new RoomListUpdate());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<MoveRequest> Parser { get { return _parser; } }
+    public static pb::MessageParser<RoomListUpdate> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -3536,7 +4137,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public MoveRequest() {
+    public RoomListUpdate() {
       OnConstruction();
     }
 
@@ -3544,87 +4145,57 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public MoveRequest(MoveRequest other) : this() {
-      roomId_ = other.roomId_;
-      playerId_ = other.playerId_;
-      x_ = other.x_;
-      y_ = other.y_;
+    public RoomListUpdate(RoomListUpdate other) : this() {
+      added_ = other.added_.Clone();
+      removedRoomIds_ = other.removedRoomIds_.Clone();
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public MoveRequest Clone() {
-      return new MoveRequest(this);
-    }
-
-    /// <summary>Field number for the "room_id" field.</summary>
-    public const int RoomIdFieldNumber = 1;
-    private long roomId_;
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
-    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long RoomId {
-      get { return roomId_; }
-      set {
-        roomId_ = value;
-      }
-    }
-
-    /// <summary>Field number for the "player_id" field.</summary>
-    public const int PlayerIdFieldNumber = 2;
-    private long playerId_;
-    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
-    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long PlayerId {
-      get { return playerId_; }
-      set {
-        playerId_ = value;
-      }
+    public RoomListUpdate Clone() {
+      return new RoomListUpdate(this);
     }
 
-    /// <summary>Field number for the "x" field.</summary>
-    public const int XFieldNumber = 3;
-    private float x_;
+    /// <summary>Field number for the "added" field.</summary>
+    public const int AddedFieldNumber = 1;
+    private static readonly pb::FieldCodec<global::GameClient.Protobuf.RoomInfo> _repeated_added_codec
+        = pb::FieldCodec.ForMessage(10, global::GameClient.Protobuf.RoomInfo.Parser);
+    private readonly pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo> added_ = new pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo>();
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public float X {
-      get { return x_; }
-      set {
-        x_ = value;
-      }
+    public pbc::RepeatedField<global::GameClient.Protobuf.RoomInfo> Added {
+      get { return added_; }
     }
 
-    /// <summary>Field number for the "y" field.</summary>
-    public const int YFieldNumber = 4;
-    private float y_;
+    /// <summary>Field number for the "removed_room_ids" field.</summary>
+    public const int RemovedRoomIdsFieldNumber = 2;
+    private static readonly pb::FieldCodec<long> _repeated_removedRoomIds_codec
+        = pb::FieldCodec.ForInt64(18);
+    private readonly pbc::RepeatedField<long> removedRoomIds_ = new pbc::RepeatedField<long>();
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public float Y {
-      get { return y_; }
-      set {
-        y_ = value;
-      }
+    public pbc::RepeatedField<long> RemovedRoomIds {
+      get { return removedRoomIds_; }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as MoveRequest);
+      return Equals(other as RoomListUpdate);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(MoveRequest other) {
+    public bool Equals(RoomListUpdate other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (RoomId != other.RoomId) return false;
-      if (PlayerId != other.PlayerId) return false;
-      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(X, other.X)) return false;
-      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(Y, other.Y)) return false;
+      if(!added_.Equals(other.added_)) return false;
+      if(!removedRoomIds_.Equals(other.removedRoomIds_)) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -3632,10 +4203,8 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
-      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
-      if (X != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(X);
-      if (Y != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(Y);
+      hash ^= added_.GetHashCode();
+      hash ^= removedRoomIds_.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -3654,22 +4223,8 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (RoomId != 0L) {
-        output.WriteRawTag(8);
-        output.WriteInt64(RoomId);
-      }
-      if (PlayerId != 0L) {
-        output.WriteRawTag(16);
-        output.WriteInt64(PlayerId);
-      }
-      if (X != 0F) {
-        output.WriteRawTag(29);
-        output.WriteFloat(X);
-      }
-      if (Y != 0F) {
-        output.WriteRawTag(37);
-        output.WriteFloat(Y);
-      }
+      added_.WriteTo(output, _repeated_added_codec);
+      removedRoomIds_.WriteTo(output, _repeated_removedRoomIds_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -3680,22 +4235,8 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (RoomId != 0L) {
-        output.WriteRawTag(8);
-        output.WriteInt64(RoomId);
-      }
-      if (PlayerId != 0L) {
-        output.WriteRawTag(16);
-        output.WriteInt64(PlayerId);
-      }
-      if (X != 0F) {
-        output.WriteRawTag(29);
-        output.WriteFloat(X);
-      }
-      if (Y != 0F) {
-        output.WriteRawTag(37);
-        output.WriteFloat(Y);
-      }
+      added_.WriteTo(ref output, _repeated_added_codec);
+      removedRoomIds_.WriteTo(ref output, _repeated_removedRoomIds_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -3706,18 +4247,8 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (RoomId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
-      }
-      if (PlayerId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
-      }
-      if (X != 0F) {
-        size += 1 + 4;
-      }
-      if (Y != 0F) {
-        size += 1 + 4;
-      }
+      size += added_.CalculateSize(_repeated_added_codec);
+      size += removedRoomIds_.CalculateSize(_repeated_removedRoomIds_codec);
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -3726,22 +4257,12 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(MoveRequest other) {
+    public void MergeFrom(RoomListUpdate other) {
       if (other == null) {
         return;
       }
-      if (other.RoomId != 0L) {
-        RoomId = other.RoomId;
-      }
-      if (other.PlayerId != 0L) {
-        PlayerId = other.PlayerId;
-      }
-      if (other.X != 0F) {
-        X = other.X;
-      }
-      if (other.Y != 0F) {
-        Y = other.Y;
-      }
+      added_.Add(other.added_);
+      removedRoomIds_.Add(other.removedRoomIds_);
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -3757,20 +4278,13 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
-          case 8: {
-            RoomId = input.ReadInt64();
+          case 10: {
+            added_.AddEntriesFrom(input, _repeated_added_codec);
             break;
           }
+          case 18:
           case 16: {
-            PlayerId = input.ReadInt64();
-            break;
-          }
-          case 29: {
-            X = input.ReadFloat();
-            break;
-          }
-          case 37: {
-            Y = input.ReadFloat();
+            removedRoomIds_.AddEntriesFrom(input, _repeated_removedRoomIds_codec);
             break;
           }
         }
@@ -3788,20 +4302,13 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
-          case 8: {
-            RoomId = input.ReadInt64();
+          case 10: {
+            added_.AddEntriesFrom(ref input, _repeated_added_codec);
             break;
           }
+          case 18:
           case 16: {
-            PlayerId = input.ReadInt64();
-            break;
-          }
-          case 29: {
-            X = input.ReadFloat();
-            break;
-          }
-          case 37: {
-            Y = input.ReadFloat();
+            removedRoomIds_.AddEntriesFrom(ref input, _repeated_removedRoomIds_codec);
             break;
           }
         }
@@ -3812,18 +4319,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 移动响应
+  /// 开始游戏请求
   /// </summary>
-  public sealed partial class MoveResponse : pb::IMessage<MoveResponse>
+  public sealed partial class StartGameRequest : pb::IMessage<StartGameRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<MoveResponse> _parser = new pb::MessageParser<MoveResponse>(() => new MoveResponse());
+    private static readonly pb::MessageParser<StartGameRequest> _parser = new pb::MessageParser<StartGameRequest>(() => new StartGameRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<MoveResponse> Parser { get { return _parser; } }
+    public static pb::MessageParser<StartGameRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -3839,7 +4346,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public MoveResponse() {
+    public StartGameRequest() {
       OnConstruction();
     }
 
@@ -3847,59 +4354,59 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public MoveResponse(MoveResponse other) : this() {
-      code_ = other.code_;
-      message_ = other.message_;
+    public StartGameRequest(StartGameRequest other) : this() {
+      roomId_ = other.roomId_;
+      playerId_ = other.playerId_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public MoveResponse Clone() {
-      return new MoveResponse(this);
+    public StartGameRequest Clone() {
+      return new StartGameRequest(this);
     }
 
-    /// <summary>Field number for the "code" field.</summary>
-    public const int CodeFieldNumber = 1;
-    private global::GameClient.Protobuf.ErrorCode code_ = global::GameClient.Protobuf.ErrorCode.Success;
+    /// <summary>Field number for the "room_id" field.</summary>
+    public const int RoomIdFieldNumber = 1;
+    private long roomId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public global::GameClient.Protobuf.ErrorCode Code {
-      get { return code_; }
+    public long RoomId {
+      get { return roomId_; }
       set {
-        code_ = value;
+        roomId_ = value;
       }
     }
 
-    /// <summary>Field number for the "message" field.</summary>
-    public const int MessageFieldNumber = 2;
-    private string message_ = "";
+    /// <summary>Field number for the "player_id" field.</summary>
+    public const int PlayerIdFieldNumber = 2;
+    private long playerId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string Message {
-      get { return message_; }
+    public long PlayerId {
+      get { return playerId_; }
       set {
-        message_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+        playerId_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as MoveResponse);
+      return Equals(other as StartGameRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(MoveResponse other) {
+    public bool Equals(StartGameRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (Code != other.Code) return false;
-      if (Message != other.Message) return false;
+      if (RoomId != other.RoomId) return false;
+      if (PlayerId != other.PlayerId) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -3907,8 +4414,8 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
-      if (Message.Length != 0) hash ^= Message.GetHashCode();
+      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
+      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -3927,13 +4434,13 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
+      if (RoomId != 0L) {
         output.WriteRawTag(8);
-        output.WriteEnum((int) Code);
+        output.WriteInt64(RoomId);
       }
-      if (Message.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(Message);
+      if (PlayerId != 0L) {
+        output.WriteRawTag(16);
+        output.WriteInt64(PlayerId);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -3945,13 +4452,13 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
+      if (RoomId != 0L) {
         output.WriteRawTag(8);
-        output.WriteEnum((int) Code);
+        output.WriteInt64(RoomId);
       }
-      if (Message.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(Message);
+      if (PlayerId != 0L) {
+        output.WriteRawTag(16);
+        output.WriteInt64(PlayerId);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -3963,11 +4470,11 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
-        size += 1 + pb::CodedOutputStream.ComputeEnumSize((int) Code);
+      if (RoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
       }
-      if (Message.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
+      if (PlayerId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -3977,15 +4484,15 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(MoveResponse other) {
+    public void MergeFrom(StartGameRequest other) {
       if (other == null) {
         return;
       }
-      if (other.Code != global::GameClient.Protobuf.ErrorCode.Success) {
-        Code = other.Code;
+      if (other.RoomId != 0L) {
+        RoomId = other.RoomId;
       }
-      if (other.Message.Length != 0) {
-        Message = other.Message;
+      if (other.PlayerId != 0L) {
+        PlayerId = other.PlayerId;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -4003,11 +4510,11 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
           case 8: {
-            Code = (global::GameClient.Protobuf.ErrorCode) input.ReadEnum();
+            RoomId = input.ReadInt64();
             break;
           }
-          case 18: {
-            Message = input.ReadString();
+          case 16: {
+            PlayerId = input.ReadInt64();
             break;
           }
         }
@@ -4026,11 +4533,11 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
           case 8: {
-            Code = (global::GameClient.Protobuf.ErrorCode) input.ReadEnum();
+            RoomId = input.ReadInt64();
             break;
           }
-          case 18: {
-            Message = input.ReadString();
+          case 16: {
+            PlayerId = input.ReadInt64();
             break;
           }
         }
@@ -4041,18 +4548,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 游戏状态更新
+  /// 开始游戏响应
   /// </summary>
-  public sealed partial class GameStateUpdate : pb::IMessage<GameStateUpdate>
+  public sealed partial class StartGameResponse : pb::IMessage<StartGameResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<GameStateUpdate> _parser = new pb::MessageParser<GameStateUpdate>(() => new GameStateUpdate());
+    private static readonly pb::MessageParser<StartGameResponse> _parser = new pb::MessageParser<StartGameResponse>(() => new StartGameResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<GameStateUpdate> Parser { get { return _parser; } }
+    public static pb::MessageParser<StartGameResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -4068,7 +4575,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public GameStateUpdate() {
+    public StartGameResponse() {
       OnConstruction();
     }
 
@@ -4076,58 +4583,59 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public GameStateUpdate(GameStateUpdate other) : this() {
-      roomId_ = other.roomId_;
-      players_ = other.players_.Clone();
+    public StartGameResponse(StartGameResponse other) : this() {
+      code_ = other.code_;
+      message_ = other.message_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public GameStateUpdate Clone() {
-      return new GameStateUpdate(this);
+    public StartGameResponse Clone() {
+      return new StartGameResponse(this);
     }
 
-    /// <summary>Field number for the "room_id" field.</summary>
-    public const int RoomIdFieldNumber = 1;
-    private long roomId_;
+    /// <summary>Field number for the "code" field.</summary>
+    public const int CodeFieldNumber = 1;
+    private global::GameClient.Protobuf.ErrorCode code_ = global::GameClient.Protobuf.ErrorCode.Success;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long RoomId {
-      get { return roomId_; }
+    public global::GameClient.Protobuf.ErrorCode Code {
+      get { return code_; }
       set {
-        roomId_ = value;
+        code_ = value;
       }
     }
 
-    /// <summary>Field number for the "players" field.</summary>
-    public const int PlayersFieldNumber = 2;
-    private static readonly pb::FieldCodec<global::GameClient.Protobuf.PlayerPosition> _repeated_players_codec
-        = pb::FieldCodec.ForMessage(18, global::GameClient.Protobuf.PlayerPosition.Parser);
-    private readonly pbc::RepeatedField<global::GameClient.Protobuf.PlayerPosition> players_ = new pbc::RepeatedField<global::GameClient.Protobuf.PlayerPosition>();
+    /// <summary>Field number for the "message" field.</summary>
+    public const int MessageFieldNumber = 2;
+    private string message_ = "";
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public pbc::RepeatedField<global::GameClient.Protobuf.PlayerPosition> Players {
-      get { return players_; }
+    public string Message {
+      get { return message_; }
+      set {
+        message_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as GameStateUpdate);
+      return Equals(other as StartGameResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(GameStateUpdate other) {
+    public bool Equals(StartGameResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (RoomId != other.RoomId) return false;
-      if(!players_.Equals(other.players_)) return false;
+      if (Code != other.Code) return false;
+      if (Message != other.Message) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -4135,8 +4643,8 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
-      hash ^= players_.GetHashCode();
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
+      if (Message.Length != 0) hash ^= Message.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -4155,11 +4663,14 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (RoomId != 0L) {
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
         output.WriteRawTag(8);
-        output.WriteInt64(RoomId);
+        output.WriteEnum((int) Code);
+      }
+      if (Message.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Message);
       }
-      players_.WriteTo(output, _repeated_players_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -4170,11 +4681,14 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (RoomId != 0L) {
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
         output.WriteRawTag(8);
-        output.WriteInt64(RoomId);
+        output.WriteEnum((int) Code);
+      }
+      if (Message.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Message);
       }
-      players_.WriteTo(ref output, _repeated_players_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -4185,10 +4699,12 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (RoomId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
+        size += 1 + pb::CodedOutputStream.ComputeEnumSize((int) Code);
+      }
+      if (Message.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
       }
-      size += players_.CalculateSize(_repeated_players_codec);
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -4197,14 +4713,16 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(GameStateUpdate other) {
+    public void MergeFrom(StartGameResponse other) {
       if (other == null) {
         return;
       }
-      if (other.RoomId != 0L) {
-        RoomId = other.RoomId;
+      if (other.Code != global::GameClient.Protobuf.ErrorCode.Success) {
+        Code = other.Code;
+      }
+      if (other.Message.Length != 0) {
+        Message = other.Message;
       }
-      players_.Add(other.players_);
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -4221,11 +4739,11 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
           case 8: {
-            RoomId = input.ReadInt64();
+            Code = (global::GameClient.Protobuf.ErrorCode) input.ReadEnum();
             break;
           }
           case 18: {
-            players_.AddEntriesFrom(input, _repeated_players_codec);
+            Message = input.ReadString();
             break;
           }
         }
@@ -4244,11 +4762,11 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
           case 8: {
-            RoomId = input.ReadInt64();
+            Code = (global::GameClient.Protobuf.ErrorCode) input.ReadEnum();
             break;
           }
           case 18: {
-            players_.AddEntriesFrom(ref input, _repeated_players_codec);
+            Message = input.ReadString();
             break;
           }
         }
@@ -4259,18 +4777,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 游戏结束
+  /// 移动请求
   /// </summary>
-  public sealed partial class GameOver : pb::IMessage<GameOver>
+  public sealed partial class MoveRequest : pb::IMessage<MoveRequest>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<GameOver> _parser = new pb::MessageParser<GameOver>(() => new GameOver());
+    private static readonly pb::MessageParser<MoveRequest> _parser = new pb::MessageParser<MoveRequest>(() => new MoveRequest());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<GameOver> Parser { get { return _parser; } }
+    public static pb::MessageParser<MoveRequest> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -4286,7 +4804,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public GameOver() {
+    public MoveRequest() {
       OnConstruction();
     }
 
@@ -4294,16 +4812,21 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public GameOver(GameOver other) : this() {
+    public MoveRequest(MoveRequest other) : this() {
       roomId_ = other.roomId_;
-      winnerId_ = other.winnerId_;
+      playerId_ = other.playerId_;
+      x_ = other.x_;
+      y_ = other.y_;
+      ackTick_ = other.ackTick_;
+      qx_ = other.qx_;
+      qy_ = other.qy_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public GameOver Clone() {
-      return new GameOver(this);
+    public MoveRequest Clone() {
+      return new MoveRequest(this);
     }
 
     /// <summary>Field number for the "room_id" field.</summary>
@@ -4318,27 +4841,93 @@ namespace GameClient.Protobuf {
       }
     }
 
-    /// <summary>Field number for the "winner_id" field.</summary>
-    public const int WinnerIdFieldNumber = 2;
-    private long winnerId_;
+    /// <summary>Field number for the "player_id" field.</summary>
+    public const int PlayerIdFieldNumber = 2;
+    private long playerId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long WinnerId {
-      get { return winnerId_; }
+    public long PlayerId {
+      get { return playerId_; }
       set {
-        winnerId_ = value;
+        playerId_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "x" field.</summary>
+    public const int XFieldNumber = 3;
+    private float x_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public float X {
+      get { return x_; }
+      set {
+        x_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "y" field.</summary>
+    public const int YFieldNumber = 4;
+    private float y_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public float Y {
+      get { return y_; }
+      set {
+        y_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "ack_tick" field.</summary>
+    public const int AckTickFieldNumber = 5;
+    private uint ackTick_;
+    /// <summary>
+    /// 顺带确认已收到的最新快照序号，0表示不确认
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public uint AckTick {
+      get { return ackTick_; }
+      set {
+        ackTick_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "qx" field.</summary>
+    public const int QxFieldNumber = 6;
+    private int qx_;
+    /// <summary>
+    /// 紧凑编码下的量化坐标，此时x/y、room_id、player_id可省略
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int Qx {
+      get { return qx_; }
+      set {
+        qx_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "qy" field.</summary>
+    public const int QyFieldNumber = 7;
+    private int qy_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int Qy {
+      get { return qy_; }
+      set {
+        qy_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as GameOver);
+      return Equals(other as MoveRequest);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(GameOver other) {
+    public bool Equals(MoveRequest other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -4346,7 +4935,12 @@ namespace GameClient.Protobuf {
         return true;
       }
       if (RoomId != other.RoomId) return false;
-      if (WinnerId != other.WinnerId) return false;
+      if (PlayerId != other.PlayerId) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(X, other.X)) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(Y, other.Y)) return false;
+      if (AckTick != other.AckTick) return false;
+      if (Qx != other.Qx) return false;
+      if (Qy != other.Qy) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -4355,7 +4949,12 @@ namespace GameClient.Protobuf {
     public override int GetHashCode() {
       int hash = 1;
       if (RoomId != 0L) hash ^= RoomId.GetHashCode();
-      if (WinnerId != 0L) hash ^= WinnerId.GetHashCode();
+      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
+      if (X != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(X);
+      if (Y != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(Y);
+      if (AckTick != 0) hash ^= AckTick.GetHashCode();
+      if (Qx != 0) hash ^= Qx.GetHashCode();
+      if (Qy != 0) hash ^= Qy.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -4378,9 +4977,29 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(8);
         output.WriteInt64(RoomId);
       }
-      if (WinnerId != 0L) {
+      if (PlayerId != 0L) {
         output.WriteRawTag(16);
-        output.WriteInt64(WinnerId);
+        output.WriteInt64(PlayerId);
+      }
+      if (X != 0F) {
+        output.WriteRawTag(29);
+        output.WriteFloat(X);
+      }
+      if (Y != 0F) {
+        output.WriteRawTag(37);
+        output.WriteFloat(Y);
+      }
+      if (AckTick != 0) {
+        output.WriteRawTag(40);
+        output.WriteUInt32(AckTick);
+      }
+      if (Qx != 0) {
+        output.WriteRawTag(48);
+        output.WriteSInt32(Qx);
+      }
+      if (Qy != 0) {
+        output.WriteRawTag(56);
+        output.WriteSInt32(Qy);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -4396,9 +5015,29 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(8);
         output.WriteInt64(RoomId);
       }
-      if (WinnerId != 0L) {
+      if (PlayerId != 0L) {
         output.WriteRawTag(16);
-        output.WriteInt64(WinnerId);
+        output.WriteInt64(PlayerId);
+      }
+      if (X != 0F) {
+        output.WriteRawTag(29);
+        output.WriteFloat(X);
+      }
+      if (Y != 0F) {
+        output.WriteRawTag(37);
+        output.WriteFloat(Y);
+      }
+      if (AckTick != 0) {
+        output.WriteRawTag(40);
+        output.WriteUInt32(AckTick);
+      }
+      if (Qx != 0) {
+        output.WriteRawTag(48);
+        output.WriteSInt32(Qx);
+      }
+      if (Qy != 0) {
+        output.WriteRawTag(56);
+        output.WriteSInt32(Qy);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -4413,8 +5052,23 @@ namespace GameClient.Protobuf {
       if (RoomId != 0L) {
         size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
       }
-      if (WinnerId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(WinnerId);
+      if (PlayerId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
+      }
+      if (X != 0F) {
+        size += 1 + 4;
+      }
+      if (Y != 0F) {
+        size += 1 + 4;
+      }
+      if (AckTick != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(AckTick);
+      }
+      if (Qx != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeSInt32Size(Qx);
+      }
+      if (Qy != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeSInt32Size(Qy);
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -4424,19 +5078,34 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(GameOver other) {
+    public void MergeFrom(MoveRequest other) {
       if (other == null) {
         return;
       }
       if (other.RoomId != 0L) {
         RoomId = other.RoomId;
       }
-      if (other.WinnerId != 0L) {
-        WinnerId = other.WinnerId;
+      if (other.PlayerId != 0L) {
+        PlayerId = other.PlayerId;
       }
-      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
-    }
-
+      if (other.X != 0F) {
+        X = other.X;
+      }
+      if (other.Y != 0F) {
+        Y = other.Y;
+      }
+      if (other.AckTick != 0) {
+        AckTick = other.AckTick;
+      }
+      if (other.Qx != 0) {
+        Qx = other.Qx;
+      }
+      if (other.Qy != 0) {
+        Qy = other.Qy;
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+    }
+
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public void MergeFrom(pb::CodedInputStream input) {
@@ -4454,7 +5123,27 @@ namespace GameClient.Protobuf {
             break;
           }
           case 16: {
-            WinnerId = input.ReadInt64();
+            PlayerId = input.ReadInt64();
+            break;
+          }
+          case 29: {
+            X = input.ReadFloat();
+            break;
+          }
+          case 37: {
+            Y = input.ReadFloat();
+            break;
+          }
+          case 40: {
+            AckTick = input.ReadUInt32();
+            break;
+          }
+          case 48: {
+            Qx = input.ReadSInt32();
+            break;
+          }
+          case 56: {
+            Qy = input.ReadSInt32();
             break;
           }
         }
@@ -4477,7 +5166,27 @@ namespace GameClient.Protobuf {
             break;
           }
           case 16: {
-            WinnerId = input.ReadInt64();
+            PlayerId = input.ReadInt64();
+            break;
+          }
+          case 29: {
+            X = input.ReadFloat();
+            break;
+          }
+          case 37: {
+            Y = input.ReadFloat();
+            break;
+          }
+          case 40: {
+            AckTick = input.ReadUInt32();
+            break;
+          }
+          case 48: {
+            Qx = input.ReadSInt32();
+            break;
+          }
+          case 56: {
+            Qy = input.ReadSInt32();
             break;
           }
         }
@@ -4488,18 +5197,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 错误消息
+  /// 移动响应
   /// </summary>
-  public sealed partial class ErrorMessage : pb::IMessage<ErrorMessage>
+  public sealed partial class MoveResponse : pb::IMessage<MoveResponse>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<ErrorMessage> _parser = new pb::MessageParser<ErrorMessage>(() => new ErrorMessage());
+    private static readonly pb::MessageParser<MoveResponse> _parser = new pb::MessageParser<MoveResponse>(() => new MoveResponse());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<ErrorMessage> Parser { get { return _parser; } }
+    public static pb::MessageParser<MoveResponse> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -4515,7 +5224,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ErrorMessage() {
+    public MoveResponse() {
       OnConstruction();
     }
 
@@ -4523,7 +5232,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ErrorMessage(ErrorMessage other) : this() {
+    public MoveResponse(MoveResponse other) : this() {
       code_ = other.code_;
       message_ = other.message_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
@@ -4531,8 +5240,8 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public ErrorMessage Clone() {
-      return new ErrorMessage(this);
+    public MoveResponse Clone() {
+      return new MoveResponse(this);
     }
 
     /// <summary>Field number for the "code" field.</summary>
@@ -4562,12 +5271,12 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as ErrorMessage);
+      return Equals(other as MoveResponse);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(ErrorMessage other) {
+    public bool Equals(MoveResponse other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
@@ -4653,7 +5362,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(ErrorMessage other) {
+    public void MergeFrom(MoveResponse other) {
       if (other == null) {
         return;
       }
@@ -4717,18 +5426,20 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 玩家信息
+  /// 游戏状态更新
+  /// baseline_tick为0时是完整快照，客户端用players整体替换本地状态；
+  /// 否则是相对baseline_tick快照的增量：players只包含有变化的玩家和字段，removed_player_ids为已离开的玩家
   /// </summary>
-  public sealed partial class PlayerInfo : pb::IMessage<PlayerInfo>
+  public sealed partial class GameStateUpdate : pb::IMessage<GameStateUpdate>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<PlayerInfo> _parser = new pb::MessageParser<PlayerInfo>(() => new PlayerInfo());
+    private static readonly pb::MessageParser<GameStateUpdate> _parser = new pb::MessageParser<GameStateUpdate>(() => new GameStateUpdate());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<PlayerInfo> Parser { get { return _parser; } }
+    public static pb::MessageParser<GameStateUpdate> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -4744,7 +5455,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public PlayerInfo() {
+    public GameStateUpdate() {
       OnConstruction();
     }
 
@@ -4752,87 +5463,99 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public PlayerInfo(PlayerInfo other) : this() {
-      id_ = other.id_;
-      username_ = other.username_;
-      nickname_ = other.nickname_;
-      score_ = other.score_;
+    public GameStateUpdate(GameStateUpdate other) : this() {
+      roomId_ = other.roomId_;
+      players_ = other.players_.Clone();
+      tick_ = other.tick_;
+      baselineTick_ = other.baselineTick_;
+      removedPlayerIds_ = other.removedPlayerIds_.Clone();
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public PlayerInfo Clone() {
-      return new PlayerInfo(this);
+    public GameStateUpdate Clone() {
+      return new GameStateUpdate(this);
     }
 
-    /// <summary>Field number for the "id" field.</summary>
-    public const int IdFieldNumber = 1;
-    private long id_;
+    /// <summary>Field number for the "room_id" field.</summary>
+    public const int RoomIdFieldNumber = 1;
+    private long roomId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long Id {
-      get { return id_; }
+    public long RoomId {
+      get { return roomId_; }
       set {
-        id_ = value;
+        roomId_ = value;
       }
     }
 
-    /// <summary>Field number for the "username" field.</summary>
-    public const int UsernameFieldNumber = 2;
-    private string username_ = "";
+    /// <summary>Field number for the "players" field.</summary>
+    public const int PlayersFieldNumber = 2;
+    private static readonly pb::FieldCodec<global::GameClient.Protobuf.PlayerPosition> _repeated_players_codec
+        = pb::FieldCodec.ForMessage(18, global::GameClient.Protobuf.PlayerPosition.Parser);
+    private readonly pbc::RepeatedField<global::GameClient.Protobuf.PlayerPosition> players_ = new pbc::RepeatedField<global::GameClient.Protobuf.PlayerPosition>();
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string Username {
-      get { return username_; }
-      set {
-        username_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
-      }
+    public pbc::RepeatedField<global::GameClient.Protobuf.PlayerPosition> Players {
+      get { return players_; }
     }
 
-    /// <summary>Field number for the "nickname" field.</summary>
-    public const int NicknameFieldNumber = 3;
-    private string nickname_ = "";
+    /// <summary>Field number for the "tick" field.</summary>
+    public const int TickFieldNumber = 3;
+    private uint tick_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string Nickname {
-      get { return nickname_; }
+    public uint Tick {
+      get { return tick_; }
       set {
-        nickname_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+        tick_ = value;
       }
     }
 
-    /// <summary>Field number for the "score" field.</summary>
-    public const int ScoreFieldNumber = 4;
-    private int score_;
+    /// <summary>Field number for the "baseline_tick" field.</summary>
+    public const int BaselineTickFieldNumber = 4;
+    private uint baselineTick_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public int Score {
-      get { return score_; }
+    public uint BaselineTick {
+      get { return baselineTick_; }
       set {
-        score_ = value;
+        baselineTick_ = value;
       }
     }
 
+    /// <summary>Field number for the "removed_player_ids" field.</summary>
+    public const int RemovedPlayerIdsFieldNumber = 5;
+    private static readonly pb::FieldCodec<long> _repeated_removedPlayerIds_codec
+        = pb::FieldCodec.ForInt64(42);
+    private readonly pbc::RepeatedField<long> removedPlayerIds_ = new pbc::RepeatedField<long>();
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public pbc::RepeatedField<long> RemovedPlayerIds {
+      get { return removedPlayerIds_; }
+    }
+
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as PlayerInfo);
+      return Equals(other as GameStateUpdate);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(PlayerInfo other) {
+    public bool Equals(GameStateUpdate other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (Id != other.Id) return false;
-      if (Username != other.Username) return false;
-      if (Nickname != other.Nickname) return false;
-      if (Score != other.Score) return false;
+      if (RoomId != other.RoomId) return false;
+      if(!players_.Equals(other.players_)) return false;
+      if (Tick != other.Tick) return false;
+      if (BaselineTick != other.BaselineTick) return false;
+      if(!removedPlayerIds_.Equals(other.removedPlayerIds_)) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -4840,10 +5563,11 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (Id != 0L) hash ^= Id.GetHashCode();
-      if (Username.Length != 0) hash ^= Username.GetHashCode();
-      if (Nickname.Length != 0) hash ^= Nickname.GetHashCode();
-      if (Score != 0) hash ^= Score.GetHashCode();
+      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
+      hash ^= players_.GetHashCode();
+      if (Tick != 0) hash ^= Tick.GetHashCode();
+      if (BaselineTick != 0) hash ^= BaselineTick.GetHashCode();
+      hash ^= removedPlayerIds_.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -4862,22 +5586,20 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (Id != 0L) {
+      if (RoomId != 0L) {
         output.WriteRawTag(8);
-        output.WriteInt64(Id);
-      }
-      if (Username.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(Username);
+        output.WriteInt64(RoomId);
       }
-      if (Nickname.Length != 0) {
-        output.WriteRawTag(26);
-        output.WriteString(Nickname);
+      players_.WriteTo(output, _repeated_players_codec);
+      if (Tick != 0) {
+        output.WriteRawTag(24);
+        output.WriteUInt32(Tick);
       }
-      if (Score != 0) {
+      if (BaselineTick != 0) {
         output.WriteRawTag(32);
-        output.WriteInt32(Score);
+        output.WriteUInt32(BaselineTick);
       }
+      removedPlayerIds_.WriteTo(output, _repeated_removedPlayerIds_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -4888,22 +5610,20 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (Id != 0L) {
+      if (RoomId != 0L) {
         output.WriteRawTag(8);
-        output.WriteInt64(Id);
-      }
-      if (Username.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(Username);
+        output.WriteInt64(RoomId);
       }
-      if (Nickname.Length != 0) {
-        output.WriteRawTag(26);
-        output.WriteString(Nickname);
+      players_.WriteTo(ref output, _repeated_players_codec);
+      if (Tick != 0) {
+        output.WriteRawTag(24);
+        output.WriteUInt32(Tick);
       }
-      if (Score != 0) {
+      if (BaselineTick != 0) {
         output.WriteRawTag(32);
-        output.WriteInt32(Score);
+        output.WriteUInt32(BaselineTick);
       }
+      removedPlayerIds_.WriteTo(ref output, _repeated_removedPlayerIds_codec);
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -4914,18 +5634,17 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (Id != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(Id);
-      }
-      if (Username.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(Username);
+      if (RoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
       }
-      if (Nickname.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(Nickname);
+      size += players_.CalculateSize(_repeated_players_codec);
+      if (Tick != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(Tick);
       }
-      if (Score != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeInt32Size(Score);
+      if (BaselineTick != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(BaselineTick);
       }
+      size += removedPlayerIds_.CalculateSize(_repeated_removedPlayerIds_codec);
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -4934,22 +5653,21 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(PlayerInfo other) {
+    public void MergeFrom(GameStateUpdate other) {
       if (other == null) {
         return;
       }
-      if (other.Id != 0L) {
-        Id = other.Id;
-      }
-      if (other.Username.Length != 0) {
-        Username = other.Username;
+      if (other.RoomId != 0L) {
+        RoomId = other.RoomId;
       }
-      if (other.Nickname.Length != 0) {
-        Nickname = other.Nickname;
+      players_.Add(other.players_);
+      if (other.Tick != 0) {
+        Tick = other.Tick;
       }
-      if (other.Score != 0) {
-        Score = other.Score;
+      if (other.BaselineTick != 0) {
+        BaselineTick = other.BaselineTick;
       }
+      removedPlayerIds_.Add(other.removedPlayerIds_);
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
 
@@ -4966,19 +5684,24 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
           case 8: {
-            Id = input.ReadInt64();
+            RoomId = input.ReadInt64();
             break;
           }
           case 18: {
-            Username = input.ReadString();
+            players_.AddEntriesFrom(input, _repeated_players_codec);
             break;
           }
-          case 26: {
-            Nickname = input.ReadString();
+          case 24: {
+            Tick = input.ReadUInt32();
             break;
           }
           case 32: {
-            Score = input.ReadInt32();
+            BaselineTick = input.ReadUInt32();
+            break;
+          }
+          case 42:
+          case 40: {
+            removedPlayerIds_.AddEntriesFrom(input, _repeated_removedPlayerIds_codec);
             break;
           }
         }
@@ -4997,19 +5720,24 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
           case 8: {
-            Id = input.ReadInt64();
+            RoomId = input.ReadInt64();
             break;
           }
           case 18: {
-            Username = input.ReadString();
+            players_.AddEntriesFrom(ref input, _repeated_players_codec);
             break;
           }
-          case 26: {
-            Nickname = input.ReadString();
+          case 24: {
+            Tick = input.ReadUInt32();
             break;
           }
           case 32: {
-            Score = input.ReadInt32();
+            BaselineTick = input.ReadUInt32();
+            break;
+          }
+          case 42:
+          case 40: {
+            removedPlayerIds_.AddEntriesFrom(ref input, _repeated_removedPlayerIds_codec);
             break;
           }
         }
@@ -5020,18 +5748,18 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 房间信息
+  /// 快照确认：客户端确认已收到并保存的快照，之后的增量以它为基准
   /// </summary>
-  public sealed partial class RoomInfo : pb::IMessage<RoomInfo>
+  public sealed partial class SnapshotAck : pb::IMessage<SnapshotAck>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<RoomInfo> _parser = new pb::MessageParser<RoomInfo>(() => new RoomInfo());
+    private static readonly pb::MessageParser<SnapshotAck> _parser = new pb::MessageParser<SnapshotAck>(() => new SnapshotAck());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<RoomInfo> Parser { get { return _parser; } }
+    public static pb::MessageParser<SnapshotAck> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
@@ -5047,7 +5775,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RoomInfo() {
+    public SnapshotAck() {
       OnConstruction();
     }
 
@@ -5055,101 +5783,1529 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RoomInfo(RoomInfo other) : this() {
-      id_ = other.id_;
-      roomCode_ = other.roomCode_;
-      status_ = other.status_;
-      player1_ = other.player1_ != null ? other.player1_.Clone() : null;
-      player2_ = other.player2_ != null ? other.player2_.Clone() : null;
+    public SnapshotAck(SnapshotAck other) : this() {
+      roomId_ = other.roomId_;
+      tick_ = other.tick_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public RoomInfo Clone() {
-      return new RoomInfo(this);
+    public SnapshotAck Clone() {
+      return new SnapshotAck(this);
     }
 
-    /// <summary>Field number for the "id" field.</summary>
-    public const int IdFieldNumber = 1;
-    private long id_;
+    /// <summary>Field number for the "room_id" field.</summary>
+    public const int RoomIdFieldNumber = 1;
+    private long roomId_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long Id {
-      get { return id_; }
+    public long RoomId {
+      get { return roomId_; }
       set {
-        id_ = value;
+        roomId_ = value;
       }
     }
 
-    /// <summary>Field number for the "room_code" field.</summary>
-    public const int RoomCodeFieldNumber = 2;
-    private string roomCode_ = "";
+    /// <summary>Field number for the "tick" field.</summary>
+    public const int TickFieldNumber = 2;
+    private uint tick_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public string RoomCode {
-      get { return roomCode_; }
+    public uint Tick {
+      get { return tick_; }
       set {
-        roomCode_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+        tick_ = value;
       }
     }
 
-    /// <summary>Field number for the "status" field.</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override bool Equals(object other) {
+      return Equals(other as SnapshotAck);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Equals(SnapshotAck other) {
+      if (ReferenceEquals(other, null)) {
+        return false;
+      }
+      if (ReferenceEquals(other, this)) {
+        return true;
+      }
+      if (RoomId != other.RoomId) return false;
+      if (Tick != other.Tick) return false;
+      return Equals(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override int GetHashCode() {
+      int hash = 1;
+      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
+      if (Tick != 0) hash ^= Tick.GetHashCode();
+      if (_unknownFields != null) {
+        hash ^= _unknownFields.GetHashCode();
+      }
+      return hash;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override string ToString() {
+      return pb::JsonFormatter.ToDiagnosticString(this);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void WriteTo(pb::CodedOutputStream output) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      output.WriteRawMessage(this);
+    #else
+      if (RoomId != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(RoomId);
+      }
+      if (Tick != 0) {
+        output.WriteRawTag(16);
+        output.WriteUInt32(Tick);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(output);
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
+      if (RoomId != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(RoomId);
+      }
+      if (Tick != 0) {
+        output.WriteRawTag(16);
+        output.WriteUInt32(Tick);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(ref output);
+      }
+    }
+    #endif
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int CalculateSize() {
+      int size = 0;
+      if (RoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
+      }
+      if (Tick != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(Tick);
+      }
+      if (_unknownFields != null) {
+        size += _unknownFields.CalculateSize();
+      }
+      return size;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(SnapshotAck other) {
+      if (other == null) {
+        return;
+      }
+      if (other.RoomId != 0L) {
+        RoomId = other.RoomId;
+      }
+      if (other.Tick != 0) {
+        Tick = other.Tick;
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(pb::CodedInputStream input) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      input.ReadRawMessage(this);
+    #else
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
+            break;
+          case 8: {
+            RoomId = input.ReadInt64();
+            break;
+          }
+          case 16: {
+            Tick = input.ReadUInt32();
+            break;
+          }
+        }
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalMergeFrom(ref pb::ParseContext input) {
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
+            break;
+          case 8: {
+            RoomId = input.ReadInt64();
+            break;
+          }
+          case 16: {
+            Tick = input.ReadUInt32();
+            break;
+          }
+        }
+      }
+    }
+    #endif
+
+  }
+
+  /// <summary>
+  /// 游戏结束
+  /// </summary>
+  public sealed partial class GameOver : pb::IMessage<GameOver>
+  #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      , pb::IBufferMessage
+  #endif
+  {
+    private static readonly pb::MessageParser<GameOver> _parser = new pb::MessageParser<GameOver>(() => new GameOver());
+    private pb::UnknownFieldSet _unknownFields;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pb::MessageParser<GameOver> Parser { get { return _parser; } }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pbr::MessageDescriptor Descriptor {
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[21]; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    pbr::MessageDescriptor pb::IMessage.Descriptor {
+      get { return Descriptor; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public GameOver() {
+      OnConstruction();
+    }
+
+    partial void OnConstruction();
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public GameOver(GameOver other) : this() {
+      roomId_ = other.roomId_;
+      winnerId_ = other.winnerId_;
+      _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public GameOver Clone() {
+      return new GameOver(this);
+    }
+
+    /// <summary>Field number for the "room_id" field.</summary>
+    public const int RoomIdFieldNumber = 1;
+    private long roomId_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long RoomId {
+      get { return roomId_; }
+      set {
+        roomId_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "winner_id" field.</summary>
+    public const int WinnerIdFieldNumber = 2;
+    private long winnerId_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long WinnerId {
+      get { return winnerId_; }
+      set {
+        winnerId_ = value;
+      }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override bool Equals(object other) {
+      return Equals(other as GameOver);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Equals(GameOver other) {
+      if (ReferenceEquals(other, null)) {
+        return false;
+      }
+      if (ReferenceEquals(other, this)) {
+        return true;
+      }
+      if (RoomId != other.RoomId) return false;
+      if (WinnerId != other.WinnerId) return false;
+      return Equals(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override int GetHashCode() {
+      int hash = 1;
+      if (RoomId != 0L) hash ^= RoomId.GetHashCode();
+      if (WinnerId != 0L) hash ^= WinnerId.GetHashCode();
+      if (_unknownFields != null) {
+        hash ^= _unknownFields.GetHashCode();
+      }
+      return hash;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override string ToString() {
+      return pb::JsonFormatter.ToDiagnosticString(this);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void WriteTo(pb::CodedOutputStream output) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      output.WriteRawMessage(this);
+    #else
+      if (RoomId != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(RoomId);
+      }
+      if (WinnerId != 0L) {
+        output.WriteRawTag(16);
+        output.WriteInt64(WinnerId);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(output);
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
+      if (RoomId != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(RoomId);
+      }
+      if (WinnerId != 0L) {
+        output.WriteRawTag(16);
+        output.WriteInt64(WinnerId);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(ref output);
+      }
+    }
+    #endif
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int CalculateSize() {
+      int size = 0;
+      if (RoomId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(RoomId);
+      }
+      if (WinnerId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(WinnerId);
+      }
+      if (_unknownFields != null) {
+        size += _unknownFields.CalculateSize();
+      }
+      return size;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(GameOver other) {
+      if (other == null) {
+        return;
+      }
+      if (other.RoomId != 0L) {
+        RoomId = other.RoomId;
+      }
+      if (other.WinnerId != 0L) {
+        WinnerId = other.WinnerId;
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(pb::CodedInputStream input) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      input.ReadRawMessage(this);
+    #else
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
+            break;
+          case 8: {
+            RoomId = input.ReadInt64();
+            break;
+          }
+          case 16: {
+            WinnerId = input.ReadInt64();
+            break;
+          }
+        }
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalMergeFrom(ref pb::ParseContext input) {
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
+            break;
+          case 8: {
+            RoomId = input.ReadInt64();
+            break;
+          }
+          case 16: {
+            WinnerId = input.ReadInt64();
+            break;
+          }
+        }
+      }
+    }
+    #endif
+
+  }
+
+  /// <summary>
+  /// 错误消息
+  /// </summary>
+  public sealed partial class ErrorMessage : pb::IMessage<ErrorMessage>
+  #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      , pb::IBufferMessage
+  #endif
+  {
+    private static readonly pb::MessageParser<ErrorMessage> _parser = new pb::MessageParser<ErrorMessage>(() => new ErrorMessage());
+    private pb::UnknownFieldSet _unknownFields;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pb::MessageParser<ErrorMessage> Parser { get { return _parser; } }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pbr::MessageDescriptor Descriptor {
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[22]; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    pbr::MessageDescriptor pb::IMessage.Descriptor {
+      get { return Descriptor; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public ErrorMessage() {
+      OnConstruction();
+    }
+
+    partial void OnConstruction();
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public ErrorMessage(ErrorMessage other) : this() {
+      code_ = other.code_;
+      message_ = other.message_;
+      _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public ErrorMessage Clone() {
+      return new ErrorMessage(this);
+    }
+
+    /// <summary>Field number for the "code" field.</summary>
+    public const int CodeFieldNumber = 1;
+    private global::GameClient.Protobuf.ErrorCode code_ = global::GameClient.Protobuf.ErrorCode.Success;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.ErrorCode Code {
+      get { return code_; }
+      set {
+        code_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "message" field.</summary>
+    public const int MessageFieldNumber = 2;
+    private string message_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string Message {
+      get { return message_; }
+      set {
+        message_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override bool Equals(object other) {
+      return Equals(other as ErrorMessage);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Equals(ErrorMessage other) {
+      if (ReferenceEquals(other, null)) {
+        return false;
+      }
+      if (ReferenceEquals(other, this)) {
+        return true;
+      }
+      if (Code != other.Code) return false;
+      if (Message != other.Message) return false;
+      return Equals(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override int GetHashCode() {
+      int hash = 1;
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) hash ^= Code.GetHashCode();
+      if (Message.Length != 0) hash ^= Message.GetHashCode();
+      if (_unknownFields != null) {
+        hash ^= _unknownFields.GetHashCode();
+      }
+      return hash;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override string ToString() {
+      return pb::JsonFormatter.ToDiagnosticString(this);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void WriteTo(pb::CodedOutputStream output) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      output.WriteRawMessage(this);
+    #else
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
+        output.WriteRawTag(8);
+        output.WriteEnum((int) Code);
+      }
+      if (Message.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Message);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(output);
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
+        output.WriteRawTag(8);
+        output.WriteEnum((int) Code);
+      }
+      if (Message.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Message);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(ref output);
+      }
+    }
+    #endif
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int CalculateSize() {
+      int size = 0;
+      if (Code != global::GameClient.Protobuf.ErrorCode.Success) {
+        size += 1 + pb::CodedOutputStream.ComputeEnumSize((int) Code);
+      }
+      if (Message.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Message);
+      }
+      if (_unknownFields != null) {
+        size += _unknownFields.CalculateSize();
+      }
+      return size;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(ErrorMessage other) {
+      if (other == null) {
+        return;
+      }
+      if (other.Code != global::GameClient.Protobuf.ErrorCode.Success) {
+        Code = other.Code;
+      }
+      if (other.Message.Length != 0) {
+        Message = other.Message;
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(pb::CodedInputStream input) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      input.ReadRawMessage(this);
+    #else
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
+            break;
+          case 8: {
+            Code = (global::GameClient.Protobuf.ErrorCode) input.ReadEnum();
+            break;
+          }
+          case 18: {
+            Message = input.ReadString();
+            break;
+          }
+        }
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalMergeFrom(ref pb::ParseContext input) {
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
+            break;
+          case 8: {
+            Code = (global::GameClient.Protobuf.ErrorCode) input.ReadEnum();
+            break;
+          }
+          case 18: {
+            Message = input.ReadString();
+            break;
+          }
+        }
+      }
+    }
+    #endif
+
+  }
+
+  /// <summary>
+  /// 玩家信息
+  /// </summary>
+  public sealed partial class PlayerInfo : pb::IMessage<PlayerInfo>
+  #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      , pb::IBufferMessage
+  #endif
+  {
+    private static readonly pb::MessageParser<PlayerInfo> _parser = new pb::MessageParser<PlayerInfo>(() => new PlayerInfo());
+    private pb::UnknownFieldSet _unknownFields;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pb::MessageParser<PlayerInfo> Parser { get { return _parser; } }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pbr::MessageDescriptor Descriptor {
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[23]; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    pbr::MessageDescriptor pb::IMessage.Descriptor {
+      get { return Descriptor; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public PlayerInfo() {
+      OnConstruction();
+    }
+
+    partial void OnConstruction();
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public PlayerInfo(PlayerInfo other) : this() {
+      id_ = other.id_;
+      username_ = other.username_;
+      nickname_ = other.nickname_;
+      score_ = other.score_;
+      _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public PlayerInfo Clone() {
+      return new PlayerInfo(this);
+    }
+
+    /// <summary>Field number for the "id" field.</summary>
+    public const int IdFieldNumber = 1;
+    private long id_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long Id {
+      get { return id_; }
+      set {
+        id_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "username" field.</summary>
+    public const int UsernameFieldNumber = 2;
+    private string username_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string Username {
+      get { return username_; }
+      set {
+        username_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "nickname" field.</summary>
+    public const int NicknameFieldNumber = 3;
+    private string nickname_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string Nickname {
+      get { return nickname_; }
+      set {
+        nickname_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "score" field.</summary>
+    public const int ScoreFieldNumber = 4;
+    private int score_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int Score {
+      get { return score_; }
+      set {
+        score_ = value;
+      }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override bool Equals(object other) {
+      return Equals(other as PlayerInfo);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Equals(PlayerInfo other) {
+      if (ReferenceEquals(other, null)) {
+        return false;
+      }
+      if (ReferenceEquals(other, this)) {
+        return true;
+      }
+      if (Id != other.Id) return false;
+      if (Username != other.Username) return false;
+      if (Nickname != other.Nickname) return false;
+      if (Score != other.Score) return false;
+      return Equals(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override int GetHashCode() {
+      int hash = 1;
+      if (Id != 0L) hash ^= Id.GetHashCode();
+      if (Username.Length != 0) hash ^= Username.GetHashCode();
+      if (Nickname.Length != 0) hash ^= Nickname.GetHashCode();
+      if (Score != 0) hash ^= Score.GetHashCode();
+      if (_unknownFields != null) {
+        hash ^= _unknownFields.GetHashCode();
+      }
+      return hash;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override string ToString() {
+      return pb::JsonFormatter.ToDiagnosticString(this);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void WriteTo(pb::CodedOutputStream output) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      output.WriteRawMessage(this);
+    #else
+      if (Id != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(Id);
+      }
+      if (Username.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Username);
+      }
+      if (Nickname.Length != 0) {
+        output.WriteRawTag(26);
+        output.WriteString(Nickname);
+      }
+      if (Score != 0) {
+        output.WriteRawTag(32);
+        output.WriteInt32(Score);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(output);
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
+      if (Id != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(Id);
+      }
+      if (Username.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(Username);
+      }
+      if (Nickname.Length != 0) {
+        output.WriteRawTag(26);
+        output.WriteString(Nickname);
+      }
+      if (Score != 0) {
+        output.WriteRawTag(32);
+        output.WriteInt32(Score);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(ref output);
+      }
+    }
+    #endif
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int CalculateSize() {
+      int size = 0;
+      if (Id != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(Id);
+      }
+      if (Username.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Username);
+      }
+      if (Nickname.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(Nickname);
+      }
+      if (Score != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeInt32Size(Score);
+      }
+      if (_unknownFields != null) {
+        size += _unknownFields.CalculateSize();
+      }
+      return size;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(PlayerInfo other) {
+      if (other == null) {
+        return;
+      }
+      if (other.Id != 0L) {
+        Id = other.Id;
+      }
+      if (other.Username.Length != 0) {
+        Username = other.Username;
+      }
+      if (other.Nickname.Length != 0) {
+        Nickname = other.Nickname;
+      }
+      if (other.Score != 0) {
+        Score = other.Score;
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(pb::CodedInputStream input) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      input.ReadRawMessage(this);
+    #else
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
+            break;
+          case 8: {
+            Id = input.ReadInt64();
+            break;
+          }
+          case 18: {
+            Username = input.ReadString();
+            break;
+          }
+          case 26: {
+            Nickname = input.ReadString();
+            break;
+          }
+          case 32: {
+            Score = input.ReadInt32();
+            break;
+          }
+        }
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalMergeFrom(ref pb::ParseContext input) {
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
+            break;
+          case 8: {
+            Id = input.ReadInt64();
+            break;
+          }
+          case 18: {
+            Username = input.ReadString();
+            break;
+          }
+          case 26: {
+            Nickname = input.ReadString();
+            break;
+          }
+          case 32: {
+            Score = input.ReadInt32();
+            break;
+          }
+        }
+      }
+    }
+    #endif
+
+  }
+
+  /// <summary>
+  /// 房间信息
+  /// </summary>
+  public sealed partial class RoomInfo : pb::IMessage<RoomInfo>
+  #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      , pb::IBufferMessage
+  #endif
+  {
+    private static readonly pb::MessageParser<RoomInfo> _parser = new pb::MessageParser<RoomInfo>(() => new RoomInfo());
+    private pb::UnknownFieldSet _unknownFields;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pb::MessageParser<RoomInfo> Parser { get { return _parser; } }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pbr::MessageDescriptor Descriptor {
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[24]; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    pbr::MessageDescriptor pb::IMessage.Descriptor {
+      get { return Descriptor; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public RoomInfo() {
+      OnConstruction();
+    }
+
+    partial void OnConstruction();
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public RoomInfo(RoomInfo other) : this() {
+      id_ = other.id_;
+      roomCode_ = other.roomCode_;
+      status_ = other.status_;
+      player1_ = other.player1_ != null ? other.player1_.Clone() : null;
+      player2_ = other.player2_ != null ? other.player2_.Clone() : null;
+      _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public RoomInfo Clone() {
+      return new RoomInfo(this);
+    }
+
+    /// <summary>Field number for the "id" field.</summary>
+    public const int IdFieldNumber = 1;
+    private long id_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long Id {
+      get { return id_; }
+      set {
+        id_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "room_code" field.</summary>
+    public const int RoomCodeFieldNumber = 2;
+    private string roomCode_ = "";
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public string RoomCode {
+      get { return roomCode_; }
+      set {
+        roomCode_ = pb::ProtoPreconditions.CheckNotNull(value, "value");
+      }
+    }
+
+    /// <summary>Field number for the "status" field.</summary>
     public const int StatusFieldNumber = 3;
     private int status_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public int Status {
-      get { return status_; }
+    public int Status {
+      get { return status_; }
+      set {
+        status_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "player1" field.</summary>
+    public const int Player1FieldNumber = 4;
+    private global::GameClient.Protobuf.PlayerInfo player1_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.PlayerInfo Player1 {
+      get { return player1_; }
+      set {
+        player1_ = value;
+      }
+    }
+
+    /// <summary>Field number for the "player2" field.</summary>
+    public const int Player2FieldNumber = 5;
+    private global::GameClient.Protobuf.PlayerInfo player2_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.PlayerInfo Player2 {
+      get { return player2_; }
+      set {
+        player2_ = value;
+      }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override bool Equals(object other) {
+      return Equals(other as RoomInfo);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool Equals(RoomInfo other) {
+      if (ReferenceEquals(other, null)) {
+        return false;
+      }
+      if (ReferenceEquals(other, this)) {
+        return true;
+      }
+      if (Id != other.Id) return false;
+      if (RoomCode != other.RoomCode) return false;
+      if (Status != other.Status) return false;
+      if (!object.Equals(Player1, other.Player1)) return false;
+      if (!object.Equals(Player2, other.Player2)) return false;
+      return Equals(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override int GetHashCode() {
+      int hash = 1;
+      if (Id != 0L) hash ^= Id.GetHashCode();
+      if (RoomCode.Length != 0) hash ^= RoomCode.GetHashCode();
+      if (Status != 0) hash ^= Status.GetHashCode();
+      if (player1_ != null) hash ^= Player1.GetHashCode();
+      if (player2_ != null) hash ^= Player2.GetHashCode();
+      if (_unknownFields != null) {
+        hash ^= _unknownFields.GetHashCode();
+      }
+      return hash;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public override string ToString() {
+      return pb::JsonFormatter.ToDiagnosticString(this);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void WriteTo(pb::CodedOutputStream output) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      output.WriteRawMessage(this);
+    #else
+      if (Id != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(Id);
+      }
+      if (RoomCode.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(RoomCode);
+      }
+      if (Status != 0) {
+        output.WriteRawTag(24);
+        output.WriteInt32(Status);
+      }
+      if (player1_ != null) {
+        output.WriteRawTag(34);
+        output.WriteMessage(Player1);
+      }
+      if (player2_ != null) {
+        output.WriteRawTag(42);
+        output.WriteMessage(Player2);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(output);
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
+      if (Id != 0L) {
+        output.WriteRawTag(8);
+        output.WriteInt64(Id);
+      }
+      if (RoomCode.Length != 0) {
+        output.WriteRawTag(18);
+        output.WriteString(RoomCode);
+      }
+      if (Status != 0) {
+        output.WriteRawTag(24);
+        output.WriteInt32(Status);
+      }
+      if (player1_ != null) {
+        output.WriteRawTag(34);
+        output.WriteMessage(Player1);
+      }
+      if (player2_ != null) {
+        output.WriteRawTag(42);
+        output.WriteMessage(Player2);
+      }
+      if (_unknownFields != null) {
+        _unknownFields.WriteTo(ref output);
+      }
+    }
+    #endif
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int CalculateSize() {
+      int size = 0;
+      if (Id != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(Id);
+      }
+      if (RoomCode.Length != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeStringSize(RoomCode);
+      }
+      if (Status != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeInt32Size(Status);
+      }
+      if (player1_ != null) {
+        size += 1 + pb::CodedOutputStream.ComputeMessageSize(Player1);
+      }
+      if (player2_ != null) {
+        size += 1 + pb::CodedOutputStream.ComputeMessageSize(Player2);
+      }
+      if (_unknownFields != null) {
+        size += _unknownFields.CalculateSize();
+      }
+      return size;
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(RoomInfo other) {
+      if (other == null) {
+        return;
+      }
+      if (other.Id != 0L) {
+        Id = other.Id;
+      }
+      if (other.RoomCode.Length != 0) {
+        RoomCode = other.RoomCode;
+      }
+      if (other.Status != 0) {
+        Status = other.Status;
+      }
+      if (other.player1_ != null) {
+        if (player1_ == null) {
+          Player1 = new global::GameClient.Protobuf.PlayerInfo();
+        }
+        Player1.MergeFrom(other.Player1);
+      }
+      if (other.player2_ != null) {
+        if (player2_ == null) {
+          Player2 = new global::GameClient.Protobuf.PlayerInfo();
+        }
+        Player2.MergeFrom(other.Player2);
+      }
+      _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void MergeFrom(pb::CodedInputStream input) {
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      input.ReadRawMessage(this);
+    #else
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
+            break;
+          case 8: {
+            Id = input.ReadInt64();
+            break;
+          }
+          case 18: {
+            RoomCode = input.ReadString();
+            break;
+          }
+          case 24: {
+            Status = input.ReadInt32();
+            break;
+          }
+          case 34: {
+            if (player1_ == null) {
+              Player1 = new global::GameClient.Protobuf.PlayerInfo();
+            }
+            input.ReadMessage(Player1);
+            break;
+          }
+          case 42: {
+            if (player2_ == null) {
+              Player2 = new global::GameClient.Protobuf.PlayerInfo();
+            }
+            input.ReadMessage(Player2);
+            break;
+          }
+        }
+      }
+    #endif
+    }
+
+    #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    void pb::IBufferMessage.InternalMergeFrom(ref pb::ParseContext input) {
+      uint tag;
+      while ((tag = input.ReadTag()) != 0) {
+        switch(tag) {
+          default:
+            _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
+            break;
+          case 8: {
+            Id = input.ReadInt64();
+            break;
+          }
+          case 18: {
+            RoomCode = input.ReadString();
+            break;
+          }
+          case 24: {
+            Status = input.ReadInt32();
+            break;
+          }
+          case 34: {
+            if (player1_ == null) {
+              Player1 = new global::GameClient.Protobuf.PlayerInfo();
+            }
+            input.ReadMessage(Player1);
+            break;
+          }
+          case 42: {
+            if (player2_ == null) {
+              Player2 = new global::GameClient.Protobuf.PlayerInfo();
+            }
+            input.ReadMessage(Player2);
+            break;
+          }
+        }
+      }
+    }
+    #endif
+
+  }
+
+  /// <summary>
+  /// 玩家位置
+  /// </summary>
+  public sealed partial class PlayerPosition : pb::IMessage<PlayerPosition>
+  #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
+      , pb::IBufferMessage
+  #endif
+  {
+    private static readonly pb::MessageParser<PlayerPosition> _parser = new pb::MessageParser<PlayerPosition>(() => new PlayerPosition());
+    private pb::UnknownFieldSet _unknownFields;
+    private int _hasBits0;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pb::MessageParser<PlayerPosition> Parser { get { return _parser; } }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public static pbr::MessageDescriptor Descriptor {
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[25]; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    pbr::MessageDescriptor pb::IMessage.Descriptor {
+      get { return Descriptor; }
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public PlayerPosition() {
+      OnConstruction();
+    }
+
+    partial void OnConstruction();
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public PlayerPosition(PlayerPosition other) : this() {
+      _hasBits0 = other._hasBits0;
+      playerId_ = other.playerId_;
+      x_ = other.x_;
+      y_ = other.y_;
+      slot_ = other.slot_;
+      qx_ = other.qx_;
+      qy_ = other.qy_;
+      _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
+    }
+
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public PlayerPosition Clone() {
+      return new PlayerPosition(this);
+    }
+
+    /// <summary>Field number for the "player_id" field.</summary>
+    public const int PlayerIdFieldNumber = 1;
+    private long playerId_;
+    /// <summary>
+    /// 紧凑编码下只在客户端首次见到该玩家时发送，其余时候用slot
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public long PlayerId {
+      get { return playerId_; }
       set {
-        status_ = value;
+        playerId_ = value;
       }
     }
 
-    /// <summary>Field number for the "player1" field.</summary>
-    public const int Player1FieldNumber = 4;
-    private global::GameClient.Protobuf.PlayerInfo player1_;
+    /// <summary>Field number for the "x" field.</summary>
+    public const int XFieldNumber = 2;
+    private float x_;
+    /// <summary>
+    /// 增量快照中未变化的字段不发送
+    /// </summary>
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public global::GameClient.Protobuf.PlayerInfo Player1 {
-      get { return player1_; }
+    public float X {
+      get { if ((_hasBits0 & 1) != 0) { return x_; } else { return 0F; } }
       set {
-        player1_ = value;
+        _hasBits0 |= 1;
+        x_ = value;
+      }
+    }
+    /// <summary>Gets whether the "x" field is set</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool HasX {
+      get { return (_hasBits0 & 1) != 0; }
+    }
+    /// <summary>Clears the value of the "x" field</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void ClearX() {
+      _hasBits0 &= ~1;
+    }
+
+    /// <summary>Field number for the "y" field.</summary>
+    public const int YFieldNumber = 3;
+    private float y_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public float Y {
+      get { if ((_hasBits0 & 2) != 0) { return y_; } else { return 0F; } }
+      set {
+        _hasBits0 |= 2;
+        y_ = value;
+      }
+    }
+    /// <summary>Gets whether the "y" field is set</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool HasY {
+      get { return (_hasBits0 & 2) != 0; }
+    }
+    /// <summary>Clears the value of the "y" field</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void ClearY() {
+      _hasBits0 &= ~2;
+    }
+
+    /// <summary>Field number for the "slot" field.</summary>
+    public const int SlotFieldNumber = 4;
+    private uint slot_;
+    /// <summary>
+    /// 玩家在房间内的槽位，在房间内期间不变
+    /// </summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public uint Slot {
+      get { return slot_; }
+      set {
+        slot_ = value;
       }
     }
 
-    /// <summary>Field number for the "player2" field.</summary>
-    public const int Player2FieldNumber = 5;
-    private global::GameClient.Protobuf.PlayerInfo player2_;
+    /// <summary>Field number for the "qx" field.</summary>
+    public const int QxFieldNumber = 5;
+    private int qx_;
+    /// <summary>
+    /// 紧凑编码下代替x/y
+    /// </summary>
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public global::GameClient.Protobuf.PlayerInfo Player2 {
-      get { return player2_; }
+    public int Qx {
+      get { if ((_hasBits0 & 4) != 0) { return qx_; } else { return 0; } }
       set {
-        player2_ = value;
+        _hasBits0 |= 4;
+        qx_ = value;
+      }
+    }
+    /// <summary>Gets whether the "qx" field is set</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool HasQx {
+      get { return (_hasBits0 & 4) != 0; }
+    }
+    /// <summary>Clears the value of the "qx" field</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void ClearQx() {
+      _hasBits0 &= ~4;
+    }
+
+    /// <summary>Field number for the "qy" field.</summary>
+    public const int QyFieldNumber = 6;
+    private int qy_;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public int Qy {
+      get { if ((_hasBits0 & 8) != 0) { return qy_; } else { return 0; } }
+      set {
+        _hasBits0 |= 8;
+        qy_ = value;
       }
     }
+    /// <summary>Gets whether the "qy" field is set</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public bool HasQy {
+      get { return (_hasBits0 & 8) != 0; }
+    }
+    /// <summary>Clears the value of the "qy" field</summary>
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public void ClearQy() {
+      _hasBits0 &= ~8;
+    }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as RoomInfo);
+      return Equals(other as PlayerPosition);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(RoomInfo other) {
+    public bool Equals(PlayerPosition other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (Id != other.Id) return false;
-      if (RoomCode != other.RoomCode) return false;
-      if (Status != other.Status) return false;
-      if (!object.Equals(Player1, other.Player1)) return false;
-      if (!object.Equals(Player2, other.Player2)) return false;
+      if (PlayerId != other.PlayerId) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(X, other.X)) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(Y, other.Y)) return false;
+      if (Slot != other.Slot) return false;
+      if (Qx != other.Qx) return false;
+      if (Qy != other.Qy) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -5157,11 +7313,12 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (Id != 0L) hash ^= Id.GetHashCode();
-      if (RoomCode.Length != 0) hash ^= RoomCode.GetHashCode();
-      if (Status != 0) hash ^= Status.GetHashCode();
-      if (player1_ != null) hash ^= Player1.GetHashCode();
-      if (player2_ != null) hash ^= Player2.GetHashCode();
+      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
+      if (HasX) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(X);
+      if (HasY) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(Y);
+      if (Slot != 0) hash ^= Slot.GetHashCode();
+      if (HasQx) hash ^= Qx.GetHashCode();
+      if (HasQy) hash ^= Qy.GetHashCode();
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -5180,25 +7337,29 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (Id != 0L) {
+      if (PlayerId != 0L) {
         output.WriteRawTag(8);
-        output.WriteInt64(Id);
+        output.WriteInt64(PlayerId);
       }
-      if (RoomCode.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(RoomCode);
+      if (HasX) {
+        output.WriteRawTag(21);
+        output.WriteFloat(X);
       }
-      if (Status != 0) {
-        output.WriteRawTag(24);
-        output.WriteInt32(Status);
+      if (HasY) {
+        output.WriteRawTag(29);
+        output.WriteFloat(Y);
       }
-      if (player1_ != null) {
-        output.WriteRawTag(34);
-        output.WriteMessage(Player1);
+      if (Slot != 0) {
+        output.WriteRawTag(32);
+        output.WriteUInt32(Slot);
       }
-      if (player2_ != null) {
-        output.WriteRawTag(42);
-        output.WriteMessage(Player2);
+      if (HasQx) {
+        output.WriteRawTag(40);
+        output.WriteSInt32(Qx);
+      }
+      if (HasQy) {
+        output.WriteRawTag(48);
+        output.WriteSInt32(Qy);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -5210,25 +7371,29 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (Id != 0L) {
+      if (PlayerId != 0L) {
         output.WriteRawTag(8);
-        output.WriteInt64(Id);
+        output.WriteInt64(PlayerId);
+      }
+      if (HasX) {
+        output.WriteRawTag(21);
+        output.WriteFloat(X);
       }
-      if (RoomCode.Length != 0) {
-        output.WriteRawTag(18);
-        output.WriteString(RoomCode);
+      if (HasY) {
+        output.WriteRawTag(29);
+        output.WriteFloat(Y);
       }
-      if (Status != 0) {
-        output.WriteRawTag(24);
-        output.WriteInt32(Status);
+      if (Slot != 0) {
+        output.WriteRawTag(32);
+        output.WriteUInt32(Slot);
       }
-      if (player1_ != null) {
-        output.WriteRawTag(34);
-        output.WriteMessage(Player1);
+      if (HasQx) {
+        output.WriteRawTag(40);
+        output.WriteSInt32(Qx);
       }
-      if (player2_ != null) {
-        output.WriteRawTag(42);
-        output.WriteMessage(Player2);
+      if (HasQy) {
+        output.WriteRawTag(48);
+        output.WriteSInt32(Qy);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -5240,20 +7405,23 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (Id != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(Id);
+      if (PlayerId != 0L) {
+        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
       }
-      if (RoomCode.Length != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeStringSize(RoomCode);
+      if (HasX) {
+        size += 1 + 4;
       }
-      if (Status != 0) {
-        size += 1 + pb::CodedOutputStream.ComputeInt32Size(Status);
+      if (HasY) {
+        size += 1 + 4;
       }
-      if (player1_ != null) {
-        size += 1 + pb::CodedOutputStream.ComputeMessageSize(Player1);
+      if (Slot != 0) {
+        size += 1 + pb::CodedOutputStream.ComputeUInt32Size(Slot);
       }
-      if (player2_ != null) {
-        size += 1 + pb::CodedOutputStream.ComputeMessageSize(Player2);
+      if (HasQx) {
+        size += 1 + pb::CodedOutputStream.ComputeSInt32Size(Qx);
+      }
+      if (HasQy) {
+        size += 1 + pb::CodedOutputStream.ComputeSInt32Size(Qy);
       }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
@@ -5263,30 +7431,27 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(RoomInfo other) {
+    public void MergeFrom(PlayerPosition other) {
       if (other == null) {
         return;
       }
-      if (other.Id != 0L) {
-        Id = other.Id;
+      if (other.PlayerId != 0L) {
+        PlayerId = other.PlayerId;
       }
-      if (other.RoomCode.Length != 0) {
-        RoomCode = other.RoomCode;
+      if (other.HasX) {
+        X = other.X;
       }
-      if (other.Status != 0) {
-        Status = other.Status;
+      if (other.HasY) {
+        Y = other.Y;
       }
-      if (other.player1_ != null) {
-        if (player1_ == null) {
-          Player1 = new global::GameClient.Protobuf.PlayerInfo();
-        }
-        Player1.MergeFrom(other.Player1);
+      if (other.Slot != 0) {
+        Slot = other.Slot;
       }
-      if (other.player2_ != null) {
-        if (player2_ == null) {
-          Player2 = new global::GameClient.Protobuf.PlayerInfo();
-        }
-        Player2.MergeFrom(other.Player2);
+      if (other.HasQx) {
+        Qx = other.Qx;
+      }
+      if (other.HasQy) {
+        Qy = other.Qy;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -5304,29 +7469,27 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
           case 8: {
-            Id = input.ReadInt64();
+            PlayerId = input.ReadInt64();
             break;
           }
-          case 18: {
-            RoomCode = input.ReadString();
+          case 21: {
+            X = input.ReadFloat();
             break;
           }
-          case 24: {
-            Status = input.ReadInt32();
+          case 29: {
+            Y = input.ReadFloat();
             break;
           }
-          case 34: {
-            if (player1_ == null) {
-              Player1 = new global::GameClient.Protobuf.PlayerInfo();
-            }
-            input.ReadMessage(Player1);
+          case 32: {
+            Slot = input.ReadUInt32();
             break;
           }
-          case 42: {
-            if (player2_ == null) {
-              Player2 = new global::GameClient.Protobuf.PlayerInfo();
-            }
-            input.ReadMessage(Player2);
+          case 40: {
+            Qx = input.ReadSInt32();
+            break;
+          }
+          case 48: {
+            Qy = input.ReadSInt32();
             break;
           }
         }
@@ -5345,29 +7508,27 @@ namespace GameClient.Protobuf {
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
           case 8: {
-            Id = input.ReadInt64();
+            PlayerId = input.ReadInt64();
             break;
           }
-          case 18: {
-            RoomCode = input.ReadString();
+          case 21: {
+            X = input.ReadFloat();
             break;
           }
-          case 24: {
-            Status = input.ReadInt32();
+          case 29: {
+            Y = input.ReadFloat();
             break;
           }
-          case 34: {
-            if (player1_ == null) {
-              Player1 = new global::GameClient.Protobuf.PlayerInfo();
-            }
-            input.ReadMessage(Player1);
+          case 32: {
+            Slot = input.ReadUInt32();
             break;
           }
-          case 42: {
-            if (player2_ == null) {
-              Player2 = new global::GameClient.Protobuf.PlayerInfo();
-            }
-            input.ReadMessage(Player2);
+          case 40: {
+            Qx = input.ReadSInt32();
+            break;
+          }
+          case 48: {
+            Qy = input.ReadSInt32();
             break;
           }
         }
@@ -5378,23 +7539,23 @@ namespace GameClient.Protobuf {
   }
 
   /// <summary>
-  /// 玩家位置
+  /// 紧凑坐标编码参数：坐标 = 量化值 * precision，取值范围[world_min, world_max]
   /// </summary>
-  public sealed partial class PlayerPosition : pb::IMessage<PlayerPosition>
+  public sealed partial class PositionEncoding : pb::IMessage<PositionEncoding>
   #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       , pb::IBufferMessage
   #endif
   {
-    private static readonly pb::MessageParser<PlayerPosition> _parser = new pb::MessageParser<PlayerPosition>(() => new PlayerPosition());
+    private static readonly pb::MessageParser<PositionEncoding> _parser = new pb::MessageParser<PositionEncoding>(() => new PositionEncoding());
     private pb::UnknownFieldSet _unknownFields;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public static pb::MessageParser<PlayerPosition> Parser { get { return _parser; } }
+    public static pb::MessageParser<PositionEncoding> Parser { get { return _parser; } }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public static pbr::MessageDescriptor Descriptor {
-      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[21]; }
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[26]; }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
@@ -5405,7 +7566,7 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public PlayerPosition() {
+    public PositionEncoding() {
       OnConstruction();
     }
 
@@ -5413,73 +7574,73 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public PlayerPosition(PlayerPosition other) : this() {
-      playerId_ = other.playerId_;
-      x_ = other.x_;
-      y_ = other.y_;
+    public PositionEncoding(PositionEncoding other) : this() {
+      precision_ = other.precision_;
+      worldMin_ = other.worldMin_;
+      worldMax_ = other.worldMax_;
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public PlayerPosition Clone() {
-      return new PlayerPosition(this);
+    public PositionEncoding Clone() {
+      return new PositionEncoding(this);
     }
 
-    /// <summary>Field number for the "player_id" field.</summary>
-    public const int PlayerIdFieldNumber = 1;
-    private long playerId_;
+    /// <summary>Field number for the "precision" field.</summary>
+    public const int PrecisionFieldNumber = 1;
+    private float precision_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public long PlayerId {
-      get { return playerId_; }
+    public float Precision {
+      get { return precision_; }
       set {
-        playerId_ = value;
+        precision_ = value;
       }
     }
 
-    /// <summary>Field number for the "x" field.</summary>
-    public const int XFieldNumber = 2;
-    private float x_;
+    /// <summary>Field number for the "world_min" field.</summary>
+    public const int WorldMinFieldNumber = 2;
+    private float worldMin_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public float X {
-      get { return x_; }
+    public float WorldMin {
+      get { return worldMin_; }
       set {
-        x_ = value;
+        worldMin_ = value;
       }
     }
 
-    /// <summary>Field number for the "y" field.</summary>
-    public const int YFieldNumber = 3;
-    private float y_;
+    /// <summary>Field number for the "world_max" field.</summary>
+    public const int WorldMaxFieldNumber = 3;
+    private float worldMax_;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public float Y {
-      get { return y_; }
+    public float WorldMax {
+      get { return worldMax_; }
       set {
-        y_ = value;
+        worldMax_ = value;
       }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override bool Equals(object other) {
-      return Equals(other as PlayerPosition);
+      return Equals(other as PositionEncoding);
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public bool Equals(PlayerPosition other) {
+    public bool Equals(PositionEncoding other) {
       if (ReferenceEquals(other, null)) {
         return false;
       }
       if (ReferenceEquals(other, this)) {
         return true;
       }
-      if (PlayerId != other.PlayerId) return false;
-      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(X, other.X)) return false;
-      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(Y, other.Y)) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(Precision, other.Precision)) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(WorldMin, other.WorldMin)) return false;
+      if (!pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.Equals(WorldMax, other.WorldMax)) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
 
@@ -5487,9 +7648,9 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public override int GetHashCode() {
       int hash = 1;
-      if (PlayerId != 0L) hash ^= PlayerId.GetHashCode();
-      if (X != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(X);
-      if (Y != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(Y);
+      if (Precision != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(Precision);
+      if (WorldMin != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(WorldMin);
+      if (WorldMax != 0F) hash ^= pbc::ProtobufEqualityComparers.BitwiseSingleEqualityComparer.GetHashCode(WorldMax);
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
       }
@@ -5508,17 +7669,17 @@ namespace GameClient.Protobuf {
     #if !GOOGLE_PROTOBUF_REFSTRUCT_COMPATIBILITY_MODE
       output.WriteRawMessage(this);
     #else
-      if (PlayerId != 0L) {
-        output.WriteRawTag(8);
-        output.WriteInt64(PlayerId);
+      if (Precision != 0F) {
+        output.WriteRawTag(13);
+        output.WriteFloat(Precision);
       }
-      if (X != 0F) {
+      if (WorldMin != 0F) {
         output.WriteRawTag(21);
-        output.WriteFloat(X);
+        output.WriteFloat(WorldMin);
       }
-      if (Y != 0F) {
+      if (WorldMax != 0F) {
         output.WriteRawTag(29);
-        output.WriteFloat(Y);
+        output.WriteFloat(WorldMax);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
@@ -5530,17 +7691,17 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     void pb::IBufferMessage.InternalWriteTo(ref pb::WriteContext output) {
-      if (PlayerId != 0L) {
-        output.WriteRawTag(8);
-        output.WriteInt64(PlayerId);
+      if (Precision != 0F) {
+        output.WriteRawTag(13);
+        output.WriteFloat(Precision);
       }
-      if (X != 0F) {
+      if (WorldMin != 0F) {
         output.WriteRawTag(21);
-        output.WriteFloat(X);
+        output.WriteFloat(WorldMin);
       }
-      if (Y != 0F) {
+      if (WorldMax != 0F) {
         output.WriteRawTag(29);
-        output.WriteFloat(Y);
+        output.WriteFloat(WorldMax);
       }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
@@ -5552,13 +7713,13 @@ namespace GameClient.Protobuf {
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public int CalculateSize() {
       int size = 0;
-      if (PlayerId != 0L) {
-        size += 1 + pb::CodedOutputStream.ComputeInt64Size(PlayerId);
+      if (Precision != 0F) {
+        size += 1 + 4;
       }
-      if (X != 0F) {
+      if (WorldMin != 0F) {
         size += 1 + 4;
       }
-      if (Y != 0F) {
+      if (WorldMax != 0F) {
         size += 1 + 4;
       }
       if (_unknownFields != null) {
@@ -5569,18 +7730,18 @@ namespace GameClient.Protobuf {
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
-    public void MergeFrom(PlayerPosition other) {
+    public void MergeFrom(PositionEncoding other) {
       if (other == null) {
         return;
       }
-      if (other.PlayerId != 0L) {
-        PlayerId = other.PlayerId;
+      if (other.Precision != 0F) {
+        Precision = other.Precision;
       }
-      if (other.X != 0F) {
-        X = other.X;
+      if (other.WorldMin != 0F) {
+        WorldMin = other.WorldMin;
       }
-      if (other.Y != 0F) {
-        Y = other.Y;
+      if (other.WorldMax != 0F) {
+        WorldMax = other.WorldMax;
       }
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
     }
@@ -5597,16 +7758,16 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, input);
             break;
-          case 8: {
-            PlayerId = input.ReadInt64();
+          case 13: {
+            Precision = input.ReadFloat();
             break;
           }
           case 21: {
-            X = input.ReadFloat();
+            WorldMin = input.ReadFloat();
             break;
           }
           case 29: {
-            Y = input.ReadFloat();
+            WorldMax = input.ReadFloat();
             break;
           }
         }
@@ -5624,16 +7785,16 @@ namespace GameClient.Protobuf {
           default:
             _unknownFields = pb::UnknownFieldSet.MergeFieldFrom(_unknownFields, ref input);
             break;
-          case 8: {
-            PlayerId = input.ReadInt64();
+          case 13: {
+            Precision = input.ReadFloat();
             break;
           }
           case 21: {
-            X = input.ReadFloat();
+            WorldMin = input.ReadFloat();
             break;
           }
           case 29: {
-            Y = input.ReadFloat();
+            WorldMax = input.ReadFloat();
             break;
           }
         }
@@ -5660,7 +7821,7 @@ namespace GameClient.Protobuf {
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
     [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
     public static pbr::MessageDescriptor Descriptor {
-      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[22]; }
+      get { return global::GameClient.Protobuf.GameReflection.Descriptor.MessageTypes[27]; }
     }
 
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
@@ -5739,6 +7900,18 @@ namespace GameClient.Protobuf {
         case BodyOneofCase.Error:
           Error = other.Error.Clone();
           break;
+        case BodyOneofCase.SnapshotAck:
+          SnapshotAck = other.SnapshotAck.Clone();
+          break;
+        case BodyOneofCase.RoomListUpdate:
+          RoomListUpdate = other.RoomListUpdate.Clone();
+          break;
+        case BodyOneofCase.ResumeSessionRequest:
+          ResumeSessionRequest = other.ResumeSessionRequest.Clone();
+          break;
+        case BodyOneofCase.ResumeSessionResponse:
+          ResumeSessionResponse = other.ResumeSessionResponse.Clone();
+          break;
       }
 
       _unknownFields = pb::UnknownFieldSet.Clone(other._unknownFields);
@@ -5990,6 +8163,54 @@ namespace GameClient.Protobuf {
       }
     }
 
+    /// <summary>Field number for the "snapshot_ack" field.</summary>
+    public const int SnapshotAckFieldNumber = 21;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.SnapshotAck SnapshotAck {
+      get { return bodyCase_ == BodyOneofCase.SnapshotAck ? (global::GameClient.Protobuf.SnapshotAck) body_ : null; }
+      set {
+        body_ = value;
+        bodyCase_ = value == null ? BodyOneofCase.None : BodyOneofCase.SnapshotAck;
+      }
+    }
+
+    /// <summary>Field number for the "room_list_update" field.</summary>
+    public const int RoomListUpdateFieldNumber = 22;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.RoomListUpdate RoomListUpdate {
+      get { return bodyCase_ == BodyOneofCase.RoomListUpdate ? (global::GameClient.Protobuf.RoomListUpdate) body_ : null; }
+      set {
+        body_ = value;
+        bodyCase_ = value == null ? BodyOneofCase.None : BodyOneofCase.RoomListUpdate;
+      }
+    }
+
+    /// <summary>Field number for the "resume_session_request" field.</summary>
+    public const int ResumeSessionRequestFieldNumber = 23;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.ResumeSessionRequest ResumeSessionRequest {
+      get { return bodyCase_ == BodyOneofCase.ResumeSessionRequest ? (global::GameClient.Protobuf.ResumeSessionRequest) body_ : null; }
+      set {
+        body_ = value;
+        bodyCase_ = value == null ? BodyOneofCase.None : BodyOneofCase.ResumeSessionRequest;
+      }
+    }
+
+    /// <summary>Field number for the "resume_session_response" field.</summary>
+    public const int ResumeSessionResponseFieldNumber = 24;
+    [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
+    [global::System.CodeDom.Compiler.GeneratedCode("protoc", null)]
+    public global::GameClient.Protobuf.ResumeSessionResponse ResumeSessionResponse {
+      get { return bodyCase_ == BodyOneofCase.ResumeSessionResponse ? (global::GameClient.Protobuf.ResumeSessionResponse) body_ : null; }
+      set {
+        body_ = value;
+        bodyCase_ = value == null ? BodyOneofCase.None : BodyOneofCase.ResumeSessionResponse;
+      }
+    }
+
     private object body_;
     /// <summary>Enum of possible cases for the "body" oneof.</summary>
     public enum BodyOneofCase {
@@ -6013,6 +8234,10 @@ namespace GameClient.Protobuf {
       GameStateUpdate = 18,
       GameOver = 19,
       Error = 20,
+      SnapshotAck = 21,
+      RoomListUpdate = 22,
+      ResumeSessionRequest = 23,
+      ResumeSessionResponse = 24,
     }
     private BodyOneofCase bodyCase_ = BodyOneofCase.None;
     [global::System.Diagnostics.DebuggerNonUserCodeAttribute]
@@ -6063,6 +8288,10 @@ namespace GameClient.Protobuf {
       if (!object.Equals(GameStateUpdate, other.GameStateUpdate)) return false;
       if (!object.Equals(GameOver, other.GameOver)) return false;
       if (!object.Equals(Error, other.Error)) return false;
+      if (!object.Equals(SnapshotAck, other.SnapshotAck)) return false;
+      if (!object.Equals(RoomListUpdate, other.RoomListUpdate)) return false;
+      if (!object.Equals(ResumeSessionRequest, other.ResumeSessionRequest)) return false;
+      if (!object.Equals(ResumeSessionResponse, other.ResumeSessionResponse)) return false;
       if (BodyCase != other.BodyCase) return false;
       return Equals(_unknownFields, other._unknownFields);
     }
@@ -6091,6 +8320,10 @@ namespace GameClient.Protobuf {
       if (bodyCase_ == BodyOneofCase.GameStateUpdate) hash ^= GameStateUpdate.GetHashCode();
       if (bodyCase_ == BodyOneofCase.GameOver) hash ^= GameOver.GetHashCode();
       if (bodyCase_ == BodyOneofCase.Error) hash ^= Error.GetHashCode();
+      if (bodyCase_ == BodyOneofCase.SnapshotAck) hash ^= SnapshotAck.GetHashCode();
+      if (bodyCase_ == BodyOneofCase.RoomListUpdate) hash ^= RoomListUpdate.GetHashCode();
+      if (bodyCase_ == BodyOneofCase.ResumeSessionRequest) hash ^= ResumeSessionRequest.GetHashCode();
+      if (bodyCase_ == BodyOneofCase.ResumeSessionResponse) hash ^= ResumeSessionResponse.GetHashCode();
       hash ^= (int) bodyCase_;
       if (_unknownFields != null) {
         hash ^= _unknownFields.GetHashCode();
@@ -6190,6 +8423,22 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(162, 1);
         output.WriteMessage(Error);
       }
+      if (bodyCase_ == BodyOneofCase.SnapshotAck) {
+        output.WriteRawTag(170, 1);
+        output.WriteMessage(SnapshotAck);
+      }
+      if (bodyCase_ == BodyOneofCase.RoomListUpdate) {
+        output.WriteRawTag(178, 1);
+        output.WriteMessage(RoomListUpdate);
+      }
+      if (bodyCase_ == BodyOneofCase.ResumeSessionRequest) {
+        output.WriteRawTag(186, 1);
+        output.WriteMessage(ResumeSessionRequest);
+      }
+      if (bodyCase_ == BodyOneofCase.ResumeSessionResponse) {
+        output.WriteRawTag(194, 1);
+        output.WriteMessage(ResumeSessionResponse);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(output);
       }
@@ -6280,6 +8529,22 @@ namespace GameClient.Protobuf {
         output.WriteRawTag(162, 1);
         output.WriteMessage(Error);
       }
+      if (bodyCase_ == BodyOneofCase.SnapshotAck) {
+        output.WriteRawTag(170, 1);
+        output.WriteMessage(SnapshotAck);
+      }
+      if (bodyCase_ == BodyOneofCase.RoomListUpdate) {
+        output.WriteRawTag(178, 1);
+        output.WriteMessage(RoomListUpdate);
+      }
+      if (bodyCase_ == BodyOneofCase.ResumeSessionRequest) {
+        output.WriteRawTag(186, 1);
+        output.WriteMessage(ResumeSessionRequest);
+      }
+      if (bodyCase_ == BodyOneofCase.ResumeSessionResponse) {
+        output.WriteRawTag(194, 1);
+        output.WriteMessage(ResumeSessionResponse);
+      }
       if (_unknownFields != null) {
         _unknownFields.WriteTo(ref output);
       }
@@ -6350,6 +8615,18 @@ namespace GameClient.Protobuf {
       if (bodyCase_ == BodyOneofCase.Error) {
         size += 2 + pb::CodedOutputStream.ComputeMessageSize(Error);
       }
+      if (bodyCase_ == BodyOneofCase.SnapshotAck) {
+        size += 2 + pb::CodedOutputStream.ComputeMessageSize(SnapshotAck);
+      }
+      if (bodyCase_ == BodyOneofCase.RoomListUpdate) {
+        size += 2 + pb::CodedOutputStream.ComputeMessageSize(RoomListUpdate);
+      }
+      if (bodyCase_ == BodyOneofCase.ResumeSessionRequest) {
+        size += 2 + pb::CodedOutputStream.ComputeMessageSize(ResumeSessionRequest);
+      }
+      if (bodyCase_ == BodyOneofCase.ResumeSessionResponse) {
+        size += 2 + pb::CodedOutputStream.ComputeMessageSize(ResumeSessionResponse);
+      }
       if (_unknownFields != null) {
         size += _unknownFields.CalculateSize();
       }
@@ -6480,6 +8757,30 @@ namespace GameClient.Protobuf {
           }
           Error.MergeFrom(other.Error);
           break;
+        case BodyOneofCase.SnapshotAck:
+          if (SnapshotAck == null) {
+            SnapshotAck = new global::GameClient.Protobuf.SnapshotAck();
+          }
+          SnapshotAck.MergeFrom(other.SnapshotAck);
+          break;
+        case BodyOneofCase.RoomListUpdate:
+          if (RoomListUpdate == null) {
+            RoomListUpdate = new global::GameClient.Protobuf.RoomListUpdate();
+          }
+          RoomListUpdate.MergeFrom(other.RoomListUpdate);
+          break;
+        case BodyOneofCase.ResumeSessionRequest:
+          if (ResumeSessionRequest == null) {
+            ResumeSessionRequest = new global::GameClient.Protobuf.ResumeSessionRequest();
+          }
+          ResumeSessionRequest.MergeFrom(other.ResumeSessionRequest);
+          break;
+        case BodyOneofCase.ResumeSessionResponse:
+          if (ResumeSessionResponse == null) {
+            ResumeSessionResponse = new global::GameClient.Protobuf.ResumeSessionResponse();
+          }
+          ResumeSessionResponse.MergeFrom(other.ResumeSessionResponse);
+          break;
       }
 
       _unknownFields = pb::UnknownFieldSet.MergeFrom(_unknownFields, other._unknownFields);
@@ -6672,6 +8973,42 @@ namespace GameClient.Protobuf {
             Error = subBuilder;
             break;
           }
+          case 170: {
+            global::GameClient.Protobuf.SnapshotAck subBuilder = new global::GameClient.Protobuf.SnapshotAck();
+            if (bodyCase_ == BodyOneofCase.SnapshotAck) {
+              subBuilder.MergeFrom(SnapshotAck);
+            }
+            input.ReadMessage(subBuilder);
+            SnapshotAck = subBuilder;
+            break;
+          }
+          case 178: {
+            global::GameClient.Protobuf.RoomListUpdate subBuilder = new global::GameClient.Protobuf.RoomListUpdate();
+            if (bodyCase_ == BodyOneofCase.RoomListUpdate) {
+              subBuilder.MergeFrom(RoomListUpdate);
+            }
+            input.ReadMessage(subBuilder);
+            RoomListUpdate = subBuilder;
+            break;
+          }
+          case 186: {
+            global::GameClient.Protobuf.ResumeSessionRequest subBuilder = new global::GameClient.Protobuf.ResumeSessionRequest();
+            if (bodyCase_ == BodyOneofCase.ResumeSessionRequest) {
+              subBuilder.MergeFrom(ResumeSessionRequest);
+            }
+            input.ReadMessage(subBuilder);
+            ResumeSessionRequest = subBuilder;
+            break;
+          }
+          case 194: {
+            global::GameClient.Protobuf.ResumeSessionResponse subBuilder = new global::GameClient.Protobuf.ResumeSessionResponse();
+            if (bodyCase_ == BodyOneofCase.ResumeSessionResponse) {
+              subBuilder.MergeFrom(ResumeSessionResponse);
+            }
+            input.ReadMessage(subBuilder);
+            ResumeSessionResponse = subBuilder;
+            break;
+          }
         }
       }
     #endif
@@ -6862,6 +9199,42 @@ namespace GameClient.Protobuf {
             Error = subBuilder;
             break;
           }
+          case 170: {
+            global::GameClient.Protobuf.SnapshotAck subBuilder = new global::GameClient.Protobuf.SnapshotAck();
+            if (bodyCase_ == BodyOneofCase.SnapshotAck) {
+              subBuilder.MergeFrom(SnapshotAck);
+            }
+            input.ReadMessage(subBuilder);
+            SnapshotAck = subBuilder;
+            break;
+          }
+          case 178: {
+            global::GameClient.Protobuf.RoomListUpdate subBuilder = new global::GameClient.Protobuf.RoomListUpdate();
+            if (bodyCase_ == BodyOneofCase.RoomListUpdate) {
+              subBuilder.MergeFrom(RoomListUpdate);
+            }
+            input.ReadMessage(subBuilder);
+            RoomListUpdate = subBuilder;
+            break;
+          }
+          case 186: {
+            global::GameClient.Protobuf.ResumeSessionRequest subBuilder = new global::GameClient.Protobuf.ResumeSessionRequest();
+            if (bodyCase_ == BodyOneofCase.ResumeSessionRequest) {
+              subBuilder.MergeFrom(ResumeSessionRequest);
+            }
+            input.ReadMessage(subBuilder);
+            ResumeSessionRequest = subBuilder;
+            break;
+          }
+          case 194: {
+            global::GameClient.Protobuf.ResumeSessionResponse subBuilder = new global::GameClient.Protobuf.ResumeSessionResponse();
+            if (bodyCase_ == BodyOneofCase.ResumeSessionResponse) {
+              subBuilder.MergeFrom(ResumeSessionResponse);
+            }
+            input.ReadMessage(subBuilder);
+            ResumeSessionResponse = subBuilder;
+            break;
+          }
         }
       }
     }
@@ -1,5 +1,6 @@
 using UnityEngine;
 using System;
+using System.Collections.Generic;
 using System.Net.Sockets;
 using System.Threading;
 using System.Text;
@@ -20,9 +21,27 @@ public class UnityClientExample : MonoBehaviour
     private long roomId;
     private string roomCode;
     private bool isGameStarted = false;
+    private string sessionToken; // 登录时服务器签发，断线重连时用它恢复会话
     private Vector3 playerPosition = new Vector3(0, 0, 0);
     private Vector3 opponentPosition = new Vector3(0, 0, 0);
     
+    // 增量快照：保存最近收到的快照，增量消息相对于已确认的基准快照解码
+    private const int SnapshotHistorySize = 64;
+    private readonly Dictionary<uint, Dictionary<long, Vector2>> snapshots = new Dictionary<uint, Dictionary<long, Vector2>>();
+    private readonly Queue<uint> snapshotOrder = new Queue<uint>();
+    private readonly object snapshotLock = new object();
+    private uint lastSnapshotTick; // 最新收到的快照序号
+    private uint lastAckedTick; // 最近一次发给服务器的确认序号
+    
+    // 紧凑坐标编码（登录时协商）：坐标量化为整数，玩家用房间内槽位标识
+    private bool compactPositions;
+    private float positionPrecision;
+    private readonly Dictionary<uint, long> slotPlayers = new Dictionary<uint, long>();
+    
+    // 大厅：可加入的房间，首页查询时订阅，之后由服务器推送增量
+    private readonly SortedDictionary<long, RoomInfo> lobbyRooms = new SortedDictionary<long, RoomInfo>();
+    private long lobbyNextAfterRoomId; // 下一页游标，0表示没有更多
+    
     // 游戏物体引用
     public GameObject playerObject; // 玩家方块
     public GameObject opponentObject; // 对手方块
@@ -60,6 +79,11 @@ public class UnityClientExample : MonoBehaviour
                 playerPosition = newPosition;
                 SendMoveRequest(playerPosition.x, playerPosition.z);
             }
+            else if (lastSnapshotTick != lastAckedTick)
+            {
+                // 没有移动时单独确认快照，确认随移动请求一起发送
+                SendSnapshotAck();
+            }
         }
         
         // 更新游戏物体的位置
@@ -124,6 +148,17 @@ public class UnityClientExample : MonoBehaviour
         UpdateStatus("已断开连接");
     }
     
+    // 断线重连：有令牌时直接恢复会话（包括所在房间），不需要重新登录
+    public void Reconnect()
+    {
+        Disconnect();
+        ConnectToServer();
+        if (isConnected && !string.IsNullOrEmpty(sessionToken))
+        {
+            SendResumeSessionRequest();
+        }
+    }
+    
     // 接收消息（基于长度前缀）
     private void ReceiveMessages()
     {
@@ -232,6 +267,9 @@ public class UnityClientExample : MonoBehaviour
                 case MessageType.RegisterResponse:
                     HandleRegisterResponse(message.RegisterResponse);
                     break;
+                case MessageType.ResumeSessionResponse:
+                    HandleResumeSessionResponse(message.ResumeSessionResponse);
+                    break;
                 case MessageType.CreateRoomResponse:
                     HandleCreateRoomResponse(message.CreateRoomResponse);
                     break;
@@ -241,6 +279,9 @@ public class UnityClientExample : MonoBehaviour
                 case MessageType.ListRoomsResponse:
                     HandleListRoomsResponse(message.ListRoomsResponse);
                     break;
+                case MessageType.RoomListUpdate:
+                    HandleRoomListUpdate(message.RoomListUpdate);
+                    break;
                 case MessageType.StartGameResponse:
                     HandleStartGameResponse(message.StartGameResponse);
                     break;
@@ -302,6 +343,26 @@ public class UnityClientExample : MonoBehaviour
         }
     }
     
+    public void OnListRoomsButtonClick()
+    {
+        if (playerId > 0)
+        {
+            lock (lobbyRooms)
+            {
+                lobbyRooms.Clear();
+            }
+            SendListRoomsRequest(0, true);
+        }
+    }
+    
+    public void OnMoreRoomsButtonClick()
+    {
+        if (playerId > 0 && lobbyNextAfterRoomId > 0)
+        {
+            SendListRoomsRequest(lobbyNextAfterRoomId, true);
+        }
+    }
+    
     public void OnStartGameButtonClick()
     {
         if (playerId > 0 && roomId > 0)
@@ -315,7 +376,8 @@ public class UnityClientExample : MonoBehaviour
     {
         var request = new LoginRequest {
             Username = username,
-            Password = password
+            Password = password,
+            CompactPositions = true
         };
         
         var message = new GameMessage {
@@ -326,6 +388,21 @@ public class UnityClientExample : MonoBehaviour
         SendMessage(message);
     }
     
+    private void SendResumeSessionRequest()
+    {
+        var request = new ResumeSessionRequest {
+            SessionToken = sessionToken,
+            CompactPositions = true
+        };
+        
+        var message = new GameMessage {
+            Type = MessageType.ResumeSessionRequest,
+            ResumeSessionRequest = request
+        };
+        
+        SendMessage(message);
+    }
+    
     private void SendRegisterRequest(string username, string password, string nickname)
     {
         var request = new RegisterRequest {
@@ -371,6 +448,21 @@ public class UnityClientExample : MonoBehaviour
         SendMessage(message);
     }
     
+    private void SendListRoomsRequest(long afterRoomId, bool subscribe)
+    {
+        var request = new ListRoomsRequest {
+            AfterRoomId = afterRoomId,
+            Subscribe = subscribe
+        };
+        
+        var message = new GameMessage {
+            Type = MessageType.ListRoomsRequest,
+            ListRoomsRequest = request
+        };
+        
+        SendMessage(message);
+    }
+    
     private void SendStartGameRequest()
     {
         var request = new StartGameRequest {
@@ -388,12 +480,28 @@ public class UnityClientExample : MonoBehaviour
     
     private void SendMoveRequest(float x, float y)
     {
-        var request = new MoveRequest {
-            RoomId = roomId,
-            PlayerId = playerId,
-            X = x,
-            Y = y
-        };
+        uint ackTick = lastSnapshotTick;
+        MoveRequest request;
+        if (compactPositions)
+        {
+            // 紧凑编码：服务器按会话识别玩家和房间，只发送量化坐标
+            request = new MoveRequest {
+                Qx = Mathf.RoundToInt(x / positionPrecision),
+                Qy = Mathf.RoundToInt(y / positionPrecision),
+                AckTick = ackTick
+            };
+        }
+        else
+        {
+            request = new MoveRequest {
+                RoomId = roomId,
+                PlayerId = playerId,
+                X = x,
+                Y = y,
+                AckTick = ackTick
+            };
+        }
+        lastAckedTick = ackTick;
         
         var message = new GameMessage {
             Type = MessageType.MoveRequest,
@@ -403,12 +511,34 @@ public class UnityClientExample : MonoBehaviour
         SendMessage(message);
     }
     
+    private void SendSnapshotAck()
+    {
+        uint ackTick = lastSnapshotTick;
+        var message = new GameMessage {
+            Type = MessageType.SnapshotAck,
+            SnapshotAck = new SnapshotAck {
+                RoomId = roomId,
+                Tick = ackTick
+            }
+        };
+        lastAckedTick = ackTick;
+        
+        SendMessage(message);
+    }
+    
     // 处理各种响应
     private void HandleLoginResponse(LoginResponse response)
     {
         if (response.Code == ErrorCode.Success)
         {
             playerId = response.PlayerInfo.Id;
+            sessionToken = response.SessionToken;
+            // 服务器返回编码参数表示接受紧凑坐标编码
+            compactPositions = response.PositionEncoding != null;
+            if (compactPositions)
+            {
+                positionPrecision = response.PositionEncoding.Precision;
+            }
             UpdateStatus("登录成功: " + response.PlayerInfo.Nickname);
         }
         else
@@ -417,6 +547,39 @@ public class UnityClientExample : MonoBehaviour
         }
     }
     
+    private void HandleResumeSessionResponse(ResumeSessionResponse response)
+    {
+        if (response.Code == ErrorCode.Success)
+        {
+            playerId = response.PlayerId;
+            sessionToken = response.SessionToken;
+            compactPositions = response.PositionEncoding != null;
+            if (compactPositions)
+            {
+                positionPrecision = response.PositionEncoding.Precision;
+            }
+            // 服务器会重新发送完整快照，丢弃断线前的快照和槽位
+            lock (snapshotLock)
+            {
+                snapshots.Clear();
+                snapshotOrder.Clear();
+                slotPlayers.Clear();
+                lastSnapshotTick = 0;
+                lastAckedTick = 0;
+            }
+            roomId = response.RoomId;
+            roomCode = response.RoomId != 0 ? response.RoomCode : null;
+            isGameStarted = response.RoomId != 0 && response.RoomStatus == 1;
+            UpdateStatus(response.RoomId != 0 ? "已重新连接，回到房间: " + roomCode : "已重新连接");
+        }
+        else
+        {
+            // 令牌失效，需要重新登录
+            sessionToken = null;
+            UpdateStatus("重新连接失败: " + response.Message);
+        }
+    }
+    
     private void HandleRegisterResponse(RegisterResponse response)
     {
         if (response.Code == ErrorCode.Success)
@@ -462,7 +625,15 @@ public class UnityClientExample : MonoBehaviour
     {
         if (response.Code == ErrorCode.Success)
         {
-            UpdateStatus("获取房间列表成功，共 " + response.Rooms.Count + " 个房间");
+            lock (lobbyRooms)
+            {
+                foreach (var room in response.Rooms)
+                {
+                    lobbyRooms[room.Id] = room;
+                }
+            }
+            lobbyNextAfterRoomId = response.NextAfterRoomId;
+            UpdateStatus("获取房间列表成功，共 " + response.Total + " 个房间");
             // 这里可以更新UI显示房间列表
         }
         else
@@ -471,6 +642,22 @@ public class UnityClientExample : MonoBehaviour
         }
     }
     
+    // 订阅后的房间列表增量，按房间ID去重
+    private void HandleRoomListUpdate(RoomListUpdate update)
+    {
+        lock (lobbyRooms)
+        {
+            foreach (var room in update.Added)
+            {
+                lobbyRooms[room.Id] = room;
+            }
+            foreach (var id in update.RemovedRoomIds)
+            {
+                lobbyRooms.Remove(id);
+            }
+        }
+    }
+    
     private void HandleStartGameResponse(StartGameResponse response)
     {
         if (response.Code == ErrorCode.Success)
@@ -489,17 +676,91 @@ public class UnityClientExample : MonoBehaviour
     
     private void HandleGameStateUpdate(GameStateUpdate update)
     {
-        foreach (var playerPos in update.Players)
+        // Tick为0的是房间通知（如有玩家加入），不是快照
+        if (update.Tick == 0)
+        {
+            return;
+        }
+        
+        Dictionary<long, Vector2> state;
+        lock (snapshotLock)
+        {
+            if (update.BaselineTick == 0)
+            {
+                // 完整快照
+                state = new Dictionary<long, Vector2>();
+            }
+            else
+            {
+                Dictionary<long, Vector2> baseline;
+                if (!snapshots.TryGetValue(update.BaselineTick, out baseline))
+                {
+                    // 基准已丢失，不确认这条快照，服务器会继续以旧基准或完整快照发送
+                    Debug.LogWarning("缺少基准快照: " + update.BaselineTick);
+                    return;
+                }
+                state = new Dictionary<long, Vector2>(baseline);
+            }
+            
+            foreach (var removedId in update.RemovedPlayerIds)
+            {
+                state.Remove(removedId);
+            }
+            foreach (var playerPos in update.Players)
+            {
+                // 带玩家ID的条目同时登记槽位，之后的增量只用槽位
+                long id = playerPos.PlayerId;
+                if (id != 0)
+                {
+                    slotPlayers[playerPos.Slot] = id;
+                }
+                else if (!slotPlayers.TryGetValue(playerPos.Slot, out id))
+                {
+                    Debug.LogWarning("未知的玩家槽位: " + playerPos.Slot);
+                    continue;
+                }
+                
+                Vector2 position;
+                state.TryGetValue(id, out position);
+                if (playerPos.HasX)
+                {
+                    position.x = playerPos.X;
+                }
+                else if (playerPos.HasQx)
+                {
+                    position.x = playerPos.Qx * positionPrecision;
+                }
+                if (playerPos.HasY)
+                {
+                    position.y = playerPos.Y;
+                }
+                else if (playerPos.HasQy)
+                {
+                    position.y = playerPos.Qy * positionPrecision;
+                }
+                state[id] = position;
+            }
+            
+            snapshots[update.Tick] = state;
+            snapshotOrder.Enqueue(update.Tick);
+            while (snapshotOrder.Count > SnapshotHistorySize)
+            {
+                snapshots.Remove(snapshotOrder.Dequeue());
+            }
+            lastSnapshotTick = update.Tick;
+        }
+        
+        foreach (var entry in state)
         {
-            if (playerPos.PlayerId == playerId)
+            if (entry.Key == playerId)
             {
-                // 更新自己的位置（如果需要）
-                playerPosition = new Vector3(playerPos.X, 0, playerPos.Y);
+                // 更新自己的位置（以服务器为准）
+                playerPosition = new Vector3(entry.Value.x, 0, entry.Value.y);
             }
             else
             {
                 // 更新对手的位置
-                opponentPosition = new Vector3(playerPos.X, 0, playerPos.Y);
+                opponentPosition = new Vector3(entry.Value.x, 0, entry.Value.y);
             }
         }
     }
@@ -8,7 +8,7 @@ USE game_db;
 CREATE TABLE IF NOT EXISTS player (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '玩家ID',
     username VARCHAR(50) NOT NULL UNIQUE COMMENT '用户名',
-    password VARCHAR(50) NOT NULL COMMENT '密码',
+    password VARCHAR(255) NOT NULL COMMENT '密码哈希（pbkdf2$迭代次数$盐$哈希）',
     nickname VARCHAR(50) NOT NULL COMMENT '昵称',
     score INT DEFAULT 0 COMMENT '分数',
     create_time DATETIME NOT NULL COMMENT '创建时间',
@@ -34,7 +34,10 @@ CREATE TABLE IF NOT EXISTS game_room (
     FOREIGN KEY (player2_id) REFERENCES player(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='游戏房间表';
 
--- 插入测试数据
+-- 已有库升级：密码列放宽以存放哈希（明文密码在下次登录成功时自动改为哈希）
+-- ALTER TABLE player MODIFY password VARCHAR(255) NOT NULL COMMENT '密码哈希（pbkdf2$迭代次数$盐$哈希）';
+
+-- 插入测试数据（明文密码，首次登录后改为哈希）
 INSERT INTO player (username, password, nickname, score, create_time, last_login_time)
 VALUES 
 ('player1', '123456', '玩家1', 0, NOW(), NOW()),
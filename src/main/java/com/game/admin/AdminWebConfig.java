@@ -0,0 +1,55 @@
+package com.game.admin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// 运维接口（/admin/**）默认不注册；开启game.admin.enabled后，每个请求都必须在X-Admin-Token头中带上game.admin.token
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "game.admin.enabled", havingValue = "true")
+public class AdminWebConfig implements WebMvcConfigurer {
+
+    static final String TOKEN_HEADER = "X-Admin-Token";
+
+    @Value("${game.admin.token:}")
+    private String token;
+
+    private byte[] expected;
+
+    @PostConstruct
+    public void init() {
+        if (token.isEmpty()) {
+            throw new IllegalStateException("game.admin.enabled is true but game.admin.token is not set");
+        }
+        expected = token.getBytes(StandardCharsets.UTF_8);
+        log.info("Admin endpoints enabled under /admin");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                String provided = request.getHeader(TOKEN_HEADER);
+                // 定长比较，避免按响应时间猜令牌
+                if (provided != null && MessageDigest.isEqual(expected, provided.getBytes(StandardCharsets.UTF_8))) {
+                    return true;
+                }
+                log.warn("Rejected admin request {} {} from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return false;
+            }
+        }).addPathPatterns("/admin/**");
+    }
+}
@@ -0,0 +1,50 @@
+package com.game.admin;
+
+import com.game.protobuf.GameProto;
+import com.game.tcp.NetworkLogPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 运行时开关网络消息跟踪：PUT/DELETE /admin/logging/trace/{消息类型}，如 MOVE_REQUEST
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "game.admin.enabled", havingValue = "true")
+@RequestMapping("/admin/logging")
+public class LoggingAdminController {
+
+    @Autowired
+    private NetworkLogPolicy networkLogPolicy;
+
+    @GetMapping
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("traced", networkLogPolicy.getTracedTypes());
+        status.put("suppressed", networkLogPolicy.getSuppressed());
+        return status;
+    }
+
+    @PutMapping("/trace/{type}")
+    public List<GameProto.MessageType> enableTrace(@PathVariable GameProto.MessageType type) {
+        networkLogPolicy.setTraced(type, true);
+        log.info("Tracing enabled for message type {}", type);
+        return networkLogPolicy.getTracedTypes();
+    }
+
+    @DeleteMapping("/trace/{type}")
+    public List<GameProto.MessageType> disableTrace(@PathVariable GameProto.MessageType type) {
+        networkLogPolicy.setTraced(type, false);
+        log.info("Tracing disabled for message type {}", type);
+        return networkLogPolicy.getTracedTypes();
+    }
+}
@@ -0,0 +1,35 @@
+package com.game.admin;
+
+import com.game.tcp.HandlerProfiler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// 事件循环卡顿排行：GET /admin/profiler?limit=10 查看最严重的消息类型和玩家，DELETE 清空统计重新观察
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "game.admin.enabled", havingValue = "true")
+@RequestMapping("/admin/profiler")
+public class ProfilerAdminController {
+
+    @Autowired
+    private HandlerProfiler handlerProfiler;
+
+    @GetMapping
+    public Map<String, Object> report(@RequestParam(defaultValue = "10") int limit) {
+        return handlerProfiler.report(Math.max(1, limit));
+    }
+
+    @DeleteMapping
+    public void reset() {
+        handlerProfiler.reset();
+        log.info("Handler profiler statistics reset");
+    }
+}
@@ -0,0 +1,47 @@
+package com.game.config;
+
+import io.vertx.core.Vertx;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.sqlclient.PoolOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// game.persistence.client=vertx时使用的Vert.x MySQL连接池：查询结果在发起调用的上下文上回调，不占用任何线程等待
+@Configuration
+@ConditionalOnProperty(name = "game.persistence.client", havingValue = "vertx")
+public class MySqlClientConfig {
+
+    @Value("${game.persistence.mysql.host:127.0.0.1}")
+    private String host;
+
+    @Value("${game.persistence.mysql.port:3306}")
+    private int port;
+
+    @Value("${game.persistence.mysql.database:game_db}")
+    private String database;
+
+    @Value("${game.persistence.mysql.user:root}")
+    private String user;
+
+    @Value("${game.persistence.mysql.password:}")
+    private String password;
+
+    @Value("${game.persistence.mysql.pool-size:8}")
+    private int poolSize;
+
+    @Bean(destroyMethod = "close")
+    public MySQLPool mySqlPool(Vertx vertx) {
+        MySQLConnectOptions connectOptions = new MySQLConnectOptions()
+                .setHost(host)
+                .setPort(port)
+                .setDatabase(database)
+                .setUser(user)
+                .setPassword(password)
+                .setCharset("utf8mb4")
+                .setCachePreparedStatements(true);
+        return MySQLPool.pool(vertx, connectOptions, new PoolOptions().setMaxSize(poolSize));
+    }
+}
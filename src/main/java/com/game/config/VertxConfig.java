@@ -0,0 +1,28 @@
+package com.game.config;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VertxConfig {
+
+    @Value("${game.tcp.instances:0}")
+    private int instances;
+
+    // 由VertxTcpConfig.destroy()负责关闭，避免Spring再推断调用一次close
+    @Bean(destroyMethod = "")
+    public Vertx vertx() {
+        // 事件循环数量不少于TCP verticle实例数，保证每个实例独占一个事件循环
+        int verticleInstances = instances > 0 ? instances : defaultInstances();
+        VertxOptions options = new VertxOptions()
+                .setEventLoopPoolSize(Math.max(VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE, verticleInstances));
+        return Vertx.vertx(options);
+    }
+
+    static int defaultInstances() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
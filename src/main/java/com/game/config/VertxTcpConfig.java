@@ -1,10 +1,11 @@
 package com.game.config;
 
 import com.game.tcp.GameTcpHandler;
+import com.game.tcp.GameTcpVerticle;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.annotation.PostConstruct;
@@ -19,22 +20,27 @@ public class VertxTcpConfig {
     @Value("${game.tcp.port}")
     private int tcpPort;
 
+    // TCP服务器verticle实例数，0表示与CPU核数相同
+    @Value("${game.tcp.instances:0}")
+    private int instances;
+
+    @Autowired
     private Vertx vertx;
 
     @PostConstruct
     public void init() {
-        vertx = Vertx.vertx();
-        
-        // 创建TCP服务器
-        vertx.createNetServer()
-             .connectHandler(gameTcpHandler)
-             .listen(tcpPort, result -> {
-                 if (result.succeeded()) {
-                     System.out.println("TCP服务器启动成功，监听端口: " + tcpPort);
-                 } else {
-                     System.err.println("TCP服务器启动失败: " + result.cause().getMessage());
-                 }
-             });
+        int verticleInstances = resolveInstances();
+
+        // 部署多个TCP服务器实例，共享端口，连接分散到多个事件循环
+        vertx.deployVerticle(() -> new GameTcpVerticle(gameTcpHandler, tcpPort),
+                new DeploymentOptions().setInstances(verticleInstances),
+                result -> {
+                    if (result.succeeded()) {
+                        System.out.println("TCP服务器启动成功，监听端口: " + tcpPort + "，实例数: " + verticleInstances);
+                    } else {
+                        System.err.println("TCP服务器启动失败: " + result.cause().getMessage());
+                    }
+                });
     }
 
     @PreDestroy
@@ -45,8 +51,7 @@ public class VertxTcpConfig {
         }
     }
 
-    @Bean
-    public Vertx vertx() {
-        return Vertx.vertx();
+    private int resolveInstances() {
+        return instances > 0 ? instances : VertxConfig.defaultInstances();
     }
-}
\ No newline at end of file
+}
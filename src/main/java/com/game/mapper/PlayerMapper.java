@@ -2,6 +2,19 @@ package com.game.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.game.entity.Player;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.List;
 
 public interface PlayerMapper extends BaseMapper<Player> {
+
+    // 一条语句更新多名玩家的最后登录时间
+    @Update("<script>" +
+            "UPDATE player SET last_login_time = CASE id" +
+            "<foreach collection='players' item='p'> WHEN #{p.id} THEN #{p.lastLoginTime}</foreach>" +
+            " END WHERE id IN" +
+            "<foreach collection='players' item='p' open=' (' separator=',' close=')'>#{p.id}</foreach>" +
+            "</script>")
+    int updateLastLoginTimes(@Param("players") List<Player> players);
 }
\ No newline at end of file
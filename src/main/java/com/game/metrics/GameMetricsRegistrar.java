@@ -0,0 +1,106 @@
+package com.game.metrics;
+
+import com.game.room.RoomTickEngine;
+import com.game.service.impl.GameRoomServiceImpl;
+import com.game.service.impl.LoginTimeRecorder;
+import com.game.service.impl.PasswordHasher;
+import com.game.service.impl.PlayerProfileCache;
+import com.game.tcp.BlockingTaskExecutor;
+import com.game.tcp.GameSessionManager;
+import com.game.tcp.LobbyBroadcaster;
+import com.game.tcp.OutboundPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.function.ToDoubleFunction;
+
+// 把各组件已有的统计（会话、房间、出站队列、工作线程池、写库队列、缓存）注册为Micrometer指标，
+// 通过 /actuator/metrics 查看。组件本身只维护计数，不依赖Micrometer。
+// 不实现MeterBinder：MeterBinder在创建MeterRegistry时绑定，会把这里依赖的Service（以及其中的SQL计时拦截器）
+// 提前拉进注册表的创建过程形成循环依赖，因此在注册表就绪后自行注册。
+@Component
+public class GameMetricsRegistrar {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private GameSessionManager sessionManager;
+    @Autowired
+    private RoomTickEngine roomTickEngine;
+    @Autowired
+    private GameRoomServiceImpl gameRoomService;
+    @Autowired
+    private LobbyBroadcaster lobbyBroadcaster;
+    @Autowired
+    private OutboundPolicy outboundPolicy;
+    @Autowired
+    private BlockingTaskExecutor blockingTaskExecutor;
+    @Autowired
+    private LoginTimeRecorder loginTimeRecorder;
+    @Autowired
+    private PasswordHasher passwordHasher;
+    @Autowired
+    private PlayerProfileCache playerProfileCache;
+
+    @PostConstruct
+    public void bind() {
+        // 会话和房间
+        gauge(registry, "game.sessions.online", sessionManager, GameSessionManager::getOnlineCount);
+        counter(registry, "game.sessions.detached", sessionManager, GameSessionManager::getDetachedSessions);
+        counter(registry, "game.sessions.resumed", sessionManager, GameSessionManager::getResumedSessions);
+        counter(registry, "game.sessions.expired", sessionManager, GameSessionManager::getExpiredSessions);
+        counter(registry, "game.sessions.dropped.frames", sessionManager, GameSessionManager::getDroppedFrames);
+        gauge(registry, "game.rooms.connected", sessionManager, GameSessionManager::getRoomCount);
+        gauge(registry, "game.rooms.simulated", roomTickEngine, RoomTickEngine::getActiveRoomCount);
+        gauge(registry, "game.rooms.active", gameRoomService, GameRoomServiceImpl::getActiveRoomCount);
+        gauge(registry, "game.rooms.waiting", gameRoomService, GameRoomServiceImpl::getWaitingRoomCount);
+        gauge(registry, "game.lobby.subscribers", lobbyBroadcaster, LobbyBroadcaster::getSubscriberCount);
+
+        // 出站
+        FunctionCounter.builder("game.tcp.bytes", outboundPolicy, OutboundPolicy::getBytesSent)
+                .tag("direction", "out")
+                .baseUnit("bytes")
+                .register(registry);
+        counter(registry, "game.tcp.outbound.congestions", outboundPolicy, OutboundPolicy::getCongestions);
+        counter(registry, "game.tcp.outbound.coalesced", outboundPolicy, OutboundPolicy::getCoalescedUpdates);
+        counter(registry, "game.tcp.outbound.evictions", outboundPolicy, OutboundPolicy::getEvictions);
+        counter(registry, "game.tcp.outbound.flushes", outboundPolicy, OutboundPolicy::getBatchFlushes);
+
+        // 阻塞任务线程池
+        gauge(registry, "game.worker.queue.depth", blockingTaskExecutor, BlockingTaskExecutor::getQueueDepth);
+        gauge(registry, "game.worker.active", blockingTaskExecutor, BlockingTaskExecutor::getActiveCount);
+        gauge(registry, "game.worker.wait.max", blockingTaskExecutor, BlockingTaskExecutor::getMaxWaitMillis);
+        counter(registry, "game.worker.completed", blockingTaskExecutor, BlockingTaskExecutor::getCompletedTasks);
+        counter(registry, "game.worker.rejected", blockingTaskExecutor, BlockingTaskExecutor::getRejectedTasks);
+
+        // 合并写库
+        gauge(registry, "game.rooms.writes.pending", gameRoomService, GameRoomServiceImpl::getPendingWrites);
+        counter(registry, "game.rooms.writes.flushed", gameRoomService, GameRoomServiceImpl::getFlushedWrites);
+        counter(registry, "game.rooms.writes.failed", gameRoomService, GameRoomServiceImpl::getFailedFlushes);
+        gauge(registry, "game.login.time.pending", loginTimeRecorder, LoginTimeRecorder::getPendingCount);
+        gauge(registry, "game.login.time.lag", loginTimeRecorder, LoginTimeRecorder::getFlushLagMillis);
+        counter(registry, "game.login.time.flushed", loginTimeRecorder, LoginTimeRecorder::getFlushedRows);
+        counter(registry, "game.login.time.failed", loginTimeRecorder, LoginTimeRecorder::getFailedFlushes);
+
+        // 密码哈希和玩家信息缓存
+        gauge(registry, "game.password.queue.depth", passwordHasher, PasswordHasher::getQueueDepth);
+        counter(registry, "game.password.hashes", passwordHasher, PasswordHasher::getHashes);
+        counter(registry, "game.password.rejected", passwordHasher, PasswordHasher::getRejected);
+        gauge(registry, "game.player.cache.size", playerProfileCache, PlayerProfileCache::size);
+        counter(registry, "game.player.cache.hits", playerProfileCache, PlayerProfileCache::getHits);
+        counter(registry, "game.player.cache.misses", playerProfileCache, PlayerProfileCache::getMisses);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value).register(registry);
+    }
+}
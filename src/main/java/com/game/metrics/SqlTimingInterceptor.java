@@ -0,0 +1,75 @@
+package com.game.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 数据库调用耗时：按Mapper方法（如 PlayerMapper.selectOne）记录每次SQL执行的时间，成功和失败分开统计。
+// 所有Service的数据库访问都经过MyBatis Executor，在这里统一计时，Service代码不需要逐个埋点。
+// 不经过MyBatis的Vert.x MySQL客户端调用通过record记入同一个指标。
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class SqlTimingInterceptor implements Interceptor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // key: 语句id + 结果
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object result = invocation.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            timer(statement.getId(), outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // statement为类名.方法名形式，与MyBatis语句的标签一致
+    public void record(String statement, boolean success, long startNanos) {
+        timer(statement, success ? "success" : "error").record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String statementId, String outcome) {
+        return timers.computeIfAbsent(statementId + '#' + outcome, k -> Timer.builder("game.db.calls")
+                .description("Database statement execution time")
+                .tag("statement", shortName(statementId))
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+
+    // com.game.mapper.PlayerMapper.selectOne -> PlayerMapper.selectOne
+    static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int type = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return statementId.substring(type + 1);
+    }
+}
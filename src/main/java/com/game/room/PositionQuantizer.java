@@ -0,0 +1,54 @@
+package com.game.room;
+
+import com.game.protobuf.GameProto;
+
+// 紧凑坐标编码：坐标按固定精度量化为整数，用sint32(zigzag varint)传输。
+// 默认世界范围±10、精度0.01时量化值不超过±1000，每个坐标2字节，原float需要4字节。
+public class PositionQuantizer {
+
+    private final float precision;
+    private final float worldMin;
+    private final float worldMax;
+
+    public PositionQuantizer(float precision, float worldMin, float worldMax) {
+        // 在启动时拒绝无效配置：精度为0会除零，范围/精度超出int时量化值会饱和成错误的坐标
+        if (!(precision > 0) || Float.isInfinite(precision)) {
+            throw new IllegalArgumentException("game.simulation.precision must be a positive number, got " + precision);
+        }
+        if (Float.isNaN(worldMin) || Float.isInfinite(worldMin) || Float.isNaN(worldMax) || Float.isInfinite(worldMax)
+                || worldMin >= worldMax) {
+            throw new IllegalArgumentException("game.simulation world bounds must be finite with min < max, got ["
+                    + worldMin + ", " + worldMax + "]");
+        }
+        if (Math.max(Math.abs((double) worldMin), Math.abs((double) worldMax)) / precision > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("game.simulation world bounds [" + worldMin + ", " + worldMax
+                    + "] do not fit in an int at precision " + precision);
+        }
+        this.precision = precision;
+        this.worldMin = worldMin;
+        this.worldMax = worldMax;
+    }
+
+    public int quantize(float value) {
+        return Math.round(clamp(value) / precision);
+    }
+
+    public float dequantize(int value) {
+        return clamp(value * precision);
+    }
+
+    public float clamp(float value) {
+        if (Float.isNaN(value)) {
+            return 0;
+        }
+        return Math.max(worldMin, Math.min(worldMax, value));
+    }
+
+    public GameProto.PositionEncoding toEncoding() {
+        return GameProto.PositionEncoding.newBuilder()
+                .setPrecision(precision)
+                .setWorldMin(worldMin)
+                .setWorldMax(worldMax)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.game.room;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 房间到事件循环的归属：每个房间固定在一个Context上，房间内的输入、tick和广播都在该Context上执行，
+// 房间状态因此只被一个线程访问，不需要加锁。房间由第一个进入的玩家所在的事件循环认领，房间清空后释放。
+// 其他事件循环上提交的房间任务会被转发过去；任务到达时重新检查归属，期间房间被释放并由别的Context认领时继续转发。
+@Slf4j
+@Component
+public class RoomPlacement {
+
+    private final Map<Long, Context> placements = new ConcurrentHashMap<>();
+
+    // 跨事件循环转发的次数
+    private final LongAdder handoffs = new LongAdder();
+
+    // 在房间所在的Context上执行，房间还没有归属时由当前Context认领。必须在事件循环上调用
+    public void execute(Long roomId, Runnable task) {
+        Context current = Vertx.currentContext();
+        Context context = placements.computeIfAbsent(roomId, k -> {
+            if (current == null) {
+                throw new IllegalStateException("Room " + roomId + " must be placed from an event loop");
+            }
+            log.debug("Room {} placed on {}", roomId, current);
+            return current;
+        });
+        dispatch(roomId, context, current, task, true);
+    }
+
+    // 房间有归属时在其Context上执行并返回true；没有归属时不执行
+    public boolean executeIfPlaced(Long roomId, Runnable task) {
+        Context context = placements.get(roomId);
+        if (context == null) {
+            return false;
+        }
+        dispatch(roomId, context, Vertx.currentContext(), task, false);
+        return true;
+    }
+
+    // 只能由房间所在的Context释放
+    public void release(Long roomId) {
+        Context current = Vertx.currentContext();
+        if (current != null && placements.remove(roomId, current)) {
+            log.debug("Room {} released from {}", roomId, current);
+        }
+    }
+
+    public int getPlacedRoomCount() {
+        return placements.size();
+    }
+
+    public long getHandoffs() {
+        return handoffs.sum();
+    }
+
+    private void dispatch(Long roomId, Context context, Context current, Runnable task, boolean place) {
+        if (context == current) {
+            task.run();
+            return;
+        }
+        handoffs.increment();
+        context.runOnContext(v -> {
+            if (place) {
+                execute(roomId, task);
+            } else {
+                executeIfPlaced(roomId, task);
+            }
+        });
+    }
+}
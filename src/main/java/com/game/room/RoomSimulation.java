@@ -0,0 +1,343 @@
+package com.game.room;
+
+import com.game.protobuf.GameProto;
+import io.vertx.core.Context;
+
+import java.util.Arrays;
+
+// 单个房间的权威状态。玩家按槽位存放在并行的基本类型数组中，只在房间所在的事件循环上访问。
+// 槽位在玩家留在房间期间保持不变，离开后空出供后来者复用，紧凑编码用槽位代替64位玩家ID。
+// 两次tick之间同一玩家的多条输入只保留最后一条（坐标是绝对值，后一条覆盖前一条）。
+// 每个客户端以自己最后确认的快照为基准接收增量，没有可用基准（首次进入、重连、基准已过期）时收到完整快照。
+public class RoomSimulation {
+
+    private final long roomId;
+    private final PositionQuantizer quantizer;
+
+    // 已使用过的最大槽位数（含空槽）
+    private int slotCount;
+    private int playerCount;
+    private boolean[] active;
+    private long[] playerIds;
+    private float[] posX;
+    private float[] posY;
+    private float[] inputX;
+    private float[] inputY;
+    private boolean[] hasInput;
+    // 是否已收到过该玩家的第一个位置（之前不广播，避免对手被画在原点）
+    private boolean[] spawned;
+    // 客户端最后确认的快照序号，0表示没有可用基准
+    private int[] ackTicks;
+    // 客户端是否使用紧凑坐标编码
+    private boolean[] compact;
+
+    private final SnapshotHistory history;
+    // publish复用的分组缓冲
+    private boolean[] grouped;
+    private long[] recipients;
+
+    private int tick;
+    private boolean dirty;
+    // 房间定时器及其所在的事件循环
+    private Context context;
+    private long timerId = -1;
+    // 下一个tick的到期时间（nanoTime），由RoomTickEngine按tick周期累加
+    private long nextTickNanos;
+
+    public RoomSimulation(long roomId, int initialCapacity, PositionQuantizer quantizer, int historySize) {
+        this.roomId = roomId;
+        this.quantizer = quantizer;
+        int capacity = Math.max(1, initialCapacity);
+        active = new boolean[capacity];
+        playerIds = new long[capacity];
+        posX = new float[capacity];
+        posY = new float[capacity];
+        inputX = new float[capacity];
+        inputY = new float[capacity];
+        hasInput = new boolean[capacity];
+        spawned = new boolean[capacity];
+        ackTicks = new int[capacity];
+        compact = new boolean[capacity];
+        history = new SnapshotHistory(historySize);
+        grouped = new boolean[capacity];
+        recipients = new long[capacity];
+    }
+
+    public long getRoomId() {
+        return roomId;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    long getTimerId() {
+        return timerId;
+    }
+
+    void bindTimer(Context context, long timerId) {
+        this.context = context;
+        this.timerId = timerId;
+    }
+
+    long getNextTickNanos() {
+        return nextTickNanos;
+    }
+
+    void setNextTickNanos(long nextTickNanos) {
+        this.nextTickNanos = nextTickNanos;
+    }
+
+    public int slotOf(long playerId) {
+        for (int i = 0; i < slotCount; i++) {
+            if (active[i] && playerIds[i] == playerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int addPlayer(long playerId, boolean compactPositions) {
+        int slot = slotOf(playerId);
+        if (slot >= 0) {
+            compact[slot] = compactPositions;
+            ackTicks[slot] = 0;
+            dirty = true;
+            return slot;
+        }
+        slot = freeSlot();
+        active[slot] = true;
+        playerIds[slot] = playerId;
+        posX[slot] = 0;
+        posY[slot] = 0;
+        hasInput[slot] = false;
+        spawned[slot] = false;
+        ackTicks[slot] = 0;
+        compact[slot] = compactPositions;
+        playerCount++;
+        // 新玩家需要尽快收到一份完整快照
+        dirty = true;
+        return slot;
+    }
+
+    public boolean removePlayer(long playerId) {
+        int slot = slotOf(playerId);
+        if (slot < 0) {
+            return false;
+        }
+        active[slot] = false;
+        spawned[slot] = false;
+        hasInput[slot] = false;
+        playerCount--;
+        while (slotCount > 0 && !active[slotCount - 1]) {
+            slotCount--;
+        }
+        dirty = true;
+        return true;
+    }
+
+    public boolean submitInput(long playerId, float x, float y) {
+        int slot = slotOf(playerId);
+        if (slot < 0) {
+            return false;
+        }
+        inputX[slot] = x;
+        inputY[slot] = y;
+        hasInput[slot] = true;
+        return true;
+    }
+
+    // 客户端确认收到某个快照；只接受比当前更新、且仍在历史中的快照
+    public boolean acknowledge(long playerId, int ackTick) {
+        int slot = slotOf(playerId);
+        if (slot < 0 || ackTick <= ackTicks[slot] || ackTick > tick || history.indexOf(ackTick) < 0) {
+            return false;
+        }
+        ackTicks[slot] = ackTick;
+        return true;
+    }
+
+    // 推进一个tick：应用输入，限制在世界边界内，且每tick位移不超过maxStep。返回本tick状态是否有变化
+    public boolean step(float maxStep) {
+        tick++;
+        for (int i = 0; i < slotCount; i++) {
+            if (!hasInput[i]) {
+                continue;
+            }
+            hasInput[i] = false;
+            float x = quantizer.clamp(inputX[i]);
+            float y = quantizer.clamp(inputY[i]);
+            if (spawned[i]) {
+                float dx = x - posX[i];
+                float dy = y - posY[i];
+                float distance = (float) Math.sqrt(dx * dx + dy * dy);
+                if (distance > maxStep) {
+                    float scale = maxStep / distance;
+                    x = posX[i] + dx * scale;
+                    y = posY[i] + dy * scale;
+                }
+            } else {
+                spawned[i] = true;
+                dirty = true;
+            }
+            if (x != posX[i] || y != posY[i]) {
+                posX[i] = x;
+                posY[i] = y;
+                dirty = true;
+            }
+        }
+        boolean changed = dirty;
+        dirty = false;
+        return changed;
+    }
+
+    // 记录本tick快照，并按(确认基准, 编码方式)分组发送：同组的玩家共用同一条消息
+    public void publish(RoomStateListener listener) {
+        history.record(tick, playerIds, posX, posY, spawned, slotCount);
+        if (grouped.length < slotCount) {
+            grouped = new boolean[active.length];
+            recipients = new long[active.length];
+        } else {
+            Arrays.fill(grouped, 0, slotCount, false);
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (!active[i] || grouped[i]) {
+                continue;
+            }
+            int baselineIndex = history.indexOf(ackTicks[i]);
+            int count = 0;
+            for (int j = i; j < slotCount; j++) {
+                if (active[j] && !grouped[j] && compact[j] == compact[i]
+                        && history.indexOf(ackTicks[j]) == baselineIndex) {
+                    grouped[j] = true;
+                    recipients[count++] = playerIds[j];
+                }
+            }
+            listener.onStateUpdate(roomId, buildStateUpdate(baselineIndex, compact[i]), recipients, count);
+        }
+    }
+
+    // 当前状态相对于基准快照的增量；baselineIndex为-1时生成完整快照
+    private GameProto.GameStateUpdate buildStateUpdate(int baselineIndex, boolean compactPositions) {
+        GameProto.GameStateUpdate.Builder builder = GameProto.GameStateUpdate.newBuilder()
+                .setRoomId(roomId)
+                .setTick(tick);
+        if (baselineIndex >= 0) {
+            builder.setBaselineTick(history.tick(baselineIndex));
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (!spawned[i]) {
+                continue;
+            }
+            int baselinePosition = baselineIndex >= 0 ? history.find(baselineIndex, playerIds[i]) : -1;
+            // 基准中没有该玩家，或其槽位已变化（离开后重新加入），按新玩家发送
+            if (baselinePosition < 0 || history.slot(baselineIndex, baselinePosition) != i) {
+                builder.addPlayers(fullPosition(i, compactPositions));
+                continue;
+            }
+            GameProto.PlayerPosition.Builder changed = compactPositions
+                    ? compactDelta(i, baselineIndex, baselinePosition)
+                    : floatDelta(i, baselineIndex, baselinePosition);
+            if (changed != null) {
+                builder.addPlayers(changed);
+            }
+        }
+        if (baselineIndex >= 0) {
+            // 基准中有、当前已不在（或尚未出现）的玩家
+            for (int p = 0; p < history.count(baselineIndex); p++) {
+                long playerId = history.playerId(baselineIndex, p);
+                int slot = slotOf(playerId);
+                if (slot < 0 || !spawned[slot]) {
+                    builder.addRemovedPlayerIds(playerId);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private GameProto.PlayerPosition.Builder fullPosition(int slot, boolean compactPositions) {
+        GameProto.PlayerPosition.Builder position = GameProto.PlayerPosition.newBuilder()
+                .setPlayerId(playerIds[slot])
+                .setSlot(slot);
+        if (compactPositions) {
+            position.setQx(quantizer.quantize(posX[slot]))
+                    .setQy(quantizer.quantize(posY[slot]));
+        } else {
+            position.setX(posX[slot])
+                    .setY(posY[slot]);
+        }
+        return position;
+    }
+
+    private GameProto.PlayerPosition.Builder floatDelta(int slot, int baselineIndex, int baselinePosition) {
+        boolean xChanged = posX[slot] != history.x(baselineIndex, baselinePosition);
+        boolean yChanged = posY[slot] != history.y(baselineIndex, baselinePosition);
+        if (!xChanged && !yChanged) {
+            return null;
+        }
+        GameProto.PlayerPosition.Builder position = GameProto.PlayerPosition.newBuilder()
+                .setPlayerId(playerIds[slot])
+                .setSlot(slot);
+        if (xChanged) {
+            position.setX(posX[slot]);
+        }
+        if (yChanged) {
+            position.setY(posY[slot]);
+        }
+        return position;
+    }
+
+    // 紧凑编码只比较量化后的值，小于精度的抖动不发送；客户端已知该玩家，只发槽位
+    private GameProto.PlayerPosition.Builder compactDelta(int slot, int baselineIndex, int baselinePosition) {
+        int qx = quantizer.quantize(posX[slot]);
+        int qy = quantizer.quantize(posY[slot]);
+        boolean xChanged = qx != quantizer.quantize(history.x(baselineIndex, baselinePosition));
+        boolean yChanged = qy != quantizer.quantize(history.y(baselineIndex, baselinePosition));
+        if (!xChanged && !yChanged) {
+            return null;
+        }
+        GameProto.PlayerPosition.Builder position = GameProto.PlayerPosition.newBuilder()
+                .setSlot(slot);
+        if (xChanged) {
+            position.setQx(qx);
+        }
+        if (yChanged) {
+            position.setQy(qy);
+        }
+        return position;
+    }
+
+    private int freeSlot() {
+        for (int i = 0; i < slotCount; i++) {
+            if (!active[i]) {
+                return i;
+            }
+        }
+        if (slotCount == active.length) {
+            grow();
+        }
+        return slotCount++;
+    }
+
+    private void grow() {
+        int capacity = active.length * 2;
+        active = Arrays.copyOf(active, capacity);
+        playerIds = Arrays.copyOf(playerIds, capacity);
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        inputX = Arrays.copyOf(inputX, capacity);
+        inputY = Arrays.copyOf(inputY, capacity);
+        hasInput = Arrays.copyOf(hasInput, capacity);
+        spawned = Arrays.copyOf(spawned, capacity);
+        ackTicks = Arrays.copyOf(ackTicks, capacity);
+        compact = Arrays.copyOf(compact, capacity);
+    }
+}
@@ -0,0 +1,10 @@
+package com.game.room;
+
+import com.game.protobuf.GameProto;
+
+// 房间tick产生的状态更新，由网络层发送给指定的玩家。
+// playerIds是房间复用的缓冲区，只有前count个有效，回调返回后内容会被覆盖
+@FunctionalInterface
+public interface RoomStateListener {
+    void onStateUpdate(long roomId, GameProto.GameStateUpdate stateUpdate, long[] playerIds, int count);
+}
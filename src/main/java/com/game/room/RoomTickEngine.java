@@ -0,0 +1,184 @@
+package com.game.room;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 房间固定频率模拟：每个有玩家的房间一个定时器，定时器跑在房间所属的事件循环上（见RoomPlacement）。
+// 定时器周期只能取整到毫秒，tick按纳秒累计推进，平均频率与tick-rate一致（如30Hz不会变成33ms一次的30.3Hz）。
+// 每个tick最多向每个玩家发送一条GameStateUpdate（完整快照或相对其确认基准的增量），出站包频率与客户端输入频率无关。
+@Slf4j
+@Component
+public class RoomTickEngine {
+
+    // 事件循环被阻塞后最多补推进的tick数，更久的停顿直接跳过，避免恢复后连续推进发出一串状态更新
+    private static final int MAX_CATCH_UP_TICKS = 3;
+
+    @Autowired
+    private RoomPlacement roomPlacement;
+
+    @Value("${game.simulation.tick-rate:20}")
+    private int tickRate;
+
+    @Value("${game.simulation.max-speed:8.0}")
+    private float maxSpeed;
+
+    @Value("${game.simulation.world-min:-10.0}")
+    private float worldMin;
+
+    @Value("${game.simulation.world-max:10.0}")
+    private float worldMax;
+
+    @Value("${game.simulation.precision:0.01}")
+    private float precision;
+
+    @Value("${game.simulation.compact-positions:true}")
+    private boolean compactPositionsEnabled;
+
+    @Value("${game.simulation.snapshot-history:32}")
+    private int snapshotHistory;
+
+    @Value("${game.room.max-players:2}")
+    private int maxPlayers;
+
+    private final Map<Long, RoomSimulation> simulations = new ConcurrentHashMap<>();
+
+    private PositionQuantizer quantizer;
+    private long tickPeriodNanos;
+    private long timerPeriodMs;
+    private float maxStep;
+
+    // tick产生的状态更新由网络层负责广播
+    private volatile RoomStateListener stateListener;
+
+    @PostConstruct
+    public void init() {
+        if (tickRate <= 0 || tickRate > 1000) {
+            throw new IllegalStateException("game.simulation.tick-rate must be between 1 and 1000, got " + tickRate);
+        }
+        quantizer = new PositionQuantizer(precision, worldMin, worldMax);
+        tickPeriodNanos = TimeUnit.SECONDS.toNanos(1) / tickRate;
+        // 向下取整，定时器不会晚于tick到期
+        timerPeriodMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(tickPeriodNanos));
+        maxStep = maxSpeed / tickRate;
+    }
+
+    // 客户端请求紧凑坐标编码时，服务器是否接受
+    public boolean isCompactPositionsEnabled() {
+        return compactPositionsEnabled;
+    }
+
+    public PositionQuantizer getQuantizer() {
+        return quantizer;
+    }
+
+    public void setStateListener(RoomStateListener stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    // 必须在事件循环上调用。房间的模拟和定时器都在RoomPlacement分配给房间的Context上
+    public void addPlayer(Long roomId, Long playerId, boolean compactPositions) {
+        roomPlacement.execute(roomId, () ->
+                simulations.computeIfAbsent(roomId, this::startSimulation).addPlayer(playerId, compactPositions));
+    }
+
+    public void removePlayer(Long roomId, Long playerId) {
+        roomPlacement.executeIfPlaced(roomId, () -> {
+            RoomSimulation simulation = simulations.get(roomId);
+            if (simulation == null) {
+                return;
+            }
+            simulation.removePlayer(playerId);
+            if (simulation.getPlayerCount() == 0) {
+                stopSimulation(simulation);
+            }
+        });
+    }
+
+    // 返回房间是否在运行（有归属的事件循环），不代表玩家在房间中：输入可能被转发到别的事件循环上写入，
+    // 是否为房间成员在那里检查，不是成员的输入丢弃
+    public boolean submitInput(Long roomId, Long playerId, float x, float y) {
+        return roomPlacement.executeIfPlaced(roomId, () -> {
+            RoomSimulation simulation = simulations.get(roomId);
+            if (simulation != null && !simulation.submitInput(playerId, x, y)) {
+                log.debug("Ignoring move of player {} who is not in room {}", playerId, roomId);
+            }
+        });
+    }
+
+    public void acknowledge(Long roomId, Long playerId, int ackTick) {
+        roomPlacement.executeIfPlaced(roomId, () -> {
+            RoomSimulation simulation = simulations.get(roomId);
+            if (simulation != null) {
+                simulation.acknowledge(playerId, ackTick);
+            }
+        });
+    }
+
+    public RoomSimulation getSimulation(Long roomId) {
+        return simulations.get(roomId);
+    }
+
+    public int getActiveRoomCount() {
+        return simulations.size();
+    }
+
+    private RoomSimulation startSimulation(Long roomId) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            throw new IllegalStateException("Room simulation must be started on an event loop");
+        }
+        RoomSimulation simulation = new RoomSimulation(roomId, maxPlayers, quantizer, snapshotHistory);
+        simulation.setNextTickNanos(System.nanoTime() + tickPeriodNanos);
+        simulation.bindTimer(context, context.owner().setPeriodic(timerPeriodMs, id -> onTimer(simulation)));
+        log.debug("Room {} simulation started at {} Hz", roomId, tickRate);
+        return simulation;
+    }
+
+    private void stopSimulation(RoomSimulation simulation) {
+        simulations.remove(simulation.getRoomId(), simulation);
+        simulation.getContext().owner().cancelTimer(simulation.getTimerId());
+        roomPlacement.release(simulation.getRoomId());
+        log.debug("Room {} simulation stopped at tick {}", simulation.getRoomId(), simulation.getTick());
+    }
+
+    // 推进到期的tick：定时器比tick周期短时部分回调不推进，被延迟时一次补推进多个
+    private void onTimer(RoomSimulation simulation) {
+        long now = System.nanoTime();
+        long next = simulation.getNextTickNanos();
+        int ticks = 0;
+        while (now - next >= 0 && ticks < MAX_CATCH_UP_TICKS) {
+            next += tickPeriodNanos;
+            ticks++;
+            tick(simulation);
+        }
+        if (now - next >= 0) {
+            log.debug("Room {} simulation fell behind by {} ms, skipping missed ticks",
+                    simulation.getRoomId(), TimeUnit.NANOSECONDS.toMillis(now - next));
+            next = now + tickPeriodNanos;
+        }
+        simulation.setNextTickNanos(next);
+    }
+
+    private void tick(RoomSimulation simulation) {
+        if (!simulation.step(maxStep)) {
+            return;
+        }
+        RoomStateListener listener = stateListener;
+        if (listener != null) {
+            try {
+                simulation.publish(listener);
+            } catch (Exception e) {
+                log.error("Failed to publish state of room {}", simulation.getRoomId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.room;
+
+// 房间最近发出的快照环形缓冲，用于按客户端确认的基准快照计算增量。
+// 每个槽位保存一个tick的已出现玩家（ID、房间槽位）及坐标，数组按需扩容后复用。
+class SnapshotHistory {
+
+    private final int[] ticks;
+    private final int[] counts;
+    private final long[][] playerIds;
+    private final int[][] slots;
+    private final float[][] posX;
+    private final float[][] posY;
+    private int next;
+
+    SnapshotHistory(int capacity) {
+        ticks = new int[capacity];
+        counts = new int[capacity];
+        playerIds = new long[capacity][];
+        slots = new int[capacity][];
+        posX = new float[capacity][];
+        posY = new float[capacity][];
+    }
+
+    void record(int tick, long[] ids, float[] x, float[] y, boolean[] spawned, int size) {
+        int index = next;
+        next = (next + 1) % ticks.length;
+        if (playerIds[index] == null || playerIds[index].length < size) {
+            int capacity = Math.max(2, size);
+            playerIds[index] = new long[capacity];
+            slots[index] = new int[capacity];
+            posX[index] = new float[capacity];
+            posY[index] = new float[capacity];
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!spawned[i]) {
+                continue;
+            }
+            playerIds[index][count] = ids[i];
+            slots[index][count] = i;
+            posX[index][count] = x[i];
+            posY[index][count] = y[i];
+            count++;
+        }
+        ticks[index] = tick;
+        counts[index] = count;
+    }
+
+    // 返回tick对应的槽位，已被覆盖或从未记录时返回-1
+    int indexOf(int tick) {
+        if (tick <= 0) {
+            return -1;
+        }
+        for (int i = 0; i < ticks.length; i++) {
+            if (ticks[i] == tick && playerIds[i] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int tick(int index) {
+        return ticks[index];
+    }
+
+    int count(int index) {
+        return counts[index];
+    }
+
+    long playerId(int index, int position) {
+        return playerIds[index][position];
+    }
+
+    int slot(int index, int position) {
+        return slots[index][position];
+    }
+
+    float x(int index, int position) {
+        return posX[index][position];
+    }
+
+    float y(int index, int position) {
+        return posY[index][position];
+    }
+
+    int find(int index, long playerId) {
+        for (int i = 0; i < counts[index]; i++) {
+            if (playerIds[index][i] == playerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.game.service;
+
+import com.game.entity.GameRoom;
+import io.vertx.core.Future;
+
+import java.util.List;
+
+// 房间服务的异步接口：调用不会阻塞事件循环，返回的Future在调用方的上下文上完成。
+// 实现由game.persistence.client选择（jdbc/vertx）。房间以内存为准，只有建房时可能读库
+public interface AsyncGameRoomService {
+    Future<GameRoom> createRoom(Long playerId);
+    Future<GameRoom> joinRoom(String roomCode, Long playerId);
+    Future<Boolean> leaveRoom(String roomCode, Long playerId);
+    Future<List<GameRoom>> getWaitingRooms(long afterRoomId, int limit);
+    Future<Boolean> startGame(Long roomId, Long playerId);
+    Future<Void> endGame(Long roomId, Long winnerId);
+}
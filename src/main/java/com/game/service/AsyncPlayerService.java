@@ -0,0 +1,20 @@
+package com.game.service;
+
+import com.game.entity.Player;
+import io.vertx.core.Future;
+
+import java.util.Collection;
+import java.util.Map;
+
+// 玩家服务的异步接口：调用不会阻塞事件循环，返回的Future在调用方的上下文上完成。
+// 实现由game.persistence.client选择：jdbc为JdbcAsyncPlayerService（MyBatis-Plus，阻塞调用放到工作线程池），
+// vertx为VertxAsyncPlayerService（Vert.x MySQL客户端，非阻塞）
+public interface AsyncPlayerService {
+    // 用户名或密码错误时结果为null；返回的玩家不含密码
+    Future<Player> login(String username, String password);
+    Future<Boolean> existsByUsername(String username);
+    // player的密码为明文，由实现哈希后保存；用户名已被占用时结果为null
+    Future<Player> register(Player player);
+    Future<Void> updateLastLoginTime(Long playerId);
+    Future<Map<Long, Player>> getPlayers(Collection<Long> playerIds);
+}
@@ -10,6 +10,19 @@ public interface GameRoomService extends IService<GameRoom> {
     GameRoom joinRoom(String roomCode, Long playerId);
     boolean leaveRoom(String roomCode, Long playerId);
     List<GameRoom> getWaitingRooms();
-    void startGame(Long roomId);
+    // 按房间ID升序返回ID大于afterRoomId的可加入房间，最多limit个
+    List<GameRoom> getWaitingRooms(long afterRoomId, int limit);
+    int getWaitingRoomCount();
+    boolean isRoomOpen(Long roomId);
+    // 玩家所在的未结束房间（内存查找，不访问数据库），不在房间中时返回null
+    GameRoom findActiveRoom(Long playerId);
+    void setLobbyListener(RoomLobbyListener listener);
+    void setEndListener(RoomEndListener listener);
+    // 房间内的玩家开始等待中的房间；房间不存在、玩家不在房间中或房间已开始/结束时返回false
+    boolean startGame(Long roomId, Long playerId);
     void endGame(Long roomId, Long winnerId);
+    // 房间ID从表中已有的最大ID继续分配。未初始化时createRoom会先同步读库；
+    // 非阻塞的实现可以先自己读出最大ID交给initRoomIds，已初始化时再调用不生效
+    boolean isRoomIdInitialized();
+    void initRoomIds(long maxExistingId);
 }
\ No newline at end of file
@@ -3,8 +3,17 @@ package com.game.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.game.entity.Player;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface PlayerService extends IService<Player> {
-    Player login(String username, String password);
+    // 按用户名查询（含密码哈希），密码由调用方验证
+    Player findByUsername(String username);
+    boolean existsByUsername(String username);
+    // player的密码须已哈希
     Player register(Player player);
+    void updatePasswordHash(Long playerId, String passwordHash);
     void updateLastLoginTime(Long playerId);
+    // 一次查询取回多个玩家的公开信息（不含密码），不存在的ID不出现在结果中
+    Map<Long, Player> getPlayers(Collection<Long> playerIds);
 }
\ No newline at end of file
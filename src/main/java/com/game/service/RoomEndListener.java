@@ -0,0 +1,8 @@
+package com.game.service;
+
+// 对局结束（主动结束、超时或无人留下）后回调，此时房间已从内存移除、房间锁已释放。
+// 超时结束时在后台线程上回调，实现不能假定在事件循环上
+@FunctionalInterface
+public interface RoomEndListener {
+    void onRoomEnded(Long roomId, Long winnerId);
+}
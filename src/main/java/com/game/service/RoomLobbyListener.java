@@ -0,0 +1,10 @@
+package com.game.service;
+
+import com.game.entity.GameRoom;
+
+// 可加入房间列表的变化：房间变为可加入（新建、第二个玩家离开）或不再可加入（满员、开始、解散）。
+// 在触发变化的调用线程上回调，此时房间锁已释放
+public interface RoomLobbyListener {
+    void onRoomOpened(GameRoom room);
+    void onRoomClosed(Long roomId);
+}
@@ -5,120 +5,496 @@ import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.game.entity.GameRoom;
 import com.game.mapper.GameRoomMapper;
 import com.game.service.GameRoomService;
+import com.game.service.RoomEndListener;
+import com.game.service.RoomLobbyListener;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+// 进行中的房间以内存为准（按ID和房间码索引），变更合并后由后台线程定期批量写入game_room表。
+// 房间ID由本进程分配（启动后第一次建房时取表中最大ID），因此同一张表只能由一个服务实例写入。
+// 房间结束或被创建者解散后从内存移除；进行超过timeout-seconds的对局由后台线程按无胜者结束。
+// 进程重启前未结束的房间不会重新载入。
 @Slf4j
 @Service
 public class GameRoomServiceImpl extends ServiceImpl<GameRoomMapper, GameRoom> implements GameRoomService {
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int ROOM_CODE_LENGTH = 6;
+    // 可加入状态的变化
+    private static final int LOBBY_UNCHANGED = 0;
+    private static final int LOBBY_OPENED = 1;
+    private static final int LOBBY_CLOSED = 2;
     private final Random random = new Random();
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${game.room.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${game.room.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${game.room.timeout-seconds:300}")
+    private long timeoutSeconds;
+
+    // 房间ID -> 房间，房间码 -> 房间；房间对象的字段在synchronized(room)内修改
+    private final Map<Long, GameRoom> roomsById = new ConcurrentHashMap<>();
+    private final Map<String, GameRoom> roomsByCode = new ConcurrentHashMap<>();
+    // 玩家ID -> 所在房间，断线重连时恢复房间
+    private final Map<Long, GameRoom> roomsByPlayer = new ConcurrentHashMap<>();
+    // 可加入的房间（等待中且有空位），按房间ID排序，用于分页列表
+    private final ConcurrentNavigableMap<Long, GameRoom> openRooms = new ConcurrentSkipListMap<>();
+    private final AtomicInteger openRoomCount = new AtomicInteger();
+
+    private volatile RoomLobbyListener lobbyListener;
+    private volatile RoomEndListener endListener;
+
+    private final RoomWriteQueue writeQueue = new RoomWriteQueue();
+    private final AtomicLong nextRoomId = new AtomicLong(-1);
+
+    private final LongAdder flushedWrites = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    private ScheduledExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "room-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Room write-behind started, interval: {} ms, batch size: {}", flushIntervalMs, flushBatchSize);
+        if (timeoutSeconds > 0) {
+            // 检查间隔取超时的十分之一，对局最多超时10%后被结束
+            long period = Math.max(1, timeoutSeconds / 10);
+            flushExecutor.scheduleWithFixedDelay(this::expireRooms, period, period, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 关闭前写完剩余变更
+        flush();
+        if (writeQueue.size() > 0) {
+            log.warn("{} room changes were not persisted on shutdown", writeQueue.size());
+        }
+    }
+
     @Override
     public GameRoom createRoom(Long playerId) {
         log.info("Creating room for player: {}", playerId);
         GameRoom room = new GameRoom();
-        String roomCode = generateRoomCode();
-        room.setRoomCode(roomCode);
+        room.setId(allocateRoomId());
         room.setStatus(0); // 等待中
         room.setPlayer1Id(playerId);
         room.setCreateTime(new Date());
-        save(room);
-        log.info("Room created successfully: ID={}, code={}", room.getId(), roomCode);
-        return room;
+        GameRoom snapshot;
+        int lobbyChange;
+        synchronized (room) {
+            String roomCode;
+            do {
+                roomCode = generateRoomCode();
+                room.setRoomCode(roomCode);
+            } while (roomsByCode.putIfAbsent(roomCode, room) != null);
+            roomsById.put(room.getId(), room);
+            roomsByPlayer.put(playerId, room);
+            lobbyChange = refreshOpenIndex(room);
+            snapshot = copyOf(room);
+            writeQueue.insert(snapshot);
+        }
+        fireLobbyChange(lobbyChange, snapshot.getId(), snapshot);
+        log.info("Room created successfully: ID={}, code={}", snapshot.getId(), snapshot.getRoomCode());
+        return copyOf(snapshot);
     }
 
     @Override
     public GameRoom joinRoom(String roomCode, Long playerId) {
         log.info("Player {} attempting to join room with code: {}", playerId, roomCode);
-        QueryWrapper<GameRoom> queryWrapper = new QueryWrapper<>();
-        queryWrapper.eq("room_code", roomCode)
-                   .eq("status", 0); // 只查找等待中的房间
-        GameRoom room = getOne(queryWrapper);
-        
-        if (room != null) {
+        GameRoom room = roomsByCode.get(roomCode);
+        if (room == null) {
+            log.warn("Room not found or not available: {}", roomCode);
+            return null;
+        }
+        GameRoom snapshot;
+        int lobbyChange = LOBBY_UNCHANGED;
+        synchronized (room) {
+            // 只能加入等待中的房间
+            if (room.getStatus() != 0 || !roomsById.containsKey(room.getId())) {
+                log.warn("Room not found or not available: {}", roomCode);
+                return null;
+            }
             if (room.getPlayer1Id().equals(playerId)) {
                 log.warn("Player {} trying to join their own room: {}", playerId, roomCode);
+            } else if (room.getPlayer2Id() != null && !room.getPlayer2Id().equals(playerId)) {
+                log.warn("Room {} is full", roomCode);
+                return null;
             } else {
                 room.setPlayer2Id(playerId);
-                updateById(room);
+                roomsByPlayer.put(playerId, room);
+                lobbyChange = refreshOpenIndex(room);
+                writeQueue.update(copyOf(room));
                 log.info("Player {} successfully joined room: {} (ID: {})", playerId, roomCode, room.getId());
             }
-        } else {
-            log.warn("Room not found or not available: {}", roomCode);
+            snapshot = copyOf(room);
         }
-        
-        return room;
+        fireLobbyChange(lobbyChange, snapshot.getId(), snapshot);
+        return snapshot;
     }
 
     @Override
     public boolean leaveRoom(String roomCode, Long playerId) {
         log.info("Player {} attempting to leave room: {}", playerId, roomCode);
-        QueryWrapper<GameRoom> queryWrapper = new QueryWrapper<>();
-        queryWrapper.eq("room_code", roomCode)
-                   .and(qw -> qw.eq("player1_id", playerId).or().eq("player2_id", playerId));
-        GameRoom room = getOne(queryWrapper);
-        
-        if (room != null && room.getStatus() == 0) { // 只有等待中的房间可以离开
-            if (room.getPlayer1Id().equals(playerId)) {
+        GameRoom room = roomsByCode.get(roomCode);
+        if (room == null) {
+            log.warn("Player {} trying to leave non-existent room: {}", playerId, roomCode);
+            return false;
+        }
+        GameRoom snapshot;
+        int lobbyChange;
+        synchronized (room) {
+            boolean creator = playerId.equals(room.getPlayer1Id());
+            if (!creator && !playerId.equals(room.getPlayer2Id())) {
+                log.warn("Player {} trying to leave non-existent room: {}", playerId, roomCode);
+                return false;
+            }
+            if (room.getStatus() != 0 || !roomsById.containsKey(room.getId())) { // 只有等待中的房间可以离开
+                log.warn("Player {} cannot leave room {} (not in waiting status)", playerId, roomCode);
+                return false;
+            }
+            if (creator) {
                 // 创建者离开，删除房间
-                removeById(room.getId());
+                removeFromIndex(room);
+                writeQueue.delete(room.getId());
                 log.info("Room {} deleted as creator (player {}) left", roomCode, playerId);
             } else {
                 // 其他玩家离开，清空player2Id
                 room.setPlayer2Id(null);
-                updateById(room);
+                roomsByPlayer.remove(playerId, room);
+                writeQueue.update(copyOf(room));
                 log.info("Player {} left room {}, position available again", playerId, roomCode);
             }
-            return true;
-        } else if (room == null) {
-            log.warn("Player {} trying to leave non-existent room: {}", playerId, roomCode);
-        } else {
-            log.warn("Player {} cannot leave room {} (not in waiting status)", playerId, roomCode);
+            lobbyChange = refreshOpenIndex(room);
+            snapshot = copyOf(room);
         }
-        
-        return false;
+        fireLobbyChange(lobbyChange, snapshot.getId(), snapshot);
+        return true;
     }
 
     @Override
     public List<GameRoom> getWaitingRooms() {
-        log.debug("Retrieving list of waiting rooms");
-        QueryWrapper<GameRoom> queryWrapper = new QueryWrapper<>();
-        queryWrapper.eq("status", 0) // 等待中
-                   .isNull("player2_id"); // 还有空位
-        List<GameRoom> rooms = list(queryWrapper);
+        return getWaitingRooms(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<GameRoom> getWaitingRooms(long afterRoomId, int limit) {
+        log.debug("Retrieving waiting rooms after {}, limit {}", afterRoomId, limit);
+        List<GameRoom> rooms = new ArrayList<>(Math.min(limit, 64));
+        for (GameRoom room : openRooms.tailMap(afterRoomId, false).values()) {
+            if (rooms.size() >= limit) {
+                break;
+            }
+            synchronized (room) {
+                // 遍历期间可能已满员或开始
+                if (openRooms.containsKey(room.getId())) {
+                    rooms.add(copyOf(room));
+                }
+            }
+        }
         log.debug("Found {} waiting rooms with available positions", rooms.size());
         return rooms;
     }
 
     @Override
-    public void startGame(Long roomId) {
-        log.info("Starting game in room: {}", roomId);
-        GameRoom room = new GameRoom();
-        room.setId(roomId);
-        room.setStatus(1); // 游戏中
-        room.setStartTime(new Date());
-        updateById(room);
+    public int getWaitingRoomCount() {
+        return openRoomCount.get();
+    }
+
+    @Override
+    public boolean isRoomOpen(Long roomId) {
+        return openRooms.containsKey(roomId);
+    }
+
+    @Override
+    public GameRoom findActiveRoom(Long playerId) {
+        GameRoom room = roomsByPlayer.get(playerId);
+        if (room == null) {
+            return null;
+        }
+        synchronized (room) {
+            return roomsById.containsKey(room.getId()) ? copyOf(room) : null;
+        }
+    }
+
+    @Override
+    public void setLobbyListener(RoomLobbyListener listener) {
+        this.lobbyListener = listener;
+    }
+
+    @Override
+    public void setEndListener(RoomEndListener listener) {
+        this.endListener = listener;
+    }
+
+    @Override
+    public boolean startGame(Long roomId, Long playerId) {
+        log.info("Player {} starting game in room: {}", playerId, roomId);
+        GameRoom room = roomsById.get(roomId);
+        if (room == null) {
+            log.warn("Cannot start game, room {} is not active", roomId);
+            return false;
+        }
+        int lobbyChange;
+        synchronized (room) {
+            if (!roomsById.containsKey(roomId)) {
+                log.warn("Cannot start game, room {} is not active", roomId);
+                return false;
+            }
+            if (!playerId.equals(room.getPlayer1Id()) && !playerId.equals(room.getPlayer2Id())) {
+                log.warn("Player {} cannot start game in room {} (not a member)", playerId, roomId);
+                return false;
+            }
+            if (room.getStatus() != 0) { // 只有等待中的房间可以开始
+                log.warn("Cannot start game, room {} is not in waiting status", roomId);
+                return false;
+            }
+            room.setStatus(1); // 游戏中
+            room.setStartTime(new Date());
+            lobbyChange = refreshOpenIndex(room);
+            writeQueue.update(copyOf(room));
+        }
+        fireLobbyChange(lobbyChange, roomId, null);
         log.info("Game started in room: {}", roomId);
+        return true;
     }
 
     @Override
     public void endGame(Long roomId, Long winnerId) {
         log.info("Ending game in room: {}, winner: {}", roomId, winnerId);
-        GameRoom room = new GameRoom();
-        room.setId(roomId);
-        room.setStatus(2); // 已结束
-        room.setEndTime(new Date());
-        updateById(room);
+        GameRoom room = roomsById.get(roomId);
+        if (room == null) {
+            log.warn("Cannot end game, room {} is not active", roomId);
+            return;
+        }
+        int lobbyChange;
+        synchronized (room) {
+            // 超时检查和玩家请求可能同时结束同一个房间
+            if (!roomsById.containsKey(roomId)) {
+                log.warn("Cannot end game, room {} is not active", roomId);
+                return;
+            }
+            room.setStatus(2); // 已结束
+            room.setEndTime(new Date());
+            removeFromIndex(room);
+            lobbyChange = refreshOpenIndex(room);
+            writeQueue.update(copyOf(room));
+        }
+        fireLobbyChange(lobbyChange, roomId, null);
+        fireRoomEnded(roomId, winnerId);
         log.info("Game ended in room: {}", roomId);
     }
 
+    public int getActiveRoomCount() {
+        return roomsById.size();
+    }
+
+    public int getPendingWrites() {
+        return writeQueue.size();
+    }
+
+    public long getFlushedWrites() {
+        return flushedWrites.sum();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    // 后台线程：按批写库，失败的批次放回队列下次重试
+    void flush() {
+        List<RoomWriteQueue.PendingWrite> writes;
+        while (!(writes = writeQueue.drain(flushBatchSize)).isEmpty()) {
+            List<GameRoom> inserts = new ArrayList<>();
+            List<GameRoom> updates = new ArrayList<>();
+            List<Long> deletes = new ArrayList<>();
+            for (RoomWriteQueue.PendingWrite write : writes) {
+                switch (write.kind) {
+                    case INSERT:
+                        inserts.add(write.snapshot);
+                        break;
+                    case UPDATE:
+                        updates.add(write.snapshot);
+                        break;
+                    case DELETE:
+                        deletes.add(write.roomId);
+                        break;
+                }
+            }
+            try {
+                // 一批变更在同一个事务中写入：任何一步失败都整体回滚，放回队列的变更与表中状态一致，
+                // 重试时不会再插入已提交的房间而主键冲突
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!inserts.isEmpty()) {
+                        saveBatch(inserts, flushBatchSize);
+                    }
+                    if (!updates.isEmpty()) {
+                        updateBatchById(updates, flushBatchSize);
+                    }
+                    if (!deletes.isEmpty()) {
+                        removeByIds(deletes);
+                    }
+                });
+                flushedWrites.add(writes.size());
+                log.debug("Flushed room changes: {} inserts, {} updates, {} deletes",
+                        inserts.size(), updates.size(), deletes.size());
+            } catch (Exception e) {
+                failedFlushes.increment();
+                writeQueue.requeue(writes);
+                log.error("Failed to flush {} room changes, will retry", writes.size(), e);
+                return;
+            }
+        }
+    }
+
+    // 后台线程：开始超过timeout-seconds仍未结束的对局按无胜者结束
+    void expireRooms() {
+        long deadline = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        for (GameRoom room : roomsById.values()) {
+            boolean expired;
+            synchronized (room) {
+                expired = room.getStatus() == 1 && room.getStartTime().getTime() < deadline;
+            }
+            if (expired) {
+                log.info("Room {} timed out after {} s", room.getId(), timeoutSeconds);
+                endGame(room.getId(), null);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRoomIdInitialized() {
+        return nextRoomId.get() >= 0;
+    }
+
+    @Override
+    public void initRoomIds(long maxExistingId) {
+        synchronized (nextRoomId) {
+            if (nextRoomId.get() < 0) {
+                nextRoomId.set(maxExistingId);
+            }
+        }
+    }
+
+    private long allocateRoomId() {
+        long id = nextRoomId.get();
+        if (id < 0) {
+            synchronized (nextRoomId) {
+                if (nextRoomId.get() < 0) {
+                    // 从表中已有的最大ID继续分配
+                    List<Object> max = getBaseMapper().selectObjs(new QueryWrapper<GameRoom>().select("IFNULL(MAX(id), 0)"));
+                    nextRoomId.set(max.isEmpty() || max.get(0) == null ? 0 : ((Number) max.get(0)).longValue());
+                }
+            }
+        }
+        return nextRoomId.incrementAndGet();
+    }
+
+    // 在房间锁内调用：按房间当前状态维护可加入索引
+    private int refreshOpenIndex(GameRoom room) {
+        boolean open = room.getStatus() == 0 && room.getPlayer2Id() == null && roomsById.containsKey(room.getId());
+        if (open) {
+            if (openRooms.put(room.getId(), room) == null) {
+                openRoomCount.incrementAndGet();
+                return LOBBY_OPENED;
+            }
+        } else if (openRooms.remove(room.getId()) != null) {
+            openRoomCount.decrementAndGet();
+            return LOBBY_CLOSED;
+        }
+        return LOBBY_UNCHANGED;
+    }
+
+    // 在房间锁外通知，监听器可以做较慢的操作（查询玩家信息、广播）
+    private void fireLobbyChange(int change, Long roomId, GameRoom snapshot) {
+        RoomLobbyListener listener = lobbyListener;
+        if (listener == null || change == LOBBY_UNCHANGED) {
+            return;
+        }
+        try {
+            if (change == LOBBY_OPENED) {
+                listener.onRoomOpened(snapshot);
+            } else {
+                listener.onRoomClosed(roomId);
+            }
+        } catch (Exception e) {
+            log.error("Lobby listener failed", e);
+        }
+    }
+
+    private void fireRoomEnded(Long roomId, Long winnerId) {
+        RoomEndListener listener = endListener;
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onRoomEnded(roomId, winnerId);
+        } catch (Exception e) {
+            log.error("Room end listener failed", e);
+        }
+    }
+
+    private void removeFromIndex(GameRoom room) {
+        roomsById.remove(room.getId(), room);
+        roomsByCode.remove(room.getRoomCode(), room);
+        if (room.getPlayer1Id() != null) {
+            roomsByPlayer.remove(room.getPlayer1Id(), room);
+        }
+        if (room.getPlayer2Id() != null) {
+            roomsByPlayer.remove(room.getPlayer2Id(), room);
+        }
+    }
+
+    private static GameRoom copyOf(GameRoom room) {
+        GameRoom copy = new GameRoom();
+        copy.setId(room.getId());
+        copy.setRoomCode(room.getRoomCode());
+        copy.setStatus(room.getStatus());
+        copy.setPlayer1Id(room.getPlayer1Id());
+        copy.setPlayer2Id(room.getPlayer2Id());
+        copy.setCreateTime(room.getCreateTime());
+        copy.setStartTime(room.getStartTime());
+        copy.setEndTime(room.getEndTime());
+        return copy;
+    }
+
     private String generateRoomCode() {
         StringBuilder sb = new StringBuilder(ROOM_CODE_LENGTH);
         for (int i = 0; i < ROOM_CODE_LENGTH; i++) {
@@ -126,4 +502,4 @@ public class GameRoomServiceImpl extends ServiceImpl<GameRoomMapper, GameRoom> i
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
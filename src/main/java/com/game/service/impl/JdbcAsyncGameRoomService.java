@@ -0,0 +1,66 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+import com.game.service.AsyncGameRoomService;
+import com.game.service.GameRoomService;
+import com.game.tcp.BlockingTaskExecutor;
+import io.vertx.core.Future;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// 房间状态在内存中、写库由后台批量完成，因此除建房外都直接在调用线程上完成。
+// 建房在进程内第一次需要从表中读取最大ID，放到工作线程池执行
+@Service
+@ConditionalOnProperty(name = "game.persistence.client", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcAsyncGameRoomService implements AsyncGameRoomService {
+
+    @Autowired
+    private GameRoomService gameRoomService;
+    @Autowired
+    private BlockingTaskExecutor blockingTaskExecutor;
+
+    @Override
+    public Future<GameRoom> createRoom(Long playerId) {
+        return blockingTaskExecutor.execute(() -> gameRoomService.createRoom(playerId));
+    }
+
+    @Override
+    public Future<GameRoom> joinRoom(String roomCode, Long playerId) {
+        return inline(() -> gameRoomService.joinRoom(roomCode, playerId));
+    }
+
+    @Override
+    public Future<Boolean> leaveRoom(String roomCode, Long playerId) {
+        return inline(() -> gameRoomService.leaveRoom(roomCode, playerId));
+    }
+
+    @Override
+    public Future<List<GameRoom>> getWaitingRooms(long afterRoomId, int limit) {
+        return inline(() -> gameRoomService.getWaitingRooms(afterRoomId, limit));
+    }
+
+    @Override
+    public Future<Boolean> startGame(Long roomId, Long playerId) {
+        return inline(() -> gameRoomService.startGame(roomId, playerId));
+    }
+
+    @Override
+    public Future<Void> endGame(Long roomId, Long winnerId) {
+        return inline(() -> {
+            gameRoomService.endGame(roomId, winnerId);
+            return null;
+        });
+    }
+
+    private static <T> Future<T> inline(Supplier<T> operation) {
+        try {
+            return Future.succeededFuture(operation.get());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+}
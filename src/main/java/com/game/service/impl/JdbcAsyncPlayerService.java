@@ -0,0 +1,102 @@
+package com.game.service.impl;
+
+import com.game.entity.Player;
+import com.game.service.AsyncPlayerService;
+import com.game.service.PlayerService;
+import com.game.tcp.BlockingTaskExecutor;
+import io.vertx.core.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// 基于MyBatis-Plus(JDBC)的异步实现：阻塞的数据库调用放到工作线程池执行。
+// 玩家信息全部命中缓存时直接在调用线程上完成，不切换线程
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "game.persistence.client", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcAsyncPlayerService implements AsyncPlayerService {
+
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private PlayerProfileCache profileCache;
+    @Autowired
+    private BlockingTaskExecutor blockingTaskExecutor;
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Override
+    public Future<Player> login(String username, String password) {
+        return blockingTaskExecutor.execute(() -> playerService.findByUsername(username))
+                .compose(player -> passwordHasher.verifyAsync(password, player != null ? player.getPassword() : null)
+                        .map(matched -> {
+                            if (!matched) {
+                                return null;
+                            }
+                            if (passwordHasher.needsRehash(player.getPassword())) {
+                                upgradePasswordHash(player.getId(), password);
+                            }
+                            player.setPassword(null);
+                            return player;
+                        }));
+    }
+
+    @Override
+    public Future<Boolean> existsByUsername(String username) {
+        return blockingTaskExecutor.execute(() -> playerService.existsByUsername(username));
+    }
+
+    @Override
+    public Future<Player> register(Player player) {
+        return passwordHasher.hashAsync(player.getPassword())
+                .compose(passwordHash -> blockingTaskExecutor.execute(() -> {
+                    player.setPassword(passwordHash);
+                    try {
+                        return playerService.register(player);
+                    } catch (DuplicateKeyException e) {
+                        // 存在性检查之后被并发注册抢先
+                        return null;
+                    } finally {
+                        player.setPassword(null);
+                    }
+                }));
+    }
+
+    // 只写入内存，批量落库，不需要切换线程
+    @Override
+    public Future<Void> updateLastLoginTime(Long playerId) {
+        playerService.updateLastLoginTime(playerId);
+        return Future.succeededFuture();
+    }
+
+    // 明文或旧参数的哈希按当前参数重新计算，失败不影响本次登录
+    private void upgradePasswordHash(Long playerId, String password) {
+        passwordHasher.hashAsync(password)
+                .compose(passwordHash -> blockingTaskExecutor.execute(() -> {
+                    playerService.updatePasswordHash(playerId, passwordHash);
+                    return null;
+                }))
+                .onSuccess(v -> log.info("Upgraded password hash for player {}", playerId))
+                .onFailure(e -> log.warn("Failed to upgrade password hash for player {}: {}", playerId, e.getMessage()));
+    }
+
+    @Override
+    public Future<Map<Long, Player>> getPlayers(Collection<Long> playerIds) {
+        Map<Long, Player> cached = new HashMap<>(playerIds.size() * 2);
+        for (Long playerId : playerIds) {
+            Player player = profileCache.get(playerId);
+            if (player == null) {
+                // 有未命中的，整批交给同步实现（其中仍会先查缓存）
+                return blockingTaskExecutor.execute(() -> playerService.getPlayers(playerIds));
+            }
+            cached.put(playerId, player);
+        }
+        return Future.succeededFuture(cached);
+    }
+}
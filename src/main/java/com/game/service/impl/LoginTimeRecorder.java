@@ -0,0 +1,184 @@
+package com.game.service.impl;
+
+import com.game.entity.Player;
+import com.game.mapper.PlayerMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 玩家最后登录时间的批量写入：登录时只在内存中记下时间（同一玩家只保留最新一次），
+// 后台线程按固定间隔或积压达到批量大小时用一条多行UPDATE写入player表。
+// 持久性：写入的是登录发生的时间而不是落库时间；正常关闭时会写完剩余记录，
+// 进程崩溃会丢失最近一个间隔内的登录时间，该字段仅用于展示和统计，可以接受。
+@Slf4j
+@Component
+public class LoginTimeRecorder {
+
+    @Value("${game.login-time.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${game.login-time.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Autowired
+    private PlayerMapper playerMapper;
+
+    // 玩家ID -> 登录时间（毫秒）
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    // 当前积压中最早一次登录的记录时间，0表示没有积压
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    // 已请求立即写入、尚未开始执行
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final AtomicLong maxFlushLagMillis = new AtomicLong();
+    private volatile long lastFlushLagMillis;
+
+    private ScheduledExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "login-time-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Login time write-behind started, interval: {} ms, batch size: {}", flushIntervalMs, flushBatchSize);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 关闭前写完剩余记录
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("{} login times were not persisted on shutdown", pending.size());
+        }
+    }
+
+    // 不访问数据库，可以在事件循环上调用
+    public void record(Long playerId) {
+        long now = System.currentTimeMillis();
+        pending.put(playerId, now);
+        oldestPendingAt.compareAndSet(0, now);
+        recorded.increment();
+        // 登录高峰时不等到下一个间隔
+        if (pending.size() >= flushBatchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RuntimeException e) {
+                // 已关闭，由destroy写完
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    // 只在写入线程（以及关闭时）调用
+    synchronized void flush() {
+        while (!pending.isEmpty()) {
+            long oldest = oldestPendingAt.getAndSet(0);
+            List<Player> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                playerMapper.updateLastLoginTimes(batch);
+            } catch (Exception e) {
+                failedFlushes.increment();
+                requeue(batch, oldest);
+                log.error("Failed to flush {} login times, will retry", batch.size(), e);
+                return;
+            }
+            flushedRows.add(batch.size());
+            if (oldest != 0) {
+                long lag = System.currentTimeMillis() - oldest;
+                lastFlushLagMillis = lag;
+                maxFlushLagMillis.accumulateAndGet(lag, Math::max);
+            }
+            log.debug("Flushed {} login times", batch.size());
+        }
+    }
+
+    private List<Player> drain() {
+        List<Player> batch = new ArrayList<>(Math.min(pending.size(), flushBatchSize));
+        Iterator<Map.Entry<Long, Long>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < flushBatchSize) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                Player player = new Player();
+                player.setId(entry.getKey());
+                player.setLastLoginTime(new Date(entry.getValue()));
+                batch.add(player);
+            }
+        }
+        return batch;
+    }
+
+    // 写入失败时放回；期间又登录过的玩家保留较新的时间
+    private void requeue(List<Player> batch, long oldest) {
+        for (Player player : batch) {
+            pending.merge(player.getId(), player.getLastLoginTime().getTime(), Math::max);
+        }
+        if (oldest != 0) {
+            oldestPendingAt.accumulateAndGet(oldest, (current, value) -> current == 0 ? value : Math.min(current, value));
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.sum();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    // 当前积压中最早一条已等待的时间（毫秒），没有积压时为0
+    public long getFlushLagMillis() {
+        long oldest = oldestPendingAt.get();
+        return oldest == 0 || pending.isEmpty() ? 0 : System.currentTimeMillis() - oldest;
+    }
+
+    // 最近一次写入时，该批最早一条从登录到落库的时间（毫秒）
+    public long getLastFlushLagMillis() {
+        return lastFlushLagMillis;
+    }
+
+    public long getMaxFlushLagMillis() {
+        return maxFlushLagMillis.get();
+    }
+}
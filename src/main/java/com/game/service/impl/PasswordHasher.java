@@ -0,0 +1,202 @@
+package com.game.service.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 密码加盐哈希（PBKDF2-HMAC-SHA256，迭代次数可配置）。
+// 存储格式：pbkdf2$迭代次数$盐$哈希（Base64）。迭代次数调整后旧哈希仍可验证，登录成功时按新参数重新哈希。
+// 不带前缀的值视为早期的明文密码，验证通过后同样重新哈希。
+// 哈希计算只在专用的有界线程池上执行，不占用事件循环和数据库工作线程；结果回到提交时的上下文。
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    @Value("${game.password.iterations:100000}")
+    private int iterations;
+
+    @Value("${game.password.pool-size:0}")
+    private int poolSize;
+
+    @Value("${game.password.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private ThreadPoolExecutor executor;
+
+    // 用户不存在时也验证一次，响应时间不暴露用户名是否存在
+    private String dummyHash;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        if (poolSize <= 0) {
+            poolSize = Runtime.getRuntime().availableProcessors();
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hash-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        dummyHash = hash(Long.toHexString(random.nextLong()));
+        // 第一次包含算法初始化，再算一次作为单次哈希耗时
+        long start = System.nanoTime();
+        matches("", dummyHash);
+        double costMillis = (System.nanoTime() - start) / 1_000_000.0;
+        log.info("Password hasher started, iterations: {}, pool size: {}, cost: {} ms/hash (~{} logins/s)",
+                iterations, poolSize, String.format("%.1f", costMillis), (long) (poolSize * 1000 / Math.max(costMillis, 0.001)));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public Future<String> hashAsync(String password) {
+        return submit(() -> hash(password));
+    }
+
+    // storedHash为null时对占位哈希验证，结果总是false
+    public Future<Boolean> verifyAsync(String password, String storedHash) {
+        return submit(() -> {
+            if (storedHash == null) {
+                matches(password, dummyHash);
+                return false;
+            }
+            return matches(password, storedHash);
+        });
+    }
+
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, iterations);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    public boolean matches(String password, String storedHash) {
+        String[] parts = storedHash.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            // 早期的明文密码
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), storedHash.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] expected = decoder.decode(parts[3]);
+            byte[] actual = pbkdf2(password, decoder.decode(parts[2]), Integer.parseInt(parts[1]));
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            log.warn("Malformed password hash: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 明文或迭代次数与当前配置不同
+    public boolean needsRehash(String storedHash) {
+        return !storedHash.startsWith(PREFIX + "$" + iterations + "$");
+    }
+
+    private byte[] pbkdf2(String password, byte[] salt, int rounds) {
+        long start = System.nanoTime();
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, rounds, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+            hashes.increment();
+            hashNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        Promise<T> promise = Promise.promise();
+        Context context = Vertx.currentContext();
+        try {
+            executor.execute(() -> {
+                T result;
+                try {
+                    result = task.call();
+                } catch (Throwable e) {
+                    deliver(context, () -> promise.fail(e));
+                    return;
+                }
+                deliver(context, () -> promise.complete(result));
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return Future.failedFuture(new RejectedExecutionException("password hash queue is full"));
+        }
+        return promise.future();
+    }
+
+    private void deliver(Context context, Runnable completion) {
+        if (context != null) {
+            context.runOnContext(v -> completion.run());
+        } else {
+            completion.run();
+        }
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getHashes() {
+        return hashes.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getAverageHashMillis() {
+        long count = hashes.sum();
+        return count == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / count;
+    }
+
+    // 按当前平均哈希耗时估算的线程池满载吞吐（每秒可验证的登录数）
+    public double getMaxLoginsPerSecond() {
+        double average = getAverageHashMillis();
+        return average == 0 ? 0 : poolSize * 1000 / average;
+    }
+}
@@ -0,0 +1,177 @@
+package com.game.service.impl;
+
+import com.game.entity.Player;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 玩家公开信息（ID、用户名、昵称、积分）的进程内缓存，不含密码。
+// 容量和存活时间都有上限：写入超过max-size时按采样近似LRU淘汰，超过ttl的条目在读取或淘汰扫描时丢弃。
+// 昵称、积分变化时由PlayerServiceImpl显式失效。
+@Slf4j
+@Component
+public class PlayerProfileCache {
+
+    // 超出容量时每次淘汰从多少个条目中挑最久未访问的
+    private static final int EVICTION_SAMPLE = 8;
+
+    @Value("${game.player-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.player-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${game.player-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private long ttlNanos;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 淘汰指针，只在evictOne内使用
+    private Iterator<Map.Entry<Long, Entry>> evictionHand;
+
+    // 每次失效加一；加载前记下，写入时若已变化说明加载期间有更新，丢弃加载结果
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        ttlNanos = ttlSeconds * 1_000_000_000L;
+        log.info("Player profile cache {}, max size: {}, ttl: {}s", enabled ? "enabled" : "disabled", maxSize, ttlSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 未命中或已过期时返回null
+    public Player get(Long playerId) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(playerId);
+        long now = System.nanoTime();
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (now - entry.loadedAt > ttlNanos) {
+            if (entries.remove(playerId, entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        entry.lastAccess = now;
+        hits.increment();
+        return copyOf(entry.profile);
+    }
+
+    // 在从数据库加载之前调用，结果传给put
+    public long version() {
+        return invalidationVersion.get();
+    }
+
+    public void put(Player player, long loadVersion) {
+        if (!enabled || player == null || player.getId() == null || loadVersion != invalidationVersion.get()) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.put(player.getId(), new Entry(copyOf(player), now));
+        while (entries.size() > maxSize) {
+            evictOne();
+        }
+    }
+
+    public void invalidate(Long playerId) {
+        invalidationVersion.incrementAndGet();
+        entries.remove(playerId);
+    }
+
+    public void clear() {
+        invalidationVersion.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    // 类似时钟算法：淘汰指针在各次调用之间继续向后走，每次看几个条目，
+    // 顺带清掉已过期的，再淘汰其中最久未访问的一个
+    private synchronized void evictOne() {
+        long now = System.nanoTime();
+        Map.Entry<Long, Entry> victim = null;
+        for (int i = 0; i < EVICTION_SAMPLE; i++) {
+            if (evictionHand == null || !evictionHand.hasNext()) {
+                evictionHand = entries.entrySet().iterator();
+                if (!evictionHand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<Long, Entry> candidate = evictionHand.next();
+            if (now - candidate.getValue().loadedAt > ttlNanos) {
+                if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                    expirations.increment();
+                }
+                continue;
+            }
+            if (victim == null || candidate.getValue().lastAccess < victim.getValue().lastAccess) {
+                victim = candidate;
+            }
+        }
+        if (victim != null && entries.remove(victim.getKey(), victim.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    // 只保留公开字段，调用方修改返回的对象不影响缓存
+    private static Player copyOf(Player player) {
+        Player copy = new Player();
+        copy.setId(player.getId());
+        copy.setUsername(player.getUsername());
+        copy.setNickname(player.getNickname());
+        copy.setScore(player.getScore());
+        return copy;
+    }
+
+    private static final class Entry {
+        final Player profile;
+        final long loadedAt;
+        volatile long lastAccess;
+
+        Entry(Player profile, long loadedAt) {
+            this.profile = profile;
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+    }
+}
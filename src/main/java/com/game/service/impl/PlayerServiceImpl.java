@@ -6,29 +6,49 @@ import com.game.entity.Player;
 import com.game.mapper.PlayerMapper;
 import com.game.service.PlayerService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 public class PlayerServiceImpl extends ServiceImpl<PlayerMapper, Player> implements PlayerService {
 
+    @Autowired
+    private PlayerProfileCache profileCache;
+    @Autowired
+    private LoginTimeRecorder loginTimeRecorder;
+
+    // 只按用户名走唯一索引，密码哈希在专用线程池上验证
     @Override
-    public Player login(String username, String password) {
-        log.info("Login attempt for username: {}", username);
+    public Player findByUsername(String username) {
         QueryWrapper<Player> queryWrapper = new QueryWrapper<>();
-        queryWrapper.eq("username", username)
-                   .eq("password", password);
+        queryWrapper.eq("username", username);
+        long cacheVersion = profileCache.version();
         Player player = getOne(queryWrapper);
         if (player != null) {
-            log.info("Login successful for player: {} (ID: {})", username, player.getId());
-        } else {
-            log.warn("Login failed for username: {}", username);
+            // 登录后很快会用到该玩家的公开信息（建房、列表）
+            profileCache.put(player, cacheVersion);
         }
         return player;
     }
 
+    @Override
+    public boolean existsByUsername(String username) {
+        QueryWrapper<Player> queryWrapper = new QueryWrapper<>();
+        queryWrapper.select("id")
+                   .eq("username", username)
+                   .last("LIMIT 1");
+        return getOne(queryWrapper) != null;
+    }
+
     @Override
     public Player register(Player player) {
         log.info("Registering new player with username: {}", player.getUsername());
@@ -41,11 +61,60 @@ public class PlayerServiceImpl extends ServiceImpl<PlayerMapper, Player> impleme
     }
 
     @Override
-    public void updateLastLoginTime(Long playerId) {
-        log.debug("Updating last login time for player: {}", playerId);
+    public void updatePasswordHash(Long playerId, String passwordHash) {
         Player player = new Player();
         player.setId(playerId);
-        player.setLastLoginTime(new Date());
+        player.setPassword(passwordHash);
         updateById(player);
     }
-}
\ No newline at end of file
+
+    // 只记录在内存中，由LoginTimeRecorder批量写库
+    @Override
+    public void updateLastLoginTime(Long playerId) {
+        log.debug("Recording last login time for player: {}", playerId);
+        loginTimeRecorder.record(playerId);
+    }
+
+    // 先查缓存，未命中的ID合并为一次查询并写回缓存
+    @Override
+    public Map<Long, Player> getPlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Player> result = new HashMap<>(playerIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long playerId : playerIds) {
+            Player cached = profileCache.get(playerId);
+            if (cached != null) {
+                result.put(playerId, cached);
+            } else {
+                missing.add(playerId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long cacheVersion = profileCache.version();
+        QueryWrapper<Player> queryWrapper = new QueryWrapper<>();
+        queryWrapper.select("id", "username", "nickname", "score")
+                   .in("id", missing);
+        List<Player> players = list(queryWrapper);
+        for (Player player : players) {
+            result.put(player.getId(), player);
+            profileCache.put(player, cacheVersion);
+        }
+        log.debug("Loaded {} of {} players in one query, {} from cache",
+                players.size(), missing.size(), playerIds.size() - missing.size());
+        return result;
+    }
+
+    // 昵称、积分变化时使缓存失效（只更新其他字段时不影响缓存）
+    @Override
+    public boolean updateById(Player entity) {
+        boolean updated = super.updateById(entity);
+        if (entity.getNickname() != null || entity.getScore() != null || entity.getUsername() != null) {
+            profileCache.invalidate(entity.getId());
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,74 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 房间表的待写入变更。同一房间的多次变更合并为一条：只保留最新快照，
+// 尚未入库的房间被删除时直接丢弃，不产生任何SQL。
+class RoomWriteQueue {
+
+    enum Kind { INSERT, UPDATE, DELETE }
+
+    static final class PendingWrite {
+        final Kind kind;
+        final Long roomId;
+        final GameRoom snapshot;
+
+        PendingWrite(Kind kind, Long roomId, GameRoom snapshot) {
+            this.kind = kind;
+            this.roomId = roomId;
+            this.snapshot = snapshot;
+        }
+    }
+
+    private final Map<Long, PendingWrite> pending = new ConcurrentHashMap<>();
+
+    void insert(GameRoom snapshot) {
+        pending.put(snapshot.getId(), new PendingWrite(Kind.INSERT, snapshot.getId(), snapshot));
+    }
+
+    void update(GameRoom snapshot) {
+        pending.compute(snapshot.getId(), (id, previous) -> merge(previous, new PendingWrite(Kind.UPDATE, id, snapshot)));
+    }
+
+    void delete(Long roomId) {
+        pending.compute(roomId, (id, previous) -> merge(previous, new PendingWrite(Kind.DELETE, id, null)));
+    }
+
+    // 取出最多max条待写入变更，调用方负责写库，失败时调用requeue
+    List<PendingWrite> drain(int max) {
+        List<PendingWrite> writes = new ArrayList<>(Math.min(max, pending.size()));
+        Iterator<Long> ids = pending.keySet().iterator();
+        while (writes.size() < max && ids.hasNext()) {
+            PendingWrite write = pending.remove(ids.next());
+            if (write != null) {
+                writes.add(write);
+            }
+        }
+        return writes;
+    }
+
+    // 写库失败的变更放回队列；期间又有新的变更时与之合并
+    void requeue(List<PendingWrite> writes) {
+        for (PendingWrite write : writes) {
+            pending.compute(write.roomId, (id, newer) -> newer == null ? write : merge(write, newer));
+        }
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    private static PendingWrite merge(PendingWrite previous, PendingWrite next) {
+        if (previous == null || previous.kind != Kind.INSERT) {
+            return next;
+        }
+        // 尚未入库：删除则抵消插入，更新则仍按插入写最新快照
+        return next.kind == Kind.DELETE ? null : new PendingWrite(Kind.INSERT, next.roomId, next.snapshot);
+    }
+}
@@ -0,0 +1,78 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+import com.game.metrics.SqlTimingInterceptor;
+import com.game.service.AsyncGameRoomService;
+import com.game.service.GameRoomService;
+import io.vertx.core.Future;
+import io.vertx.mysqlclient.MySQLPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// 基于Vert.x MySQL客户端的房间服务：房间状态在内存中，唯一的读库是进程内第一次建房前取表中的最大ID，
+// 这里通过非阻塞连接池读取，之后所有操作都直接在调用线程上完成。写库仍由GameRoomServiceImpl的后台线程批量完成
+@Service
+@ConditionalOnProperty(name = "game.persistence.client", havingValue = "vertx")
+public class VertxAsyncGameRoomService implements AsyncGameRoomService {
+
+    @Autowired
+    private MySQLPool pool;
+    @Autowired
+    private GameRoomService gameRoomService;
+    @Autowired
+    private SqlTimingInterceptor sqlTiming;
+
+    @Override
+    public Future<GameRoom> createRoom(Long playerId) {
+        if (gameRoomService.isRoomIdInitialized()) {
+            return inline(() -> gameRoomService.createRoom(playerId));
+        }
+        long start = System.nanoTime();
+        return pool.query("SELECT IFNULL(MAX(id), 0) FROM game_room").execute()
+                .onComplete(ar -> sqlTiming.record("GameRoomRepository.selectMaxId", ar.succeeded(), start))
+                .compose(rows -> {
+                    gameRoomService.initRoomIds(rows.iterator().next().getLong(0));
+                    return inline(() -> gameRoomService.createRoom(playerId));
+                });
+    }
+
+    @Override
+    public Future<GameRoom> joinRoom(String roomCode, Long playerId) {
+        return inline(() -> gameRoomService.joinRoom(roomCode, playerId));
+    }
+
+    @Override
+    public Future<Boolean> leaveRoom(String roomCode, Long playerId) {
+        return inline(() -> gameRoomService.leaveRoom(roomCode, playerId));
+    }
+
+    @Override
+    public Future<List<GameRoom>> getWaitingRooms(long afterRoomId, int limit) {
+        return inline(() -> gameRoomService.getWaitingRooms(afterRoomId, limit));
+    }
+
+    @Override
+    public Future<Boolean> startGame(Long roomId, Long playerId) {
+        return inline(() -> gameRoomService.startGame(roomId, playerId));
+    }
+
+    @Override
+    public Future<Void> endGame(Long roomId, Long winnerId) {
+        return inline(() -> {
+            gameRoomService.endGame(roomId, winnerId);
+            return null;
+        });
+    }
+
+    private static <T> Future<T> inline(Supplier<T> operation) {
+        try {
+            return Future.succeededFuture(operation.get());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+}
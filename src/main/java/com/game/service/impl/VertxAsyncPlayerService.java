@@ -0,0 +1,180 @@
+package com.game.service.impl;
+
+import com.game.entity.Player;
+import com.game.metrics.SqlTimingInterceptor;
+import com.game.service.AsyncPlayerService;
+import com.game.service.PlayerService;
+import io.vertx.core.Future;
+import io.vertx.mysqlclient.MySQLClient;
+import io.vertx.mysqlclient.MySQLException;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 基于Vert.x MySQL客户端的异步实现：SQL通过非阻塞连接池执行，结果在调用方的上下文上回调，
+// 登录、注册、批量查询玩家都不占用工作线程。密码哈希仍在PasswordHasher的线程池上计算；
+// 最后登录时间与JDBC实现一样只记在内存，由LoginTimeRecorder批量写库
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "game.persistence.client", havingValue = "vertx")
+public class VertxAsyncPlayerService implements AsyncPlayerService {
+
+    private static final int DUPLICATE_KEY = 1062;
+
+    @Autowired
+    private MySQLPool pool;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private PlayerProfileCache profileCache;
+    @Autowired
+    private PasswordHasher passwordHasher;
+    @Autowired
+    private SqlTimingInterceptor sqlTiming;
+
+    @Override
+    public Future<Player> login(String username, String password) {
+        long cacheVersion = profileCache.version();
+        return query("PlayerRepository.findByUsername",
+                "SELECT id, username, password, nickname, score FROM player WHERE username = ?", Tuple.of(username))
+                .compose(rows -> {
+                    Player player = rows.size() > 0 ? toPlayer(rows.iterator().next()) : null;
+                    if (player != null) {
+                        // 登录后很快会用到该玩家的公开信息（建房、列表），缓存不保存密码
+                        profileCache.put(player, cacheVersion);
+                    }
+                    return passwordHasher.verifyAsync(password, player != null ? player.getPassword() : null)
+                            .map(matched -> {
+                                if (!matched) {
+                                    return null;
+                                }
+                                if (passwordHasher.needsRehash(player.getPassword())) {
+                                    upgradePasswordHash(player.getId(), password);
+                                }
+                                player.setPassword(null);
+                                return player;
+                            });
+                });
+    }
+
+    @Override
+    public Future<Boolean> existsByUsername(String username) {
+        return query("PlayerRepository.existsByUsername",
+                "SELECT id FROM player WHERE username = ? LIMIT 1", Tuple.of(username))
+                .map(rows -> rows.size() > 0);
+    }
+
+    @Override
+    public Future<Player> register(Player player) {
+        return passwordHasher.hashAsync(player.getPassword())
+                .compose(passwordHash -> {
+                    player.setPassword(null);
+                    LocalDateTime now = LocalDateTime.now();
+                    Tuple params = Tuple.of(player.getUsername(), passwordHash, player.getNickname(), 0, now, now);
+                    return query("PlayerRepository.insert",
+                            "INSERT INTO player (username, password, nickname, score, create_time, last_login_time) "
+                                    + "VALUES (?, ?, ?, ?, ?, ?)", params)
+                            .map(rows -> {
+                                Date created = new Date();
+                                player.setId(rows.property(MySQLClient.LAST_INSERTED_ID));
+                                player.setScore(0);
+                                player.setCreateTime(created);
+                                player.setLastLoginTime(created);
+                                log.info("Player registered successfully: {} (ID: {})", player.getUsername(), player.getId());
+                                return player;
+                            })
+                            .recover(e -> {
+                                if (e instanceof MySQLException && ((MySQLException) e).getErrorCode() == DUPLICATE_KEY) {
+                                    // 存在性检查之后被并发注册抢先
+                                    return Future.succeededFuture(null);
+                                }
+                                return Future.failedFuture(e);
+                            });
+                });
+    }
+
+    // 只写入内存，批量落库
+    @Override
+    public Future<Void> updateLastLoginTime(Long playerId) {
+        playerService.updateLastLoginTime(playerId);
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Map<Long, Player>> getPlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyMap());
+        }
+        Map<Long, Player> result = new HashMap<>(playerIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long playerId : playerIds) {
+            Player cached = profileCache.get(playerId);
+            if (cached != null) {
+                result.put(playerId, cached);
+            } else {
+                missing.add(playerId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Future.succeededFuture(result);
+        }
+        long cacheVersion = profileCache.version();
+        StringBuilder sql = new StringBuilder("SELECT id, username, nickname, score FROM player WHERE id IN (");
+        for (int i = 0; i < missing.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        return query("PlayerRepository.selectByIds", sql.toString(), Tuple.wrap(new ArrayList<Object>(missing)))
+                .map(rows -> {
+                    for (Row row : rows) {
+                        Player player = toPlayer(row);
+                        result.put(player.getId(), player);
+                        profileCache.put(player, cacheVersion);
+                    }
+                    log.debug("Loaded {} of {} players in one query, {} from cache",
+                            rows.size(), missing.size(), playerIds.size() - missing.size());
+                    return result;
+                });
+    }
+
+    // 明文或旧参数的哈希按当前参数重新计算，失败不影响本次登录
+    private void upgradePasswordHash(Long playerId, String password) {
+        passwordHasher.hashAsync(password)
+                .compose(passwordHash -> query("PlayerRepository.updatePassword",
+                        "UPDATE player SET password = ? WHERE id = ?", Tuple.of(passwordHash, playerId)))
+                .onSuccess(rows -> log.info("Upgraded password hash for player {}", playerId))
+                .onFailure(e -> log.warn("Failed to upgrade password hash for player {}: {}", playerId, e.getMessage()));
+    }
+
+    private Future<RowSet<Row>> query(String statement, String sql, Tuple params) {
+        long start = System.nanoTime();
+        return pool.preparedQuery(sql).execute(params)
+                .onComplete(ar -> sqlTiming.record(statement, ar.succeeded(), start));
+    }
+
+    private static Player toPlayer(Row row) {
+        Player player = new Player();
+        player.setId(row.getLong("id"));
+        player.setUsername(row.getString("username"));
+        if (row.getColumnIndex("password") >= 0) {
+            player.setPassword(row.getString("password"));
+        }
+        player.setNickname(row.getString("nickname"));
+        player.setScore(row.getInteger("score"));
+        return player;
+    }
+}
@@ -0,0 +1,151 @@
+package com.game.tcp;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 阻塞任务执行器：把数据库等阻塞调用从Vert.x事件循环挪到有界工作线程池执行，结果回到提交时的事件循环上下文。
+// 同一连接的请求顺序由网络层保证（上一个请求的Future完成后才开始下一个），这里不再区分连接。
+@Slf4j
+@Component
+public class BlockingTaskExecutor {
+
+    @Value("${game.worker.pool-size:16}")
+    private int poolSize;
+
+    @Value("${game.worker.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${game.worker.slow-wait-ms:200}")
+    private long slowWaitMs;
+
+    private ThreadPoolExecutor executor;
+
+    // 已提交但尚未开始执行的任务数（所有连接合计）
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 池内队列本身不设上限，总排队量由queueDepth约束
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "game-worker-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("Blocking task executor started, pool size: {}, queue capacity: {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 在工作线程上执行阻塞任务，返回的Future在调用方的上下文上完成；队列已满时立即失败
+    public <T> Future<T> execute(Callable<T> task) {
+        if (queueDepth.incrementAndGet() > queueCapacity) {
+            queueDepth.decrementAndGet();
+            rejectedTasks.increment();
+            return Future.failedFuture(new RejectedExecutionException("worker queue is full"));
+        }
+        Promise<T> promise = Promise.promise();
+        Context context = Vertx.currentContext();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueDepth.decrementAndGet();
+                recordWait(System.nanoTime() - enqueuedAt);
+                T result;
+                try {
+                    result = task.call();
+                } catch (Throwable e) {
+                    completedTasks.increment();
+                    deliver(context, () -> promise.fail(e));
+                    return;
+                }
+                completedTasks.increment();
+                deliver(context, () -> promise.complete(result));
+            });
+        } catch (RejectedExecutionException e) {
+            // 线程池已关闭
+            queueDepth.decrementAndGet();
+            rejectedTasks.increment();
+            return Future.failedFuture(e);
+        }
+        return promise.future();
+    }
+
+    private void deliver(Context context, Runnable completion) {
+        if (context != null) {
+            context.runOnContext(v -> completion.run());
+        } else {
+            completion.run();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        long max;
+        do {
+            max = maxWaitNanos.get();
+        } while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos));
+        if (waitNanos > TimeUnit.MILLISECONDS.toNanos(slowWaitMs)) {
+            log.warn("Blocking task waited {} ms in queue, current queue depth: {}",
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos), queueDepth.get());
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks.sum();
+    }
+
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    public double getAverageWaitMillis() {
+        long completed = completedTasks.sum();
+        return completed == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.game.tcp;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 事件循环延迟：在每个事件循环上定时投递一个探测任务，实际执行时间比预定时间晚多少，
+// 就是该事件循环上排在它前面的任务（消息处理、tick、广播）占用的时间。
+@Slf4j
+@Component
+public class EventLoopLagMonitor {
+
+    @Value("${game.metrics.event-loop-lag-interval-ms:100}")
+    private long intervalMs;
+
+    @Autowired
+    private Vertx vertx;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (intervalMs <= 0) {
+            return;
+        }
+        running = true;
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        int index = 0;
+        for (EventExecutor loop : ((VertxInternal) vertx).getEventLoopGroup()) {
+            String name = String.valueOf(index++);
+            Timer timer = Timer.builder("game.eventloop.lag")
+                    .description("Delay of a scheduled probe task on the event loop")
+                    .tag("loop", name)
+                    .publishPercentiles(0.99)
+                    .register(meterRegistry);
+            AtomicLong lastLagNanos = new AtomicLong();
+            Gauge.builder("game.eventloop.lag.last", lastLagNanos, lag -> lag.get() / 1_000_000.0)
+                    .tag("loop", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            probe(loop, intervalNanos, timer, lastLagNanos);
+        }
+        log.info("Event loop lag monitor started on {} loops, interval: {} ms", index, intervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    // 每次执行后重新投递（而不是固定频率），事件循环卡住期间不会堆积探测任务
+    private void probe(EventExecutor loop, long intervalNanos, Timer timer, AtomicLong lastLagNanos) {
+        long scheduledAt = System.nanoTime();
+        try {
+            loop.schedule(() -> {
+                long lag = Math.max(0, System.nanoTime() - scheduledAt - intervalNanos);
+                timer.record(lag, TimeUnit.NANOSECONDS);
+                lastLagNanos.set(lag);
+                if (running) {
+                    probe(loop, intervalNanos, timer, lastLagNanos);
+                }
+            }, intervalNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Vert.x正在关闭
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import lombok.extern.slf4j.Slf4j;
+
+// 长度前缀帧解码器，每个连接一个实例，只在该连接的事件循环上使用。
+// 帧格式：4字节小端长度 + GameMessage。完整的帧直接从收到的缓冲区解析，不做拷贝；
+// 只有跨TCP分段的半帧才会被拷贝到累积缓冲区。
+@Slf4j
+public class FrameDecoder {
+
+    public static final int LENGTH_FIELD_SIZE = 4;
+    public static final int MAX_FRAME_LENGTH = 1024 * 1024; // 限制最大1MB
+
+    // 累积缓冲区空闲时超过该容量就释放，避免一次大包后长期占用内存
+    private static final int MAX_IDLE_CUMULATION_CAPACITY = 64 * 1024;
+
+    private final Handler<GameProto.GameMessage> messageHandler;
+
+    // 上次未处理完的半帧数据
+    private ByteBuf cumulation;
+
+    private long framesDecoded;
+    private long bytesCopied;
+
+    public FrameDecoder(Handler<GameProto.GameMessage> messageHandler) {
+        this.messageHandler = messageHandler;
+    }
+
+    public void decode(Buffer chunk) throws InvalidProtocolBufferException {
+        ByteBuf in;
+        if (cumulation != null && cumulation.isReadable()) {
+            cumulation.writeBytes(chunk.getByteBuf());
+            bytesCopied += chunk.length();
+            in = cumulation;
+        } else {
+            in = chunk.getByteBuf();
+        }
+
+        // 循环处理所有完整的消息
+        while (in.readableBytes() >= LENGTH_FIELD_SIZE) {
+            int messageLength = in.getIntLE(in.readerIndex());
+            if (log.isTraceEnabled()) {
+                log.trace("Received message length prefix: {}", messageLength);
+            }
+
+            // 验证消息长度是否合理
+            if (messageLength <= 0 || messageLength > MAX_FRAME_LENGTH) {
+                log.error("Invalid message length: {}", messageLength);
+                reset();
+                return;
+            }
+            if (in.readableBytes() < LENGTH_FIELD_SIZE + messageLength) {
+                break; // 数据不足，等待更多数据
+            }
+
+            // 直接在原缓冲区上解析Protobuf消息
+            int bodyIndex = in.readerIndex() + LENGTH_FIELD_SIZE;
+            GameProto.GameMessage message = GameProto.GameMessage.parseFrom(in.nioBuffer(bodyIndex, messageLength));
+            in.readerIndex(bodyIndex + messageLength);
+            framesDecoded++;
+            messageHandler.handle(message);
+        }
+
+        saveRemainder(in);
+    }
+
+    private void saveRemainder(ByteBuf in) {
+        if (in == cumulation) {
+            if (cumulation.isReadable()) {
+                cumulation.discardSomeReadBytes();
+            } else {
+                clearCumulation();
+            }
+        } else if (in.isReadable()) {
+            // 收到的缓冲区只在回调期间有效，剩余的半帧必须拷贝出来
+            int remaining = in.readableBytes();
+            if (cumulation == null) {
+                cumulation = Unpooled.buffer(Math.max(256, remaining));
+            }
+            cumulation.writeBytes(in);
+            bytesCopied += remaining;
+        }
+    }
+
+    private void clearCumulation() {
+        if (cumulation.capacity() > MAX_IDLE_CUMULATION_CAPACITY) {
+            cumulation.release();
+            cumulation = null;
+        } else {
+            cumulation.clear();
+        }
+    }
+
+    // 丢弃所有未处理的数据（解析出错后调用，防止粘连）
+    public void reset() {
+        if (cumulation != null) {
+            clearCumulation();
+        }
+    }
+
+    public void release() {
+        if (cumulation != null) {
+            cumulation.release();
+            cumulation = null;
+        }
+    }
+
+    public long getFramesDecoded() {
+        return framesDecoded;
+    }
+
+    public long getBytesCopied() {
+        return bytesCopied;
+    }
+}
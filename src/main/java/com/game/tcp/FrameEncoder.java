@@ -0,0 +1,32 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import com.google.protobuf.CodedOutputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.io.IOException;
+
+// 长度前缀帧编码器：4字节小端长度 + GameMessage，直接序列化进池化的直接内存，中间不经过byte[]。
+// 返回的ByteBuf引用计数为1，由调用方负责release。
+public final class FrameEncoder {
+
+    private FrameEncoder() {
+    }
+
+    public static ByteBuf encode(GameProto.GameMessage message) {
+        int bodyLength = message.getSerializedSize();
+        ByteBuf frame = PooledByteBufAllocator.DEFAULT.directBuffer(FrameDecoder.LENGTH_FIELD_SIZE + bodyLength);
+        try {
+            frame.writeIntLE(bodyLength);
+            CodedOutputStream output = CodedOutputStream.newInstance(frame.nioBuffer(frame.writerIndex(), bodyLength));
+            message.writeTo(output);
+            output.checkNoSpaceLeft();
+            frame.writerIndex(frame.writerIndex() + bodyLength);
+            return frame;
+        } catch (IOException | RuntimeException e) {
+            frame.release();
+            throw new IllegalStateException("Failed to encode message: " + message.getType(), e);
+        }
+    }
+}
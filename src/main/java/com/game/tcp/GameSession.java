@@ -0,0 +1,354 @@
+package com.game.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.vertx.core.Future;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.impl.NetSocketInternal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 单个连接的会话状态。连接建立时创建，处理该连接消息的代码直接持有它，不需要按连接查表。
+// playerId/roomId为0表示未登录/不在房间中；由连接所在的事件循环写入，其他线程只读。
+// 出站写入都经过这里，按OutboundPolicy限制写队列：拥塞时状态更新只保留最新一条，持续拥塞的连接被断开。
+@Slf4j
+public class GameSession {
+
+    private final NetSocket socket;
+    private final ChannelHandlerContext context;
+    private final Channel channel;
+    private final OutboundPolicy outboundPolicy;
+    private final long connectedAt = System.currentTimeMillis();
+
+    private volatile long playerId;
+    private volatile long roomId;
+    private volatile boolean compactPositions;
+    private volatile boolean closed;
+    // 断线宽限期内不为null：连接已断开，会话仍保留在房间中，发给它的帧暂存等待恢复
+    private final AtomicReference<ReconnectBuffer> reconnectBuffer = new AtomicReference<>();
+
+    // 统计：入站只由连接所在的事件循环更新，出站可能来自房间所在的事件循环
+    private volatile long messagesIn;
+    private volatile long bytesIn;
+    private final AtomicLong messagesOut = new AtomicLong();
+
+    // 写队列满时暂存的最新一条状态更新
+    private final AtomicReference<ByteBuf> pendingState = new AtomicReference<>();
+    // 本次拥塞开始的时间（nanoTime），0表示写队列未满
+    private volatile long congestedSince;
+    private final AtomicBoolean evicted = new AtomicBoolean();
+    private final AtomicLong congestions = new AtomicLong();
+    private final AtomicLong coalescedUpdates = new AtomicLong();
+    private volatile long peakQueuedBytes;
+
+    // 本轮事件循环中待写出的帧，由连接所在的事件循环统一写入并flush一次
+    private final Queue<ByteBuf> outboundBatch = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // outboundBatch中的字节数：这些帧还没交给Netty，水位线看不到，拥塞判断时要加上
+    private final AtomicLong batchedBytes = new AtomicLong();
+
+    // 日志采样窗口（当前秒的起点和已输出条数）；并发更新时计数可能略有偏差，不影响正确性
+    private volatile long logWindowStart;
+    private volatile int logWindowCount;
+
+    // 该连接上最后一个异步请求的完成信号，只在连接所在的事件循环上访问
+    private Future<Void> lastOperation = Future.succeededFuture();
+
+    public GameSession(NetSocket socket, OutboundPolicy outboundPolicy) {
+        this.socket = socket;
+        this.context = ((NetSocketInternal) socket).channelHandlerContext();
+        this.channel = context.channel();
+        this.outboundPolicy = outboundPolicy;
+        socket.setWriteQueueMaxSize(outboundPolicy.getMaxQueueBytes());
+    }
+
+    public NetSocket getSocket() {
+        return socket;
+    }
+
+    public long getConnectedAt() {
+        return connectedAt;
+    }
+
+    public long getPlayerId() {
+        return playerId;
+    }
+
+    public boolean isLoggedIn() {
+        return playerId != 0;
+    }
+
+    public long getRoomId() {
+        return roomId;
+    }
+
+    public boolean isInRoom() {
+        return roomId != 0;
+    }
+
+    public boolean isCompactPositions() {
+        return compactPositions;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean isDetached() {
+        return reconnectBuffer.get() != null;
+    }
+
+    public long getMessagesIn() {
+        return messagesIn;
+    }
+
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    public long getMessagesOut() {
+        return messagesOut.get();
+    }
+
+    // 写队列中尚未写入网络的字节数（包括本轮待flush的帧）
+    public long getQueuedBytes() {
+        ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+        return (outboundBuffer != null ? outboundBuffer.totalPendingWriteBytes() : 0) + batchedBytes.get();
+    }
+
+    public long getPeakQueuedBytes() {
+        return peakQueuedBytes;
+    }
+
+    public boolean isCongested() {
+        return congestedSince != 0;
+    }
+
+    public long getCongestions() {
+        return congestions.get();
+    }
+
+    public long getCoalescedUpdates() {
+        return coalescedUpdates.get();
+    }
+
+    public boolean isEvicted() {
+        return evicted.get();
+    }
+
+    // 写入共享的已编码帧（长度前缀+消息体）；写入的是retained duplicate，调用方仍持有并负责释放frame
+    void writeFrame(ByteBuf frame) {
+        ReconnectBuffer buffer = reconnectBuffer.get();
+        if (buffer != null) {
+            buffer.add(frame.retainedDuplicate());
+            return;
+        }
+        send(frame.retainedDuplicate());
+    }
+
+    // 写入单独编码的帧，接管frame的引用；断线宽限期内同样暂存
+    void writeOwnedFrame(ByteBuf frame) {
+        ReconnectBuffer buffer = reconnectBuffer.get();
+        if (buffer != null) {
+            buffer.add(frame);
+            return;
+        }
+        send(frame);
+    }
+
+    // 写入状态更新帧：写队列满时不入队，只保留最新一条等可写后发送（新快照覆盖旧快照）。
+    // 断线宽限期内直接丢弃，恢复后会收到完整快照
+    void writeStateFrame(ByteBuf frame) {
+        if (closed || isDetached()) {
+            return;
+        }
+        if (isWritable() && pendingState.get() == null) {
+            send(frame.retainedDuplicate());
+            return;
+        }
+        ByteBuf superseded = pendingState.getAndSet(frame.retainedDuplicate());
+        if (superseded != null) {
+            superseded.release();
+            coalescedUpdates.incrementAndGet();
+            outboundPolicy.onCoalesced();
+        }
+        checkCongestion();
+        // 暂存期间写队列可能已经排空
+        if (isWritable()) {
+            flushPendingState();
+        }
+    }
+
+    // 写队列降到低水位以下（drainHandler）
+    void onDrain() {
+        congestedSince = 0;
+        flushPendingState();
+    }
+
+    private void flushPendingState() {
+        ByteBuf state = pendingState.getAndSet(null);
+        if (state != null) {
+            send(state);
+        }
+    }
+
+    // Netty水位线之下还能写入的字节数要大于尚未交给Netty的批量帧
+    private boolean isWritable() {
+        return channel.bytesBeforeUnwritable() > batchedBytes.get();
+    }
+
+    private void send(ByteBuf message) {
+        if (!isWritable()) {
+            checkCongestion();
+        }
+        outboundPolicy.onBytesSent(message.readableBytes());
+        if (outboundPolicy.isBatch()) {
+            batchedBytes.addAndGet(message.readableBytes());
+            outboundBatch.add(message);
+            if (flushScheduled.compareAndSet(false, true)) {
+                // 排在当前任务之后执行，本轮内所有写入（包括其他事件循环投递过来的）合并为一次flush
+                channel.eventLoop().execute(this::flushBatch);
+            }
+        } else {
+            ((NetSocketInternal) socket).writeMessage(message);
+        }
+        onMessageSent();
+    }
+
+    private void flushBatch() {
+        flushScheduled.set(false);
+        int maxBatchBytes = outboundPolicy.getMaxBatchBytes();
+        int batchBytes = 0;
+        int frames = 0;
+        ByteBuf message;
+        while ((message = outboundBatch.poll()) != null) {
+            int bytes = message.readableBytes();
+            batchBytes += bytes;
+            // 先写入Netty再扣减，期间水位线和batchedBytes至少有一方算上这一帧
+            context.write(message, context.voidPromise());
+            batchedBytes.addAndGet(-bytes);
+            frames++;
+            if (batchBytes >= maxBatchBytes) {
+                context.flush();
+                outboundPolicy.onBatchFlushed(frames);
+                batchBytes = 0;
+                frames = 0;
+            }
+        }
+        if (frames > 0) {
+            context.flush();
+            outboundPolicy.onBatchFlushed(frames);
+        }
+        // 只因批量帧而判为拥塞时Netty不会触发drainHandler，这里补发暂存的状态更新
+        if (pendingState.get() != null && isWritable()) {
+            onDrain();
+        }
+    }
+
+    // 写队列已满时调用：记录拥塞开始时间，超过积压或时间上限时断开连接
+    private void checkCongestion() {
+        long now = System.nanoTime();
+        long since = congestedSince;
+        if (since == 0) {
+            congestedSince = now;
+            since = now;
+            congestions.incrementAndGet();
+            outboundPolicy.onCongested();
+        }
+        long queuedBytes = getQueuedBytes();
+        if (queuedBytes > peakQueuedBytes) {
+            peakQueuedBytes = queuedBytes;
+        }
+        if (outboundPolicy.shouldEvict(now - since, queuedBytes) && evicted.compareAndSet(false, true)) {
+            log.warn("Disconnecting slow consumer {} (player {}): {} bytes queued, congested for {} ms",
+                    socket.remoteAddress(), playerId, queuedBytes, (now - since) / 1_000_000);
+            outboundPolicy.onEvicted();
+            socket.close();
+        }
+    }
+
+    // 连接断开后进入宽限期
+    void detach(ReconnectBuffer buffer) {
+        reconnectBuffer.set(buffer);
+    }
+
+    ReconnectBuffer getReconnectBuffer() {
+        return reconnectBuffer.get();
+    }
+
+    // 宽限期结束后解除缓冲；缓冲本身由ReconnectBuffer.forwardTo/release决定归属
+    ReconnectBuffer takeReconnectBuffer() {
+        return reconnectBuffer.getAndSet(null);
+    }
+
+    void login(long playerId, boolean compactPositions) {
+        this.compactPositions = compactPositions;
+        this.playerId = playerId;
+    }
+
+    void setRoomId(long roomId) {
+        this.roomId = roomId;
+    }
+
+    // 在连接所在的事件循环上执行，用于其他线程修改会话的房间归属
+    void execute(Runnable task) {
+        channel.eventLoop().execute(task);
+    }
+
+    // 上一个请求完成（无论成败）后才开始执行operation，保证同一连接的请求按到达顺序处理；
+    // 连接关闭后排队中的请求直接失败
+    <T> Future<T> runInOrder(Supplier<Future<T>> operation) {
+        Future<T> result = lastOperation.transform(previous -> closed
+                ? Future.failedFuture(new RejectedExecutionException("connection closed"))
+                : operation.get());
+        lastOperation = result.<Void>mapEmpty().otherwiseEmpty();
+        return result;
+    }
+
+    // 每秒最多limit条
+    boolean tryLogSample(long nowMillis, int limit) {
+        if (nowMillis - logWindowStart >= 1000) {
+            logWindowStart = nowMillis;
+            logWindowCount = 0;
+        }
+        if (logWindowCount >= limit) {
+            return false;
+        }
+        logWindowCount++;
+        return true;
+    }
+
+    // 最后提交的异步请求的完成信号（无论成败都正常完成）
+    Future<Void> lastOperation() {
+        return lastOperation;
+    }
+
+    void close() {
+        closed = true;
+        ByteBuf state = pendingState.getAndSet(null);
+        if (state != null) {
+            state.release();
+        }
+    }
+
+    void onBytesReceived(int bytes) {
+        bytesIn += bytes;
+    }
+
+    void onMessageReceived() {
+        messagesIn++;
+    }
+
+    private void onMessageSent() {
+        messagesOut.incrementAndGet();
+    }
+}
@@ -1,93 +1,251 @@
 package com.game.tcp;
 
-import io.vertx.core.net.NetSocket;
+import com.game.room.RoomTickEngine;
+import com.game.util.LongConcurrentMap;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 
+// 在线会话登记。连接本身持有自己的GameSession，这里只维护按玩家ID、房间ID的查找：
+// 两个表都以long为键，读取不加锁、不装箱；房间成员是写时复制的数组，成员变化在房间键上原子完成。
+// 房间中的玩家断线后会话保留一段宽限期（槽位和模拟状态不变），期间凭令牌重连可直接接回原会话。
 @Slf4j
 @Component
 public class GameSessionManager {
-    // 玩家ID -> 网络连接
-    private final Map<Long, NetSocket> playerSockets = new ConcurrentHashMap<>();
-    // 网络连接 -> 玩家ID
-    private final Map<NetSocket, Long> socketPlayers = new ConcurrentHashMap<>();
-    // 玩家ID -> 当前所在房间ID
-    private final Map<Long, Long> playerRooms = new ConcurrentHashMap<>();
-    // 房间ID -> 房间内的玩家列表
-    private final Map<Long, Map<Long, NetSocket>> roomPlayers = new ConcurrentHashMap<>();
-
-    public void addSession(Long playerId, NetSocket socket) {
-        log.info("Player {} connected, adding session", playerId);
-        playerSockets.put(playerId, socket);
-        socketPlayers.put(socket, playerId);
+
+    private static final GameSession[] NO_PLAYERS = new GameSession[0];
+    // 按单机在线人数估算两个表的容量，决定LongConcurrentMap的分段数（写入时复制的段保持较小）
+    private static final int EXPECTED_SESSIONS = 20000;
+    private static final int EXPECTED_ROOMS = 10000;
+
+    @Autowired
+    private RoomTickEngine roomTickEngine;
+
+    @Value("${game.session.reconnect-grace-seconds:30}")
+    private int reconnectGraceSeconds;
+
+    @Value("${game.session.reconnect-buffer-size:64}")
+    private int reconnectBufferSize;
+
+    // 玩家ID -> 会话
+    private final LongConcurrentMap<GameSession> sessions = new LongConcurrentMap<>(EXPECTED_SESSIONS);
+    // 房间ID -> 房间内玩家的会话
+    private final LongConcurrentMap<GameSession[]> roomPlayers = new LongConcurrentMap<>(EXPECTED_ROOMS);
+
+    private final LongAdder detachedSessions = new LongAdder();
+    private final LongAdder resumedSessions = new LongAdder();
+    private final LongAdder expiredSessions = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    public void addSession(GameSession session, long playerId, boolean compactPositions) {
+        log.debug("Player {} connected, adding session", playerId);
+        session.login(playerId, compactPositions);
+        GameSession previous = sessions.put(playerId, session);
+        if (previous != null && previous != session) {
+            // 同一账号在另一个连接上重新登录，旧连接退出房间
+            log.info("Player {} logged in from a new connection, replacing the previous session", playerId);
+            ReconnectBuffer buffer = previous.takeReconnectBuffer();
+            if (buffer != null) {
+                buffer.release();
+            }
+            leaveRoom(previous);
+        }
         log.debug("Session added successfully for player {}", playerId);
     }
 
-    public void removeSession(NetSocket socket) {
-        Long playerId = socketPlayers.remove(socket);
-        if (playerId != null) {
-            log.info("Removing session for player {}", playerId);
-            playerSockets.remove(playerId);
-            Long roomId = playerRooms.remove(playerId);
-            if (roomId != null) {
-                log.debug("Player {} left room {}", playerId, roomId);
-                Map<Long, NetSocket> room = roomPlayers.get(roomId);
-                if (room != null) {
-                    room.remove(playerId);
-                    if (room.isEmpty()) {
-                        log.debug("Room {} is now empty, removing it", roomId);
-                        roomPlayers.remove(roomId);
-                    }
-                }
-            }
-            log.info("Session removed successfully for player {}", playerId);
+    public void removeSession(GameSession session) {
+        if (!session.isLoggedIn()) {
+            return;
         }
+        long playerId = session.getPlayerId();
+        sessions.remove(playerId, session);
+        leaveRoom(session);
+        log.debug("Session removed for player {}", playerId);
     }
 
-    public void joinRoom(Long playerId, Long roomId) {
-        log.info("Player {} joining room {}", playerId, roomId);
-        playerRooms.put(playerId, roomId);
-        roomPlayers.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>())
-                  .put(playerId, playerSockets.get(playerId));
+    public long getReconnectGraceMillis() {
+        return reconnectGraceSeconds * 1000L;
+    }
+
+    // 连接断开时调用：玩家在房间中时进入宽限期并返回true，调用方负责在宽限期结束时调用expireSession；
+    // 否则返回false，调用方直接removeSession
+    public boolean detachSession(GameSession session) {
+        if (reconnectGraceSeconds <= 0 || !session.isInRoom() || sessions.get(session.getPlayerId()) != session) {
+            return false;
+        }
+        session.detach(new ReconnectBuffer(reconnectBufferSize));
+        detachedSessions.increment();
+        log.info("Player {} disconnected from room {}, holding session for {}s",
+                session.getPlayerId(), session.getRoomId(), reconnectGraceSeconds);
+        return true;
+    }
+
+    // 宽限期结束仍未恢复：按正常断线处理。已恢复或已被新登录替换时返回false
+    public boolean expireSession(GameSession session) {
+        ReconnectBuffer buffer = session.getReconnectBuffer();
+        if (buffer == null || !buffer.release()) {
+            return false;
+        }
+        session.takeReconnectBuffer();
+        droppedFrames.add(buffer.getDropped());
+        expiredSessions.increment();
+        log.info("Reconnect grace period of player {} expired", session.getPlayerId());
+        removeSession(session);
+        return true;
+    }
+
+    // 令牌验证通过后调用：玩家有处于宽限期的旧会话时，新连接接替它在房间中的位置，
+    // 补发宽限期内暂存的帧，并让房间下一个tick发送完整快照。没有可恢复的旧会话时返回false
+    public boolean resumeSession(GameSession session, long playerId, boolean compactPositions) {
+        GameSession previous = sessions.get(playerId);
+        if (previous == null || previous == session) {
+            return false;
+        }
+        ReconnectBuffer buffer = previous.getReconnectBuffer();
+        // 先补发暂存的帧并让旧会话的缓冲转发到新会话，再把新会话换进房间：
+        // 换入之前广播给旧会话的帧经缓冲转发，之后的直接发给新会话，两者之间不丢帧也不乱序
+        if (buffer == null || !buffer.forwardTo(session)) {
+            return false;
+        }
+        long roomId = previous.getRoomId();
+        session.login(playerId, compactPositions);
+        session.setRoomId(roomId);
+        if (roomId != 0) {
+            roomPlayers.compute(roomId, players -> withPlayer(players, session));
+        }
+        sessions.put(playerId, session);
+        previous.setRoomId(0);
+        previous.takeReconnectBuffer();
+        droppedFrames.add(buffer.getDropped());
+        if (roomId != 0) {
+            // 槽位已存在，只重置确认基准，下一个tick收到完整快照
+            roomTickEngine.addPlayer(roomId, playerId, compactPositions);
+        }
+        resumedSessions.increment();
+        log.info("Player {} resumed session in room {}", playerId, roomId);
+        return true;
+    }
+
+    public void joinRoom(GameSession session, long roomId) {
+        long playerId = session.getPlayerId();
+        log.debug("Player {} joining room {}", playerId, roomId);
+        long previousRoomId = session.getRoomId();
+        if (previousRoomId != 0 && previousRoomId != roomId) {
+            roomTickEngine.removePlayer(previousRoomId, playerId);
+            removeRoomPlayer(previousRoomId, session);
+        }
+        session.setRoomId(roomId);
+        roomTickEngine.addPlayer(roomId, playerId, session.isCompactPositions());
+        roomPlayers.compute(roomId, players -> withPlayer(players, session));
         log.debug("Player {} joined room {} successfully", playerId, roomId);
     }
 
-    public void leaveRoom(Long playerId) {
-        log.info("Player {} leaving room", playerId);
-        Long roomId = playerRooms.remove(playerId);
-        if (roomId != null) {
-            log.debug("Player {} left room {}", playerId, roomId);
-            Map<Long, NetSocket> room = roomPlayers.get(roomId);
-            if (room != null) {
-                room.remove(playerId);
-                if (room.isEmpty()) {
-                    log.debug("Room {} is now empty, removing it", roomId);
-                    roomPlayers.remove(roomId);
-                }
-            }
+    public void leaveRoom(GameSession session) {
+        long roomId = session.getRoomId();
+        if (roomId == 0) {
+            return;
         }
+        long playerId = session.getPlayerId();
+        log.debug("Player {} left room {}", playerId, roomId);
+        session.setRoomId(0);
+        roomTickEngine.removePlayer(roomId, playerId);
+        removeRoomPlayer(roomId, session);
+    }
+
+    public GameSession getSession(long playerId) {
+        return sessions.get(playerId);
+    }
+
+    // 返回的数组不可修改；房间不存在时返回空数组
+    public GameSession[] getRoomPlayers(long roomId) {
+        GameSession[] players = roomPlayers.get(roomId);
+        return players != null ? players : NO_PLAYERS;
+    }
+
+    // 该连接是否为玩家当前的会话（没有被同一账号的新登录顶替）
+    public boolean isCurrentSession(GameSession session) {
+        return sessions.get(session.getPlayerId()) == session;
+    }
+
+    public boolean isPlayerOnline(long playerId) {
+        return sessions.containsKey(playerId);
+    }
+
+    public int getOnlineCount() {
+        return sessions.size();
+    }
+
+    public int getRoomCount() {
+        return roomPlayers.size();
     }
 
-    public Long getPlayerId(NetSocket socket) {
-        return socketPlayers.get(socket);
+    public long getDetachedSessions() {
+        return detachedSessions.sum();
     }
 
-    public NetSocket getPlayerSocket(Long playerId) {
-        return playerSockets.get(playerId);
+    public long getResumedSessions() {
+        return resumedSessions.sum();
     }
 
-    public Long getPlayerRoom(Long playerId) {
-        return playerRooms.get(playerId);
+    public long getExpiredSessions() {
+        return expiredSessions.sum();
     }
 
-    public Map<Long, NetSocket> getRoomPlayers(Long roomId) {
-        return roomPlayers.getOrDefault(roomId, new ConcurrentHashMap<>());
+    // 宽限期内因缓冲已满或会话过期而丢弃的帧
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
     }
 
-    public boolean isPlayerOnline(Long playerId) {
-        return playerSockets.containsKey(playerId);
+    private void removeRoomPlayer(long roomId, GameSession session) {
+        roomPlayers.compute(roomId, players -> {
+            GameSession[] remaining = withoutPlayer(players, session);
+            if (remaining == null) {
+                log.debug("Room {} is now empty, removing it", roomId);
+            }
+            return remaining;
+        });
+    }
+
+    // 同一玩家的旧会话被新会话替换
+    private static GameSession[] withPlayer(GameSession[] players, GameSession session) {
+        if (players == null) {
+            return new GameSession[] {session};
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == session) {
+                return players;
+            }
+            if (players[i].getPlayerId() == session.getPlayerId()) {
+                GameSession[] copy = players.clone();
+                copy[i] = session;
+                return copy;
+            }
+        }
+        GameSession[] copy = Arrays.copyOf(players, players.length + 1);
+        copy[players.length] = session;
+        return copy;
+    }
+
+    // 房间清空时返回null
+    private static GameSession[] withoutPlayer(GameSession[] players, GameSession session) {
+        if (players == null) {
+            return null;
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == session) {
+                if (players.length == 1) {
+                    return null;
+                }
+                GameSession[] copy = new GameSession[players.length - 1];
+                System.arraycopy(players, 0, copy, 0, i);
+                System.arraycopy(players, i + 1, copy, i, players.length - i - 1);
+                return copy;
+            }
+        }
+        return players;
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,24 @@
 package com.game.tcp;
 
 import com.game.protobuf.GameProto;
+import com.game.room.PositionQuantizer;
+import com.game.room.RoomPlacement;
+import com.game.room.RoomTickEngine;
+import com.game.service.AsyncGameRoomService;
+import com.game.service.AsyncPlayerService;
 import com.game.service.GameRoomService;
-import com.game.service.PlayerService;
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.Vertx;
 import io.vertx.core.net.NetSocket;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import java.util.concurrent.RejectedExecutionException;
 @Slf4j
 @Component
 public class GameTcpHandler implements Handler<NetSocket> {
@@ -19,129 +26,158 @@ public class GameTcpHandler implements Handler<NetSocket> {
     @Autowired
     private GameSessionManager sessionManager;
     @Autowired
-    private PlayerService playerService;
+    private AsyncPlayerService asyncPlayerService;
+    @Autowired
+    private AsyncGameRoomService asyncGameRoomService;
     @Autowired
     private GameRoomService gameRoomService;
+    @Autowired
+    private RoomTickEngine roomTickEngine;
+    @Autowired
+    private RoomPlacement roomPlacement;
+    @Autowired
+    private RoomInfoAssembler roomInfoAssembler;
+    @Autowired
+    private LobbyBroadcaster lobbyBroadcaster;
+    @Autowired
+    private SessionTokenService sessionTokenService;
+    @Autowired
+    private Vertx vertx;
+    @Autowired
+    private OutboundPolicy outboundPolicy;
+    @Autowired
+    private NetworkLogPolicy networkLogPolicy;
+    @Autowired
+    private MessageMetrics messageMetrics;
+    @Autowired
+    private HandlerProfiler handlerProfiler;
+
+    @Value("${game.lobby.page-size:20}")
+    private int defaultPageSize;
+    @Value("${game.lobby.max-page-size:100}")
+    private int maxPageSize;
+
+    // 按消息体分发，只注册客户端可以发送的请求
+    private final MessageDispatcher dispatcher = new MessageDispatcher()
+            .register(GameProto.GameMessage.BodyCase.LOGIN_REQUEST, GameProto.GameMessage::getLoginRequest, this::handleLogin)
+            .register(GameProto.GameMessage.BodyCase.REGISTER_REQUEST, GameProto.GameMessage::getRegisterRequest, this::handleRegister)
+            .register(GameProto.GameMessage.BodyCase.RESUME_SESSION_REQUEST, GameProto.GameMessage::getResumeSessionRequest, this::handleResumeSession)
+            .register(GameProto.GameMessage.BodyCase.CREATE_ROOM_REQUEST, GameProto.GameMessage::getCreateRoomRequest, this::handleCreateRoom)
+            .register(GameProto.GameMessage.BodyCase.JOIN_ROOM_REQUEST, GameProto.GameMessage::getJoinRoomRequest, this::handleJoinRoom)
+            .register(GameProto.GameMessage.BodyCase.LEAVE_ROOM_REQUEST, GameProto.GameMessage::getLeaveRoomRequest, this::handleLeaveRoom)
+            .register(GameProto.GameMessage.BodyCase.LIST_ROOMS_REQUEST, GameProto.GameMessage::getListRoomsRequest, this::handleListRooms)
+            .register(GameProto.GameMessage.BodyCase.START_GAME_REQUEST, GameProto.GameMessage::getStartGameRequest, this::handleStartGame)
+            .register(GameProto.GameMessage.BodyCase.MOVE_REQUEST, GameProto.GameMessage::getMoveRequest, this::handleMove)
+            .register(GameProto.GameMessage.BodyCase.SNAPSHOT_ACK, GameProto.GameMessage::getSnapshotAck, this::handleSnapshotAck);
+
+    @PostConstruct
+    public void init() {
+        // 房间tick产生的状态更新发送给对应的玩家
+        roomTickEngine.setStateListener(this::sendStateUpdate);
+        // 对局结束后房间内的玩家退出房间
+        gameRoomService.setEndListener(this::onRoomEnded);
+    }
 
-    // 存储每个连接的消息缓冲区
-    private final Map<NetSocket, Buffer> receiveBuffers = new ConcurrentHashMap<>();
-    
     @Override
     public void handle(NetSocket socket) {
         log.info("New connection established from {}", socket.remoteAddress());
-        // 为每个连接初始化缓冲区
-        receiveBuffers.put(socket, Buffer.buffer());
+        // 连接的会话，同一连接的异步请求按到达顺序处理
+        GameSession session = new GameSession(socket, outboundPolicy);
+        messageMetrics.onConnected();
+        // 每个连接独立的帧解码器（基于长度前缀）
+        FrameDecoder decoder = new FrameDecoder(message -> {
+            logInbound(session, message);
+            session.onMessageReceived();
+            handleMessage(session, message);
+        });
         
-        // 读取消息前的处理（基于长度前缀）
         socket.handler(buffer -> {
+            session.onBytesReceived(buffer.length());
+            messageMetrics.onBytesReceived(buffer.length());
             try {
-                Buffer receiveBuffer = receiveBuffers.get(socket);
-                receiveBuffer.appendBuffer(buffer);
-                
-                // 循环处理所有完整的消息
-                while (true) {
-                    // 检查是否有足够的数据读取长度前缀
-                    if (receiveBuffer.length() < 4) {
-                        break; // 数据不足，等待更多数据
-                    }
-                    
-                    // 读取4字节长度前缀（小端序）
-                    int messageLength = receiveBuffer.getIntLE(0);
-                    log.info("Received message length prefix: {}", messageLength);
-                    
-                    // 验证消息长度是否合理
-                    if (messageLength <= 0 || messageLength > 1024 * 1024) { // 限制最大1MB
-                        log.error("Invalid message length: {}", messageLength);
-                        receiveBuffers.put(socket, Buffer.buffer()); // 替换为新的空缓冲区
-                        break;
-                    }
-                    int totalRequiredLength = 4 + messageLength;
-                    // 检查是否有足够的数据读取完整消息
-                    if (receiveBuffer.length() < 4 + messageLength) {
-                        break; // 数据不足，等待更多数据
-                    }
-                    
-                    // 提取消息内容
-                    byte[] messageBytes = receiveBuffer.getBytes(4, totalRequiredLength);
-                    // 移除已处理的数据 - 在Vert.x中创建新的缓冲区，保留剩余的数据
-                    if (receiveBuffer.length() > 4 + messageLength) {
-                        Buffer remainingBuffer = Buffer.buffer();
-                        remainingBuffer.appendBuffer(receiveBuffer.getBuffer(4 + messageLength, receiveBuffer.length()));
-                        receiveBuffers.put(socket, remainingBuffer);
-                        receiveBuffer = remainingBuffer;
-                    } else {
-                        receiveBuffers.put(socket, Buffer.buffer()); // 全部处理完，清空缓冲区
-                        receiveBuffer =Buffer.buffer();
-                    }
-                    
-                    // 解析Protobuf消息
-                    GameProto.GameMessage message = GameProto.GameMessage.parseFrom(messageBytes);
-                    log.info("Processing message type: {}", message.getType());
-                    handleMessage(socket, message);
-                }
+                decoder.decode(buffer);
             } catch (Exception e) {
                 log.error("Error parsing message: {}", e.getMessage());
-                sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "消息格式错误");
-                receiveBuffers.put(socket, Buffer.buffer()); // 替换为新的空缓冲区防止粘连问题
+                sendErrorMessage(session, GameProto.ErrorCode.INVALID_REQUEST, "消息格式错误");
+                decoder.reset(); // 丢弃残留数据防止粘连问题
             }
         });
 
+        // 写队列降到低水位时发出拥塞期间暂存的状态更新
+        socket.drainHandler(v -> session.onDrain());
+
         // 连接关闭时的处理
         socket.closeHandler(v -> {
             log.info("Connection closed from {}", socket.remoteAddress());
-            sessionManager.removeSession(socket);
-            receiveBuffers.remove(socket); // 清理缓冲区
+            closeSession(session, decoder);
         });
 
         // 连接异常时的处理
         socket.exceptionHandler(e -> {
             log.error("Connection error from {}: {}", socket.remoteAddress(), e.getMessage());
-            sessionManager.removeSession(socket);
-            receiveBuffers.remove(socket); // 清理缓冲区
+            closeSession(session, decoder);
         });
     }
 
-    private void handleMessage(NetSocket socket, GameProto.GameMessage message) {
-        switch (message.getType()) {
-            case LOGIN_REQUEST:
-                handleLogin(socket, message.getLoginRequest());
-                break;
-            case REGISTER_REQUEST:
-                handleRegister(socket, message.getRegisterRequest());
-                break;
-            case CREATE_ROOM_REQUEST:
-                handleCreateRoom(socket, message.getCreateRoomRequest());
-                break;
-            case JOIN_ROOM_REQUEST:
-                handleJoinRoom(socket, message.getJoinRoomRequest());
-                break;
-            case LEAVE_ROOM_REQUEST:
-                handleLeaveRoom(socket, message.getLeaveRoomRequest());
-                break;
-            case LIST_ROOMS_REQUEST:
-                handleListRooms(socket);
-                break;
-            case START_GAME_REQUEST:
-                handleStartGame(socket, message.getStartGameRequest());
-                break;
-            case MOVE_REQUEST:
-                log.info("Move request from {}", socket.remoteAddress());
-                handleMove(socket, message.getMoveRequest());
-                break;
-            default:
-                sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "未知消息类型");
-        }
-    }
-
-    private void handleLogin(NetSocket socket, GameProto.LoginRequest request) {
+    // 逐条消息的日志：被跟踪的类型输出完整内容，其余只在DEBUG级别下按连接采样
+    private void logInbound(GameSession session, GameProto.GameMessage message) {
+        if (networkLogPolicy.isTraced(message.getType())) {
+            log.info("[trace] player {} <- {}: {}", session.getPlayerId(), session.getSocket().remoteAddress(),
+                    NetworkLogPolicy.describe(message));
+        } else if (log.isDebugEnabled() && networkLogPolicy.sample(session)) {
+            log.debug("Processing message type: {} from player {}", message.getType(), session.getPlayerId());
+        }
+    }
+
+    private void logOutbound(GameSession session, GameProto.GameMessage message, int length) {
+        if (networkLogPolicy.isTraced(message.getType())) {
+            log.info("[trace] player {} -> {}: {}", session.getPlayerId(), session.getSocket().remoteAddress(),
+                    NetworkLogPolicy.describe(message));
+        } else if (log.isDebugEnabled() && networkLogPolicy.sample(session)) {
+            log.debug("Sent message: {}, length: {}", message.getType(), length);
+        }
+    }
+
+    private void handleMessage(GameSession session, GameProto.GameMessage message) {
+        long start = System.nanoTime();
+        Future<Void> previous = session.lastOperation();
+        // 处理器在事件循环上同步执行的部分单独计时，用于定位卡住事件循环的消息类型和玩家
+        HandlerProfiler.Dispatch dispatch = handlerProfiler.begin(message.getType(), session.getPlayerId());
+        try {
+            if (!dispatcher.dispatch(session, message)) {
+                sendErrorMessage(session, GameProto.ErrorCode.INVALID_REQUEST, "未知消息类型");
+            }
+        } finally {
+            handlerProfiler.end(dispatch);
+        }
+        // 处理器提交了异步请求时，等请求完成再记录耗时
+        Future<Void> operation = session.lastOperation();
+        if (operation != previous) {
+            operation.onComplete(ar -> messageMetrics.record(message.getType(), start));
+        } else {
+            messageMetrics.record(message.getType(), start);
+        }
+    }
+
+    private void handleLogin(GameSession session, GameProto.LoginRequest request) {
         log.info("Login attempt for username: {}", request.getUsername());
-        com.game.entity.Player player = playerService.login(request.getUsername(), request.getPassword());
+        session.runInOrder(() -> asyncPlayerService.login(request.getUsername(), request.getPassword())
+                .onSuccess(player -> {
+                    if (player != null) {
+                        // 更新最后登录时间，不等待结果
+                        asyncPlayerService.updateLastLoginTime(player.getId())
+                                .onFailure(e -> log.warn("Failed to update last login time for player {}: {}", player.getId(), e.getMessage()));
+                    }
+                }))
+          .onSuccess(player -> onLogin(session, request, player))
+          .onFailure(e -> handleRequestFailure(session, "login", e));
+    }
+
+    private void onLogin(GameSession session, GameProto.LoginRequest request, com.game.entity.Player player) {
         if (player != null) {
-            // 更新最后登录时间
-            playerService.updateLastLoginTime(player.getId());
-            
-            // 创建会话
-            sessionManager.addSession(player.getId(), socket);
+            // 创建会话（客户端请求且服务器允许时使用紧凑坐标编码）
+            boolean compactPositions = request.getCompactPositions() && roomTickEngine.isCompactPositionsEnabled();
+            sessionManager.addSession(session, player.getId(), compactPositions);
             
             log.info("Login successful for player: {} (ID: {})", player.getUsername(), player.getId());
             // 发送登录成功响应
@@ -152,31 +188,90 @@ public class GameTcpHandler implements Handler<NetSocket> {
                     .setScore(player.getScore())
                     .build();
             
-            GameProto.LoginResponse response = GameProto.LoginResponse.newBuilder()
+            GameProto.LoginResponse.Builder response = GameProto.LoginResponse.newBuilder()
                     .setCode(GameProto.ErrorCode.SUCCESS)
                     .setMessage("登录成功")
                     .setPlayerInfo(playerInfo)
-                    .build();
+                    .setSessionToken(sessionTokenService.issue(player.getId()));
+            if (compactPositions) {
+                response.setPositionEncoding(roomTickEngine.getQuantizer().toEncoding());
+            }
             
-            sendMessage(socket, GameProto.MessageType.LOGIN_RESPONSE, response);
+            sendMessage(session, OutboundMessage.LOGIN_RESPONSE, response.build());
         } else {
             log.warn("Login failed for username: {}", request.getUsername());
-            sendErrorMessage(socket, GameProto.ErrorCode.USERNAME_PASSWORD_ERROR, "用户名或密码错误");
+            sendErrorMessage(session, GameProto.ErrorCode.USERNAME_PASSWORD_ERROR, "用户名或密码错误");
         }
     }
 
-    private void handleRegister(NetSocket socket, GameProto.RegisterRequest request) {
+    // 凭令牌恢复会话：令牌在本地验证，房间从内存中查找，整个过程不访问数据库
+    private void handleResumeSession(GameSession session, GameProto.ResumeSessionRequest request) {
+        session.runInOrder(() -> Future.succeededFuture(sessionTokenService.verify(request.getSessionToken())))
+                .onSuccess(playerId -> onResumeSession(session, request, playerId));
+    }
+
+    private void onResumeSession(GameSession session, GameProto.ResumeSessionRequest request, long playerId) {
+        if (playerId == 0) {
+            log.info("Rejected session token from {}", session.getSocket().remoteAddress());
+            GameProto.ResumeSessionResponse response = GameProto.ResumeSessionResponse.newBuilder()
+                    .setCode(GameProto.ErrorCode.SESSION_EXPIRED)
+                    .setMessage("会话已过期，请重新登录")
+                    .build();
+            sendMessage(session, OutboundMessage.RESUME_SESSION_RESPONSE, response);
+            return;
+        }
+        boolean compactPositions = request.getCompactPositions() && roomTickEngine.isCompactPositionsEnabled();
+        GameProto.ResumeSessionResponse.Builder response = GameProto.ResumeSessionResponse.newBuilder()
+                .setCode(GameProto.ErrorCode.SUCCESS)
+                .setMessage("会话已恢复")
+                .setPlayerId(playerId)
+                .setSessionToken(sessionTokenService.issue(playerId));
+        if (compactPositions) {
+            response.setPositionEncoding(roomTickEngine.getQuantizer().toEncoding());
+        }
+        com.game.entity.GameRoom room = gameRoomService.findActiveRoom(playerId);
+        if (room != null) {
+            response.setRoomId(room.getId())
+                    .setRoomCode(room.getRoomCode())
+                    .setRoomStatus(room.getStatus());
+        }
+        // 先发响应，宽限期内暂存的消息随后补发
+        sendMessage(session, OutboundMessage.RESUME_SESSION_RESPONSE, response.build());
+
+        // 旧会话还在宽限期内时直接接替，否则按新会话处理
+        if (!sessionManager.resumeSession(session, playerId, compactPositions)) {
+            sessionManager.addSession(session, playerId, compactPositions);
+        }
+        // 断线前所在的房间仍在进行时重新加入；宽限期内房间已结束时退出
+        if (room != null && session.getRoomId() != room.getId()) {
+            sessionManager.joinRoom(session, room.getId());
+        } else if (room == null && session.isInRoom()) {
+            sessionManager.leaveRoom(session);
+        }
+        log.info("Player {} resumed session, room: {}", playerId, session.getRoomId());
+    }
+
+    private void handleRegister(GameSession session, GameProto.RegisterRequest request) {
         log.info("Registration attempt for username: {}", request.getUsername());
-        // 检查用户名是否已存在
-        com.game.entity.Player existingPlayer = playerService.login(request.getUsername(), request.getPassword());
-        if (existingPlayer == null) {
-            // 创建新玩家
-            com.game.entity.Player player = new com.game.entity.Player();
-            player.setUsername(request.getUsername());
-            player.setPassword(request.getPassword());
-            player.setNickname(request.getNickname());
-            
-            player = playerService.register(player);
+        session.runInOrder(() -> asyncPlayerService.existsByUsername(request.getUsername())
+                .compose(exists -> {
+                    // 检查用户名是否已存在
+                    if (exists) {
+                        return Future.succeededFuture(null);
+                    }
+                    // 创建新玩家
+                    com.game.entity.Player player = new com.game.entity.Player();
+                    player.setUsername(request.getUsername());
+                    player.setPassword(request.getPassword());
+                    player.setNickname(request.getNickname());
+                    return asyncPlayerService.register(player);
+                }))
+          .onSuccess(player -> onRegister(session, request, player))
+          .onFailure(e -> handleRequestFailure(session, "register", e));
+    }
+
+    private void onRegister(GameSession session, GameProto.RegisterRequest request, com.game.entity.Player player) {
+        if (player != null) {
             log.info("Registration successful for player: {} (ID: {})", player.getUsername(), player.getId());
             
             // 发送注册成功响应
@@ -193,243 +288,346 @@ public class GameTcpHandler implements Handler<NetSocket> {
                     .setPlayerInfo(playerInfo)
                     .build();
             
-            sendMessage(socket, GameProto.MessageType.REGISTER_RESPONSE, response);
+            sendMessage(session, OutboundMessage.REGISTER_RESPONSE, response);
         } else {
             log.warn("Registration failed: username already exists: {}", request.getUsername());
-            sendErrorMessage(socket, GameProto.ErrorCode.USERNAME_EXISTS, "用户名已存在");
+            sendErrorMessage(session, GameProto.ErrorCode.USERNAME_EXISTS, "用户名已存在");
         }
     }
 
-    private void handleCreateRoom(NetSocket socket, GameProto.CreateRoomRequest request) {
-        Long playerId = request.getPlayerId();
+    // 房间操作都以连接登录的玩家为准，忽略请求中的player_id：
+    // 数据库中的房间成员和会话/tick中加入的必须是同一个玩家，未登录或已被新登录顶替的连接不能操作房间
+    private boolean requireLogin(GameSession session) {
+        if (session.isLoggedIn() && sessionManager.isCurrentSession(session)) {
+            return true;
+        }
+        sendErrorMessage(session, GameProto.ErrorCode.INVALID_REQUEST, "玩家未登录");
+        return false;
+    }
+
+    private void handleCreateRoom(GameSession session, GameProto.CreateRoomRequest request) {
+        if (!requireLogin(session)) {
+            return;
+        }
+        Long playerId = session.getPlayerId();
         log.info("Player {} requesting to create room", playerId);
-        if (sessionManager.isPlayerOnline(playerId)) {
-            com.game.entity.GameRoom room = gameRoomService.createRoom(playerId);
-            sessionManager.joinRoom(playerId, room.getId());
-            log.info("Room created successfully with ID: {}, room code: {}", room.getId(), room.getRoomCode());
-            
-            // 构建房间信息
-            GameProto.RoomInfo roomInfo = buildRoomInfo(room);
-            
-            GameProto.CreateRoomResponse response = GameProto.CreateRoomResponse.newBuilder()
+        session.runInOrder(() -> asyncGameRoomService.createRoom(playerId)
+                // 构建房间信息
+                .compose(roomInfoAssembler::build))
+          .onSuccess(roomInfo -> onRoomCreated(session, playerId, roomInfo))
+          .onFailure(e -> handleRequestFailure(session, "create room", e));
+    }
+
+    private void onRoomCreated(GameSession session, Long playerId, GameProto.RoomInfo roomInfo) {
+        sessionManager.joinRoom(session, roomInfo.getId());
+        lobbyBroadcaster.unsubscribe(session);
+        log.info("Room created successfully with ID: {}, room code: {}", roomInfo.getId(), roomInfo.getRoomCode());
+
+        GameProto.CreateRoomResponse response = GameProto.CreateRoomResponse.newBuilder()
+                .setCode(GameProto.ErrorCode.SUCCESS)
+                .setMessage("房间创建成功")
+                .setRoomInfo(roomInfo)
+                .build();
+
+        sendMessage(session, OutboundMessage.CREATE_ROOM_RESPONSE, response);
+    }
+
+    private void handleJoinRoom(GameSession session, GameProto.JoinRoomRequest request) {
+        if (!requireLogin(session)) {
+            return;
+        }
+        Long playerId = session.getPlayerId();
+        log.info("Player {} requesting to join room with code: {}", playerId, request.getRoomCode());
+        session.runInOrder(() -> asyncGameRoomService.joinRoom(request.getRoomCode(), playerId)
+                // 构建房间信息
+                .compose(room -> room != null ? roomInfoAssembler.build(room) : Future.succeededFuture(null)))
+          .onSuccess(roomInfo -> onRoomJoined(session, request, playerId, roomInfo))
+          .onFailure(e -> handleRequestFailure(session, "join room", e));
+    }
+
+    private void onRoomJoined(GameSession session, GameProto.JoinRoomRequest request, Long playerId, GameProto.RoomInfo roomInfo) {
+        if (roomInfo != null) {
+            sessionManager.joinRoom(session, roomInfo.getId());
+            lobbyBroadcaster.unsubscribe(session);
+
+            // 发送给加入的玩家
+            GameProto.JoinRoomResponse response = GameProto.JoinRoomResponse.newBuilder()
                     .setCode(GameProto.ErrorCode.SUCCESS)
-                    .setMessage("房间创建成功")
+                    .setMessage("加入房间成功")
                     .setRoomInfo(roomInfo)
                     .build();
-            
-            sendMessage(socket, GameProto.MessageType.CREATE_ROOM_RESPONSE, response);
+            sendMessage(session, OutboundMessage.JOIN_ROOM_RESPONSE, response);
+
+            // 通知房间内其他玩家
+            GameProto.GameStateUpdate stateUpdate = GameProto.GameStateUpdate.newBuilder()
+                    .setRoomId(roomInfo.getId())
+                    .build();
+            notifyRoomPlayers(roomInfo.getId(), OutboundMessage.GAME_STATE_UPDATE, stateUpdate);
+            log.info("Player {} joined room {} successfully", playerId, roomInfo.getId());
         } else {
-            sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "玩家未登录");
+            log.warn("Room not found or full: {}", request.getRoomCode());
+            sendErrorMessage(session, GameProto.ErrorCode.ROOM_NOT_FOUND, "房间不存在或已满");
         }
     }
 
-    private void handleJoinRoom(NetSocket socket, GameProto.JoinRoomRequest request) {
-        Long playerId = request.getPlayerId();
-        log.info("Player {} requesting to join room with code: {}", playerId, request.getRoomCode());
-        if (sessionManager.isPlayerOnline(playerId)) {
-            com.game.entity.GameRoom room = gameRoomService.joinRoom(request.getRoomCode(), playerId);
-            if (room != null) {
-                sessionManager.joinRoom(playerId, room.getId());
-                
-                // 构建房间信息
-                GameProto.RoomInfo roomInfo = buildRoomInfo(room);
-                
-                // 发送给加入的玩家
-                GameProto.JoinRoomResponse response = GameProto.JoinRoomResponse.newBuilder()
-                        .setCode(GameProto.ErrorCode.SUCCESS)
-                        .setMessage("加入房间成功")
-                        .setRoomInfo(roomInfo)
-                        .build();
-                sendMessage(socket, GameProto.MessageType.JOIN_ROOM_RESPONSE, response);
-                
-                // 通知房间内其他玩家
-                notifyRoomPlayers(room.getId(), GameProto.MessageType.GAME_STATE_UPDATE, null);
-                log.info("Player {} joined room {} successfully", playerId, room.getId());
-            } else {
-                log.warn("Room not found or full: {}", request.getRoomCode());
-                sendErrorMessage(socket, GameProto.ErrorCode.ROOM_NOT_FOUND, "房间不存在或已满");
-            }
-        } else {
-            sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "玩家未登录");
+    private void handleLeaveRoom(GameSession session, GameProto.LeaveRoomRequest request) {
+        if (!requireLogin(session)) {
+            return;
         }
+        Long playerId = session.getPlayerId();
+        log.info("Player {} requesting to leave room: {}", playerId, request.getRoomCode());
+        session.runInOrder(() -> asyncGameRoomService.leaveRoom(request.getRoomCode(), playerId))
+                .onSuccess(success -> onRoomLeft(session, playerId, success))
+                .onFailure(e -> handleRequestFailure(session, "leave room", e));
     }
 
-    private void handleLeaveRoom(NetSocket socket, GameProto.LeaveRoomRequest request) {
-        Long playerId = request.getPlayerId();
-        log.info("Player {} requesting to leave room: {}", playerId, request.getRoomCode());
-        if (sessionManager.isPlayerOnline(playerId)) {
-            boolean success = gameRoomService.leaveRoom(request.getRoomCode(), playerId);
-            if (success) {
-                sessionManager.leaveRoom(playerId);
-                
-                GameProto.LeaveRoomResponse response = GameProto.LeaveRoomResponse.newBuilder()
-                        .setCode(GameProto.ErrorCode.SUCCESS)
-                        .setMessage("离开房间成功")
-                        .build();
-                sendMessage(socket, GameProto.MessageType.LEAVE_ROOM_RESPONSE, response);
-                log.info("Player {} left room successfully", playerId);
-            } else {
-                log.warn("Failed to leave room for player: {}", playerId);
-                sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "离开房间失败");
-            }
+    private void onRoomLeft(GameSession session, Long playerId, boolean success) {
+        if (success) {
+            sessionManager.leaveRoom(session);
+
+            GameProto.LeaveRoomResponse response = GameProto.LeaveRoomResponse.newBuilder()
+                    .setCode(GameProto.ErrorCode.SUCCESS)
+                    .setMessage("离开房间成功")
+                    .build();
+            sendMessage(session, OutboundMessage.LEAVE_ROOM_RESPONSE, response);
+            log.info("Player {} left room successfully", playerId);
         } else {
-            sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "玩家未登录");
+            log.warn("Failed to leave room for player: {}", playerId);
+            sendErrorMessage(session, GameProto.ErrorCode.INVALID_REQUEST, "离开房间失败");
         }
     }
 
-    private void handleListRooms(NetSocket socket) {
+    private void handleListRooms(GameSession session, GameProto.ListRoomsRequest request) {
+        int pageSize = request.getPageSize() > 0 ? Math.min(request.getPageSize(), maxPageSize) : defaultPageSize;
+        if (request.getAfterRoomId() == 0) {
+            // 先订阅再查询，查询期间的变化不会丢失
+            if (request.getSubscribe()) {
+                lobbyBroadcaster.subscribe(session);
+            } else {
+                lobbyBroadcaster.unsubscribe(session);
+            }
+        }
         GameProto.ListRoomsResponse.Builder responseBuilder = GameProto.ListRoomsResponse.newBuilder()
                 .setCode(GameProto.ErrorCode.SUCCESS)
-                .setMessage("获取房间列表成功");
-        
-        for (com.game.entity.GameRoom room : gameRoomService.getWaitingRooms()) {
-            responseBuilder.addRooms(buildRoomInfo(room));
-        }
-        
-        sendMessage(socket, GameProto.MessageType.LIST_ROOMS_RESPONSE, responseBuilder.build());
+                .setMessage("获取房间列表成功")
+                .setTotal(gameRoomService.getWaitingRoomCount());
+        // 多取一个用于判断是否还有下一页
+        session.runInOrder(() -> asyncGameRoomService.getWaitingRooms(request.getAfterRoomId(), pageSize + 1)
+                .compose(rooms -> {
+                    if (rooms.size() > pageSize) {
+                        rooms = rooms.subList(0, pageSize);
+                        responseBuilder.setNextAfterRoomId(rooms.get(pageSize - 1).getId());
+                    }
+                    return roomInfoAssembler.buildAll(rooms);
+                })
+                .map(roomInfos -> responseBuilder.addAllRooms(roomInfos).build()))
+          .onSuccess(response -> sendMessage(session, OutboundMessage.LIST_ROOMS_RESPONSE, response))
+          .onFailure(e -> handleRequestFailure(session, "list rooms", e));
     }
 
-    private void handleStartGame(NetSocket socket, GameProto.StartGameRequest request) {
-        Long playerId = request.getPlayerId();
+    private void handleStartGame(GameSession session, GameProto.StartGameRequest request) {
+        if (!requireLogin(session)) {
+            return;
+        }
+        Long playerId = session.getPlayerId();
         log.info("Player {} requesting to start game in room: {}", playerId, request.getRoomId());
-        if (sessionManager.isPlayerOnline(playerId)) {
-            gameRoomService.startGame(request.getRoomId());
-            log.info("Game started in room: {}", request.getRoomId());
-            
-            GameProto.StartGameResponse response = GameProto.StartGameResponse.newBuilder()
-                    .setCode(GameProto.ErrorCode.SUCCESS)
-                    .setMessage("游戏开始")
-                    .build();
-            sendMessage(socket, GameProto.MessageType.START_GAME_RESPONSE, response);
-            
-            // 通知房间内所有玩家游戏开始
-            notifyRoomPlayers(request.getRoomId(), GameProto.MessageType.START_GAME_RESPONSE, response);
+        session.runInOrder(() -> asyncGameRoomService.startGame(request.getRoomId(), playerId))
+          .onSuccess(started -> onGameStarted(session, request, started))
+          .onFailure(e -> handleRequestFailure(session, "start game", e));
+    }
+
+    private void onGameStarted(GameSession session, GameProto.StartGameRequest request, boolean started) {
+        if (!started) {
+            log.warn("Failed to start game in room {} for player {}", request.getRoomId(), session.getPlayerId());
+            sendErrorMessage(session, GameProto.ErrorCode.INVALID_REQUEST, "开始游戏失败");
+            return;
+        }
+        log.info("Game started in room: {}", request.getRoomId());
+
+        GameProto.StartGameResponse response = GameProto.StartGameResponse.newBuilder()
+                .setCode(GameProto.ErrorCode.SUCCESS)
+                .setMessage("游戏开始")
+                .build();
+        sendMessage(session, OutboundMessage.START_GAME_RESPONSE, response);
+
+        // 通知房间内所有玩家游戏开始
+        notifyRoomPlayers(request.getRoomId(), OutboundMessage.START_GAME_RESPONSE, response);
+    }
+
+    private void handleMove(GameSession session, GameProto.MoveRequest request) {
+        // 以连接自己的会话为准；紧凑编码的客户端可以省略room_id
+        if (!session.isLoggedIn()) {
+            return;
+        }
+        long playerId = session.getPlayerId();
+        long roomId = request.getRoomId() != 0 ? request.getRoomId() : session.getRoomId();
+        if (roomId == 0) {
+            return;
+        }
+        float x;
+        float y;
+        if (session.isCompactPositions()) {
+            PositionQuantizer quantizer = roomTickEngine.getQuantizer();
+            x = quantizer.dequantize(request.getQx());
+            y = quantizer.dequantize(request.getQy());
         } else {
-            sendErrorMessage(socket, GameProto.ErrorCode.INVALID_REQUEST, "玩家未登录");
+            x = request.getX();
+            y = request.getY();
+        }
+        if (log.isDebugEnabled() && networkLogPolicy.sample(session)) {
+            log.debug("Player {} move request: position({},{}) in room: {}", playerId, x, y, roomId);
+        }
+        if (request.getAckTick() > 0) {
+            roomTickEngine.acknowledge(roomId, playerId, request.getAckTick());
+        }
+        // 只记录输入，由房间tick统一推进并广播
+        if (!roomTickEngine.submitInput(roomId, playerId, x, y)) {
+            log.debug("Ignoring move of player {} for room {} with no running simulation", playerId, roomId);
         }
     }
 
-    private void handleMove(NetSocket socket, GameProto.MoveRequest request) {
-        Long playerId = request.getPlayerId();
-        log.info("Player {} move request: position({},{}) in room: {}", 
-                  playerId, request.getX(), request.getY(), request.getRoomId());
-        if (sessionManager.isPlayerOnline(playerId)) {
-            // 创建位置更新消息
-            GameProto.GameStateUpdate.Builder stateUpdateBuilder = GameProto.GameStateUpdate.newBuilder()
-                    .setRoomId(request.getRoomId());
-            
-            GameProto.PlayerPosition position = GameProto.PlayerPosition.newBuilder()
-                    .setPlayerId(playerId)
-                    .setX(request.getX())
-                    .setY(request.getY())
-                    .build();
-            
-            stateUpdateBuilder.addPlayers(position);
-            
-            // 广播给房间内所有玩家
-            notifyRoomPlayers(request.getRoomId(), GameProto.MessageType.GAME_STATE_UPDATE, stateUpdateBuilder.build());
+    private void handleSnapshotAck(GameSession session, GameProto.SnapshotAck request) {
+        if (session.isLoggedIn()) {
+            roomTickEngine.acknowledge(request.getRoomId(), session.getPlayerId(), request.getTick());
         }
     }
 
-    private GameProto.RoomInfo buildRoomInfo(com.game.entity.GameRoom room) {
-        GameProto.RoomInfo.Builder builder = GameProto.RoomInfo.newBuilder()
-                .setId(room.getId())
-                .setRoomCode(room.getRoomCode())
-                .setStatus(room.getStatus());
-        
-        // 添加玩家信息
-        if (room.getPlayer1Id() != null) {
-            com.game.entity.Player player1 = playerService.getById(room.getPlayer1Id());
-            if (player1 != null) {
-                builder.setPlayer1(GameProto.PlayerInfo.newBuilder()
-                        .setId(player1.getId())
-                        .setUsername(player1.getUsername())
-                        .setNickname(player1.getNickname())
-                        .setScore(player1.getScore())
-                        .build());
+    // 房间广播在房间所属的事件循环上发出，与tick产生的状态更新保持同一顺序
+    private <T> void notifyRoomPlayers(Long roomId, OutboundMessage<T> outbound, T body) {
+        GameProto.GameMessage message = outbound.wrap(body);
+        Runnable notify = () -> {
+            GameSession[] players = sessionManager.getRoomPlayers(roomId);
+            log.debug("Notifying {} players in room {} about message type: {}",
+                      players.length, roomId, outbound.getType());
+            if (players.length > 0) {
+                broadcastMessage(players, message);
             }
+        };
+        if (!roomPlacement.executeIfPlaced(roomId, notify)) {
+            notify.run();
         }
-        
-        if (room.getPlayer2Id() != null) {
-            com.game.entity.Player player2 = playerService.getById(room.getPlayer2Id());
-            if (player2 != null) {
-                builder.setPlayer2(GameProto.PlayerInfo.newBuilder()
-                        .setId(player2.getId())
-                        .setUsername(player2.getUsername())
-                        .setNickname(player2.getNickname())
-                        .setScore(player2.getScore())
-                        .build());
+    }
+
+    private void sendStateUpdate(long roomId, GameProto.GameStateUpdate stateUpdate, long[] playerIds, int count) {
+        GameSession[] players = sessionManager.getRoomPlayers(roomId);
+        if (players.length == 0) {
+            return;
+        }
+        ByteBuf frame = FrameEncoder.encode(OutboundMessage.GAME_STATE_UPDATE.wrap(stateUpdate));
+        try {
+            for (GameSession player : players) {
+                if (contains(playerIds, count, player.getPlayerId())) {
+                    player.writeStateFrame(frame);
+                }
             }
+        } finally {
+            frame.release();
         }
-        
-        return builder.build();
-    }
-
-    private void notifyRoomPlayers(Long roomId, GameProto.MessageType messageType, Object messageBody) {
-        Map<Long, NetSocket> players = sessionManager.getRoomPlayers(roomId);
-        log.info("Notifying {} players in room {} about message type: {}", 
-                  players.size(), roomId, messageType);
-        for (NetSocket playerSocket : players.values()) {
-            sendMessage(playerSocket, messageType, messageBody);
-        }
-    }
-
-    private void sendMessage(NetSocket socket, GameProto.MessageType messageType, Object messageBody) {
-        GameProto.GameMessage.Builder messageBuilder = GameProto.GameMessage.newBuilder()
-                .setType(messageType);
-
-        // 根据消息类型设置相应的消息体
-        switch (messageType) {
-            case LOGIN_RESPONSE:
-                messageBuilder.setLoginResponse((GameProto.LoginResponse) messageBody);
-                break;
-            case REGISTER_RESPONSE:
-                messageBuilder.setRegisterResponse((GameProto.RegisterResponse) messageBody);
-                break;
-            case CREATE_ROOM_RESPONSE:
-                messageBuilder.setCreateRoomResponse((GameProto.CreateRoomResponse) messageBody);
-                break;
-            case JOIN_ROOM_RESPONSE:
-                messageBuilder.setJoinRoomResponse((GameProto.JoinRoomResponse) messageBody);
-                break;
-            case LEAVE_ROOM_RESPONSE:
-                messageBuilder.setLeaveRoomResponse((GameProto.LeaveRoomResponse) messageBody);
-                break;
-            case LIST_ROOMS_RESPONSE:
-                messageBuilder.setListRoomsResponse((GameProto.ListRoomsResponse) messageBody);
-                break;
-            case START_GAME_RESPONSE:
-                messageBuilder.setStartGameResponse((GameProto.StartGameResponse) messageBody);
-                break;
-            case GAME_STATE_UPDATE:
-                messageBuilder.setGameStateUpdate((GameProto.GameStateUpdate) messageBody);
-                break;
-            case ERROR:
-                messageBuilder.setError((GameProto.ErrorMessage) messageBody);
-                break;
+    }
+
+    // 广播：整帧只序列化一次，每个连接写入同一块内存的retained duplicate（独立读写索引，内容共享）
+    private void broadcastMessage(GameSession[] players, GameProto.GameMessage message) {
+        ByteBuf frame = FrameEncoder.encode(message);
+        try {
+            for (GameSession player : players) {
+                player.writeFrame(frame);
+            }
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static boolean contains(long[] values, int count, long value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> void sendMessage(GameSession session, OutboundMessage<T> outbound, T body) {
+        GameProto.GameMessage message = outbound.wrap(body);
+        // 直接编码进池化的直接内存（含长度前缀），交给连接后由Netty写出时释放
+        ByteBuf frame = FrameEncoder.encode(message);
+        int length = frame.readableBytes();
+        session.writeOwnedFrame(frame);
+        logOutbound(session, message, length - FrameDecoder.LENGTH_FIELD_SIZE);
+    }
+
+    // 异步请求失败时回复客户端：过载和内部错误分开提示
+    private void handleRequestFailure(GameSession session, String operation, Throwable e) {
+        if (e instanceof RejectedExecutionException) {
+            log.warn("Rejected {} request from {}: {}", operation, session.getSocket().remoteAddress(), e.getMessage());
+            sendErrorMessage(session, GameProto.ErrorCode.INTERNAL_ERROR, "服务器繁忙，请稍后重试");
+        } else {
+            log.error("Failed to {} for {}", operation, session.getSocket().remoteAddress(), e);
+            sendErrorMessage(session, GameProto.ErrorCode.INTERNAL_ERROR, "服务器内部错误");
+        }
+    }
+
+    // 关闭和异常回调都可能触发，只处理一次
+    private void closeSession(GameSession session, FrameDecoder decoder) {
+        if (session.isClosed()) {
+            return;
+        }
+        session.close();
+        messageMetrics.onDisconnected();
+        lobbyBroadcaster.unsubscribe(session);
+        decoder.release(); // 清理缓冲区
+        if (sessionManager.detachSession(session)) {
+            // 房间中的玩家保留一段时间等待重连
+            vertx.setTimer(sessionManager.getReconnectGraceMillis(), id -> expireSession(session));
+        } else {
+            sessionManager.removeSession(session);
         }
-        
-        // 序列化消息
-        GameProto.GameMessage message = messageBuilder.build();
-        log.info("Sending message: {}", message.getType());
-        byte[] bytes = message.toByteArray();
-        
-        // 创建包含长度前缀的缓冲区（小端序）
-        Buffer buffer = Buffer.buffer(4 + bytes.length);
-        buffer.appendIntLE(bytes.length); // 添加4字节长度前缀
-        buffer.appendBytes(bytes); // 添加消息内容
-        
-        // 发送消息
-        socket.write(buffer);
-        log.info("Message sent successfully, length: {}", bytes.length);
     }
 
-    private void sendErrorMessage(NetSocket socket, GameProto.ErrorCode errorCode, String message) {
+    private void expireSession(GameSession session) {
+        long playerId = session.getPlayerId();
+        if (!sessionManager.expireSession(session) || sessionManager.isPlayerOnline(playerId)) {
+            return;
+        }
+        // 没有回来的玩家退出仍在等待中的房间，避免大厅里留下无人的房间；
+        // 进行中的房间没有玩家留下时直接结束，不等超时
+        com.game.entity.GameRoom room = gameRoomService.findActiveRoom(playerId);
+        if (room != null && room.getStatus() == 0) {
+            gameRoomService.leaveRoom(room.getRoomCode(), playerId);
+        } else if (room != null && room.getStatus() == 1 && sessionManager.getRoomPlayers(room.getId()).length == 0) {
+            log.info("All players left room {}, ending game", room.getId());
+            gameRoomService.endGame(room.getId(), null);
+        }
+    }
+
+    // 对局结束：通知房间内的玩家（宽限期内的会话暂存），并在各自连接的事件循环上退出房间。
+    // 最后一个玩家退出时房间模拟停止，房间的事件循环归属随之释放
+    private void onRoomEnded(Long roomId, Long winnerId) {
+        GameProto.GameOver gameOver = GameProto.GameOver.newBuilder()
+                .setRoomId(roomId)
+                .setWinnerId(winnerId != null ? winnerId : 0)
+                .build();
+        for (GameSession player : sessionManager.getRoomPlayers(roomId)) {
+            player.execute(() -> {
+                // 期间已离开或换了房间
+                if (player.getRoomId() != roomId) {
+                    return;
+                }
+                // 宽限期内的玩家这条消息进入重连缓冲，恢复会话时补发
+                sendMessage(player, OutboundMessage.GAME_OVER, gameOver);
+                sessionManager.leaveRoom(player);
+            });
+        }
+    }
+
+    private void sendErrorMessage(GameSession session, GameProto.ErrorCode errorCode, String message) {
         GameProto.ErrorMessage errorMessage = GameProto.ErrorMessage.newBuilder()
                 .setCode(errorCode)
                 .setMessage(message)
                 .build();
-        log.info("send error message: {}", errorMessage);
-        sendMessage(socket, GameProto.MessageType.ERROR, errorMessage);
+        // 异常客户端可能持续触发错误，按连接限流
+        if (log.isInfoEnabled() && networkLogPolicy.sample(session)) {
+            log.info("Sending error to player {}: {} {}", session.getPlayerId(), errorCode, message);
+        }
+        sendMessage(session, OutboundMessage.ERROR, errorMessage);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.game.tcp;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.net.NetSocket;
+
+// TCP服务器verticle。部署多个实例时共享同一端口，Vert.x把新连接轮流分配给各实例，
+// 每个实例运行在自己的事件循环上，连接的所有回调都在该事件循环上执行。
+public class GameTcpVerticle extends AbstractVerticle {
+
+    private final Handler<NetSocket> connectHandler;
+    private final int port;
+
+    public GameTcpVerticle(Handler<NetSocket> connectHandler, int port) {
+        this.connectHandler = connectHandler;
+        this.port = port;
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        vertx.createNetServer()
+             .connectHandler(connectHandler)
+             .listen(port)
+             .<Void>mapEmpty()
+             .onComplete(startPromise);
+    }
+}
@@ -0,0 +1,335 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 消息处理器剖析：记录每条消息在事件循环上同步执行的时间（按消息类型的直方图），
+// 超过stall-threshold-ms的记为一次卡顿，归到消息类型和玩家上，供 /admin/profiler 查看最严重的来源。
+// 另有一个看门狗线程检查正在执行的处理器，超过blocked-threshold-ms仍未返回时立即打印类型、玩家和线程栈，
+// 相当于带归属信息的Vert.x blocked thread警告。
+@Slf4j
+@Component
+public class HandlerProfiler {
+
+    @Value("${game.profiler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.profiler.stall-threshold-ms:10}")
+    private long stallThresholdMs;
+
+    @Value("${game.profiler.blocked-threshold-ms:200}")
+    private long blockedThresholdMs;
+
+    @Value("${game.profiler.recent-stalls:100}")
+    private int recentStallsSize;
+
+    @Value("${game.profiler.max-tracked-players:1000}")
+    private int maxTrackedPlayers;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long stallThresholdNanos;
+    private long blockedThresholdNanos;
+
+    // 按MessageType编号索引
+    private Timer[] handlerTimers;
+    private StallStats[] statsByType;
+    private final Map<Long, StallStats> statsByPlayer = new ConcurrentHashMap<>();
+    private final Deque<Stall> recentStalls = new ArrayDeque<>();
+    private final LongAdder blockedReports = new LongAdder();
+
+    // 每个事件循环线程一个槽位，记录当前正在执行的处理器
+    private final ThreadLocal<Slot> currentSlot = ThreadLocal.withInitial(this::newSlot);
+    private final List<Slot> slots = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService watchdog;
+
+    @PostConstruct
+    public void init() {
+        stallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(stallThresholdMs);
+        blockedThresholdNanos = TimeUnit.MILLISECONDS.toNanos(blockedThresholdMs);
+        int maxNumber = 0;
+        for (GameProto.MessageType type : GameProto.MessageType.values()) {
+            if (type != GameProto.MessageType.UNRECOGNIZED) {
+                maxNumber = Math.max(maxNumber, type.getNumber());
+            }
+        }
+        handlerTimers = new Timer[maxNumber + 1];
+        statsByType = new StallStats[maxNumber + 1];
+        for (int i = 0; i < statsByType.length; i++) {
+            statsByType[i] = new StallStats();
+        }
+        if (!enabled) {
+            return;
+        }
+        if (blockedThresholdMs > 0) {
+            watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "handler-profiler-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1, blockedThresholdMs / 2);
+            watchdog.scheduleAtFixedRate(this::checkBlocked, period, period, TimeUnit.MILLISECONDS);
+        }
+        log.info("Handler profiler enabled, stall threshold: {} ms, blocked threshold: {} ms",
+                stallThresholdMs, blockedThresholdMs);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+    }
+
+    // 在事件循环上开始执行一条消息的处理器，返回值交给end；未启用时返回null
+    Dispatch begin(GameProto.MessageType type, long playerId) {
+        if (!enabled) {
+            return null;
+        }
+        Slot slot = currentSlot.get();
+        Dispatch dispatch = new Dispatch(slot, type, playerId, System.nanoTime());
+        slot.current = dispatch;
+        return dispatch;
+    }
+
+    void end(Dispatch dispatch) {
+        if (dispatch == null) {
+            return;
+        }
+        long duration = System.nanoTime() - dispatch.startNanos;
+        dispatch.slot.current = null;
+        timer(dispatch.type).record(duration, TimeUnit.NANOSECONDS);
+        if (duration >= stallThresholdNanos) {
+            recordStall(dispatch.type, dispatch.playerId, duration);
+        }
+    }
+
+    private void recordStall(GameProto.MessageType type, long playerId, long duration) {
+        int number = type.getNumber();
+        if (number >= 0 && number < statsByType.length) {
+            statsByType[number].record(duration);
+        }
+        if (playerId != 0) {
+            StallStats stats = statsByPlayer.get(playerId);
+            if (stats == null && statsByPlayer.size() < maxTrackedPlayers) {
+                stats = statsByPlayer.computeIfAbsent(playerId, k -> new StallStats());
+            }
+            if (stats != null) {
+                stats.record(duration);
+            }
+        }
+        Stall stall = new Stall(System.currentTimeMillis(), type, playerId, duration, Thread.currentThread().getName());
+        synchronized (recentStalls) {
+            if (recentStalls.size() >= recentStallsSize) {
+                recentStalls.pollFirst();
+            }
+            recentStalls.addLast(stall);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Event loop stall: {} from player {} took {} ms", type, playerId, duration / 1_000_000.0);
+        }
+    }
+
+    // 看门狗线程：处理器仍在执行且超过阈值时报告一次
+    private void checkBlocked() {
+        long now = System.nanoTime();
+        for (Slot slot : slots) {
+            // 只读这一次，之后的类型、玩家都取自同一条记录；事件循环已经开始下一条消息时拿到的是新记录
+            Dispatch dispatch = slot.current;
+            if (dispatch == null || now - dispatch.startNanos < blockedThresholdNanos
+                    || !dispatch.reported.compareAndSet(false, true)) {
+                continue;
+            }
+            StackTraceElement[] frames = slot.thread.getStackTrace();
+            if (slot.current != dispatch) {
+                // 取栈期间处理器已经返回，栈属于别的任务；由end按普通卡顿记录
+                continue;
+            }
+            blockedReports.increment();
+            StringBuilder stack = new StringBuilder();
+            for (int i = 0; i < Math.min(frames.length, 12); i++) {
+                stack.append("\n\tat ").append(frames[i]);
+            }
+            log.warn("{} blocked for {} ms handling {} from player {}{}", slot.thread.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(now - dispatch.startNanos), dispatch.type, dispatch.playerId, stack);
+        }
+    }
+
+    private Slot newSlot() {
+        Slot slot = new Slot(Thread.currentThread());
+        slots.add(slot);
+        return slot;
+    }
+
+    private Timer timer(GameProto.MessageType type) {
+        int number = type.getNumber();
+        if (number < 0 || number >= handlerTimers.length) {
+            return register("UNRECOGNIZED");
+        }
+        Timer timer = handlerTimers[number];
+        if (timer == null) {
+            timer = register(type.name());
+            handlerTimers[number] = timer;
+        }
+        return timer;
+    }
+
+    private Timer register(String type) {
+        return Timer.builder("game.tcp.handler.time")
+                .description("Time a message handler runs on the event loop")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+
+    // 卡顿概况：按消息类型和玩家的卡顿次数/总时长/最大时长（按总时长降序取前limit个）以及最近的卡顿记录
+    public Map<String, Object> report(int limit) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("stallThresholdMs", stallThresholdMs);
+        report.put("blockedThresholdMs", blockedThresholdMs);
+        report.put("blockedReports", blockedReports.sum());
+
+        List<Map<String, Object>> types = new ArrayList<>();
+        for (GameProto.MessageType type : GameProto.MessageType.values()) {
+            if (type != GameProto.MessageType.UNRECOGNIZED && statsByType[type.getNumber()].count.sum() > 0) {
+                types.add(statsByType[type.getNumber()].toMap("type", type));
+            }
+        }
+        report.put("topTypes", top(types, limit));
+
+        List<Map<String, Object>> players = new ArrayList<>();
+        statsByPlayer.forEach((playerId, stats) -> players.add(stats.toMap("playerId", playerId)));
+        report.put("topPlayers", top(players, limit));
+
+        List<Map<String, Object>> recent = new ArrayList<>();
+        synchronized (recentStalls) {
+            for (Stall stall : recentStalls) {
+                recent.add(stall.toMap());
+            }
+        }
+        report.put("recentStalls", recent);
+        return report;
+    }
+
+    public void reset() {
+        for (StallStats stats : statsByType) {
+            stats.reset();
+        }
+        statsByPlayer.clear();
+        synchronized (recentStalls) {
+            recentStalls.clear();
+        }
+        blockedReports.reset();
+    }
+
+    private static List<Map<String, Object>> top(List<Map<String, Object>> entries, int limit) {
+        entries.sort(Comparator.comparingDouble((Map<String, Object> entry) -> (Double) entry.get("totalMs")).reversed());
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+    }
+
+    // 每个事件循环线程一个，current指向正在执行的处理器，空闲时为null；由该线程写入，看门狗线程读取
+    static final class Slot {
+        private final Thread thread;
+        private volatile Dispatch current;
+
+        Slot(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+    // 一次处理器执行，begin时创建后不再修改（reported除外），看门狗看到的类型、玩家和开始时间总是同一条消息的
+    static final class Dispatch {
+        private final Slot slot;
+        private final GameProto.MessageType type;
+        private final long playerId;
+        private final long startNanos;
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        Dispatch(Slot slot, GameProto.MessageType type, long playerId, long startNanos) {
+            this.slot = slot;
+            this.type = type;
+            this.playerId = playerId;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class StallStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            long max;
+            do {
+                max = maxNanos.get();
+            } while (nanos > max && !maxNanos.compareAndSet(max, nanos));
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+
+        Map<String, Object> toMap(String key, Object value) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put(key, value);
+            map.put("stalls", count.sum());
+            map.put("totalMs", totalNanos.sum() / 1_000_000.0);
+            map.put("maxMs", maxNanos.get() / 1_000_000.0);
+            return map;
+        }
+    }
+
+    private static final class Stall {
+        private final long timestamp;
+        private final GameProto.MessageType type;
+        private final long playerId;
+        private final long durationNanos;
+        private final String thread;
+
+        Stall(long timestamp, GameProto.MessageType type, long playerId, long durationNanos, String thread) {
+            this.timestamp = timestamp;
+            this.type = type;
+            this.playerId = playerId;
+            this.durationNanos = durationNanos;
+            this.thread = thread;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("timestamp", timestamp);
+            map.put("type", type);
+            map.put("playerId", playerId);
+            map.put("durationMs", durationNanos / 1_000_000.0);
+            map.put("thread", thread);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.game.tcp;
+
+import com.game.entity.GameRoom;
+import com.game.protobuf.GameProto;
+import com.game.service.GameRoomService;
+import com.game.service.RoomLobbyListener;
+import io.netty.buffer.ByteBuf;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 大厅订阅：订阅的客户端在可加入房间出现或消失时收到RoomListUpdate，不必反复拉取整个列表。
+// 回调在房间服务的调用线程上执行，每次变化只编码一次，所有订阅者共享同一帧。
+@Slf4j
+@Component
+public class LobbyBroadcaster implements RoomLobbyListener {
+
+    @Autowired
+    private GameRoomService gameRoomService;
+    @Autowired
+    private RoomInfoAssembler roomInfoAssembler;
+
+    private final Set<GameSession> subscribers = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        gameRoomService.setLobbyListener(this);
+    }
+
+    public void subscribe(GameSession session) {
+        if (subscribers.add(session)) {
+            log.debug("Lobby subscribers: {}", subscribers.size());
+        }
+    }
+
+    public void unsubscribe(GameSession session) {
+        subscribers.remove(session);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void onRoomOpened(GameRoom room) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        roomInfoAssembler.build(room).onSuccess(roomInfo -> {
+            // 组装期间房间可能已满员或解散，此时关闭通知已经发出
+            if (gameRoomService.isRoomOpen(room.getId())) {
+                push(GameProto.RoomListUpdate.newBuilder().addAdded(roomInfo).build());
+            }
+        }).onFailure(e -> log.warn("Failed to build lobby entry for room {}: {}", room.getId(), e.getMessage()));
+    }
+
+    @Override
+    public void onRoomClosed(Long roomId) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        push(GameProto.RoomListUpdate.newBuilder().addRemovedRoomIds(roomId).build());
+    }
+
+    private void push(GameProto.RoomListUpdate update) {
+        ByteBuf frame = FrameEncoder.encode(OutboundMessage.ROOM_LIST_UPDATE.wrap(update));
+        try {
+            for (GameSession session : subscribers) {
+                session.writeFrame(frame);
+            }
+        } finally {
+            frame.release();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+
+import java.util.function.Function;
+
+// 入站消息分发表：按GameMessage的oneof字段（BodyCase）直接索引到预先绑定的处理器，
+// 消息体在分发时按声明的类型取出，处理器不需要switch和强制转换。
+// 未注册的消息体（包括没有消息体、客户端发来的响应类消息）在做任何处理之前就被拒绝。
+public final class MessageDispatcher {
+
+    // 处理某一种消息体
+    public interface Handler<T> {
+        void handle(GameSession session, T body);
+    }
+
+    private final Route<?>[] routes;
+
+    public MessageDispatcher() {
+        int maxNumber = 0;
+        for (GameProto.GameMessage.BodyCase bodyCase : GameProto.GameMessage.BodyCase.values()) {
+            maxNumber = Math.max(maxNumber, bodyCase.getNumber());
+        }
+        routes = new Route<?>[maxNumber + 1];
+    }
+
+    public <T> MessageDispatcher register(GameProto.GameMessage.BodyCase bodyCase,
+                                          Function<GameProto.GameMessage, T> body, Handler<T> handler) {
+        if (bodyCase == GameProto.GameMessage.BodyCase.BODY_NOT_SET) {
+            throw new IllegalArgumentException("Cannot register a handler for a missing body");
+        }
+        if (routes[bodyCase.getNumber()] != null) {
+            throw new IllegalStateException("Handler already registered for " + bodyCase);
+        }
+        routes[bodyCase.getNumber()] = new Route<>(body, handler);
+        return this;
+    }
+
+    // 没有对应处理器时返回false
+    public boolean dispatch(GameSession session, GameProto.GameMessage message) {
+        Route<?> route = routes[message.getBodyCase().getNumber()];
+        if (route == null) {
+            return false;
+        }
+        route.invoke(session, message);
+        return true;
+    }
+
+    private static final class Route<T> {
+        private final Function<GameProto.GameMessage, T> body;
+        private final Handler<T> handler;
+
+        Route(Function<GameProto.GameMessage, T> body, Handler<T> handler) {
+            this.body = body;
+            this.handler = handler;
+        }
+
+        void invoke(GameSession session, GameProto.GameMessage message) {
+            handler.handle(session, body.apply(message));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// TCP入站统计：按消息类型的处理耗时（计数即请求速率），以及连接数和入站字节数。
+// 耗时从消息解码完成算起，异步请求到结果回到事件循环为止（包括在连接串行队列中等待前一个请求的时间）。
+@Component
+public class MessageMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 按MessageType编号索引，首次出现时注册；并发注册返回同一个Timer
+    private Timer[] latency;
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int maxNumber = 0;
+        for (GameProto.MessageType type : GameProto.MessageType.values()) {
+            if (type != GameProto.MessageType.UNRECOGNIZED) {
+                maxNumber = Math.max(maxNumber, type.getNumber());
+            }
+        }
+        latency = new Timer[maxNumber + 1];
+        Gauge.builder("game.tcp.connections", activeConnections, AtomicInteger::get)
+                .description("Open TCP connections")
+                .register(meterRegistry);
+        FunctionCounter.builder("game.tcp.connections.opened", connectionsOpened, LongAdder::sum)
+                .description("TCP connections accepted")
+                .register(meterRegistry);
+        FunctionCounter.builder("game.tcp.bytes", bytesIn, LongAdder::sum)
+                .tag("direction", "in")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    void onConnected() {
+        activeConnections.incrementAndGet();
+        connectionsOpened.increment();
+    }
+
+    void onDisconnected() {
+        activeConnections.decrementAndGet();
+    }
+
+    void onBytesReceived(int bytes) {
+        bytesIn.add(bytes);
+    }
+
+    void record(GameProto.MessageType type, long startNanos) {
+        timer(type).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(GameProto.MessageType type) {
+        int number = type.getNumber();
+        if (number < 0 || number >= latency.length) {
+            return register("UNRECOGNIZED");
+        }
+        Timer timer = latency[number];
+        if (timer == null) {
+            timer = register(type.name());
+            latency[number] = timer;
+        }
+        return timer;
+    }
+
+    private Timer register(String type) {
+        return Timer.builder("game.tcp.message.latency")
+                .description("Time from decoding a request to its completion")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
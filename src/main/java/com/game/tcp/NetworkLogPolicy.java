@@ -0,0 +1,142 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.google.protobuf.TextFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+// 网络路径的日志策略：逐条消息的日志默认不输出。
+// 1. 采样：DEBUG级别下每个连接每秒最多输出sample-per-second条逐消息日志，其余只计数；
+// 2. 跟踪：对指定的消息类型（trace-types，运行时可通过/admin/logging/trace修改）以INFO输出完整的收发内容，用于排查单个协议问题。
+//    输出前抹掉密码和会话令牌，日志里不出现可以直接登录或接管会话的凭据。
+@Slf4j
+@Component
+public class NetworkLogPolicy {
+
+    @Value("${game.tcp.logging.sample-per-second:5}")
+    private int samplesPerSecond;
+
+    @Value("${game.tcp.logging.trace-types:}")
+    private String traceTypes;
+
+    // 按MessageType编号索引，修改时整体替换，读取不加锁
+    private volatile boolean[] traced;
+
+    // 跟踪输出中需要抹掉的字段（按proto字段名，任意层级）
+    private static final Set<String> SENSITIVE_FIELDS = new HashSet<>(Arrays.asList("password", "session_token"));
+    private static final String REDACTED = "<redacted>";
+
+    private final LongAdder suppressed = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int maxNumber = 0;
+        for (GameProto.MessageType type : GameProto.MessageType.values()) {
+            if (type != GameProto.MessageType.UNRECOGNIZED) {
+                maxNumber = Math.max(maxNumber, type.getNumber());
+            }
+        }
+        traced = new boolean[maxNumber + 1];
+        for (String name : traceTypes.split(",")) {
+            if (!name.trim().isEmpty()) {
+                setTraced(GameProto.MessageType.valueOf(name.trim()), true);
+            }
+        }
+        log.info("Network logging: {} sampled lines per connection per second, tracing {}",
+                samplesPerSecond, getTracedTypes());
+    }
+
+    public boolean isTraced(GameProto.MessageType type) {
+        int number = type.getNumber();
+        boolean[] current = traced;
+        return number >= 0 && number < current.length && current[number];
+    }
+
+    public synchronized void setTraced(GameProto.MessageType type, boolean enabled) {
+        if (type == GameProto.MessageType.UNRECOGNIZED) {
+            throw new IllegalArgumentException("Cannot trace unrecognized message type");
+        }
+        boolean[] updated = traced.clone();
+        updated[type.getNumber()] = enabled;
+        traced = updated;
+    }
+
+    public List<GameProto.MessageType> getTracedTypes() {
+        List<GameProto.MessageType> types = new ArrayList<>();
+        for (GameProto.MessageType type : GameProto.MessageType.values()) {
+            if (type != GameProto.MessageType.UNRECOGNIZED && isTraced(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    // 该连接本秒内的采样额度未用完时返回true；调用方先检查日志级别再调用，关闭DEBUG时不产生任何开销
+    public boolean sample(GameSession session) {
+        if (session.tryLogSample(System.currentTimeMillis(), samplesPerSecond)) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    // 跟踪日志中的消息内容，敏感字段已抹掉
+    public static String describe(GameProto.GameMessage message) {
+        return TextFormat.shortDebugString(redact(message));
+    }
+
+    static Message redact(Message message) {
+        Message.Builder builder = null;
+        for (Map.Entry<Descriptors.FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+            Descriptors.FieldDescriptor field = entry.getKey();
+            if (SENSITIVE_FIELDS.contains(field.getName())
+                    && field.getJavaType() == Descriptors.FieldDescriptor.JavaType.STRING && !field.isRepeated()) {
+                if (builder == null) {
+                    builder = message.toBuilder();
+                }
+                builder.setField(field, REDACTED);
+            } else if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+                if (field.isRepeated()) {
+                    List<?> values = (List<?>) entry.getValue();
+                    for (int i = 0; i < values.size(); i++) {
+                        Message value = (Message) values.get(i);
+                        Message redacted = redact(value);
+                        if (redacted != value) {
+                            if (builder == null) {
+                                builder = message.toBuilder();
+                            }
+                            builder.setRepeatedField(field, i, redacted);
+                        }
+                    }
+                } else {
+                    Message value = (Message) entry.getValue();
+                    Message redacted = redact(value);
+                    if (redacted != value) {
+                        if (builder == null) {
+                            builder = message.toBuilder();
+                        }
+                        builder.setField(field, redacted);
+                    }
+                }
+            }
+        }
+        return builder != null ? builder.build() : message;
+    }
+
+    // 因采样限制未输出的日志条数
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+
+import java.util.function.BiConsumer;
+
+// 出站消息的类型描述：把消息类型和对应的oneof字段绑定在一起，
+// 发送时由编译器检查消息体类型，不需要按类型switch和强制转换。
+public final class OutboundMessage<T> {
+
+    public static final OutboundMessage<GameProto.LoginResponse> LOGIN_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.LOGIN_RESPONSE, GameProto.GameMessage.Builder::setLoginResponse);
+    public static final OutboundMessage<GameProto.RegisterResponse> REGISTER_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.REGISTER_RESPONSE, GameProto.GameMessage.Builder::setRegisterResponse);
+    public static final OutboundMessage<GameProto.ResumeSessionResponse> RESUME_SESSION_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.RESUME_SESSION_RESPONSE, GameProto.GameMessage.Builder::setResumeSessionResponse);
+    public static final OutboundMessage<GameProto.CreateRoomResponse> CREATE_ROOM_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.CREATE_ROOM_RESPONSE, GameProto.GameMessage.Builder::setCreateRoomResponse);
+    public static final OutboundMessage<GameProto.JoinRoomResponse> JOIN_ROOM_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.JOIN_ROOM_RESPONSE, GameProto.GameMessage.Builder::setJoinRoomResponse);
+    public static final OutboundMessage<GameProto.LeaveRoomResponse> LEAVE_ROOM_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.LEAVE_ROOM_RESPONSE, GameProto.GameMessage.Builder::setLeaveRoomResponse);
+    public static final OutboundMessage<GameProto.ListRoomsResponse> LIST_ROOMS_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.LIST_ROOMS_RESPONSE, GameProto.GameMessage.Builder::setListRoomsResponse);
+    public static final OutboundMessage<GameProto.RoomListUpdate> ROOM_LIST_UPDATE =
+            new OutboundMessage<>(GameProto.MessageType.ROOM_LIST_UPDATE, GameProto.GameMessage.Builder::setRoomListUpdate);
+    public static final OutboundMessage<GameProto.StartGameResponse> START_GAME_RESPONSE =
+            new OutboundMessage<>(GameProto.MessageType.START_GAME_RESPONSE, GameProto.GameMessage.Builder::setStartGameResponse);
+    public static final OutboundMessage<GameProto.GameStateUpdate> GAME_STATE_UPDATE =
+            new OutboundMessage<>(GameProto.MessageType.GAME_STATE_UPDATE, GameProto.GameMessage.Builder::setGameStateUpdate);
+    public static final OutboundMessage<GameProto.GameOver> GAME_OVER =
+            new OutboundMessage<>(GameProto.MessageType.GAME_OVER, GameProto.GameMessage.Builder::setGameOver);
+    public static final OutboundMessage<GameProto.ErrorMessage> ERROR =
+            new OutboundMessage<>(GameProto.MessageType.ERROR, GameProto.GameMessage.Builder::setError);
+
+    private final GameProto.MessageType type;
+    private final BiConsumer<GameProto.GameMessage.Builder, T> setter;
+
+    private OutboundMessage(GameProto.MessageType type, BiConsumer<GameProto.GameMessage.Builder, T> setter) {
+        this.type = type;
+        this.setter = setter;
+    }
+
+    public GameProto.MessageType getType() {
+        return type;
+    }
+
+    // 包装成GameMessage；type字段仍然设置，客户端按它分发
+    public GameProto.GameMessage wrap(T body) {
+        GameProto.GameMessage.Builder builder = GameProto.GameMessage.newBuilder().setType(type);
+        setter.accept(builder, body);
+        return builder.build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.game.tcp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 出站写队列策略（所有连接共用的配置和汇总统计，每个连接的状态在GameSession中）：
+// 写队列超过max-queue-bytes时连接进入拥塞状态，期间状态更新只保留最新一条，可写后再发出；
+// 积压超过evict-queue-bytes或持续拥塞超过slow-consumer-timeout-ms的连接被断开，防止慢客户端拖垮堆内存。
+// 开启batch时，同一事件循环轮次内发往同一连接的帧只flush一次（一次writev），单次flush最多max-batch-bytes。
+@Slf4j
+@Component
+public class OutboundPolicy {
+
+    @Value("${game.tcp.outbound.max-queue-bytes:262144}")
+    private int maxQueueBytes;
+
+    @Value("${game.tcp.outbound.evict-queue-bytes:4194304}")
+    private long evictQueueBytes;
+
+    @Value("${game.tcp.outbound.slow-consumer-timeout-ms:10000}")
+    private long slowConsumerTimeoutMs;
+
+    @Value("${game.tcp.outbound.batch:true}")
+    private boolean batch;
+
+    @Value("${game.tcp.outbound.max-batch-bytes:65536}")
+    private int maxBatchBytes;
+
+    private long slowConsumerTimeoutNanos;
+
+    private final LongAdder congestions = new LongAdder();
+    private final LongAdder coalescedUpdates = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder batchFlushes = new LongAdder();
+    private final LongAdder batchedFrames = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        slowConsumerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(slowConsumerTimeoutMs);
+        log.info("Outbound queue limit: {} bytes, evict at {} bytes or after {} ms congested, batching {}",
+                maxQueueBytes, evictQueueBytes, slowConsumerTimeoutMs, batch ? "up to " + maxBatchBytes + " bytes" : "disabled");
+    }
+
+    public boolean isBatch() {
+        return batch;
+    }
+
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public int getMaxQueueBytes() {
+        return maxQueueBytes;
+    }
+
+    // 拥塞持续时间或积压字节数超限时返回true
+    boolean shouldEvict(long congestedNanos, long queuedBytes) {
+        return queuedBytes > evictQueueBytes || congestedNanos > slowConsumerTimeoutNanos;
+    }
+
+    void onCongested() {
+        congestions.increment();
+    }
+
+    void onCoalesced() {
+        coalescedUpdates.increment();
+    }
+
+    void onEvicted() {
+        evictions.increment();
+    }
+
+    void onBytesSent(int bytes) {
+        bytesSent.add(bytes);
+    }
+
+    void onBatchFlushed(int frames) {
+        batchFlushes.increment();
+        batchedFrames.add(frames);
+    }
+
+    public long getCongestions() {
+        return congestions.sum();
+    }
+
+    public long getCoalescedUpdates() {
+        return coalescedUpdates.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // 交给连接写出的字节数（含长度前缀）
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long getBatchFlushes() {
+        return batchFlushes.sum();
+    }
+
+    // 平均每次flush（系统调用）写出的帧数
+    public double getFramesPerFlush() {
+        long flushes = batchFlushes.sum();
+        return flushes == 0 ? 0 : (double) batchedFrames.sum() / flushes;
+    }
+}
@@ -0,0 +1,91 @@
+package com.game.tcp;
+
+import io.netty.buffer.ByteBuf;
+
+// 断线宽限期内发给该玩家的帧（房间通知等），环形缓冲，满了丢弃最旧的。
+// 写入可能来自房间所在的事件循环，取出在恢复会话的连接上，因此方法都加锁。
+// 结束方式只有一种能成功：forwardTo（会话恢复）或release（宽限期结束/被新登录替换）。
+final class ReconnectBuffer {
+
+    private final ByteBuf[] frames;
+    private int head;
+    private int size;
+    private int dropped;
+    private boolean closed;
+    // 会话恢复后接收后续帧的新会话
+    private GameSession forward;
+
+    ReconnectBuffer(int capacity) {
+        frames = new ByteBuf[Math.max(1, capacity)];
+    }
+
+    // 接管frame的引用；已转交新会话时直接转发，已关闭时释放
+    synchronized void add(ByteBuf frame) {
+        if (forward != null) {
+            try {
+                forward.writeFrame(frame);
+            } finally {
+                frame.release();
+            }
+            return;
+        }
+        if (closed) {
+            frame.release();
+            return;
+        }
+        if (size == frames.length) {
+            frames[head].release();
+            frames[head] = null;
+            head = (head + 1) % frames.length;
+            size--;
+            dropped++;
+        }
+        frames[(head + size) % frames.length] = frame;
+        size++;
+    }
+
+    // 按写入顺序发给新会话，之后写入这里的帧（旧会话还留在房间列表中的那段时间）都在同一把锁下转发过去，
+    // 顺序和完整性不依赖调用方何时把新会话换进房间。已被release时返回false
+    synchronized boolean forwardTo(GameSession session) {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        forward = session;
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % frames.length;
+            try {
+                session.writeFrame(frames[index]);
+            } finally {
+                frames[index].release();
+                frames[index] = null;
+            }
+        }
+        size = 0;
+        return true;
+    }
+
+    // 丢弃暂存的帧（计入dropped）。已转交新会话时返回false
+    synchronized boolean release() {
+        if (forward != null) {
+            return false;
+        }
+        closed = true;
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % frames.length;
+            frames[index].release();
+            frames[index] = null;
+        }
+        dropped += size;
+        size = 0;
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int getDropped() {
+        return dropped;
+    }
+}
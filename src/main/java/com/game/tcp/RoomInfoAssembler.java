@@ -0,0 +1,73 @@
+package com.game.tcp;
+
+import com.game.entity.GameRoom;
+import com.game.entity.Player;
+import com.game.protobuf.GameProto;
+import com.game.service.AsyncPlayerService;
+import io.vertx.core.Future;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 由房间实体组装协议中的RoomInfo（含双方玩家信息）。
+// 一批房间涉及的玩家只查询一次，列出N个房间是1次玩家查询而不是2N次。
+@Component
+public class RoomInfoAssembler {
+
+    @Autowired
+    private AsyncPlayerService asyncPlayerService;
+
+    public Future<GameProto.RoomInfo> build(GameRoom room) {
+        return buildAll(Collections.singletonList(room)).map(roomInfos -> roomInfos.get(0));
+    }
+
+    public Future<List<GameProto.RoomInfo>> buildAll(List<GameRoom> rooms) {
+        Set<Long> playerIds = new HashSet<>(rooms.size() * 2);
+        for (GameRoom room : rooms) {
+            if (room.getPlayer1Id() != null) {
+                playerIds.add(room.getPlayer1Id());
+            }
+            if (room.getPlayer2Id() != null) {
+                playerIds.add(room.getPlayer2Id());
+            }
+        }
+        return asyncPlayerService.getPlayers(playerIds).map(players -> assemble(rooms, players));
+    }
+
+    private static List<GameProto.RoomInfo> assemble(List<GameRoom> rooms, Map<Long, Player> players) {
+        List<GameProto.RoomInfo> roomInfos = new ArrayList<>(rooms.size());
+        for (GameRoom room : rooms) {
+            GameProto.RoomInfo.Builder builder = GameProto.RoomInfo.newBuilder()
+                    .setId(room.getId())
+                    .setRoomCode(room.getRoomCode())
+                    .setStatus(room.getStatus());
+
+            // 添加玩家信息
+            Player player1 = room.getPlayer1Id() != null ? players.get(room.getPlayer1Id()) : null;
+            if (player1 != null) {
+                builder.setPlayer1(toPlayerInfo(player1));
+            }
+            Player player2 = room.getPlayer2Id() != null ? players.get(room.getPlayer2Id()) : null;
+            if (player2 != null) {
+                builder.setPlayer2(toPlayerInfo(player2));
+            }
+            roomInfos.add(builder.build());
+        }
+        return roomInfos;
+    }
+
+    private static GameProto.PlayerInfo toPlayerInfo(Player player) {
+        return GameProto.PlayerInfo.newBuilder()
+                .setId(player.getId())
+                .setUsername(player.getUsername())
+                .setNickname(player.getNickname())
+                .setScore(player.getScore())
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.game.tcp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+// 会话令牌：登录成功时签发，断线重连时在本地验证（HMAC-SHA256），不需要查询数据库。
+// 令牌格式：Base64(玩家ID:过期时间秒).Base64(签名)。
+// 未配置密钥时每次启动随机生成，重启后旧令牌失效；多实例部署需配置相同的密钥。
+@Slf4j
+@Component
+public class SessionTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${game.session.token-secret:}")
+    private String tokenSecret;
+
+    @Value("${game.session.token-ttl-seconds:86400}")
+    private long tokenTtlSeconds;
+
+    private SecretKeySpec key;
+
+    // Mac不是线程安全的，每个事件循环线程一个
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        byte[] secret;
+        if (tokenSecret == null || tokenSecret.isEmpty()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            log.warn("game.session.token-secret is not set, using a random key; session tokens will not survive a restart");
+        } else {
+            secret = tokenSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        key = new SecretKeySpec(secret, ALGORITHM);
+        newMac(); // 尽早暴露算法不可用
+        log.info("Session tokens enabled, ttl: {}s", tokenTtlSeconds);
+    }
+
+    public String issue(long playerId) {
+        long expiresAt = System.currentTimeMillis() / 1000 + tokenTtlSeconds;
+        byte[] payload = (playerId + ":" + expiresAt).getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        issued.increment();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    // 返回令牌中的玩家ID；签名不符、格式错误或已过期时返回0
+    public long verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return reject();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return reject();
+            }
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split(":");
+            if (fields.length != 2 || Long.parseLong(fields[1]) < System.currentTimeMillis() / 1000) {
+                return reject();
+            }
+            return Long.parseLong(fields[0]);
+        } catch (IllegalArgumentException e) {
+            return reject();
+        }
+    }
+
+    private long reject() {
+        rejected.increment();
+        return 0;
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    public long getIssued() {
+        return issued.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
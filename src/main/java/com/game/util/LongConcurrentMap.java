@@ -0,0 +1,149 @@
+package com.game.util;
+
+import io.netty.util.collection.LongObjectHashMap;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// long键的并发Map，面向读多写少的场景（在线会话、房间成员）。
+// 按键分段，每段持有一份不可变的LongObjectHashMap：读不加锁、不装箱、不分配；写在段内加锁并复制该段后整体替换。
+// 每次写入的代价与段的大小成正比，约为size/段数：段数按预期容量确定，使每段保持在十几个元素左右。
+// 实际元素远超预期容量时写入会线性变慢，这时应增大预期容量；写多的场景不适合用这个类。
+public class LongConcurrentMap<V> {
+
+    private static final int MIN_STRIPES = 64;
+    private static final int MAX_STRIPES = 1 << 16;
+    // 每段的目标元素数
+    private static final int ENTRIES_PER_STRIPE = 16;
+
+    private final Stripe<V>[] stripes;
+    private final int shift;
+
+    public LongConcurrentMap() {
+        this(MIN_STRIPES * ENTRIES_PER_STRIPE);
+    }
+
+    // expectedSize为预期的最大元素数，决定段数（2的幂，64到65536之间）
+    @SuppressWarnings("unchecked")
+    public LongConcurrentMap(int expectedSize) {
+        int count = MIN_STRIPES;
+        while (count < MAX_STRIPES && (long) count * ENTRIES_PER_STRIPE < expectedSize) {
+            count <<= 1;
+        }
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        shift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    public V get(long key) {
+        return stripe(key).map.get(key);
+    }
+
+    public boolean containsKey(long key) {
+        return stripe(key).map.containsKey(key);
+    }
+
+    public V put(long key, V value) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            LongObjectHashMap<V> copy = copyOf(stripe.map, 1);
+            V previous = copy.put(key, value);
+            stripe.map = copy;
+            return previous;
+        }
+    }
+
+    public V remove(long key) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            if (!stripe.map.containsKey(key)) {
+                return null;
+            }
+            LongObjectHashMap<V> copy = copyOf(stripe.map, 0);
+            V previous = copy.remove(key);
+            stripe.map = copy;
+            return previous;
+        }
+    }
+
+    // 当前值与value是同一对象时才移除
+    public boolean remove(long key, V value) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            if (stripe.map.get(key) != value) {
+                return false;
+            }
+            LongObjectHashMap<V> copy = copyOf(stripe.map, 0);
+            copy.remove(key);
+            stripe.map = copy;
+            return true;
+        }
+    }
+
+    // 原子地计算新值，返回null表示移除；remapping在段锁内执行，不能调用本Map的写方法
+    public V compute(long key, Function<? super V, ? extends V> remapping) {
+        Stripe<V> stripe = stripe(key);
+        synchronized (stripe) {
+            V oldValue = stripe.map.get(key);
+            V newValue = remapping.apply(oldValue);
+            if (newValue == oldValue) {
+                return newValue;
+            }
+            LongObjectHashMap<V> copy = copyOf(stripe.map, 1);
+            if (newValue == null) {
+                copy.remove(key);
+            } else {
+                copy.put(key, newValue);
+            }
+            stripe.map = copy;
+            return newValue;
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.map.size();
+        }
+        return size;
+    }
+
+    // 遍历各段当时的快照
+    public void forEachValue(Consumer<? super V> action) {
+        for (Stripe<V> stripe : stripes) {
+            for (V value : stripe.map.values()) {
+                action.accept(value);
+            }
+        }
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    // 最大段的元素数，即最坏情况下一次写入要复制的元素数
+    int maxStripeSize() {
+        int max = 0;
+        for (Stripe<V> stripe : stripes) {
+            max = Math.max(max, stripe.map.size());
+        }
+        return max;
+    }
+
+    private Stripe<V> stripe(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> shift)];
+    }
+
+    private static <V> LongObjectHashMap<V> copyOf(LongObjectHashMap<V> map, int extra) {
+        LongObjectHashMap<V> copy = new LongObjectHashMap<>(Math.max(8, (map.size() + extra) * 2));
+        copy.putAll(map);
+        return copy;
+    }
+
+    private static final class Stripe<V> {
+        volatile LongObjectHashMap<V> map = new LongObjectHashMap<>(8);
+    }
+}
@@ -0,0 +1,82 @@
+package com.game.admin;
+
+import com.game.protobuf.GameProto;
+import com.game.tcp.NetworkLogPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminWebConfigTest {
+
+    private static final String TOKEN = "s3cret-token";
+
+    private final NetworkLogPolicy networkLogPolicy = mock(NetworkLogPolicy.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AdminWebConfig config = new AdminWebConfig();
+        ReflectionTestUtils.setField(config, "token", TOKEN);
+        config.init();
+        CapturingRegistry registry = new CapturingRegistry();
+        config.addInterceptors(registry);
+
+        LoggingAdminController controller = new LoggingAdminController();
+        ReflectionTestUtils.setField(controller, "networkLogPolicy", networkLogPolicy);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(registry.interceptors().toArray(new HandlerInterceptor[0]))
+                .build();
+    }
+
+    @Test
+    void rejectsRequestsWithoutTheToken() throws Exception {
+        mockMvc.perform(get("/admin/logging")).andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/admin/logging/trace/MOVE_REQUEST").header(AdminWebConfig.TOKEN_HEADER, "wrong"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/admin/logging/trace/MOVE_REQUEST").header(AdminWebConfig.TOKEN_HEADER, TOKEN + "x"))
+                .andExpect(status().isUnauthorized());
+
+        verify(networkLogPolicy, never()).setTraced(any(), anyBoolean());
+    }
+
+    @Test
+    void acceptsTheConfiguredToken() throws Exception {
+        mockMvc.perform(get("/admin/logging").header(AdminWebConfig.TOKEN_HEADER, TOKEN)).andExpect(status().isOk());
+        mockMvc.perform(put("/admin/logging/trace/MOVE_REQUEST").header(AdminWebConfig.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk());
+
+        verify(networkLogPolicy).setTraced(GameProto.MessageType.MOVE_REQUEST, true);
+    }
+
+    @Test
+    void refusesToStartWithoutAToken() {
+        AdminWebConfig config = new AdminWebConfig();
+        ReflectionTestUtils.setField(config, "token", "");
+
+        assertThrows(IllegalStateException.class, config::init);
+    }
+
+    // 取出AdminWebConfig注册的拦截器
+    private static final class CapturingRegistry extends InterceptorRegistry {
+        @SuppressWarnings("unchecked")
+        List<HandlerInterceptor> interceptors() {
+            return (List<HandlerInterceptor>) (List<?>) getInterceptors();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.game.config;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.VertxInternal;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VertxConfigTest {
+
+    @Test
+    void eventLoopsCoverConfiguredInstances() throws Exception {
+        int instances = VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE + 3;
+        assertEquals(instances, eventLoops(instances));
+    }
+
+    @Test
+    void keepsDefaultEventLoopsForFewerInstances() throws Exception {
+        assertEquals(VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE, eventLoops(1));
+    }
+
+    private static int eventLoops(int instances) throws Exception {
+        VertxConfig config = new VertxConfig();
+        ReflectionTestUtils.setField(config, "instances", instances);
+        Vertx vertx = config.vertx();
+        try {
+            int count = 0;
+            for (EventExecutor ignored : ((VertxInternal) vertx).getEventLoopGroup()) {
+                count++;
+            }
+            return count;
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+}
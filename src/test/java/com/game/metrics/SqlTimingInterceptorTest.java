@@ -0,0 +1,79 @@
+package com.game.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlTimingInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlTimingInterceptor interceptor = new SqlTimingInterceptor();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    void shortensStatementIdsToTypeAndMethod() {
+        assertEquals("PlayerMapper.selectOne", SqlTimingInterceptor.shortName("com.game.mapper.PlayerMapper.selectOne"));
+        assertEquals("PlayerMapper.selectOne", SqlTimingInterceptor.shortName("PlayerMapper.selectOne"));
+        assertEquals("selectOne", SqlTimingInterceptor.shortName("selectOne"));
+    }
+
+    @Test
+    void recordsSuccessAndErrorSeparately() throws Throwable {
+        Invocation success = invocation("com.game.mapper.PlayerMapper.selectOne");
+        when(success.proceed()).thenReturn(1);
+        Invocation failure = invocation("com.game.mapper.PlayerMapper.selectOne");
+        // Invocation.proceed通过反射调用，执行器的异常包装在InvocationTargetException中
+        when(failure.proceed()).thenThrow(new InvocationTargetException(new SQLException("deadlock")));
+
+        assertEquals(1, interceptor.intercept(success));
+        assertEquals(1, interceptor.intercept(success));
+        assertThrows(InvocationTargetException.class, () -> interceptor.intercept(failure));
+
+        assertEquals(2, timer("PlayerMapper.selectOne", "success").count());
+        assertEquals(1, timer("PlayerMapper.selectOne", "error").count());
+    }
+
+    @Test
+    void recordsCallsMadeOutsideMyBatis() {
+        interceptor.record("PlayerRepository.selectByIds", true, System.nanoTime());
+        interceptor.record("PlayerRepository.selectByIds", false, System.nanoTime());
+
+        assertEquals(1, timer("PlayerRepository.selectByIds", "success").count());
+        assertEquals(1, timer("PlayerRepository.selectByIds", "error").count());
+    }
+
+    private Timer timer(String statement, String outcome) {
+        Timer timer = meterRegistry.find("game.db.calls").tag("statement", statement).tag("outcome", outcome).timer();
+        assertNotNull(timer);
+        return timer;
+    }
+
+    private static Invocation invocation(String statementId) {
+        MappedStatement statement = new MappedStatement.Builder(new Configuration(), statementId,
+                mock(SqlSource.class), SqlCommandType.SELECT).build();
+        Invocation invocation = mock(Invocation.class);
+        when(invocation.getArgs()).thenReturn(new Object[] {statement, null});
+        return invocation;
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.room;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PositionQuantizerTest {
+
+    private final PositionQuantizer quantizer = new PositionQuantizer(0.01f, -10f, 10f);
+
+    @Test
+    void roundsToNearestStep() {
+        assertEquals(123, quantizer.quantize(1.234f));
+        assertEquals(124, quantizer.quantize(1.236f));
+        assertEquals(-123, quantizer.quantize(-1.234f));
+        assertEquals(1.23f, quantizer.dequantize(123), 1e-6);
+    }
+
+    @Test
+    void clampsToWorldBounds() {
+        assertEquals(1000, quantizer.quantize(25f));
+        assertEquals(-1000, quantizer.quantize(-25f));
+        assertEquals(1000, quantizer.quantize(Float.POSITIVE_INFINITY));
+        assertEquals(10f, quantizer.dequantize(5000), 1e-6);
+        assertEquals(-10f, quantizer.dequantize(Integer.MIN_VALUE), 1e-6);
+    }
+
+    @Test
+    void mapsNaNToOrigin() {
+        assertEquals(0, quantizer.quantize(Float.NaN));
+        assertEquals(0f, quantizer.clamp(Float.NaN));
+    }
+
+    @Test
+    void rejectsInvalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(0f, -10f, 10f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(-0.01f, -10f, 10f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(Float.NaN, -10f, 10f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(Float.POSITIVE_INFINITY, -10f, 10f));
+    }
+
+    @Test
+    void rejectsInvalidWorldBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(0.01f, 10f, 10f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(0.01f, 10f, -10f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(0.01f, Float.NEGATIVE_INFINITY, 10f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(0.01f, -10f, Float.NaN));
+    }
+
+    @Test
+    void rejectsRangesThatOverflowInt() {
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(0.0001f, -1e6f, 1e6f));
+        assertThrows(IllegalArgumentException.class, () -> new PositionQuantizer(Float.MIN_VALUE, -1f, 1f));
+
+        PositionQuantizer wide = new PositionQuantizer(1f, -2e9f, 2e9f);
+        assertEquals(2_000_000_000, wide.quantize(3e9f));
+        assertEquals(-2_000_000_000, wide.quantize(-3e9f));
+    }
+
+    @Test
+    void engineFailsToStartWithZeroPrecision() {
+        RoomTickEngine engine = new RoomTickEngine();
+        ReflectionTestUtils.setField(engine, "tickRate", 20);
+        ReflectionTestUtils.setField(engine, "maxSpeed", 8f);
+        ReflectionTestUtils.setField(engine, "worldMin", -10f);
+        ReflectionTestUtils.setField(engine, "worldMax", 10f);
+        ReflectionTestUtils.setField(engine, "precision", 0f);
+
+        assertThrows(IllegalArgumentException.class, engine::init);
+    }
+}
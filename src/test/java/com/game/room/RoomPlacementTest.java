@@ -0,0 +1,106 @@
+package com.game.room;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.VertxInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomPlacementTest {
+
+    private static final Long ROOM_ID = 100L;
+
+    private final Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+    private final RoomPlacement placement = new RoomPlacement();
+    // 事件循环轮流分配，两个Context落在不同的事件循环上
+    private final Context owner = ((VertxInternal) vertx).createEventLoopContext();
+    private final Context other = ((VertxInternal) vertx).createEventLoopContext();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void firstContextClaimsTheRoomAndOthersAreForwarded() throws Exception {
+        assertNotSame(owner, other);
+        assertSame(owner, on(owner, () -> {
+            CompletableFuture<Context> ranOn = new CompletableFuture<>();
+            placement.execute(ROOM_ID, () -> ranOn.complete(Vertx.currentContext()));
+            return ranOn;
+        }).get(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Context> forwarded = new CompletableFuture<>();
+        on(other, () -> {
+            placement.execute(ROOM_ID, () -> forwarded.complete(Vertx.currentContext()));
+            return null;
+        });
+
+        assertSame(owner, forwarded.get(10, TimeUnit.SECONDS));
+        assertEquals(1, placement.getHandoffs());
+        assertEquals(1, placement.getPlacedRoomCount());
+    }
+
+    @Test
+    void executeIfPlacedSkipsUnplacedRooms() throws Exception {
+        assertFalse(on(owner, () -> placement.executeIfPlaced(ROOM_ID, () -> { })));
+        assertEquals(0, placement.getPlacedRoomCount());
+    }
+
+    @Test
+    void onlyTheOwnerReleasesAndTheRoomCanMove() throws Exception {
+        on(owner, () -> {
+            placement.execute(ROOM_ID, () -> { });
+            return null;
+        });
+        on(other, () -> {
+            placement.release(ROOM_ID);
+            return null;
+        });
+        assertEquals(1, placement.getPlacedRoomCount());
+
+        on(owner, () -> {
+            placement.release(ROOM_ID);
+            return null;
+        });
+        assertEquals(0, placement.getPlacedRoomCount());
+
+        // 释放后由下一个进入的事件循环认领
+        CompletableFuture<Context> ranOn = new CompletableFuture<>();
+        on(other, () -> {
+            placement.execute(ROOM_ID, () -> ranOn.complete(Vertx.currentContext()));
+            return null;
+        });
+        assertSame(other, ranOn.get(10, TimeUnit.SECONDS));
+        assertTrue(on(owner, () -> placement.executeIfPlaced(ROOM_ID, () -> { })));
+    }
+
+    @Test
+    void placingOutsideAnEventLoopFails() {
+        assertThrows(IllegalStateException.class, () -> placement.execute(ROOM_ID, () -> { }));
+    }
+
+    private static <T> T on(Context context, Supplier<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            try {
+                result.complete(action.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
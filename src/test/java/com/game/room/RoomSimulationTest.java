@@ -0,0 +1,177 @@
+package com.game.room;
+
+import com.game.protobuf.GameProto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomSimulationTest {
+
+    private static final float MAX_STEP = 100f;
+
+    private final PositionQuantizer quantizer = new PositionQuantizer(0.01f, -10f, 10f);
+    private final RoomSimulation simulation = new RoomSimulation(1L, 2, quantizer, 4);
+    private final List<Published> published = new ArrayList<>();
+
+    @Test
+    void sendsFullSnapshotUntilAcknowledged() {
+        simulation.addPlayer(10L, false);
+        simulation.addPlayer(20L, false);
+        move(10L, 1f, 2f);
+        move(20L, 3f, 4f);
+
+        assertTrue(simulation.step(MAX_STEP));
+        publish();
+
+        assertEquals(1, published.size());
+        GameProto.GameStateUpdate update = published.get(0).update;
+        assertEquals(0, update.getBaselineTick());
+        assertEquals(2, update.getPlayersCount());
+        assertEquals(1f, update.getPlayers(0).getX());
+        assertEquals(4f, update.getPlayers(1).getY());
+        assertArrayEquals(new long[] {10L, 20L}, published.get(0).recipients);
+    }
+
+    @Test
+    void sendsOnlyChangedFieldsRelativeToAcknowledgedTick() {
+        simulation.addPlayer(10L, false);
+        simulation.addPlayer(20L, false);
+        move(10L, 1f, 2f);
+        move(20L, 3f, 4f);
+        simulation.step(MAX_STEP);
+        publish();
+        int baseline = simulation.getTick();
+        assertTrue(simulation.acknowledge(10L, baseline));
+        assertTrue(simulation.acknowledge(20L, baseline));
+
+        move(10L, 1f, 5f);
+        assertTrue(simulation.step(MAX_STEP));
+        publish();
+
+        GameProto.GameStateUpdate update = published.get(0).update;
+        assertEquals(baseline, update.getBaselineTick());
+        assertEquals(1, update.getPlayersCount());
+        GameProto.PlayerPosition position = update.getPlayers(0);
+        assertEquals(10L, position.getPlayerId());
+        assertFalse(position.hasX());
+        assertEquals(5f, position.getY());
+    }
+
+    @Test
+    void groupsPlayersByBaselineAndReportsRemovedPlayers() {
+        simulation.addPlayer(10L, false);
+        simulation.addPlayer(20L, false);
+        move(10L, 1f, 1f);
+        move(20L, 2f, 2f);
+        simulation.step(MAX_STEP);
+        publish();
+        int baseline = simulation.getTick();
+        simulation.acknowledge(10L, baseline);
+
+        simulation.removePlayer(20L);
+        simulation.step(MAX_STEP);
+        publish();
+
+        // 只有10确认过基准，得到增量；没有其他接收者
+        assertEquals(1, published.size());
+        GameProto.GameStateUpdate update = published.get(0).update;
+        assertEquals(baseline, update.getBaselineTick());
+        assertEquals(0, update.getPlayersCount());
+        assertEquals(Arrays.asList(20L), update.getRemovedPlayerIdsList());
+    }
+
+    @Test
+    void compactDeltaSkipsMovesBelowPrecision() {
+        simulation.addPlayer(10L, true);
+        move(10L, 1f, 1f);
+        simulation.step(MAX_STEP);
+        publish();
+        GameProto.PlayerPosition full = published.get(0).update.getPlayers(0);
+        assertEquals(10L, full.getPlayerId());
+        assertEquals(100, full.getQx());
+        simulation.acknowledge(10L, simulation.getTick());
+
+        move(10L, 1.001f, 1.5f);
+        simulation.step(MAX_STEP);
+        publish();
+
+        GameProto.PlayerPosition delta = published.get(0).update.getPlayers(0);
+        assertEquals(0L, delta.getPlayerId());
+        assertEquals(0, delta.getSlot());
+        assertFalse(delta.hasQx());
+        assertEquals(150, delta.getQy());
+    }
+
+    @Test
+    void rejectsAcknowledgementsOutsideHistory() {
+        simulation.addPlayer(10L, false);
+        simulation.addPlayer(20L, false);
+        move(10L, 1f, 1f);
+        simulation.step(MAX_STEP);
+        publish();
+
+        assertFalse(simulation.acknowledge(10L, simulation.getTick() + 1));
+        assertFalse(simulation.acknowledge(99L, simulation.getTick()));
+        assertTrue(simulation.acknowledge(10L, simulation.getTick()));
+        // 历史容量为4，推进更多tick后旧快照被覆盖
+        int old = simulation.getTick();
+        for (int i = 0; i < 4; i++) {
+            move(10L, i, 0f);
+            simulation.step(MAX_STEP);
+            publish();
+        }
+        assertFalse(simulation.acknowledge(20L, old));
+        assertTrue(simulation.acknowledge(20L, simulation.getTick()));
+    }
+
+    @Test
+    void limitsMovementPerTick() {
+        simulation.addPlayer(10L, false);
+        move(10L, 0f, 0f);
+        simulation.step(1f);
+        move(10L, 3f, 4f);
+        simulation.step(1f);
+        publish();
+
+        GameProto.PlayerPosition position = published.get(0).update.getPlayers(0);
+        assertEquals(0.6f, position.getX(), 1e-6);
+        assertEquals(0.8f, position.getY(), 1e-6);
+    }
+
+    @Test
+    void reportsNoChangeWithoutInput() {
+        simulation.addPlayer(10L, false);
+        move(10L, 1f, 1f);
+        assertTrue(simulation.step(MAX_STEP));
+        assertFalse(simulation.step(MAX_STEP));
+        move(10L, 1f, 1f);
+        assertFalse(simulation.step(MAX_STEP));
+    }
+
+    private void move(long playerId, float x, float y) {
+        assertTrue(simulation.submitInput(playerId, x, y));
+    }
+
+    private void publish() {
+        published.clear();
+        simulation.publish((roomId, update, playerIds, count) ->
+                published.add(new Published(update, Arrays.copyOf(playerIds, count))));
+    }
+
+    private static final class Published {
+        private final GameProto.GameStateUpdate update;
+        private final long[] recipients;
+
+        Published(GameProto.GameStateUpdate update, long[] recipients) {
+            this.update = update;
+            this.recipients = recipients;
+        }
+    }
+}
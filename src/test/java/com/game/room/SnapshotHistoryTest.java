@@ -0,0 +1,39 @@
+package com.game.room;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SnapshotHistoryTest {
+
+    @Test
+    void recordsOnlySpawnedPlayers() {
+        SnapshotHistory history = new SnapshotHistory(2);
+        history.record(1, new long[] {10L, 20L, 30L}, new float[] {1f, 2f, 3f}, new float[] {4f, 5f, 6f},
+                new boolean[] {true, false, true}, 3);
+
+        int index = history.indexOf(1);
+        assertEquals(2, history.count(index));
+        assertEquals(1, history.find(index, 30L));
+        assertEquals(2, history.slot(index, 1));
+        assertEquals(3f, history.x(index, 1));
+        assertEquals(6f, history.y(index, 1));
+        assertEquals(-1, history.find(index, 20L));
+    }
+
+    @Test
+    void overwritesOldestTick() {
+        SnapshotHistory history = new SnapshotHistory(2);
+        long[] ids = {10L};
+        float[] x = {0f};
+        boolean[] spawned = {true};
+        history.record(1, ids, x, x, spawned, 1);
+        history.record(2, ids, x, x, spawned, 1);
+        history.record(3, ids, x, x, spawned, 1);
+
+        assertEquals(-1, history.indexOf(1));
+        assertEquals(2, history.tick(history.indexOf(2)));
+        assertEquals(3, history.tick(history.indexOf(3)));
+        assertEquals(-1, history.indexOf(0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.game.room;
+
+import com.game.protobuf.GameProto;
+import com.game.tcp.FrameDecoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 一个tick生成并编码状态更新：双人房间，每个tick只有一个玩家的一个坐标变化（最常见的移动）。
+// encoding为float（原编码）或compact（量化坐标+槽位）；delta=false时玩家从不确认，每次都是完整快照。
+// 结果中的bytes/updates为每条更新的帧大小（含4字节长度前缀），时间为生成加编码的耗时
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotSizeBenchmark {
+
+    private static final long FIRST_PLAYER = 100001L;
+    private static final long SECOND_PLAYER = 100002L;
+
+    @Param({"float", "compact"})
+    private String encoding;
+
+    @Param({"false", "true"})
+    private boolean delta;
+
+    private RoomSimulation simulation;
+    private int step;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Sizes {
+        public long updates;
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        boolean compact = "compact".equals(encoding);
+        simulation = new RoomSimulation(1L, 2, new PositionQuantizer(0.01f, -10f, 10f), 32);
+        simulation.addPlayer(FIRST_PLAYER, compact);
+        simulation.addPlayer(SECOND_PLAYER, compact);
+        simulation.submitInput(FIRST_PLAYER, 1.25f, -3.5f);
+        simulation.submitInput(SECOND_PLAYER, -4.75f, 2.5f);
+        simulation.step(100f);
+        simulation.publish((roomId, update, playerIds, count) -> { });
+        acknowledge();
+    }
+
+    @Benchmark
+    public void tick(Sizes sizes) {
+        step++;
+        simulation.submitInput(FIRST_PLAYER, (step & 1) == 0 ? 1.25f : 1.5f, -3.5f);
+        simulation.step(100f);
+        simulation.publish((roomId, update, playerIds, count) -> {
+            GameProto.GameMessage message = GameProto.GameMessage.newBuilder()
+                    .setType(GameProto.MessageType.GAME_STATE_UPDATE)
+                    .setGameStateUpdate(update)
+                    .build();
+            sizes.updates++;
+            sizes.bytes += FrameDecoder.LENGTH_FIELD_SIZE + message.toByteArray().length;
+        });
+        acknowledge();
+    }
+
+    private void acknowledge() {
+        if (delta) {
+            simulation.acknowledge(FIRST_PLAYER, simulation.getTick());
+            simulation.acknowledge(SECOND_PLAYER, simulation.getTick());
+        }
+    }
+}
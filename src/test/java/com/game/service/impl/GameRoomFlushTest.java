@@ -0,0 +1,104 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameRoomFlushTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private GameRoomServiceImpl service;
+    private RoomWriteQueue writeQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        GameRoomServiceImpl target = new GameRoomServiceImpl();
+        ReflectionTestUtils.setField(target, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(target, "flushBatchSize", 500);
+        service = spy(target);
+        writeQueue = (RoomWriteQueue) ReflectionTestUtils.getField(service, "writeQueue");
+        doReturn(true).when(service).saveBatch(anyCollection(), anyInt());
+        doReturn(true).when(service).removeByIds(anyCollection());
+    }
+
+    @Test
+    void failedStepRollsBackTheWholeBatchAndRetriesIt() {
+        GameRoom created = room(1L, 0);
+        GameRoom started = room(2L, 1);
+        writeQueue.insert(created);
+        writeQueue.update(started);
+        // 插入成功，更新失败
+        doThrow(new DataIntegrityViolationException("update failed"))
+                .doReturn(true)
+                .when(service).updateBatchById(anyCollection(), anyInt());
+
+        service.flush();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertEquals(1, service.getFailedFlushes());
+        assertEquals(2, service.getPendingWrites());
+
+        service.flush();
+
+        // 回滚后插入仍按插入重试，和更新在一个事务里提交
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<GameRoom>> inserts = ArgumentCaptor.forClass(Collection.class);
+        verify(service, times(2)).saveBatch(inserts.capture(), anyInt());
+        assertSame(created, inserts.getValue().iterator().next());
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(0, service.getPendingWrites());
+        assertEquals(2, service.getFlushedWrites());
+        assertEquals(1, service.getFailedFlushes());
+    }
+
+    @Test
+    void changesDuringAFailedFlushMergeWithTheRequeuedBatch() {
+        writeQueue.insert(room(1L, 0));
+        doThrow(new DataIntegrityViolationException("insert failed"))
+                .doAnswer(invocation -> {
+                    // 第二次写入时房间已被删除：抵消的插入不应该再出现
+                    throw new AssertionError("cancelled insert was written");
+                })
+                .when(service).saveBatch(anyCollection(), anyInt());
+
+        service.flush();
+        writeQueue.delete(1L);
+        service.flush();
+
+        assertEquals(0, service.getPendingWrites());
+        verify(service, never()).removeByIds(Collections.singletonList(1L));
+    }
+
+    private static GameRoom room(Long id, int status) {
+        GameRoom room = new GameRoom();
+        room.setId(id);
+        room.setRoomCode("R" + id);
+        room.setStatus(status);
+        return room;
+    }
+}
@@ -0,0 +1,104 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+import com.game.service.RoomLobbyListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+// 可加入房间索引：分页只返回等待中且有空位的房间，进出索引时通知大厅
+class GameRoomLobbyTest {
+
+    private final GameRoomServiceImpl service = new GameRoomServiceImpl();
+    private final RoomLobbyListener listener = mock(RoomLobbyListener.class);
+
+    @BeforeEach
+    void setUp() {
+        service.initRoomIds(0);
+        service.setLobbyListener(listener);
+    }
+
+    @Test
+    void pagesOpenRoomsById() {
+        List<Long> ids = new ArrayList<>();
+        for (long player = 1; player <= 5; player++) {
+            ids.add(service.createRoom(player).getId());
+        }
+
+        assertEquals(ids.subList(0, 2), idsOf(service.getWaitingRooms(0, 2)));
+        assertEquals(ids.subList(2, 4), idsOf(service.getWaitingRooms(ids.get(1), 2)));
+        assertEquals(ids.subList(4, 5), idsOf(service.getWaitingRooms(ids.get(3), 2)));
+        assertTrue(service.getWaitingRooms(ids.get(4), 2).isEmpty());
+        assertEquals(5, service.getWaitingRoomCount());
+    }
+
+    @Test
+    void fullStartedAndDissolvedRoomsLeaveTheIndex() {
+        GameRoom full = service.createRoom(1L);
+        GameRoom started = service.createRoom(3L);
+        GameRoom dissolved = service.createRoom(4L);
+        GameRoom open = service.createRoom(5L);
+
+        service.joinRoom(full.getRoomCode(), 2L);
+        service.startGame(started.getId(), 3L);
+        service.leaveRoom(dissolved.getRoomCode(), 4L);
+
+        List<GameRoom> page = service.getWaitingRooms(0, 10);
+        assertEquals(1, page.size());
+        assertEquals(open.getId(), page.get(0).getId());
+        assertEquals(1, service.getWaitingRoomCount());
+        assertFalse(service.isRoomOpen(full.getId()));
+        assertNull(service.joinRoom(started.getRoomCode(), 6L));
+
+        verify(listener).onRoomClosed(full.getId());
+        verify(listener).onRoomClosed(started.getId());
+        verify(listener).onRoomClosed(dissolved.getId());
+    }
+
+    @Test
+    void secondPlayerLeavingReopensTheRoom() {
+        GameRoom room = service.createRoom(1L);
+        service.joinRoom(room.getRoomCode(), 2L);
+        service.leaveRoom(room.getRoomCode(), 2L);
+
+        ArgumentCaptor<GameRoom> opened = ArgumentCaptor.forClass(GameRoom.class);
+        verify(listener, times(2)).onRoomOpened(opened.capture());
+        assertNull(opened.getValue().getPlayer2Id());
+        verify(listener).onRoomClosed(room.getId());
+        assertTrue(service.isRoomOpen(room.getId()));
+        assertEquals(1, service.getWaitingRooms(0, 10).size());
+    }
+
+    @Test
+    void creatorRejoiningOwnRoomFiresNothing() {
+        GameRoom room = service.createRoom(1L);
+        verify(listener).onRoomOpened(any());
+
+        service.joinRoom(room.getRoomCode(), 1L);
+
+        verify(listener, never()).onRoomClosed(room.getId());
+        verifyNoMoreInteractions(listener);
+    }
+
+    private static List<Long> idsOf(List<GameRoom> rooms) {
+        List<Long> ids = new ArrayList<>();
+        for (GameRoom room : rooms) {
+            ids.add(room.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,134 @@
+package com.game.service.impl;
+
+import com.game.entity.Player;
+import com.game.mapper.PlayerMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginTimeRecorderTest {
+
+    private final PlayerMapper playerMapper = mock(PlayerMapper.class);
+    private final LoginTimeRecorder recorder = new LoginTimeRecorder();
+    // mock只记录列表引用，这里按调用顺序保存每批的副本
+    private final List<List<Player>> batches = new ArrayList<>();
+
+    private final Answer<Integer> recordBatch = invocation -> {
+        List<Player> batch = invocation.getArgument(0);
+        synchronized (batches) {
+            batches.add(new ArrayList<>(batch));
+        }
+        return batch.size();
+    };
+
+    @BeforeEach
+    void setUp() {
+        when(playerMapper.updateLastLoginTimes(anyList())).thenAnswer(recordBatch);
+        ReflectionTestUtils.setField(recorder, "playerMapper", playerMapper);
+        // 定时写入不在测试期间触发，由测试直接调用flush
+        ReflectionTestUtils.setField(recorder, "flushIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(recorder, "flushBatchSize", 100);
+        recorder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.destroy();
+    }
+
+    @Test
+    void keepsOnlyTheLatestLoginPerPlayer() throws Exception {
+        recorder.record(1L);
+        Thread.sleep(5);
+        recorder.record(1L);
+        recorder.record(2L);
+        assertEquals(2, recorder.getPendingCount());
+        assertEquals(3, recorder.getRecorded());
+
+        recorder.flush();
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(2, recorder.getFlushedRows());
+        assertEquals(0, recorder.getPendingCount());
+        assertEquals(0, recorder.getFlushLagMillis());
+    }
+
+    @Test
+    void splitsLargeBacklogsIntoBatches() {
+        for (long id = 1; id <= 5; id++) {
+            recorder.record(id);
+        }
+        ReflectionTestUtils.setField(recorder, "flushBatchSize", 2);
+
+        recorder.flush();
+
+        assertEquals(3, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(2).size());
+        assertEquals(5, recorder.getFlushedRows());
+    }
+
+    @Test
+    void failedFlushKeepsTheNewerTimeAndRetries() throws Exception {
+        recorder.record(1L);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doAnswer(recordBatch)
+                .when(playerMapper).updateLastLoginTimes(anyList());
+
+        recorder.flush();
+        assertEquals(1, recorder.getFailedFlushes());
+        assertEquals(1, recorder.getPendingCount());
+
+        Thread.sleep(5);
+        long beforeRelogin = System.currentTimeMillis();
+        recorder.record(1L);
+        recorder.flush();
+
+        assertEquals(1, batches.size());
+        assertTrue(batches.get(0).get(0).getLastLoginTime().getTime() >= beforeRelogin);
+        assertEquals(0, recorder.getPendingCount());
+        assertTrue(recorder.getMaxFlushLagMillis() >= 5);
+    }
+
+    @Test
+    void fullBatchIsWrittenWithoutWaitingForTheInterval() {
+        ReflectionTestUtils.setField(recorder, "flushBatchSize", 3);
+        recorder.record(1L);
+        recorder.record(2L);
+        verify(playerMapper, never()).updateLastLoginTimes(anyList());
+
+        recorder.record(3L);
+
+        verify(playerMapper, timeout(5000)).updateLastLoginTimes(anyList());
+    }
+
+    @Test
+    void shutdownWritesTheRemainingLogins() {
+        recorder.record(1L);
+        recorder.destroy();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Player>> batch = ArgumentCaptor.forClass(List.class);
+        verify(playerMapper, times(1)).updateLastLoginTimes(batch.capture());
+        assertEquals(1L, batch.getValue().get(0).getId().longValue());
+    }
+}
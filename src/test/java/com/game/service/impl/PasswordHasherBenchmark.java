@@ -0,0 +1,78 @@
+package com.game.service.impl;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 登录时的密码验证吞吐：一次提交concurrent个verifyAsync到有界线程池，等待全部完成。
+// poolSize为0时按CPU核数。结果中的logins为每秒完成的验证数，即该迭代次数下单机登录吞吐的上限；
+// 与日志中"Password hasher started ... logins/s"的估算值对照
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    @Param({"10000", "100000"})
+    private int iterations;
+
+    @Param({"1", "0"})
+    private int poolSize;
+
+    @Param({"64"})
+    private int concurrent;
+
+    private PasswordHasher hasher;
+    private String storedHash;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Logins {
+        public long logins;
+    }
+
+    @Setup
+    public void setUp() {
+        hasher = new PasswordHasher();
+        ReflectionTestUtils.setField(hasher, "iterations", iterations);
+        ReflectionTestUtils.setField(hasher, "poolSize", poolSize);
+        ReflectionTestUtils.setField(hasher, "queueCapacity", concurrent);
+        hasher.init();
+        storedHash = hasher.hash("secret");
+    }
+
+    @TearDown
+    public void tearDown() {
+        hasher.destroy();
+    }
+
+    @Benchmark
+    public boolean verify(Logins logins) throws Exception {
+        List<Future> results = new ArrayList<>(concurrent);
+        for (int i = 0; i < concurrent; i++) {
+            results.add(hasher.verifyAsync("secret", storedHash));
+        }
+        CompositeFuture all = CompositeFuture.all(results).toCompletionStage().toCompletableFuture().get(60, TimeUnit.SECONDS);
+        logins.logins += concurrent;
+        return all.<Boolean>resultAt(0);
+    }
+}
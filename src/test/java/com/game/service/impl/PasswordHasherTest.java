@@ -0,0 +1,119 @@
+package com.game.service.impl;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = newHasher(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hasher.destroy();
+    }
+
+    @Test
+    void verifiesOwnHash() {
+        String hash = hasher.hash("secret");
+
+        assertTrue(hash.startsWith("pbkdf2$1000$"));
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("Secret", hash));
+        assertFalse(hasher.needsRehash(hash));
+    }
+
+    @Test
+    void saltsEachHash() {
+        assertNotEquals(hasher.hash("secret"), hasher.hash("secret"));
+    }
+
+    @Test
+    void acceptsLegacyPlaintextAndAsksForRehash() {
+        assertTrue(hasher.matches("secret", "secret"));
+        assertFalse(hasher.matches("other", "secret"));
+        assertTrue(hasher.needsRehash("secret"));
+    }
+
+    @Test
+    void verifiesHashWithOldIterationsAndAsksForRehash() {
+        PasswordHasher old = newHasher(500);
+        try {
+            String hash = old.hash("secret");
+
+            assertTrue(hasher.matches("secret", hash));
+            assertTrue(hasher.needsRehash(hash));
+        } finally {
+            old.destroy();
+        }
+    }
+
+    @Test
+    void rejectsMalformedHash() {
+        assertFalse(hasher.matches("secret", "pbkdf2$x$c2FsdA$aGFzaA"));
+        assertFalse(hasher.matches("secret", "pbkdf2$1000$!!!$aGFzaA"));
+    }
+
+    @Test
+    void verifyAsyncFailsForUnknownUser() throws Exception {
+        assertFalse(hasher.verifyAsync("secret", null).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        String hash = hasher.hashAsync("secret").toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertTrue(hasher.verifyAsync("secret", hash).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void burstBeyondQueueCapacityIsRejectedWithoutBlocking() throws Exception {
+        String hash = hasher.hash("secret");
+        List<Future<Boolean>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            results.add(hasher.verifyAsync("secret", hash));
+        }
+        // 提交不等待哈希计算，队列满的请求立即失败
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        int accepted = 0;
+        int rejected = 0;
+        for (Future<Boolean> result : results) {
+            try {
+                assertTrue(result.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+                accepted++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(RejectedExecutionException.class, e.getCause());
+                rejected++;
+            }
+        }
+        assertTrue(accepted >= 10, "accepted " + accepted);
+        assertTrue(rejected > 0);
+        assertEquals(rejected, hasher.getRejected());
+        assertEquals(0, hasher.getQueueDepth());
+    }
+
+    private static PasswordHasher newHasher(int iterations) {
+        PasswordHasher hasher = new PasswordHasher();
+        ReflectionTestUtils.setField(hasher, "iterations", iterations);
+        ReflectionTestUtils.setField(hasher, "poolSize", 1);
+        ReflectionTestUtils.setField(hasher, "queueCapacity", 10);
+        hasher.init();
+        return hasher;
+    }
+}
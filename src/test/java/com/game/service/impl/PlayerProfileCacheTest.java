@@ -0,0 +1,111 @@
+package com.game.service.impl;
+
+import com.game.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PlayerProfileCacheTest {
+
+    @Test
+    void returnsPublicFieldsOnlyAndCopies() {
+        PlayerProfileCache cache = newCache(true, 10, 300);
+        Player player = player(1L);
+        player.setPassword("pbkdf2$hash");
+        cache.put(player, cache.version());
+
+        Player cached = cache.get(1L);
+        assertEquals("nick1", cached.getNickname());
+        assertNull(cached.getPassword());
+        cached.setNickname("changed");
+        assertEquals("nick1", cache.get(1L).getNickname());
+        assertEquals(2, cache.getHits());
+        assertNull(cache.get(2L));
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void staysWithinMaxSize() {
+        PlayerProfileCache cache = newCache(true, 100, 300);
+        for (long id = 1; id <= 1000; id++) {
+            cache.put(player(id), cache.version());
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.getEvictions());
+    }
+
+    @Test
+    void keepsRecentlyReadEntriesWhenEvicting() {
+        PlayerProfileCache cache = newCache(true, 8, 300);
+        for (long id = 1; id <= 8; id++) {
+            cache.put(player(id), cache.version());
+        }
+        // 采样的8个条目正好是已有的全部条目（按ID顺序遍历），最久未访问的1号被淘汰
+        for (long id = 2; id <= 8; id++) {
+            assertNotNull(cache.get(id));
+        }
+        cache.put(player(9L), cache.version());
+
+        assertNull(cache.get(1L));
+        assertNotNull(cache.get(2L));
+        assertNotNull(cache.get(9L));
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        PlayerProfileCache cache = newCache(true, 10, 0);
+        cache.put(player(1L), cache.version());
+
+        assertNull(cache.get(1L));
+        assertEquals(1, cache.getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void dropsLoadsThatRacedWithAnInvalidation() {
+        PlayerProfileCache cache = newCache(true, 10, 300);
+        cache.put(player(1L), cache.version());
+
+        long loadVersion = cache.version();
+        // 加载期间昵称被修改
+        cache.invalidate(1L);
+        cache.put(player(1L), loadVersion);
+
+        assertNull(cache.get(1L));
+        cache.put(player(1L), cache.version());
+        assertNotNull(cache.get(1L));
+    }
+
+    @Test
+    void disabledCacheStoresNothing() {
+        PlayerProfileCache cache = newCache(false, 10, 300);
+        cache.put(player(1L), cache.version());
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    private static PlayerProfileCache newCache(boolean enabled, int maxSize, long ttlSeconds) {
+        PlayerProfileCache cache = new PlayerProfileCache();
+        ReflectionTestUtils.setField(cache, "enabled", enabled);
+        ReflectionTestUtils.setField(cache, "maxSize", maxSize);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        cache.init();
+        return cache;
+    }
+
+    private static Player player(long id) {
+        Player player = new Player();
+        player.setId(id);
+        player.setUsername("user" + id);
+        player.setNickname("nick" + id);
+        player.setScore(0);
+        return player;
+    }
+}
@@ -0,0 +1,105 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomWriteQueueTest {
+
+    private final RoomWriteQueue queue = new RoomWriteQueue();
+
+    @Test
+    void updateAfterInsertStaysInsertWithLatestSnapshot() {
+        queue.insert(room(1L, 0));
+        GameRoom latest = room(1L, 1);
+        queue.update(latest);
+
+        List<RoomWriteQueue.PendingWrite> writes = queue.drain(10);
+        assertEquals(1, writes.size());
+        assertEquals(RoomWriteQueue.Kind.INSERT, writes.get(0).kind);
+        assertSame(latest, writes.get(0).snapshot);
+    }
+
+    @Test
+    void deleteCancelsUnpersistedInsert() {
+        queue.insert(room(1L, 0));
+        queue.update(room(1L, 0));
+        queue.delete(1L);
+
+        assertEquals(0, queue.size());
+        assertTrue(queue.drain(10).isEmpty());
+    }
+
+    @Test
+    void deleteReplacesPendingUpdate() {
+        queue.update(room(1L, 1));
+        queue.delete(1L);
+
+        RoomWriteQueue.PendingWrite write = queue.drain(10).get(0);
+        assertEquals(RoomWriteQueue.Kind.DELETE, write.kind);
+        assertEquals(Long.valueOf(1L), write.roomId);
+        assertNull(write.snapshot);
+    }
+
+    @Test
+    void drainRespectsLimit() {
+        for (long id = 1; id <= 5; id++) {
+            queue.insert(room(id, 0));
+        }
+
+        assertEquals(3, queue.drain(3).size());
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.drain(3).size());
+    }
+
+    @Test
+    void requeuedWriteMergesWithNewerChange() {
+        queue.insert(room(1L, 0));
+        List<RoomWriteQueue.PendingWrite> failed = queue.drain(10);
+        GameRoom newer = room(1L, 1);
+        queue.update(newer);
+
+        queue.requeue(failed);
+
+        RoomWriteQueue.PendingWrite write = queue.drain(10).get(0);
+        assertEquals(RoomWriteQueue.Kind.INSERT, write.kind);
+        assertSame(newer, write.snapshot);
+    }
+
+    @Test
+    void requeuedInsertCancelledByLaterDelete() {
+        queue.insert(room(1L, 0));
+        List<RoomWriteQueue.PendingWrite> failed = queue.drain(10);
+        queue.delete(1L);
+
+        queue.requeue(failed);
+
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void requeueWithoutNewerChangeRestoresWrite() {
+        queue.update(room(1L, 1));
+        List<RoomWriteQueue.PendingWrite> failed = queue.drain(10);
+
+        queue.requeue(failed);
+
+        assertEquals(failed, queue.drain(10));
+        queue.requeue(Collections.emptyList());
+        assertEquals(0, queue.size());
+    }
+
+    private static GameRoom room(Long id, int status) {
+        GameRoom room = new GameRoom();
+        room.setId(id);
+        room.setStatus(status);
+        return room;
+    }
+}
@@ -0,0 +1,217 @@
+package com.game.service.impl;
+
+import com.game.entity.GameRoom;
+import com.game.entity.Player;
+import com.game.metrics.SqlTimingInterceptor;
+import com.game.service.GameRoomService;
+import com.game.service.PlayerService;
+import com.game.support.EmbeddedMySql;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Tuple;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 在内嵌MariaDB（MySQL协议兼容）上跑Vert.x MySQL客户端实现
+class VertxAsyncPlayerServiceTest {
+
+    private static Vertx vertx;
+    private static MySQLPool pool;
+    private static PasswordHasher passwordHasher;
+
+    private final PlayerService playerService = mock(PlayerService.class);
+    private PlayerProfileCache profileCache;
+    private MeterRegistry meterRegistry;
+    private VertxAsyncPlayerService service;
+
+    @BeforeAll
+    static void startDatabase() {
+        vertx = Vertx.vertx();
+        MySQLConnectOptions connectOptions = new MySQLConnectOptions()
+                .setPort(EmbeddedMySql.port())
+                .setHost("127.0.0.1")
+                .setDatabase(EmbeddedMySql.DATABASE)
+                .setUser(EmbeddedMySql.USER)
+                .setPassword(EmbeddedMySql.PASSWORD);
+        pool = MySQLPool.pool(vertx, connectOptions, new PoolOptions().setMaxSize(2));
+        passwordHasher = new PasswordHasher();
+        ReflectionTestUtils.setField(passwordHasher, "iterations", 1000);
+        ReflectionTestUtils.setField(passwordHasher, "poolSize", 1);
+        ReflectionTestUtils.setField(passwordHasher, "queueCapacity", 10);
+        passwordHasher.init();
+    }
+
+    @AfterAll
+    static void tearDownClient() throws Exception {
+        passwordHasher.destroy();
+        await(pool.close());
+        await(vertx.close());
+    }
+
+    @BeforeEach
+    void setUp() {
+        profileCache = new PlayerProfileCache();
+        ReflectionTestUtils.setField(profileCache, "enabled", true);
+        ReflectionTestUtils.setField(profileCache, "maxSize", 100);
+        ReflectionTestUtils.setField(profileCache, "ttlSeconds", 300L);
+        profileCache.init();
+        meterRegistry = new SimpleMeterRegistry();
+        SqlTimingInterceptor sqlTiming = new SqlTimingInterceptor();
+        ReflectionTestUtils.setField(sqlTiming, "meterRegistry", meterRegistry);
+        service = new VertxAsyncPlayerService();
+        ReflectionTestUtils.setField(service, "pool", pool);
+        ReflectionTestUtils.setField(service, "playerService", playerService);
+        ReflectionTestUtils.setField(service, "profileCache", profileCache);
+        ReflectionTestUtils.setField(service, "passwordHasher", passwordHasher);
+        ReflectionTestUtils.setField(service, "sqlTiming", sqlTiming);
+    }
+
+    @Test
+    void registersAndLogsIn() throws Exception {
+        Player registered = await(service.register(newPlayer("alice", "secret")));
+
+        assertNotNull(registered.getId());
+        assertNull(registered.getPassword());
+        assertTrue(await(service.existsByUsername("alice")));
+        assertFalse(await(service.existsByUsername("nobody")));
+
+        Player loggedIn = await(service.login("alice", "secret"));
+        assertEquals(registered.getId(), loggedIn.getId());
+        assertEquals("alice-nick", loggedIn.getNickname());
+        assertNull(loggedIn.getPassword());
+        assertNull(await(service.login("alice", "wrong")));
+        assertNull(await(service.login("nobody", "secret")));
+    }
+
+    @Test
+    void storesOnlyTheHash() throws Exception {
+        Player registered = await(service.register(newPlayer("bob", "secret")));
+
+        String stored = await(pool.preparedQuery("SELECT password FROM player WHERE id = ?").execute(Tuple.of(registered.getId())))
+                .iterator().next().getString(0);
+        assertTrue(stored.startsWith("pbkdf2$1000$"));
+    }
+
+    @Test
+    void duplicateUsernameRegistersAsNull() throws Exception {
+        assertNotNull(await(service.register(newPlayer("carol", "secret"))));
+
+        assertNull(await(service.register(newPlayer("carol", "other"))));
+    }
+
+    @Test
+    void upgradesLegacyPlaintextPasswordOnLogin() throws Exception {
+        // db_init.sql中的测试账号是明文密码
+        assertNotNull(await(service.login("player1", "123456")));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        String stored;
+        do {
+            stored = await(pool.query("SELECT password FROM player WHERE username = 'player1'").execute())
+                    .iterator().next().getString(0);
+        } while (!stored.startsWith("pbkdf2$") && System.currentTimeMillis() < deadline);
+        assertTrue(stored.startsWith("pbkdf2$1000$"));
+        assertNotNull(await(service.login("player1", "123456")));
+    }
+
+    @Test
+    void loadsMissingPlayersInOneQueryAndCachesThem() throws Exception {
+        Long first = await(service.register(newPlayer("dave", "secret"))).getId();
+        Long second = await(service.register(newPlayer("erin", "secret"))).getId();
+
+        Map<Long, Player> players = await(service.getPlayers(Arrays.asList(first, second, 999_999L)));
+
+        assertEquals(2, players.size());
+        assertEquals("dave-nick", players.get(first).getNickname());
+        assertNull(players.get(first).getPassword());
+        assertEquals(1, selectByIdsCount());
+
+        players = await(service.getPlayers(Arrays.asList(first, second)));
+        assertEquals(2, players.size());
+        assertEquals(1, selectByIdsCount());
+    }
+
+    @Test
+    void completesOnTheCallersContext() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Context> completedOn = new CompletableFuture<>();
+        context.runOnContext(v -> service.existsByUsername("player2")
+                .onComplete(ar -> completedOn.complete(Vertx.currentContext())));
+
+        assertSame(context, completedOn.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void roomServiceSeedsRoomIdsFromTheTable() throws Exception {
+        Long owner = await(service.register(newPlayer("frank", "secret"))).getId();
+        // 内嵌库由同一JVM中的测试共用，表中可能已有其他测试创建的房间
+        long maxId = await(pool.query("SELECT IFNULL(MAX(id), 0) FROM game_room").execute()).iterator().next().getLong(0) + 41;
+        await(pool.preparedQuery("INSERT INTO game_room (id, room_code, status, player1_id, create_time) VALUES (?, ?, 2, ?, NOW())")
+                .execute(Tuple.of(maxId, "OLD" + maxId, owner)));
+        GameRoomService gameRoomService = mock(GameRoomService.class);
+        GameRoom room = new GameRoom();
+        when(gameRoomService.isRoomIdInitialized()).thenReturn(false);
+        when(gameRoomService.createRoom(owner)).thenReturn(room);
+        VertxAsyncGameRoomService roomService = new VertxAsyncGameRoomService();
+        ReflectionTestUtils.setField(roomService, "pool", pool);
+        ReflectionTestUtils.setField(roomService, "gameRoomService", gameRoomService);
+        ReflectionTestUtils.setField(roomService, "sqlTiming", ReflectionTestUtils.getField(service, "sqlTiming"));
+
+        assertSame(room, await(roomService.createRoom(owner)));
+        verify(gameRoomService).initRoomIds(maxId);
+    }
+
+    @Test
+    void recordsQueryTimings() throws Exception {
+        await(service.existsByUsername("player2"));
+
+        Timer timer = meterRegistry.find("game.db.calls")
+                .tag("statement", "PlayerRepository.existsByUsername")
+                .tag("outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    private long selectByIdsCount() {
+        Timer timer = meterRegistry.find("game.db.calls").tag("statement", "PlayerRepository.selectByIds").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static Player newPlayer(String username, String password) {
+        Player player = new Player();
+        player.setUsername(username);
+        player.setPassword(password);
+        player.setNickname(username + "-nick");
+        return player;
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+}
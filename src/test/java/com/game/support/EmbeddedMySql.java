@@ -0,0 +1,62 @@
+package com.game.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+// 测试和基准共用的内嵌MariaDB（MySQL协议兼容），按db_init.sql建好game_db，同一JVM内只启动一次，进程退出时停止
+public final class EmbeddedMySql {
+
+    public static final String USER = "root";
+    public static final String PASSWORD = "";
+    public static final String DATABASE = "game_db";
+
+    private static DB db;
+    private static int port;
+
+    private EmbeddedMySql() {
+    }
+
+    public static synchronized int port() {
+        if (db == null) {
+            start();
+        }
+        return port;
+    }
+
+    public static String jdbcUrl() {
+        return "jdbc:mysql://127.0.0.1:" + port() + "/" + DATABASE
+                + "?useUnicode=true&characterEncoding=utf-8&serverTimezone=Asia/Shanghai";
+    }
+
+    private static void start() {
+        try {
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(0);
+            // 沙箱和CI里常以root运行，mysqld需要显式指定用户
+            config.addArg("--user=root");
+            DB started = DB.newEmbeddedDB(config.build());
+            started.start();
+            port = config.getPort();
+            // 内嵌库自带的mysql命令行依赖libncurses5，这里用JDBC逐条执行建表脚本
+            String script = new String(Files.readAllBytes(Paths.get("db_init.sql")), StandardCharsets.UTF_8);
+            try (Connection connection = DriverManager.getConnection("jdbc:mysql://127.0.0.1:" + port + "/", USER, PASSWORD);
+                 Statement statement = connection.createStatement()) {
+                for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                    if (!sql.trim().isEmpty()) {
+                        statement.execute(sql.trim());
+                    }
+                }
+            }
+            db = started;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to start embedded MySQL", e);
+        }
+    }
+}
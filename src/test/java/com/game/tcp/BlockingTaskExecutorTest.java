@@ -0,0 +1,141 @@
+package com.game.tcp;
+
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BlockingTaskExecutorTest {
+
+    private final BlockingTaskExecutor executor = new BlockingTaskExecutor();
+    private Vertx vertx;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(executor, "poolSize", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 2);
+        ReflectionTestUtils.setField(executor, "slowWaitMs", 200L);
+        executor.init();
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.destroy();
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void runsOnWorkerAndCompletesOnCallersContext() throws Exception {
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<String> ranOn = new CompletableFuture<>();
+        CompletableFuture<Context> completedOn = new CompletableFuture<>();
+        context.runOnContext(v -> executor.execute(() -> Thread.currentThread().getName())
+                .onSuccess(ranOn::complete)
+                .onComplete(ar -> completedOn.complete(Vertx.currentContext())));
+
+        assertTrue(ranOn.get(10, TimeUnit.SECONDS).startsWith("game-worker-"));
+        assertSame(context, completedOn.get(10, TimeUnit.SECONDS));
+        assertEquals(1, executor.getCompletedTasks());
+    }
+
+    @Test
+    void propagatesTaskFailure() {
+        Future<Object> result = executor.execute(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> await(result));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> running = executor.execute(() -> {
+            started.countDown();
+            release.await();
+            return 0;
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // 唯一的工作线程被占用，队列容量为2
+        Future<Integer> first = executor.execute(() -> 1);
+        Future<Integer> second = executor.execute(() -> 2);
+        Future<Integer> third = executor.execute(() -> 3);
+
+        assertTrue(third.failed());
+        assertInstanceOf(RejectedExecutionException.class, third.cause());
+        assertEquals(2, executor.getQueueDepth());
+        assertEquals(1, executor.getRejectedTasks());
+
+        release.countDown();
+        assertEquals(0, await(running));
+        assertEquals(1, await(first));
+        assertEquals(2, await(second));
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(3, executor.getCompletedTasks());
+    }
+
+    @Test
+    void requestsOnOneConnectionRunInArrivalOrder() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        try {
+            NetSocketInternal socket = mock(NetSocketInternal.class);
+            when(socket.channelHandlerContext()).thenReturn(channel.pipeline().firstContext());
+            GameSession session = new GameSession(socket, mock(OutboundPolicy.class));
+            List<String> events = new ArrayList<>();
+            Promise<String> slow = Promise.promise();
+
+            Future<String> login = session.runInOrder(() -> {
+                events.add("login started");
+                return slow.future();
+            });
+            Future<String> join = session.runInOrder(() -> {
+                events.add("join started");
+                return Future.succeededFuture("joined");
+            });
+
+            // 第一个请求的数据库调用还没返回，第二个请求不能开始
+            assertEquals(1, events.size());
+            slow.fail("db down");
+            assertTrue(login.failed());
+            assertEquals("joined", join.result());
+            assertEquals("join started", events.get(1));
+
+            session.close();
+            Future<String> afterClose = session.runInOrder(() -> Future.succeededFuture("late"));
+            assertInstanceOf(RejectedExecutionException.class, afterClose.cause());
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+}
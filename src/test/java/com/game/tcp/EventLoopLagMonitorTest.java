@@ -0,0 +1,76 @@
+package com.game.tcp;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.VertxInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLoopLagMonitorTest {
+
+    private final Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventLoopLagMonitor monitor = new EventLoopLagMonitor();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        monitor.stop();
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void measuresTheTimeABusyLoopDelaysTheProbe() throws Exception {
+        start(10);
+        Timer lag = meterRegistry.find("game.eventloop.lag").tag("loop", "0").timer();
+        assertNotNull(lag);
+        assertNotNull(meterRegistry.find("game.eventloop.lag").tag("loop", "1").timer());
+
+        // 占住第一个事件循环200ms，期间到期的探测任务被推迟
+        ((VertxInternal) vertx).getEventLoopGroup().iterator().next()
+                .submit(() -> sleep(200)).get(10, TimeUnit.SECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (lag.max(TimeUnit.MILLISECONDS) < 150 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(lag.max(TimeUnit.MILLISECONDS) >= 150, "max lag " + lag.max(TimeUnit.MILLISECONDS));
+        Timer idle = meterRegistry.find("game.eventloop.lag").tag("loop", "1").timer();
+        assertTrue(idle.count() > 0);
+        assertTrue(idle.max(TimeUnit.MILLISECONDS) < 150, "idle lag " + idle.max(TimeUnit.MILLISECONDS));
+        Gauge last = meterRegistry.find("game.eventloop.lag.last").tag("loop", "0").gauge();
+        assertNotNull(last);
+    }
+
+    @Test
+    void disabledWithZeroInterval() {
+        start(0);
+
+        assertEquals(0, meterRegistry.getMeters().size());
+    }
+
+    private void start(long intervalMs) {
+        ReflectionTestUtils.setField(monitor, "intervalMs", intervalMs);
+        ReflectionTestUtils.setField(monitor, "vertx", vertx);
+        ReflectionTestUtils.setField(monitor, "meterRegistry", meterRegistry);
+        monitor.start();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
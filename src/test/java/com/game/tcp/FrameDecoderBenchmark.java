@@ -0,0 +1,86 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// 解码一次TCP读到的数据：每次读包含framesPerRead个MoveRequest帧，split时最后一帧被切成两半、分两次读到。
+// 结果中的bytesCopied/frames为每帧拷贝到累积缓冲区的字节数：完整帧为0，只有跨读的半帧产生拷贝。
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameDecoderBenchmark {
+
+    @Param({"1", "16"})
+    private int framesPerRead;
+
+    @Param({"false", "true"})
+    private boolean split;
+
+    private Buffer first;
+    private Buffer second;
+    private FrameDecoder decoder;
+    private Blackhole blackhole;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Copies {
+        public long frames;
+        public long bytesCopied;
+    }
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        byte[] frame = FrameDecoderTest.frame(GameProto.GameMessage.newBuilder()
+                .setType(GameProto.MessageType.MOVE_REQUEST)
+                .setMoveRequest(GameProto.MoveRequest.newBuilder().setRoomId(1).setQx(123).setQy(-456).setAckTick(1000))
+                .build());
+        byte[] stream = new byte[frame.length * framesPerRead];
+        for (int i = 0; i < framesPerRead; i++) {
+            System.arraycopy(frame, 0, stream, i * frame.length, frame.length);
+        }
+        int cut = split ? stream.length - frame.length / 2 : stream.length;
+        first = Buffer.buffer(Arrays.copyOfRange(stream, 0, cut));
+        second = Buffer.buffer(Arrays.copyOfRange(stream, cut, stream.length));
+        decoder = new FrameDecoder(blackhole::consume);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        decoder.release();
+        decoder = new FrameDecoder(blackhole::consume);
+    }
+
+    @Benchmark
+    public void decode(Copies copies) throws Exception {
+        long framesBefore = decoder.getFramesDecoded();
+        long copiedBefore = decoder.getBytesCopied();
+        decoder.decode(first);
+        if (second.length() > 0) {
+            decoder.decode(second);
+        }
+        copies.frames += decoder.getFramesDecoded() - framesBefore;
+        copies.bytesCopied += decoder.getBytesCopied() - copiedBefore;
+    }
+}
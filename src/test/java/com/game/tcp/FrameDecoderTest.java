@@ -0,0 +1,116 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameDecoderTest {
+
+    private final List<GameProto.GameMessage> received = new ArrayList<>();
+    private final FrameDecoder decoder = new FrameDecoder(received::add);
+
+    @AfterEach
+    void release() {
+        decoder.release();
+    }
+
+    @Test
+    void decodesCoalescedFramesWithoutCopying() throws Exception {
+        byte[] first = frame(listRooms(1));
+        byte[] second = frame(listRooms(2));
+
+        decoder.decode(Buffer.buffer(concat(first, second)));
+
+        assertEquals(2, received.size());
+        assertEquals(1, received.get(0).getListRoomsRequest().getAfterRoomId());
+        assertEquals(2, received.get(1).getListRoomsRequest().getAfterRoomId());
+        assertEquals(0, decoder.getBytesCopied());
+    }
+
+    @Test
+    void reassemblesFrameSplitInsideLengthPrefixAndBody() throws Exception {
+        byte[] frame = frame(listRooms(42));
+
+        decoder.decode(Buffer.buffer(Arrays.copyOfRange(frame, 0, 2)));
+        decoder.decode(Buffer.buffer(Arrays.copyOfRange(frame, 2, 6)));
+        assertTrue(received.isEmpty());
+
+        decoder.decode(Buffer.buffer(Arrays.copyOfRange(frame, 6, frame.length)));
+
+        assertEquals(1, received.size());
+        assertEquals(42, received.get(0).getListRoomsRequest().getAfterRoomId());
+    }
+
+    @Test
+    void keepsTrailingHalfFrameUntilTheRestArrives() throws Exception {
+        byte[] first = frame(listRooms(1));
+        byte[] second = frame(listRooms(2));
+        byte[] third = frame(listRooms(3));
+        byte[] stream = concat(first, second, third);
+        int cut = first.length + second.length / 2;
+
+        decoder.decode(Buffer.buffer(Arrays.copyOfRange(stream, 0, cut)));
+        assertEquals(1, received.size());
+
+        decoder.decode(Buffer.buffer(Arrays.copyOfRange(stream, cut, stream.length)));
+
+        assertEquals(3, received.size());
+        assertEquals(2, received.get(1).getListRoomsRequest().getAfterRoomId());
+        assertEquals(3, received.get(2).getListRoomsRequest().getAfterRoomId());
+        assertEquals(3, decoder.getFramesDecoded());
+    }
+
+    @Test
+    void dropsBufferedDataOnInvalidLength() throws Exception {
+        byte[] invalid = {(byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f, 0x01};
+
+        decoder.decode(Buffer.buffer(invalid));
+        assertTrue(received.isEmpty());
+
+        decoder.decode(Buffer.buffer(frame(listRooms(7))));
+
+        assertEquals(1, received.size());
+        assertEquals(7, received.get(0).getListRoomsRequest().getAfterRoomId());
+    }
+
+    private static GameProto.GameMessage listRooms(long afterRoomId) {
+        return GameProto.GameMessage.newBuilder()
+                .setType(GameProto.MessageType.LIST_ROOMS_REQUEST)
+                .setListRoomsRequest(GameProto.ListRoomsRequest.newBuilder().setAfterRoomId(afterRoomId))
+                .build();
+    }
+
+    static byte[] frame(GameProto.GameMessage message) {
+        ByteBuf frame = FrameEncoder.encode(message);
+        try {
+            byte[] bytes = new byte[frame.readableBytes()];
+            frame.readBytes(bytes);
+            return bytes;
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FrameEncoderTest {
+
+    private final EmbeddedChannel first = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final EmbeddedChannel second = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final OutboundPolicy policy = new OutboundPolicy();
+
+    @AfterEach
+    void tearDown() {
+        first.finishAndReleaseAll();
+        second.finishAndReleaseAll();
+    }
+
+    @Test
+    void broadcastSharesOneEncodedFrame() {
+        GameSession firstSession = session(first);
+        GameSession secondSession = session(second);
+        ByteBuf frame = FrameEncoder.encode(gameOver());
+
+        firstSession.writeFrame(frame);
+        secondSession.writeFrame(frame);
+        // 两个连接各持有一个引用，广播方的引用释放后内容仍然有效
+        assertEquals(3, frame.refCnt());
+        frame.release();
+        first.runPendingTasks();
+        second.runPendingTasks();
+
+        ByteBuf firstWritten = first.readOutbound();
+        ByteBuf secondWritten = second.readOutbound();
+        // retained duplicate：同一块内存，各自的读索引
+        assertSame(frame, firstWritten.unwrap());
+        assertSame(frame, secondWritten.unwrap());
+        assertEquals(firstWritten, secondWritten);
+        firstWritten.skipBytes(FrameDecoder.LENGTH_FIELD_SIZE);
+        assertEquals(0, secondWritten.readerIndex());
+
+        firstWritten.release();
+        assertEquals(1, frame.refCnt());
+        secondWritten.release();
+        assertEquals(0, frame.refCnt());
+    }
+
+    @Test
+    void encodesTheSameBytesAsTheHeapBufferPath() {
+        GameProto.GameMessage message = OutboundMessage.ERROR.wrap(GameProto.ErrorMessage.newBuilder()
+                .setCode(GameProto.ErrorCode.INTERNAL_ERROR)
+                .setMessage("服务器繁忙，请稍后重试")
+                .build());
+        // 原来sendMessage的写法：toByteArray后拷贝进带小端长度前缀的堆内存
+        byte[] body = message.toByteArray();
+        Buffer expected = Buffer.buffer(4 + body.length).appendIntLE(body.length).appendBytes(body);
+
+        ByteBuf frame = FrameEncoder.encode(message);
+        try {
+            assertTrue(frame.isDirect());
+            assertEquals(expected.getByteBuf(), frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    void ownedFrameIsReleasedAfterItIsWritten() {
+        GameSession session = session(first);
+        ByteBuf frame = FrameEncoder.encode(gameOver());
+
+        session.writeOwnedFrame(frame);
+        first.runPendingTasks();
+
+        ByteBuf written = first.readOutbound();
+        assertSame(frame, written);
+        assertEquals(1, frame.refCnt());
+        written.release();
+        assertEquals(0, frame.refCnt());
+    }
+
+    private GameSession session(EmbeddedChannel channel) {
+        ReflectionTestUtils.setField(policy, "maxQueueBytes", 262144);
+        ReflectionTestUtils.setField(policy, "evictQueueBytes", 4194304L);
+        ReflectionTestUtils.setField(policy, "slowConsumerTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(policy, "batch", true);
+        ReflectionTestUtils.setField(policy, "maxBatchBytes", 65536);
+        policy.init();
+        NetSocketInternal socket = mock(NetSocketInternal.class);
+        when(socket.channelHandlerContext()).thenReturn(channel.pipeline().firstContext());
+        return new GameSession(socket, policy);
+    }
+
+    private static GameProto.GameMessage gameOver() {
+        return OutboundMessage.GAME_OVER.wrap(GameProto.GameOver.newBuilder()
+                .setRoomId(100)
+                .setWinnerId(7)
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package com.game.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameSessionBatchTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void flushesFramesOfOneTurnTogether() {
+        OutboundPolicy policy = policy(65536);
+        GameSession session = session(policy);
+
+        write(session, 10);
+        write(session, 20);
+        write(session, 30);
+
+        assertTrue(channel.outboundMessages().isEmpty());
+        assertEquals(60, session.getQueuedBytes());
+
+        channel.runPendingTasks();
+
+        assertEquals(3, release(written()));
+        assertEquals(1, policy.getBatchFlushes());
+        assertEquals(3.0, policy.getFramesPerFlush());
+        assertEquals(0, session.getQueuedBytes());
+    }
+
+    @Test
+    void splitsFlushesAtMaxBatchBytes() {
+        OutboundPolicy policy = policy(10);
+        GameSession session = session(policy);
+
+        write(session, 8);
+        write(session, 8);
+        write(session, 8);
+        channel.runPendingTasks();
+
+        assertEquals(3, release(written()));
+        assertEquals(2, policy.getBatchFlushes());
+    }
+
+    @Test
+    void batchedBytesCountAgainstTheWriteLimit() {
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(50, 100));
+        GameSession session = session(policy(65536));
+
+        write(session, 120);
+        ByteBuf state = frame(16, (byte) 7);
+        session.writeStateFrame(state);
+        state.release();
+
+        // 批量帧还没交给Netty，但已超过水位线：状态更新暂存而不是入队
+        assertTrue(session.isCongested());
+        assertEquals(120, session.getQueuedBytes());
+
+        channel.runPendingTasks();
+
+        List<ByteBuf> frames = written();
+        assertEquals(2, frames.size());
+        assertEquals(16, frames.get(1).readableBytes());
+        assertEquals(7, frames.get(1).getByte(0));
+        assertFalse(session.isCongested());
+        release(frames);
+    }
+
+    private GameSession session(OutboundPolicy policy) {
+        NetSocketInternal socket = mock(NetSocketInternal.class);
+        when(socket.channelHandlerContext()).thenReturn(channel.pipeline().firstContext());
+        return new GameSession(socket, policy);
+    }
+
+    private static OutboundPolicy policy(int maxBatchBytes) {
+        OutboundPolicy policy = new OutboundPolicy();
+        ReflectionTestUtils.setField(policy, "maxQueueBytes", 262144);
+        ReflectionTestUtils.setField(policy, "evictQueueBytes", 4194304L);
+        ReflectionTestUtils.setField(policy, "slowConsumerTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(policy, "batch", true);
+        ReflectionTestUtils.setField(policy, "maxBatchBytes", maxBatchBytes);
+        policy.init();
+        return policy;
+    }
+
+    private static void write(GameSession session, int bytes) {
+        ByteBuf frame = frame(bytes, (byte) 0);
+        session.writeFrame(frame);
+        frame.release();
+    }
+
+    private static ByteBuf frame(int bytes, byte fill) {
+        ByteBuf frame = Unpooled.buffer(bytes);
+        for (int i = 0; i < bytes; i++) {
+            frame.writeByte(fill);
+        }
+        return frame;
+    }
+
+    private static int release(List<ByteBuf> frames) {
+        for (ByteBuf frame : frames) {
+            frame.release();
+        }
+        return frames.size();
+    }
+
+    private List<ByteBuf> written() {
+        List<ByteBuf> frames = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            frames.add(frame);
+        }
+        return frames;
+    }
+}
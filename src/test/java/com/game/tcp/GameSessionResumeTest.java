@@ -0,0 +1,132 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import com.game.room.RoomTickEngine;
+import com.game.service.GameRoomService;
+import com.game.service.RoomEndListener;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameSessionResumeTest {
+
+    private static final long PLAYER_ID = 7;
+    private static final long ROOM_ID = 100;
+
+    private final EmbeddedChannel oldChannel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final EmbeddedChannel newChannel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final GameSessionManager sessionManager = new GameSessionManager();
+    private final OutboundPolicy outboundPolicy = new OutboundPolicy();
+    private RoomEndListener endListener;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sessionManager, "roomTickEngine", mock(RoomTickEngine.class));
+        ReflectionTestUtils.setField(sessionManager, "reconnectGraceSeconds", 30);
+        ReflectionTestUtils.setField(sessionManager, "reconnectBufferSize", 8);
+        ReflectionTestUtils.setField(outboundPolicy, "maxQueueBytes", 262144);
+        ReflectionTestUtils.setField(outboundPolicy, "evictQueueBytes", 4194304L);
+        ReflectionTestUtils.setField(outboundPolicy, "slowConsumerTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(outboundPolicy, "batch", true);
+        ReflectionTestUtils.setField(outboundPolicy, "maxBatchBytes", 65536);
+        outboundPolicy.init();
+
+        // 只用到对局结束的通知路径
+        GameTcpHandler handler = new GameTcpHandler();
+        GameRoomService gameRoomService = mock(GameRoomService.class);
+        ReflectionTestUtils.setField(handler, "sessionManager", sessionManager);
+        ReflectionTestUtils.setField(handler, "gameRoomService", gameRoomService);
+        ReflectionTestUtils.setField(handler, "roomTickEngine", mock(RoomTickEngine.class));
+        ReflectionTestUtils.setField(handler, "networkLogPolicy", mock(NetworkLogPolicy.class));
+        handler.init();
+        ArgumentCaptor<RoomEndListener> listener = ArgumentCaptor.forClass(RoomEndListener.class);
+        verify(gameRoomService).setEndListener(listener.capture());
+        endListener = listener.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        oldChannel.finishAndReleaseAll();
+        newChannel.finishAndReleaseAll();
+    }
+
+    @Test
+    void gameOverDuringGracePeriodArrivesAfterResume() throws Exception {
+        GameSession previous = session(oldChannel);
+        sessionManager.addSession(previous, PLAYER_ID, false);
+        sessionManager.joinRoom(previous, ROOM_ID);
+        assertTrue(sessionManager.detachSession(previous));
+
+        endListener.onRoomEnded(ROOM_ID, null);
+        oldChannel.runPendingTasks();
+
+        // 连接已断开，不能写到旧连接上；玩家已退出房间
+        assertTrue(written(oldChannel).isEmpty());
+        assertFalse(previous.isInRoom());
+        assertEquals(0, sessionManager.getRoomPlayers(ROOM_ID).length);
+
+        GameSession resumed = session(newChannel);
+        assertTrue(sessionManager.resumeSession(resumed, PLAYER_ID, false));
+        newChannel.runPendingTasks();
+
+        List<GameProto.GameMessage> messages = written(newChannel);
+        assertEquals(1, messages.size());
+        assertEquals(GameProto.MessageType.GAME_OVER, messages.get(0).getType());
+        assertEquals(ROOM_ID, messages.get(0).getGameOver().getRoomId());
+        assertFalse(resumed.isInRoom());
+    }
+
+    @Test
+    void gameOverIsSentDirectlyToConnectedPlayers() throws Exception {
+        GameSession session = session(newChannel);
+        sessionManager.addSession(session, PLAYER_ID, false);
+        sessionManager.joinRoom(session, ROOM_ID);
+
+        endListener.onRoomEnded(ROOM_ID, PLAYER_ID);
+        newChannel.runPendingTasks();
+
+        List<GameProto.GameMessage> messages = written(newChannel);
+        assertEquals(1, messages.size());
+        assertEquals(PLAYER_ID, messages.get(0).getGameOver().getWinnerId());
+        assertFalse(session.isInRoom());
+    }
+
+    private GameSession session(EmbeddedChannel channel) {
+        NetSocketInternal socket = mock(NetSocketInternal.class);
+        when(socket.channelHandlerContext()).thenReturn(channel.pipeline().firstContext());
+        return new GameSession(socket, outboundPolicy);
+    }
+
+    private static List<GameProto.GameMessage> written(EmbeddedChannel channel) throws Exception {
+        List<GameProto.GameMessage> messages = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            try {
+                int length = frame.order(ByteOrder.LITTLE_ENDIAN).readInt();
+                byte[] body = new byte[length];
+                frame.readBytes(body);
+                messages.add(GameProto.GameMessage.parseFrom(body));
+            } finally {
+                frame.release();
+            }
+        }
+        return messages;
+    }
+}
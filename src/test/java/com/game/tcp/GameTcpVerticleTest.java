@@ -0,0 +1,65 @@
+package com.game.tcp;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetSocket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameTcpVerticleTest {
+
+    private static final int INSTANCES = 4;
+
+    private final Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(INSTANCES));
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void instancesShareThePortAndSpreadConnectionsOverEventLoops() throws Exception {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        int connections = INSTANCES * 2;
+        CountDownLatch accepted = new CountDownLatch(connections);
+        Set<String> acceptThreads = ConcurrentHashMap.newKeySet();
+        vertx.deployVerticle(() -> new GameTcpVerticle(socket -> {
+            acceptThreads.add(Thread.currentThread().getName());
+            accepted.countDown();
+        }, port), new DeploymentOptions().setInstances(INSTANCES))
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(1, vertx.deploymentIDs().size());
+
+        NetClient client = vertx.createNetClient();
+        List<NetSocket> sockets = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            sockets.add(client.connect(port, "127.0.0.1").toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        }
+        assertTrue(accepted.await(10, TimeUnit.SECONDS));
+
+        // 每个实例独占一个事件循环，新连接轮流分配给各实例
+        assertEquals(INSTANCES, acceptThreads.size(), "accepted on " + acceptThreads);
+        for (String thread : acceptThreads) {
+            assertTrue(thread.startsWith("vert.x-eventloop-thread-"), thread);
+        }
+        for (NetSocket socket : sockets) {
+            socket.close();
+        }
+    }
+}
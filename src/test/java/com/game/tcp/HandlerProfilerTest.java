@@ -0,0 +1,144 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandlerProfilerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HandlerProfiler profiler;
+
+    @AfterEach
+    void tearDown() {
+        profiler.destroy();
+    }
+
+    @Test
+    void recordsHandlerTimeWithoutStallsForFastHandlers() {
+        profiler = newProfiler(true, 50, 0, 10, 10);
+
+        run(GameProto.MessageType.MOVE_REQUEST, 7, 0);
+
+        assertEquals(1, meterRegistry.get("game.tcp.handler.time").tag("type", "MOVE_REQUEST").timer().count());
+        assertTrue(list(profiler.report(10), "topTypes").isEmpty());
+        assertTrue(list(profiler.report(10), "recentStalls").isEmpty());
+    }
+
+    @Test
+    void attributesStallsToTypeAndPlayer() {
+        profiler = newProfiler(true, 5, 0, 2, 10);
+
+        run(GameProto.MessageType.LOGIN_REQUEST, 0, 8);
+        run(GameProto.MessageType.LIST_ROOMS_REQUEST, 7, 20);
+        run(GameProto.MessageType.LIST_ROOMS_REQUEST, 7, 20);
+
+        Map<String, Object> report = profiler.report(1);
+        List<Map<String, Object>> types = list(report, "topTypes");
+        // 按总时长取前1个
+        assertEquals(1, types.size());
+        assertEquals(GameProto.MessageType.LIST_ROOMS_REQUEST, types.get(0).get("type"));
+        assertEquals(2L, types.get(0).get("stalls"));
+        List<Map<String, Object>> players = list(report, "topPlayers");
+        assertEquals(1, players.size());
+        assertEquals(7L, players.get(0).get("playerId"));
+        assertEquals(2L, players.get(0).get("stalls"));
+        // 未登录（playerId为0）的卡顿只计入类型
+        assertEquals(2, list(profiler.report(10), "topTypes").size());
+        // 最近卡顿只保留recent-stalls条
+        List<Map<String, Object>> recent = list(report, "recentStalls");
+        assertEquals(2, recent.size());
+        assertEquals(GameProto.MessageType.LIST_ROOMS_REQUEST, recent.get(1).get("type"));
+    }
+
+    @Test
+    void tracksAtMostMaxPlayers() {
+        profiler = newProfiler(true, 0, 0, 10, 2);
+
+        for (long playerId = 1; playerId <= 5; playerId++) {
+            run(GameProto.MessageType.MOVE_REQUEST, playerId, 0);
+        }
+
+        assertEquals(2, list(profiler.report(10), "topPlayers").size());
+        assertEquals(5L, list(profiler.report(10), "topTypes").get(0).get("stalls"));
+    }
+
+    @Test
+    void watchdogReportsABlockedHandlerOnce() throws Exception {
+        profiler = newProfiler(true, 10, 50, 10, 10);
+
+        Thread loop = new Thread(() -> run(GameProto.MessageType.CREATE_ROOM_REQUEST, 9, 300), "test-event-loop");
+        loop.start();
+        loop.join(10_000);
+
+        assertEquals(1L, profiler.report(10).get("blockedReports"));
+        assertEquals(1, list(profiler.report(10), "recentStalls").size());
+    }
+
+    @Test
+    void resetClearsStalls() {
+        profiler = newProfiler(true, 0, 0, 10, 10);
+        run(GameProto.MessageType.MOVE_REQUEST, 7, 0);
+
+        profiler.reset();
+
+        Map<String, Object> report = profiler.report(10);
+        assertTrue(list(report, "topTypes").isEmpty());
+        assertTrue(list(report, "topPlayers").isEmpty());
+        assertTrue(list(report, "recentStalls").isEmpty());
+        assertEquals(0L, report.get("blockedReports"));
+    }
+
+    @Test
+    void disabledProfilerRecordsNothing() {
+        profiler = newProfiler(false, 0, 50, 10, 10);
+
+        HandlerProfiler.Dispatch dispatch = profiler.begin(GameProto.MessageType.MOVE_REQUEST, 7);
+        profiler.end(dispatch);
+
+        assertNull(dispatch);
+        assertNull(meterRegistry.find("game.tcp.handler.time").timer());
+        assertNull(ReflectionTestUtils.getField(profiler, "watchdog"));
+    }
+
+    private void run(GameProto.MessageType type, long playerId, long sleepMillis) {
+        HandlerProfiler.Dispatch dispatch = profiler.begin(type, playerId);
+        try {
+            if (sleepMillis > 0) {
+                Thread.sleep(sleepMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            profiler.end(dispatch);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> list(Map<String, Object> report, String key) {
+        return (List<Map<String, Object>>) report.get(key);
+    }
+
+    private HandlerProfiler newProfiler(boolean enabled, long stallThresholdMs, long blockedThresholdMs,
+                                        int recentStalls, int maxTrackedPlayers) {
+        HandlerProfiler profiler = new HandlerProfiler();
+        ReflectionTestUtils.setField(profiler, "enabled", enabled);
+        ReflectionTestUtils.setField(profiler, "stallThresholdMs", stallThresholdMs);
+        ReflectionTestUtils.setField(profiler, "blockedThresholdMs", blockedThresholdMs);
+        ReflectionTestUtils.setField(profiler, "recentStallsSize", recentStalls);
+        ReflectionTestUtils.setField(profiler, "maxTrackedPlayers", maxTrackedPlayers);
+        ReflectionTestUtils.setField(profiler, "meterRegistry", meterRegistry);
+        profiler.init();
+        return profiler;
+    }
+}
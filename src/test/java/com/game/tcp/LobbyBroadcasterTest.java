@@ -0,0 +1,87 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import com.game.service.GameRoomService;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LobbyBroadcasterTest {
+
+    private final EmbeddedChannel subscribed = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final EmbeddedChannel unsubscribed = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final GameRoomService gameRoomService = mock(GameRoomService.class);
+    private final LobbyBroadcaster broadcaster = new LobbyBroadcaster();
+    private final OutboundPolicy policy = new OutboundPolicy();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(policy, "maxQueueBytes", 262144);
+        ReflectionTestUtils.setField(policy, "evictQueueBytes", 4194304L);
+        ReflectionTestUtils.setField(policy, "slowConsumerTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(policy, "batch", true);
+        ReflectionTestUtils.setField(policy, "maxBatchBytes", 65536);
+        policy.init();
+        ReflectionTestUtils.setField(broadcaster, "gameRoomService", gameRoomService);
+        ReflectionTestUtils.setField(broadcaster, "roomInfoAssembler", mock(RoomInfoAssembler.class));
+        broadcaster.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscribed.finishAndReleaseAll();
+        unsubscribed.finishAndReleaseAll();
+    }
+
+    @Test
+    void pushesClosedRoomsToSubscribersOnly() throws Exception {
+        verify(gameRoomService).setLobbyListener(broadcaster);
+        GameSession session = session(subscribed);
+        GameSession other = session(unsubscribed);
+        broadcaster.subscribe(session);
+        broadcaster.subscribe(other);
+        broadcaster.unsubscribe(other);
+        assertEquals(1, broadcaster.getSubscriberCount());
+
+        broadcaster.onRoomClosed(42L);
+        subscribed.runPendingTasks();
+        unsubscribed.runPendingTasks();
+
+        GameProto.GameMessage message = read(subscribed);
+        assertEquals(GameProto.MessageType.ROOM_LIST_UPDATE, message.getType());
+        assertEquals(42L, message.getRoomListUpdate().getRemovedRoomIds(0));
+        assertEquals(0, message.getRoomListUpdate().getAddedCount());
+        assertNull(unsubscribed.readOutbound());
+    }
+
+    private GameSession session(EmbeddedChannel channel) {
+        NetSocketInternal socket = mock(NetSocketInternal.class);
+        when(socket.channelHandlerContext()).thenReturn(channel.pipeline().firstContext());
+        return new GameSession(socket, policy);
+    }
+
+    private static GameProto.GameMessage read(EmbeddedChannel channel) throws Exception {
+        ByteBuf frame = channel.readOutbound();
+        try {
+            int length = frame.order(ByteOrder.LITTLE_ENDIAN).readInt();
+            byte[] body = new byte[length];
+            frame.readBytes(body);
+            return GameProto.GameMessage.parseFrom(body);
+        } finally {
+            frame.release();
+        }
+    }
+}
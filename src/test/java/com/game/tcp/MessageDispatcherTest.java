@@ -0,0 +1,64 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageDispatcherTest {
+
+    private final List<Object> handled = new ArrayList<>();
+    private final MessageDispatcher dispatcher = new MessageDispatcher()
+            .register(GameProto.GameMessage.BodyCase.LIST_ROOMS_REQUEST, GameProto.GameMessage::getListRoomsRequest,
+                    (session, body) -> handled.add(body))
+            .register(GameProto.GameMessage.BodyCase.MOVE_REQUEST, GameProto.GameMessage::getMoveRequest,
+                    (session, body) -> handled.add(body));
+
+    @Test
+    void routesBodyToItsHandler() {
+        GameProto.MoveRequest move = GameProto.MoveRequest.newBuilder().setX(1f).build();
+
+        assertTrue(dispatcher.dispatch(null, GameProto.GameMessage.newBuilder().setMoveRequest(move).build()));
+
+        assertEquals(1, handled.size());
+        assertEquals(move, handled.get(0));
+    }
+
+    @Test
+    void dispatchesByBodyNotByTypeField() {
+        // type字段与消息体不一致时以消息体为准
+        GameProto.GameMessage message = GameProto.GameMessage.newBuilder()
+                .setType(GameProto.MessageType.MOVE_REQUEST)
+                .setListRoomsRequest(GameProto.ListRoomsRequest.getDefaultInstance())
+                .build();
+
+        assertTrue(dispatcher.dispatch(null, message));
+
+        assertTrue(handled.get(0) instanceof GameProto.ListRoomsRequest);
+    }
+
+    @Test
+    void rejectsUnregisteredAndMissingBodies() {
+        GameProto.GameMessage response = GameProto.GameMessage.newBuilder()
+                .setLoginResponse(GameProto.LoginResponse.getDefaultInstance())
+                .build();
+
+        assertFalse(dispatcher.dispatch(null, response));
+        assertFalse(dispatcher.dispatch(null, GameProto.GameMessage.getDefaultInstance()));
+        assertTrue(handled.isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidRegistrations() {
+        assertThrows(IllegalStateException.class, () -> dispatcher.register(GameProto.GameMessage.BodyCase.MOVE_REQUEST,
+                GameProto.GameMessage::getMoveRequest, (session, body) -> { }));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.register(GameProto.GameMessage.BodyCase.BODY_NOT_SET,
+                message -> message, (session, body) -> { }));
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageMetrics metrics = new MessageMetrics();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(metrics, "meterRegistry", meterRegistry);
+        metrics.init();
+    }
+
+    @Test
+    void recordsLatencyPerMessageType() {
+        metrics.record(GameProto.MessageType.LOGIN_REQUEST, System.nanoTime());
+        metrics.record(GameProto.MessageType.LOGIN_REQUEST, System.nanoTime());
+        metrics.record(GameProto.MessageType.MOVE_REQUEST, System.nanoTime());
+
+        assertEquals(2, latency("LOGIN_REQUEST"));
+        assertEquals(1, latency("MOVE_REQUEST"));
+    }
+
+    @Test
+    void tracksConnectionsAndInboundBytes() {
+        metrics.onConnected();
+        metrics.onConnected();
+        metrics.onDisconnected();
+        metrics.onBytesReceived(100);
+        metrics.onBytesReceived(28);
+
+        assertEquals(1, meterRegistry.get("game.tcp.connections").gauge().value());
+        assertEquals(2, meterRegistry.get("game.tcp.connections.opened").functionCounter().count());
+        assertEquals(128, meterRegistry.get("game.tcp.bytes").tag("direction", "in").functionCounter().count());
+    }
+
+    private long latency(String type) {
+        return meterRegistry.get("game.tcp.message.latency").tag("type", type).timer().count();
+    }
+}
@@ -0,0 +1,52 @@
+package com.game.tcp;
+
+import com.game.protobuf.GameProto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NetworkLogPolicyTest {
+
+    @Test
+    void redactsPasswordInLoginRequest() {
+        GameProto.GameMessage message = GameProto.GameMessage.newBuilder()
+                .setType(GameProto.MessageType.LOGIN_REQUEST)
+                .setLoginRequest(GameProto.LoginRequest.newBuilder().setUsername("alice").setPassword("hunter2"))
+                .build();
+
+        String described = NetworkLogPolicy.describe(message);
+
+        assertFalse(described.contains("hunter2"));
+        assertTrue(described.contains("alice"));
+        assertTrue(described.contains("<redacted>"));
+        // 原消息不受影响
+        assertEquals("hunter2", message.getLoginRequest().getPassword());
+    }
+
+    @Test
+    void redactsSessionTokensInBothDirections() {
+        GameProto.GameMessage request = GameProto.GameMessage.newBuilder()
+                .setResumeSessionRequest(GameProto.ResumeSessionRequest.newBuilder().setSessionToken("token-in"))
+                .build();
+        GameProto.GameMessage response = GameProto.GameMessage.newBuilder()
+                .setLoginResponse(GameProto.LoginResponse.newBuilder().setSessionToken("token-out").setMessage("ok"))
+                .build();
+
+        assertFalse(NetworkLogPolicy.describe(request).contains("token-in"));
+        String described = NetworkLogPolicy.describe(response);
+        assertFalse(described.contains("token-out"));
+        assertTrue(described.contains("ok"));
+    }
+
+    @Test
+    void leavesMessagesWithoutCredentialsUntouched() {
+        GameProto.GameMessage message = GameProto.GameMessage.newBuilder()
+                .setMoveRequest(GameProto.MoveRequest.newBuilder().setX(1f).setY(2f))
+                .build();
+
+        assertSame(message, NetworkLogPolicy.redact(message));
+    }
+}
@@ -0,0 +1,143 @@
+package com.game.tcp;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.game.protobuf.GameProto;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+// 网络路径每条消息的日志开销（事件循环线程上的耗时），输出写到丢弃一切的流，不含真实IO：
+// perMessageInfo是原来每条消息一行INFO（同步appender，格式化在事件循环线程上），
+// perMessageInfoAsync是同样的INFO经过AsyncAppender（neverBlock，与logback-spring.xml一致），
+// sampled是现在的默认路径（DEBUG关闭时只剩一次级别检查），sampledDebug是打开DEBUG后按连接每秒采样，
+// traced是对该消息类型打开跟踪后输出抹掉凭据的完整内容。
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkLoggingBenchmark {
+
+    @Param({"perMessageInfo", "perMessageInfoAsync", "sampled", "sampledDebug", "traced"})
+    private String mode;
+
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+    private NetworkLogPolicy policy;
+    private GameSession session;
+    private EmbeddedChannel channel;
+    private GameProto.GameMessage message;
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        logger = loggerContext.getLogger("benchmark.network");
+        logger.setAdditive(false);
+        logger.setLevel(mode.equals("sampledDebug") ? Level.DEBUG : Level.INFO);
+        appender = discardingAppender(loggerContext);
+        if (mode.equals("perMessageInfoAsync")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(appender);
+            async.start();
+            appender = async;
+        }
+        logger.addAppender(appender);
+
+        policy = new NetworkLogPolicy();
+        ReflectionTestUtils.setField(policy, "samplesPerSecond", 5);
+        ReflectionTestUtils.setField(policy, "traceTypes", mode.equals("traced") ? "MOVE_REQUEST" : "");
+        policy.init();
+
+        channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        ChannelHandlerContext context = channel.pipeline().firstContext();
+        NetSocketInternal socket = (NetSocketInternal) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {NetSocketInternal.class}, (proxy, method, args) ->
+                        method.getName().equals("channelHandlerContext") ? context
+                                : method.getReturnType().isInstance(proxy) ? proxy : null);
+        OutboundPolicy outboundPolicy = new OutboundPolicy();
+        ReflectionTestUtils.setField(outboundPolicy, "maxQueueBytes", 262144);
+        session = new GameSession(socket, outboundPolicy);
+
+        message = GameProto.GameMessage.newBuilder()
+                .setType(GameProto.MessageType.MOVE_REQUEST)
+                .setMoveRequest(GameProto.MoveRequest.newBuilder().setRoomId(1).setQx(123).setQy(-456).setAckTick(1000))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void inbound() {
+        switch (mode) {
+            case "perMessageInfo":
+            case "perMessageInfoAsync":
+                logger.info("Processing message type: {} from player {}", message.getType(), session.getPlayerId());
+                break;
+            default:
+                // 与GameTcpHandler.logInbound相同
+                if (policy.isTraced(message.getType())) {
+                    logger.info("[trace] player {} <- {}: {}", session.getPlayerId(), session.getSocket().remoteAddress(),
+                            NetworkLogPolicy.describe(message));
+                } else if (logger.isDebugEnabled() && policy.sample(session)) {
+                    logger.debug("Processing message type: {} from player {}", message.getType(), session.getPlayerId());
+                }
+        }
+    }
+
+    // 与Spring Boot控制台相同的格式，写到丢弃一切的流
+    private static Appender<ILoggingEvent> discardingAppender(LoggerContext loggerContext) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p %t --- %logger{39} : %m%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,110 @@
+package com.game.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+// 一个事件循环轮次内向同一连接写framesPerTurn帧（64字节，约为一条状态更新）的开销。
+// batch=false时每帧各自writeAndFlush，相当于原来每次socket.write都flush；batch=true时本轮的帧在轮末合并flush。
+// flushes计数为管道头部看到的flush次数，真实连接上每次flush对应一次write/writev系统调用。
+// Netty管道换成EmbeddedChannel，不含真实的系统调用耗时，实际差距比这里的耗时差距更大。
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboundBatchBenchmark {
+
+    @Param({"false", "true"})
+    private boolean batch;
+
+    @Param({"1", "8", "32"})
+    private int framesPerTurn;
+
+    private EmbeddedChannel channel;
+    private GameSession session;
+    private ByteBuf frame;
+    private long flushes;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Syscalls {
+        public long frames;
+        public long flushes;
+    }
+
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void flush(ChannelHandlerContext ctx) {
+                flushes++;
+                ctx.flush();
+            }
+        }, new ChannelInboundHandlerAdapter());
+        ChannelHandlerContext context = channel.pipeline().lastContext();
+        // Vert.x的连接只用到这几个方法；非批量模式的writeMessage与原实现一样每帧flush
+        NetSocketInternal socket = (NetSocketInternal) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {NetSocketInternal.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "channelHandlerContext":
+                            return context;
+                        case "writeMessage":
+                            context.writeAndFlush(args[0], context.voidPromise());
+                            return null;
+                        default:
+                            return proxy;
+                    }
+                });
+        OutboundPolicy policy = new OutboundPolicy();
+        ReflectionTestUtils.setField(policy, "maxQueueBytes", 262144);
+        ReflectionTestUtils.setField(policy, "evictQueueBytes", 4194304L);
+        ReflectionTestUtils.setField(policy, "slowConsumerTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(policy, "batch", batch);
+        ReflectionTestUtils.setField(policy, "maxBatchBytes", 65536);
+        policy.init();
+        session = new GameSession(socket, policy);
+        frame = Unpooled.directBuffer(64).writeZero(64);
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        frame.release();
+    }
+
+    @Benchmark
+    public void turn(Syscalls syscalls) {
+        long flushesBefore = flushes;
+        for (int i = 0; i < framesPerTurn; i++) {
+            session.writeFrame(frame);
+        }
+        // 事件循环执行本轮排队的任务（批量模式的flushBatch）
+        channel.runPendingTasks();
+        channel.releaseOutbound();
+        syscalls.frames += framesPerTurn;
+        syscalls.flushes += flushes - flushesBefore;
+    }
+}
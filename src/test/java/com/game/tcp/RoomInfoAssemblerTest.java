@@ -0,0 +1,90 @@
+package com.game.tcp;
+
+import com.game.entity.GameRoom;
+import com.game.entity.Player;
+import com.game.protobuf.GameProto;
+import com.game.service.AsyncPlayerService;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomInfoAssemblerTest {
+
+    private final AsyncPlayerService playerService = mock(AsyncPlayerService.class);
+    private final RoomInfoAssembler assembler = new RoomInfoAssembler();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(assembler, "asyncPlayerService", playerService);
+        Map<Long, Player> players = new HashMap<>();
+        for (long id = 1; id <= 3; id++) {
+            players.put(id, player(id));
+        }
+        when(playerService.getPlayers(any())).thenReturn(Future.succeededFuture(players));
+    }
+
+    @Test
+    void looksUpAllPlayersOfABatchInOneCall() {
+        List<GameRoom> rooms = Arrays.asList(room(100L, 1L, 2L), room(101L, 3L, null), room(102L, 2L, 1L));
+
+        List<GameProto.RoomInfo> roomInfos = assembler.buildAll(rooms).result();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> playerIds = ArgumentCaptor.forClass(Collection.class);
+        verify(playerService, times(1)).getPlayers(playerIds.capture());
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L)), new HashSet<>(playerIds.getValue()));
+
+        assertEquals(3, roomInfos.size());
+        assertEquals("p1", roomInfos.get(0).getPlayer1().getUsername());
+        assertEquals("p2", roomInfos.get(0).getPlayer2().getUsername());
+        assertEquals("p3", roomInfos.get(1).getPlayer1().getUsername());
+        assertFalse(roomInfos.get(1).hasPlayer2());
+        assertEquals(2L, roomInfos.get(2).getPlayer1().getId());
+    }
+
+    @Test
+    void leavesOutPlayersThatWereNotFound() {
+        GameProto.RoomInfo roomInfo = assembler.build(room(100L, 1L, 99L)).result();
+
+        assertTrue(roomInfo.hasPlayer1());
+        assertFalse(roomInfo.hasPlayer2());
+        assertEquals("ROOM100", roomInfo.getRoomCode());
+    }
+
+    private static GameRoom room(Long id, Long player1Id, Long player2Id) {
+        GameRoom room = new GameRoom();
+        room.setId(id);
+        room.setRoomCode("ROOM" + id);
+        room.setStatus(0);
+        room.setPlayer1Id(player1Id);
+        room.setPlayer2Id(player2Id);
+        return room;
+    }
+
+    private static Player player(Long id) {
+        Player player = new Player();
+        player.setId(id);
+        player.setUsername("p" + id);
+        player.setNickname("Player " + id);
+        player.setScore(0);
+        return player;
+    }
+}
@@ -0,0 +1,129 @@
+package com.game.tcp;
+
+import com.game.SpringbootVertxGameApplication;
+import com.game.entity.GameRoom;
+import com.game.service.PlayerService;
+import com.game.support.EmbeddedMySql;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 列出rooms个双人房间时解析玩家信息的耗时和查询次数，在完整的Spring上下文和内嵌MariaDB上执行，玩家缓存关闭。
+// batched为RoomInfoAssembler的一次IN查询；perPlayer为原来buildRoomInfo的做法，每个房间按ID查两次。
+// 结果中的queries/ops为每次列表的PlayerMapper语句数
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RoomListingBenchmark {
+
+    @Param({"100", "1000"})
+    private int rooms;
+
+    @Param({"batched", "perPlayer"})
+    private String lookup;
+
+    private ConfigurableApplicationContext context;
+    private RoomInfoAssembler roomInfoAssembler;
+    private PlayerService playerService;
+    private MeterRegistry meterRegistry;
+    private final List<GameRoom> listing = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Queries {
+        public long ops;
+        public long queries;
+    }
+
+    @Setup
+    public void setUp() {
+        // 命令行参数的优先级高于application.yml（properties()设置的默认值会被覆盖）
+        context = new SpringApplicationBuilder(SpringbootVertxGameApplication.class)
+                .run("--server.port=0",
+                        "--management.server.port=0",
+                        "--game.tcp.port=0",
+                        "--game.tcp.instances=1",
+                        "--game.player-cache.enabled=false",
+                        "--game.metrics.event-loop-lag-interval-ms=0",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=" + EmbeddedMySql.jdbcUrl(),
+                        "--spring.datasource.username=" + EmbeddedMySql.USER,
+                        "--spring.datasource.password=" + EmbeddedMySql.PASSWORD);
+        roomInfoAssembler = context.getBean(RoomInfoAssembler.class);
+        playerService = context.getBean(PlayerService.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String prefix = "bench" + System.nanoTime() + "-";
+        List<Object[]> rows = new ArrayList<>(rooms * 2);
+        for (int i = 0; i < rooms * 2; i++) {
+            rows.add(new Object[] {prefix + i, "x", prefix + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO player (username, password, nickname, score, create_time, last_login_time) "
+                + "VALUES (?, ?, ?, 0, NOW(), NOW())", rows);
+        List<Long> playerIds = jdbcTemplate.queryForList("SELECT id FROM player WHERE username LIKE ? ORDER BY id",
+                Long.class, prefix + "%");
+        for (int i = 0; i < rooms; i++) {
+            GameRoom room = new GameRoom();
+            room.setId((long) i + 1);
+            room.setRoomCode("B" + i);
+            room.setStatus(1);
+            room.setPlayer1Id(playerIds.get(i * 2));
+            room.setPlayer2Id(playerIds.get(i * 2 + 1));
+            listing.add(room);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void list(Queries queries, Blackhole blackhole) throws Exception {
+        long before = playerQueries();
+        if ("batched".equals(lookup)) {
+            blackhole.consume(roomInfoAssembler.buildAll(listing).toCompletionStage().toCompletableFuture().get());
+        } else {
+            for (GameRoom room : listing) {
+                blackhole.consume(playerService.getById(room.getPlayer1Id()));
+                blackhole.consume(playerService.getById(room.getPlayer2Id()));
+            }
+        }
+        queries.ops++;
+        queries.queries += playerQueries() - before;
+    }
+
+    private long playerQueries() {
+        long count = 0;
+        for (Timer timer : meterRegistry.find("game.db.calls").timers()) {
+            if (timer.getId().getTag("statement").startsWith("PlayerMapper.")) {
+                count += timer.count();
+            }
+        }
+        return count;
+    }
+}
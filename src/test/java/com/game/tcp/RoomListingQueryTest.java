@@ -0,0 +1,121 @@
+package com.game.tcp;
+
+import com.game.entity.GameRoom;
+import com.game.protobuf.GameProto;
+import com.game.service.GameRoomService;
+import com.game.support.EmbeddedMySql;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 大厅列表在真实的MyBatis-Plus和内嵌MariaDB上执行，按SqlTimingInterceptor记录的语句数统计玩家查询次数。
+// 关闭玩家缓存，所有玩家都要从库中读取
+@SpringBootTest(properties = {
+        "server.port=0",
+        "management.server.port=0",
+        "game.tcp.port=0",
+        "game.tcp.instances=1",
+        "game.player-cache.enabled=false",
+        "game.metrics.event-loop-lag-interval-ms=0",
+        "logging.level.root=WARN"
+})
+// 在内嵌库随JVM退出停止之前关闭上下文，让房间的最后一次写库能完成
+@DirtiesContext
+class RoomListingQueryTest {
+
+    @Autowired
+    private RoomInfoAssembler roomInfoAssembler;
+    @Autowired
+    private GameRoomService gameRoomService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedMySql::jdbcUrl);
+        registry.add("spring.datasource.username", () -> EmbeddedMySql.USER);
+        registry.add("spring.datasource.password", () -> EmbeddedMySql.PASSWORD);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000})
+    void listingFullRoomsCostsOnePlayerQuery(int roomCount) throws Exception {
+        List<Long> playerIds = insertPlayers("full" + roomCount, roomCount * 2);
+        List<GameRoom> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            GameRoom room = new GameRoom();
+            room.setId((long) i + 1);
+            room.setRoomCode("F" + i);
+            room.setStatus(1);
+            room.setPlayer1Id(playerIds.get(i * 2));
+            room.setPlayer2Id(playerIds.get(i * 2 + 1));
+            rooms.add(room);
+        }
+
+        long before = playerQueries();
+        List<GameProto.RoomInfo> roomInfos = roomInfoAssembler.buildAll(rooms)
+                .toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        assertEquals(1, playerQueries() - before);
+        assertEquals(roomCount, roomInfos.size());
+        for (GameProto.RoomInfo roomInfo : roomInfos) {
+            assertTrue(roomInfo.hasPlayer1() && roomInfo.hasPlayer2());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000})
+    void lobbyPageCostsOnePlayerQuery(int roomCount) throws Exception {
+        List<Long> owners = insertPlayers("open" + roomCount, roomCount);
+        long firstRoomId = Long.MAX_VALUE;
+        for (Long owner : owners) {
+            firstRoomId = Math.min(firstRoomId, gameRoomService.createRoom(owner).getId());
+        }
+
+        long before = playerQueries();
+        List<GameRoom> page = gameRoomService.getWaitingRooms(firstRoomId - 1, roomCount);
+        List<GameProto.RoomInfo> roomInfos = roomInfoAssembler.buildAll(page)
+                .toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        assertEquals(1, playerQueries() - before);
+        assertEquals(roomCount, roomInfos.size());
+        assertEquals(owners.get(0).longValue(), roomInfos.get(0).getPlayer1().getId());
+    }
+
+    private List<Long> insertPlayers(String prefix, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {prefix + "-" + i, "x", prefix + "-" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO player (username, password, nickname, score, create_time, last_login_time) "
+                + "VALUES (?, ?, ?, 0, NOW(), NOW())", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM player WHERE username LIKE ? ORDER BY id", Long.class, prefix + "-%");
+    }
+
+    // PlayerMapper上执行过的语句数（房间的后台写库会同时执行GameRoomMapper的语句，不计入）
+    private long playerQueries() {
+        long count = 0;
+        for (Timer timer : meterRegistry.find("game.db.calls").timers()) {
+            if (timer.getId().getTag("statement").startsWith("PlayerMapper.")) {
+                count += timer.count();
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,83 @@
+package com.game.tcp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SessionTokenServiceTest {
+
+    private SessionTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService("secret", 3600);
+    }
+
+    @Test
+    void verifiesIssuedToken() {
+        String token = service.issue(42L);
+
+        assertEquals(42L, service.verify(token));
+        assertEquals(0, service.getRejected());
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = service.issue(42L);
+        String signature = token.substring(token.indexOf('.') + 1);
+        String expiresAt = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8).split(":")[1];
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("43:" + expiresAt).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, service.verify(forged + "." + signature));
+        assertEquals(1, service.getRejected());
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = service.issue(42L);
+        // 改签名的第一个字符：最后一个字符含不参与解码的填充位，改它不一定改变签名
+        int start = token.indexOf('.') + 1;
+        char first = token.charAt(start);
+        String tampered = token.substring(0, start) + (first == 'A' ? 'B' : 'A') + token.substring(start + 1);
+
+        assertEquals(0, service.verify(tampered));
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        String token = newService("other", 3600).issue(42L);
+
+        assertEquals(0, service.verify(token));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        SessionTokenService expired = newService("secret", -1);
+
+        assertEquals(0, expired.verify(expired.issue(42L)));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertEquals(0, service.verify(""));
+        assertEquals(0, service.verify("no-separator"));
+        assertEquals(0, service.verify(".signature"));
+        assertEquals(0, service.verify("!!!.???"));
+        assertEquals(4, service.getRejected());
+    }
+
+    private static SessionTokenService newService(String secret, long ttlSeconds) {
+        SessionTokenService service = new SessionTokenService();
+        ReflectionTestUtils.setField(service, "tokenSecret", secret);
+        ReflectionTestUtils.setField(service, "tokenTtlSeconds", ttlSeconds);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,150 @@
+package com.game.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.NetSocketInternal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 写队列超过上限时：状态更新只保留最新一条，积压或拥塞时间超限的连接被断开
+class SlowConsumerTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final NetSocketInternal socket = mock(NetSocketInternal.class);
+
+    @BeforeEach
+    void setUp() {
+        // 未交给Netty的批量帧超过100字节即视为写队列已满
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(50, 100));
+        when(socket.channelHandlerContext()).thenReturn(channel.pipeline().firstContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void evictsOnQueuedBytesOrCongestionTime() {
+        OutboundPolicy policy = policy(1000, 10000);
+
+        assertFalse(policy.shouldEvict(0, 1000));
+        assertTrue(policy.shouldEvict(0, 1001));
+        assertFalse(policy.shouldEvict(TimeUnit.SECONDS.toNanos(10), 0));
+        assertTrue(policy.shouldEvict(TimeUnit.SECONDS.toNanos(10) + 1, 0));
+    }
+
+    @Test
+    void congestedSessionKeepsOnlyTheLatestStateUpdate() {
+        OutboundPolicy policy = policy(4194304, 10000);
+        GameSession session = new GameSession(socket, policy);
+
+        write(session, 120);
+        writeState(session, (byte) 1);
+        writeState(session, (byte) 2);
+        writeState(session, (byte) 3);
+
+        assertTrue(session.isCongested());
+        assertEquals(2, session.getCoalescedUpdates());
+        assertEquals(2, policy.getCoalescedUpdates());
+        assertEquals(1, policy.getCongestions());
+
+        // 批量帧写出后队列可写，补发暂存的最新状态
+        channel.runPendingTasks();
+        channel.runPendingTasks();
+
+        List<ByteBuf> frames = written();
+        assertEquals(2, frames.size());
+        assertEquals(120, frames.get(0).readableBytes());
+        assertEquals(3, frames.get(1).getByte(0));
+        assertFalse(session.isCongested());
+        release(frames);
+        verify(socket, never()).close();
+    }
+
+    @Test
+    void disconnectsWhenBacklogExceedsTheEvictionLimit() {
+        OutboundPolicy policy = policy(100, 10000);
+        GameSession session = new GameSession(socket, policy);
+
+        write(session, 120);
+        writeState(session, (byte) 1);
+        writeState(session, (byte) 2);
+
+        verify(socket).close();
+        assertTrue(session.isEvicted());
+        assertEquals(1, policy.getEvictions());
+        assertEquals(120, session.getPeakQueuedBytes());
+    }
+
+    @Test
+    void disconnectsWhenCongestedTooLong() throws Exception {
+        OutboundPolicy policy = policy(4194304, 0);
+        GameSession session = new GameSession(socket, policy);
+
+        write(session, 120);
+        writeState(session, (byte) 1);
+        verify(socket, never()).close();
+
+        Thread.sleep(2);
+        writeState(session, (byte) 2);
+
+        verify(socket).close();
+        assertEquals(1, policy.getEvictions());
+    }
+
+    private static OutboundPolicy policy(long evictQueueBytes, long slowConsumerTimeoutMs) {
+        OutboundPolicy policy = new OutboundPolicy();
+        ReflectionTestUtils.setField(policy, "maxQueueBytes", 262144);
+        ReflectionTestUtils.setField(policy, "evictQueueBytes", evictQueueBytes);
+        ReflectionTestUtils.setField(policy, "slowConsumerTimeoutMs", slowConsumerTimeoutMs);
+        ReflectionTestUtils.setField(policy, "batch", true);
+        ReflectionTestUtils.setField(policy, "maxBatchBytes", 65536);
+        policy.init();
+        return policy;
+    }
+
+    private static void write(GameSession session, int bytes) {
+        ByteBuf frame = Unpooled.buffer(bytes).writeZero(bytes);
+        session.writeFrame(frame);
+        frame.release();
+    }
+
+    private static void writeState(GameSession session, byte marker) {
+        ByteBuf frame = Unpooled.buffer(16).writeByte(marker).writeZero(15);
+        session.writeStateFrame(frame);
+        frame.release();
+    }
+
+    private List<ByteBuf> written() {
+        List<ByteBuf> frames = new ArrayList<>();
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            frames.add(frame);
+        }
+        return frames;
+    }
+
+    private static void release(List<ByteBuf> frames) {
+        for (ByteBuf frame : frames) {
+            frame.release();
+        }
+    }
+}
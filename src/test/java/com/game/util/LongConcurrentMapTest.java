@@ -0,0 +1,134 @@
+package com.game.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongConcurrentMapTest {
+
+    private final LongConcurrentMap<String> map = new LongConcurrentMap<>();
+
+    @Test
+    void putGetAndRemove() {
+        assertNull(map.put(1L, "a"));
+        assertEquals("a", map.put(1L, "b"));
+        map.put(Long.MIN_VALUE, "min");
+        map.put(0L, "zero");
+
+        assertEquals("b", map.get(1L));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertTrue(map.containsKey(0L));
+        assertEquals(3, map.size());
+
+        assertEquals("b", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertNull(map.get(1L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void conditionalRemoveComparesIdentity() {
+        String value = new String("a");
+        map.put(1L, value);
+
+        assertFalse(map.remove(1L, new String("a")));
+        assertTrue(map.remove(1L, value));
+        assertFalse(map.containsKey(1L));
+    }
+
+    @Test
+    void computeAddsReplacesAndRemoves() {
+        assertEquals("a", map.compute(1L, old -> old == null ? "a" : old + "a"));
+        assertEquals("aa", map.compute(1L, old -> old == null ? "a" : old + "a"));
+        assertNull(map.compute(1L, old -> null));
+        assertFalse(map.containsKey(1L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void readersKeepTheirSnapshotWhileWritersCopy() {
+        for (long key = 0; key < 1000; key++) {
+            map.put(key, "v" + key);
+        }
+        List<String> values = new ArrayList<>();
+        map.forEachValue(value -> {
+            values.add(value);
+            // 覆盖正在遍历的段：遍历的是写入前的快照，不会抛出并发修改异常，也不会看到新值
+            map.put(Long.parseLong(value.substring(1)), "new");
+        });
+        assertEquals(1000, values.size());
+        assertFalse(values.contains("new"));
+        assertEquals(1000, map.size());
+        assertEquals("new", map.get(999L));
+    }
+
+    @Test
+    void concurrentComputeLosesNoUpdates() throws Exception {
+        LongConcurrentMap<Integer> counters = new LongConcurrentMap<>();
+        int threads = 8;
+        int increments = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < increments; i++) {
+                        counters.compute(i % 16, old -> old == null ? 1 : old + 1);
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        int total = 0;
+        for (long key = 0; key < 16; key++) {
+            total += counters.get(key);
+        }
+        assertEquals(threads * increments, total);
+        assertNull(counters.get(16));
+    }
+
+    @Test
+    void stripesScaleWithExpectedSize() {
+        assertEquals(64, new LongConcurrentMap<String>().stripeCount());
+        assertEquals(64, new LongConcurrentMap<String>(0).stripeCount());
+        assertEquals(8192, new LongConcurrentMap<String>(100_000).stripeCount());
+        assertEquals(65536, new LongConcurrentMap<String>(Integer.MAX_VALUE).stripeCount());
+    }
+
+    @Test
+    void writesCopyBoundedStripesAtScale() {
+        int keys = 100_000;
+        LongConcurrentMap<Long> large = new LongConcurrentMap<>(keys);
+        // 连续的玩家ID和分散的ID都应均匀落到各段
+        for (long key = 1; key <= keys / 2; key++) {
+            large.put(key, key);
+            large.put(key * 1_000_003L, key);
+        }
+        assertEquals(keys, large.size());
+        // 平均每段约12个元素，最大段也远小于总数/64（固定64段时约1560）
+        assertTrue(large.maxStripeSize() <= 64, "max stripe size " + large.maxStripeSize());
+        assertEquals(Long.valueOf(keys / 2), large.get(keys / 2));
+        assertEquals(Long.valueOf(7), large.remove(7 * 1_000_003L));
+        assertEquals(keys - 1, large.size());
+    }
+}